@@ -5,6 +5,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Classe principal da aplicação Vehicle Evaluation Service.
@@ -23,6 +24,7 @@ import org.springframework.scheduling.annotation.EnableAsync;
 @EnableJpaRepositories(basePackages = "com.gestauto.vehicleevaluation.infra")
 @EntityScan(basePackages = "com.gestauto.vehicleevaluation.infra")
 @EnableAsync
+@EnableScheduling
 public class VehicleEvaluationApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,58 @@
+package com.gestauto.vehicleevaluation.api.actuator;
+
+import com.gestauto.vehicleevaluation.application.service.DomainEventJournal;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Endpoint do actuator para inspecionar os últimos eventos de domínio publicados.
+ *
+ * Lê apenas o {@link DomainEventJournal}, que retém no máximo
+ * app.events.journal.capacity eventos; o histórico completo fica na outbox.
+ *
+ * GET /actuator/domainevents?type=EvaluationApproved&amp;evaluationId=...&amp;limit=50
+ */
+@Component
+@Endpoint(id = "domainevents")
+public class DomainEventJournalEndpoint {
+
+    static final int DEFAULT_LIMIT = 50;
+
+    private final DomainEventJournal journal;
+
+    public DomainEventJournalEndpoint(DomainEventJournal journal) {
+        this.journal = journal;
+    }
+
+    @ReadOperation
+    public JournalView recent(@Nullable String type, @Nullable String evaluationId, @Nullable Integer limit) {
+        int max = limit != null && limit > 0 ? Math.min(limit, journal.getCapacity()) : DEFAULT_LIMIT;
+        List<EventView> events = journal.recent(type, evaluationId, max).stream()
+            .map(entry -> new EventView(
+                entry.sequence(),
+                entry.event().getEventType(),
+                entry.event().getEvaluationId(),
+                entry.event().getOccurredAt(),
+                entry.publishedAt()))
+            .toList();
+        return new JournalView(journal.getCapacity(), journal.getTotalAppended(), events);
+    }
+
+    /**
+     * Estado do diário e eventos retornados, do mais novo para o mais antigo.
+     */
+    public record JournalView(int capacity, long totalPublished, List<EventView> events) {
+    }
+
+    /**
+     * Metadados de um evento retido no diário.
+     */
+    public record EventView(long sequence, String eventType, String evaluationId,
+                            LocalDateTime occurredAt, LocalDateTime publishedAt) {
+    }
+}
@@ -69,6 +69,9 @@ public class SecurityConfig {
                 .requestMatchers("/api/v1/evaluations/**")
                     .hasAnyRole("VEHICLE_EVALUATOR", "EVALUATION_MANAGER", "MANAGER", "ADMIN")
 
+                // Diário de eventos de domínio (actuator)
+                .requestMatchers("/actuator/domainevents").hasRole("ADMIN")
+
                 // Qualquer outra requisição requer autenticação
                 .anyRequest().authenticated()
             )
@@ -3,7 +3,9 @@ package com.gestauto.vehicleevaluation.api.controller;
 import com.gestauto.vehicleevaluation.application.command.AddPhotosCommand;
 import com.gestauto.vehicleevaluation.application.command.CommandHandler;
 import com.gestauto.vehicleevaluation.application.command.RemovePhotoCommand;
+import com.gestauto.vehicleevaluation.domain.exception.ConcurrentEvaluationUpdateException;
 import com.gestauto.vehicleevaluation.domain.value.ImageUploadRequest;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
@@ -45,7 +47,11 @@ public class EvaluationPhotoController {
         }
 
         AddPhotosCommand command = new AddPhotosCommand(id, photos);
-        addPhotosHandler.handle(command);
+        try {
+            addPhotosHandler.handle(command);
+        } catch (ConcurrentEvaluationUpdateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
 
         return ResponseEntity.ok().build();
     }
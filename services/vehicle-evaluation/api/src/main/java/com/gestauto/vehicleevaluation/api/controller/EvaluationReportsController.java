@@ -1,5 +1,7 @@
 package com.gestauto.vehicleevaluation.api.controller;
 
+import com.gestauto.vehicleevaluation.application.command.RebuildDailyStatsCommand;
+import com.gestauto.vehicleevaluation.application.command.RebuildDailyStatsHandler;
 import com.gestauto.vehicleevaluation.application.dto.EvaluationDashboardDto;
 import com.gestauto.vehicleevaluation.application.query.GetEvaluationDashboardHandler;
 import com.gestauto.vehicleevaluation.application.query.GetEvaluationDashboardQuery;
@@ -15,12 +17,15 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/v1/evaluations/reports")
@@ -31,10 +36,9 @@ import java.time.LocalDateTime;
 @PreAuthorize("hasRole('ADMIN')")
 public class EvaluationReportsController {
 
-    private static final int DEFAULT_MONTHS_RANGE = 12;
-
     private final GetEvaluationDashboardHandler dashboardHandler;
     private final ManagementReportExporter reportExporter;
+    private final RebuildDailyStatsHandler rebuildDailyStatsHandler;
 
     @GetMapping("/dashboard")
     public ResponseEntity<EvaluationDashboardDto> getDashboard(
@@ -44,20 +48,21 @@ public class EvaluationReportsController {
         @RequestParam(required = false) EvaluationStatus status
     ) {
         LocalDateTime effectiveEndDate = endDate != null ? endDate : LocalDateTime.now();
-        LocalDateTime effectiveStartDate = startDate != null ? startDate : effectiveEndDate.minusMonths(DEFAULT_MONTHS_RANGE);
+        LocalDateTime effectiveStartDate = startDate != null ? startDate : effectiveEndDate.minusMonths(GetEvaluationDashboardQuery.DEFAULT_MONTHS_RANGE);
 
         if (effectiveStartDate.isAfter(effectiveEndDate)) {
             return ResponseEntity.badRequest().build();
         }
 
+        // Datas omitidas seguem nulas: a visão padrão tem chave estável e é pré-calculada
         EvaluationDashboardDto dashboard = dashboardHandler.handle(
-            new GetEvaluationDashboardQuery(effectiveStartDate, effectiveEndDate, evaluatorId, status)
+            new GetEvaluationDashboardQuery(startDate, endDate, evaluatorId, status)
         );
         return ResponseEntity.ok(dashboard);
     }
 
     @GetMapping("/excel")
-    public ResponseEntity<byte[]> exportExcel(
+    public ResponseEntity<StreamingResponseBody> exportExcel(
         @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
         @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
         @RequestParam(required = false) String evaluatorId,
@@ -67,14 +72,13 @@ public class EvaluationReportsController {
             return ResponseEntity.badRequest().build();
         }
 
-        byte[] excel = reportExporter.exportDetailedExcel(startDate, endDate, evaluatorId, status);
-
         String filename = "vehicle_evaluations_" + LocalDate.now() + ".xlsx";
 
+        // Planilha escrita direto na resposta, sem buffer intermediário
         return ResponseEntity.ok()
             .header(HttpHeaders.CONTENT_TYPE, "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet")
             .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + filename)
-            .body(excel);
+            .body(outputStream -> reportExporter.writeDetailedExcel(startDate, endDate, evaluatorId, status, outputStream));
     }
 
     @GetMapping("/summary-pdf")
@@ -97,4 +101,23 @@ public class EvaluationReportsController {
             .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + filename)
             .body(pdf);
     }
+
+    @PostMapping("/daily-stats/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildDailyStats(
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
+    ) {
+        if (startDate.isAfter(endDate)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        int rows = rebuildDailyStatsHandler.handle(new RebuildDailyStatsCommand(startDate, endDate));
+        log.info("Daily stats rebuilt: startDate={}, endDate={}, rows={}", startDate, endDate, rows);
+
+        return ResponseEntity.ok(Map.of(
+            "startDate", startDate,
+            "endDate", endDate,
+            "rows", rows
+        ));
+    }
 }
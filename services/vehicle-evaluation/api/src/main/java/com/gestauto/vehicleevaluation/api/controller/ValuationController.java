@@ -3,6 +3,7 @@ package com.gestauto.vehicleevaluation.api.controller;
 import com.gestauto.vehicleevaluation.application.command.CalculateValuationCommand;
 import com.gestauto.vehicleevaluation.application.command.CalculateValuationHandler;
 import com.gestauto.vehicleevaluation.application.dto.ValuationResultDto;
+import com.gestauto.vehicleevaluation.domain.exception.ConcurrentEvaluationUpdateException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -70,6 +71,9 @@ public class ValuationController {
         } catch (IllegalArgumentException e) {
             log.warn("Erro ao calcular valoração: {}", e.getMessage());
             return ResponseEntity.badRequest().build();
+        } catch (ConcurrentEvaluationUpdateException e) {
+            log.warn("Avaliação alterada durante o cálculo de valoração: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         } catch (Exception e) {
             log.error("Erro inesperado ao calcular valoração", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -7,13 +7,18 @@ import com.gestauto.vehicleevaluation.application.command.UpdateEvaluationHandle
 import com.gestauto.vehicleevaluation.application.dto.UpdateChecklistCommand;
 import com.gestauto.vehicleevaluation.application.command.UpdateChecklistHandler;
 import com.gestauto.vehicleevaluation.application.command.GenerateReportHandler;
+import com.gestauto.vehicleevaluation.application.command.StreamingReport;
 import com.gestauto.vehicleevaluation.application.dto.PagedResult;
+import com.gestauto.vehicleevaluation.application.dto.ReportJobDto;
 import com.gestauto.vehicleevaluation.application.dto.VehicleEvaluationDto;
 import com.gestauto.vehicleevaluation.application.dto.VehicleEvaluationSummaryDto;
 import com.gestauto.vehicleevaluation.application.query.GetEvaluationHandler;
 import com.gestauto.vehicleevaluation.application.query.GetEvaluationQuery;
+import com.gestauto.vehicleevaluation.application.query.InvalidCursorException;
 import com.gestauto.vehicleevaluation.application.query.ListEvaluationsHandler;
 import com.gestauto.vehicleevaluation.application.query.ListEvaluationsQuery;
+import com.gestauto.vehicleevaluation.application.service.ReportJobRejectedException;
+import com.gestauto.vehicleevaluation.application.service.ReportJobService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -25,13 +30,16 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
+import java.time.LocalDateTime;
 import java.util.Map;
 import java.util.UUID;
 
@@ -55,6 +63,9 @@ public class VehicleEvaluationController {
     private final GetEvaluationHandler getEvaluationHandler;
     private final ListEvaluationsHandler listEvaluationsHandler;
     private final GenerateReportHandler generateReportHandler;
+    private final ReportJobService reportJobService;
+
+    private static final int REPORT_JOB_RETRY_AFTER_SECONDS = 30;
 
     @Operation(
             summary = "Criar nova avaliação",
@@ -190,7 +201,8 @@ public class VehicleEvaluationController {
 
     @Operation(
             summary = "Listar avaliações",
-            description = "Lista avaliações com suporte a filtros e paginação."
+            description = "Lista avaliações com suporte a filtros e paginação. Para rolagem contínua, "
+                    + "envie o nextCursor da resposta anterior em cursor."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -198,6 +210,10 @@ public class VehicleEvaluationController {
                     description = "Lista de avaliações retornada com sucesso",
                     content = @Content(schema = @Schema(implementation = PagedResult.class))
             ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Cursor inválido ou usado com ordenação diferente de createdAt"
+            ),
             @ApiResponse(
                     responseCode = "403",
                     description = "Usuário não possui permissão"
@@ -212,7 +228,11 @@ public class VehicleEvaluationController {
             @Parameter(description = "Número da página") @RequestParam(name = "page", defaultValue = "0") int page,
             @Parameter(description = "Tamanho da página") @RequestParam(name = "size", defaultValue = "20") int size,
             @Parameter(description = "Campo de ordenação") @RequestParam(name = "sortBy", defaultValue = "createdAt") String sortBy,
-            @Parameter(description = "Direção da ordenação") @RequestParam(name = "sortDirection", defaultValue = "DESC") String sortDirection) throws Exception {
+            @Parameter(description = "Direção da ordenação") @RequestParam(name = "sortDirection", defaultValue = "DESC") String sortDirection,
+            @Parameter(description = "Marca do veículo") @RequestParam(name = "brand", required = false) String brand,
+            @Parameter(description = "Criadas a partir de") @RequestParam(name = "createdFrom", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @Parameter(description = "Criadas até") @RequestParam(name = "createdTo", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            @Parameter(description = "Cursor da próxima página (nextCursor da resposta anterior)") @RequestParam(name = "cursor", required = false) String cursor) throws Exception {
 
         log.info("Recebida requisição para listar avaliações. Filtros: evaluatorId={}, status={}, page={}, size={}",
                 evaluatorId, status, page, size);
@@ -227,10 +247,20 @@ public class VehicleEvaluationController {
                 page,
                 size,
                 sortBy,
-                sortDirection
+                sortDirection,
+                brand,
+                createdFrom,
+                createdTo,
+                cursor
         );
 
-        PagedResult<VehicleEvaluationSummaryDto> result = listEvaluationsHandler.handle(query);
+        PagedResult<VehicleEvaluationSummaryDto> result;
+        try {
+            result = listEvaluationsHandler.handle(query);
+        } catch (InvalidCursorException e) {
+            log.warn("Cursor inválido fornecido: {} ({})", cursor, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
 
         log.info("Listagem concluída. Retornando {} de {} avaliações",
                 result.content().size(), result.totalElements());
@@ -318,7 +348,7 @@ public class VehicleEvaluationController {
     })
     @GetMapping("/{id}/report")
     @PreAuthorize("hasAnyRole('VEHICLE_EVALUATOR', 'EVALUATION_MANAGER', 'MANAGER', 'ADMIN')")
-    public ResponseEntity<byte[]> generateReport(
+    public ResponseEntity<StreamingResponseBody> generateReport(
             @Parameter(description = "ID da avaliação") @PathVariable UUID id) throws Exception {
 
         log.info("Recebida requisição para gerar relatório da avaliação ID: {}", id);
@@ -326,16 +356,81 @@ public class VehicleEvaluationController {
         com.gestauto.vehicleevaluation.application.command.GenerateReportCommand command = 
                 new com.gestauto.vehicleevaluation.application.command.GenerateReportCommand(id);
 
-        byte[] report = generateReportHandler.handle(command);
-
-        log.info("Relatório gerado com sucesso. Tamanho: {} bytes", report.length);
+        // Validação ocorre aqui; o PDF é escrito no socket enquanto é renderizado
+        StreamingReport report = generateReportHandler.prepareStreamingReport(command);
 
         return ResponseEntity.ok()
                 .header("Content-Type", "application/pdf")
                 .header("Content-Disposition", 
                         String.format("attachment; filename=evaluation_report_%s.pdf", id))
                 .header("Cache-Control", "max-age=3600")
-                .body(report);
+                .body(report::writeTo);
+    }
+
+    @Operation(
+            summary = "Solicitar geração assíncrona do laudo",
+            description = "Enfileira a geração do laudo PDF em um pool dedicado de workers e retorna o job para acompanhamento. Quando o job estiver concluído, o PDF é baixado em GET /{id}/report."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "Job aceito",
+                    content = @Content(schema = @Schema(implementation = ReportJobDto.class))
+            ),
+            @ApiResponse(
+                    responseCode = "429",
+                    description = "Limite de laudos simultâneos do usuário atingido ou fila cheia"
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Usuário não possui permissão"
+            )
+    })
+    @PostMapping("/{id}/report/jobs")
+    @PreAuthorize("hasAnyRole('VEHICLE_EVALUATOR', 'EVALUATION_MANAGER', 'MANAGER', 'ADMIN')")
+    public ResponseEntity<ReportJobDto> submitReportJob(
+            @Parameter(description = "ID da avaliação") @PathVariable UUID id) {
+
+        log.info("Recebida requisição de laudo assíncrono para avaliação ID: {}", id);
+
+        try {
+            ReportJobDto job = reportJobService.submit(id);
+            URI location = ServletUriComponentsBuilder.fromCurrentContextPath()
+                    .path("/api/v1/evaluations/report-jobs/{jobId}")
+                    .buildAndExpand(job.jobId())
+                    .toUri();
+            return ResponseEntity.accepted().location(location).body(job);
+        } catch (ReportJobRejectedException e) {
+            log.warn("Job de laudo recusado para avaliação {}: {}", id, e.getMessage());
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header("Retry-After", String.valueOf(REPORT_JOB_RETRY_AFTER_SECONDS))
+                    .build();
+        }
+    }
+
+    @Operation(
+            summary = "Consultar job de laudo",
+            description = "Retorna a situação de um job de geração de laudo (QUEUED, RUNNING, COMPLETED ou FAILED)."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Situação do job",
+                    content = @Content(schema = @Schema(implementation = ReportJobDto.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Job não encontrado, expirado ou solicitado por outro usuário"
+            )
+    })
+    @GetMapping("/report-jobs/{jobId}")
+    @PreAuthorize("hasAnyRole('VEHICLE_EVALUATOR', 'EVALUATION_MANAGER', 'MANAGER', 'ADMIN')")
+    public ResponseEntity<ReportJobDto> getReportJob(
+            @Parameter(description = "ID do job") @PathVariable UUID jobId) {
+
+        return reportJobService.findJob(jobId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
     @Operation(
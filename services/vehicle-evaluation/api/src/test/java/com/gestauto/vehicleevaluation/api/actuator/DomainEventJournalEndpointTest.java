@@ -0,0 +1,42 @@
+package com.gestauto.vehicleevaluation.api.actuator;
+
+import com.gestauto.vehicleevaluation.application.service.DomainEventJournal;
+import com.gestauto.vehicleevaluation.domain.event.EvaluationCreatedEvent;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DomainEventJournalEndpointTest {
+
+    @Test
+    void recent_filtersByEvaluationAndCapsLimitAtCapacity() {
+        DomainEventJournal journal = new DomainEventJournal(4);
+        for (int i = 0; i < 6; i++) {
+            journal.append(new EvaluationCreatedEvent("eval-" + (i % 2), "evaluator", "ABC1234", "Toyota", "Corolla"));
+        }
+        DomainEventJournalEndpoint endpoint = new DomainEventJournalEndpoint(journal);
+
+        DomainEventJournalEndpoint.JournalView view = endpoint.recent(null, "eval-1", 1000);
+
+        assertThat(view.capacity()).isEqualTo(4);
+        assertThat(view.totalPublished()).isEqualTo(6);
+        assertThat(view.events())
+            .extracting(DomainEventJournalEndpoint.EventView::sequence)
+            .containsExactly(5L, 3L);
+        assertThat(view.events()).allSatisfy(event -> {
+            assertThat(event.eventType()).isEqualTo("EvaluationCreated");
+            assertThat(event.evaluationId()).isEqualTo("eval-1");
+        });
+    }
+
+    @Test
+    void recent_usesDefaultLimitWhenMissing() {
+        DomainEventJournal journal = new DomainEventJournal(100);
+        for (int i = 0; i < 60; i++) {
+            journal.append(new EvaluationCreatedEvent("eval-" + i, "evaluator", "ABC1234", "Toyota", "Corolla"));
+        }
+
+        assertThat(new DomainEventJournalEndpoint(journal).recent(null, null, null).events())
+            .hasSize(DomainEventJournalEndpoint.DEFAULT_LIMIT);
+    }
+}
@@ -1,9 +1,14 @@
 package com.gestauto.vehicleevaluation.api.controller;
 
+import com.gestauto.vehicleevaluation.application.command.RebuildDailyStatsCommand;
+import com.gestauto.vehicleevaluation.application.command.RebuildDailyStatsHandler;
 import com.gestauto.vehicleevaluation.application.query.GetEvaluationDashboardHandler;
 import com.gestauto.vehicleevaluation.domain.service.ManagementReportExporter;
 import com.gestauto.vehicleevaluation.domain.enums.EvaluationStatus;
 import com.gestauto.vehicleevaluation.application.dto.EvaluationDashboardDto;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,7 +16,10 @@ import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpHeaders;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -21,13 +29,16 @@ class EvaluationReportsControllerTest {
 
     ManagementReportExporter reportExporter;
 
+    RebuildDailyStatsHandler rebuildDailyStatsHandler;
+
     EvaluationReportsController controller;
 
     @BeforeEach
     void setUp() {
         dashboardHandler = mock(GetEvaluationDashboardHandler.class);
         reportExporter = mock(ManagementReportExporter.class);
-        controller = new EvaluationReportsController(dashboardHandler, reportExporter);
+        rebuildDailyStatsHandler = mock(RebuildDailyStatsHandler.class);
+        controller = new EvaluationReportsController(dashboardHandler, reportExporter, rebuildDailyStatsHandler);
     }
 
     @Test
@@ -73,7 +84,10 @@ class EvaluationReportsControllerTest {
 
     @Test
     void exportExcelReturns200WithHeaders() throws Exception {
-        when(reportExporter.exportDetailedExcel(any(), any(), any(), any())).thenReturn(new byte[] {1, 2, 3});
+        doAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(4).write(new byte[] {1, 2, 3});
+            return null;
+        }).when(reportExporter).writeDetailedExcel(any(), any(), any(), any(), any());
 
         var response = controller.exportExcel(
             LocalDateTime.parse("2025-01-01T00:00:00"),
@@ -86,6 +100,11 @@ class EvaluationReportsControllerTest {
             .isEqualTo("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
         assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION))
             .contains("attachment; filename=");
+
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        response.getBody().writeTo(body);
+        assertThat(body.toByteArray()).containsExactly(1, 2, 3);
+        verify(reportExporter, never()).exportDetailedExcel(any(), any(), any(), any());
     }
 
     @Test
@@ -113,4 +132,24 @@ class EvaluationReportsControllerTest {
         assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_TYPE)).isEqualTo("application/pdf");
         assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION)).contains("attachment; filename=");
     }
+
+    @Test
+    void rebuildDailyStatsReturns400WhenStartAfterEnd() {
+        var response = controller.rebuildDailyStats(LocalDate.parse("2025-01-02"), LocalDate.parse("2025-01-01"));
+
+        assertThat(response.getStatusCode().value()).isEqualTo(400);
+        verify(rebuildDailyStatsHandler, never()).handle(any());
+    }
+
+    @Test
+    void rebuildDailyStatsReturnsWrittenRows() {
+        LocalDate start = LocalDate.parse("2025-01-01");
+        LocalDate end = LocalDate.parse("2025-01-31");
+        when(rebuildDailyStatsHandler.handle(new RebuildDailyStatsCommand(start, end))).thenReturn(42);
+
+        var response = controller.rebuildDailyStats(start, end);
+
+        assertThat(response.getStatusCode().value()).isEqualTo(200);
+        assertThat(response.getBody()).containsEntry("rows", 42);
+    }
 }
@@ -7,11 +7,16 @@ import com.gestauto.vehicleevaluation.application.command.UpdateEvaluationHandle
 import com.gestauto.vehicleevaluation.application.dto.CreateEvaluationCommand;
 import com.gestauto.vehicleevaluation.application.dto.DocumentsDto;
 import com.gestauto.vehicleevaluation.application.dto.PagedResult;
+import com.gestauto.vehicleevaluation.application.dto.ReportJobDto;
 import com.gestauto.vehicleevaluation.application.dto.UpdateChecklistCommand;
 import com.gestauto.vehicleevaluation.application.dto.UpdateEvaluationCommand;
 import com.gestauto.vehicleevaluation.application.dto.VehicleEvaluationDto;
 import com.gestauto.vehicleevaluation.application.query.GetEvaluationHandler;
+import com.gestauto.vehicleevaluation.application.query.InvalidCursorException;
 import com.gestauto.vehicleevaluation.application.query.ListEvaluationsHandler;
+import com.gestauto.vehicleevaluation.application.service.ReportJobRejectedException;
+import com.gestauto.vehicleevaluation.application.service.ReportJobService;
+import java.io.ByteArrayOutputStream;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -26,6 +31,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class VehicleEvaluationControllerTest {
 
@@ -40,6 +46,7 @@ class VehicleEvaluationControllerTest {
     ListEvaluationsHandler listEvaluationsHandler;
 
     GenerateReportHandler generateReportHandler;
+    ReportJobService reportJobService;
 
     VehicleEvaluationController controller;
 
@@ -51,6 +58,7 @@ class VehicleEvaluationControllerTest {
         getEvaluationHandler = mock(GetEvaluationHandler.class);
         listEvaluationsHandler = mock(ListEvaluationsHandler.class);
         generateReportHandler = mock(GenerateReportHandler.class);
+        reportJobService = mock(ReportJobService.class);
 
         controller = new VehicleEvaluationController(
             createEvaluationHandler,
@@ -58,7 +66,8 @@ class VehicleEvaluationControllerTest {
             updateChecklistHandler,
             getEvaluationHandler,
             listEvaluationsHandler,
-            generateReportHandler
+            generateReportHandler,
+            reportJobService
         );
     }
 
@@ -143,11 +152,55 @@ class VehicleEvaluationControllerTest {
             0,
             20,
             "createdAt",
-            "DESC"
+            "DESC",
+            null,
+            null,
+            null,
+            null
         );
         assertThat(response.getStatusCode().value()).isEqualTo(200);
     }
 
+    @Test
+    void listEvaluationsReturns400WhenCursorIsInvalid() throws Exception {
+        when(listEvaluationsHandler.handle(any())).thenThrow(new InvalidCursorException("Cursor inválido"));
+
+        var response = controller.listEvaluations(
+            null,
+            null,
+            null,
+            0,
+            20,
+            "createdAt",
+            "DESC",
+            null,
+            null,
+            null,
+            "not-a-cursor"
+        );
+        assertThat(response.getStatusCode().value()).isEqualTo(400);
+    }
+
+    @Test
+    void listEvaluationsPropagatesOtherIllegalArguments() throws Exception {
+        when(listEvaluationsHandler.handle(any())).thenThrow(new IllegalArgumentException("Status inválido"));
+
+        assertThatThrownBy(() -> controller.listEvaluations(
+            null,
+            null,
+            null,
+            0,
+            20,
+            "createdAt",
+            "DESC",
+            null,
+            null,
+            null,
+            null
+        )).isInstanceOf(IllegalArgumentException.class)
+                .isNotInstanceOf(InvalidCursorException.class);
+    }
+
     @Test
     void updateChecklistReturns204() throws Exception {
         UUID id = UUID.randomUUID();
@@ -168,13 +221,54 @@ class VehicleEvaluationControllerTest {
     @Test
     void generateReportReturns200WithPdfHeaders() throws Exception {
         UUID id = UUID.randomUUID();
-        when(generateReportHandler.handle(any())).thenReturn(new byte[] {1, 2, 3});
+        when(generateReportHandler.prepareStreamingReport(any())).thenReturn(out -> out.write(new byte[] {1, 2, 3}));
 
         var response = controller.generateReport(id);
         assertThat(response.getStatusCode().value()).isEqualTo(200);
         assertThat(response.getHeaders().getFirst("Content-Type")).isEqualTo("application/pdf");
         assertThat(response.getHeaders().getFirst("Content-Disposition")).contains("evaluation_report_" + id);
         assertThat(response.getHeaders().getFirst("Cache-Control")).isEqualTo("max-age=3600");
+
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        response.getBody().writeTo(body);
+        assertThat(body.toByteArray()).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void submitReportJobReturns202WithJobLocation() {
+        UUID id = UUID.randomUUID();
+        UUID jobId = UUID.randomUUID();
+        when(reportJobService.submit(id)).thenReturn(new ReportJobDto(
+            jobId, id, "user-1", ReportJobDto.Status.QUEUED, LocalDateTime.now(), null, null));
+
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/evaluations/" + id + "/report/jobs");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        try {
+            var response = controller.submitReportJob(id);
+            assertThat(response.getStatusCode().value()).isEqualTo(202);
+            assertThat(response.getHeaders().getLocation()).isNotNull();
+            assertThat(response.getHeaders().getLocation().toString()).endsWith("/report-jobs/" + jobId);
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    @Test
+    void submitReportJobReturns429WhenRejected() {
+        UUID id = UUID.randomUUID();
+        when(reportJobService.submit(id)).thenThrow(new ReportJobRejectedException("limite"));
+
+        var response = controller.submitReportJob(id);
+        assertThat(response.getStatusCode().value()).isEqualTo(429);
+        assertThat(response.getHeaders().getFirst("Retry-After")).isNotNull();
+    }
+
+    @Test
+    void getReportJobReturns404WhenUnknown() {
+        when(reportJobService.findJob(any())).thenReturn(java.util.Optional.empty());
+
+        var response = controller.getReportJob(UUID.randomUUID());
+        assertThat(response.getStatusCode().value()).isEqualTo(404);
     }
 
     @Test
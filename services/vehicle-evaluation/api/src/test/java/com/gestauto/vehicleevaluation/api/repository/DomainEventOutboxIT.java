@@ -0,0 +1,73 @@
+package com.gestauto.vehicleevaluation.api.repository;
+
+import com.gestauto.vehicleevaluation.api.VehicleEvaluationApplication;
+import com.gestauto.vehicleevaluation.api.support.IntegrationTestContainers;
+import com.gestauto.vehicleevaluation.domain.event.EvaluationCreatedEvent;
+import com.gestauto.vehicleevaluation.domain.event.EvaluationSubmittedEvent;
+import com.gestauto.vehicleevaluation.domain.event.StoredDomainEvent;
+import com.gestauto.vehicleevaluation.domain.repository.DomainEventRepository;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(
+    classes = VehicleEvaluationApplication.class,
+    properties = {
+        "app.analytics.columnar.enabled=false",
+        "app.outbox.relay.enabled=false",
+        "spring.autoconfigure.exclude="
+            + "org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration,"
+            + "org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration,"
+            + "org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration,"
+            + "org.springframework.boot.autoconfigure.security.servlet.SecurityFilterAutoConfiguration,"
+            + "org.springframework.boot.autoconfigure.security.oauth2.resource.servlet.OAuth2ResourceServerAutoConfiguration"
+    }
+)
+class DomainEventOutboxIT extends IntegrationTestContainers {
+
+    @Autowired
+    DomainEventRepository repository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Deve publicar os eventos de uma agregação na ordem de gravação, mesmo com occurred_at empatado")
+    void eventsOfAnAggregateAreClaimedInInsertOrder() {
+        String evaluationId = UUID.randomUUID().toString();
+        repository.save(new EvaluationCreatedEvent(evaluationId, "evaluator-1", "ORD1A23", "Toyota", "Corolla"));
+        repository.save(new EvaluationSubmittedEvent(evaluationId, "evaluator-1", "ORD1A23", 45000.0, 47000.0));
+        jdbcTemplate.update("""
+            update vehicle_evaluation.domain_events set occurred_at = date_trunc('second', now())
+             where aggregate_id = ?::uuid
+            """, evaluationId);
+
+        List<String> inserted = jdbcTemplate.queryForList("""
+            select event_type from vehicle_evaluation.domain_events
+             where aggregate_id = ?::uuid order by relay_sequence
+            """, String.class, evaluationId);
+        assertThat(inserted).containsExactly("EvaluationCreated", "EvaluationSubmitted");
+
+        List<String> claimed = repository.claimPendingEvents("outbox-it", 1000, Duration.ofMinutes(1)).stream()
+            .filter(event -> evaluationId.equals(event.getEvaluationId()))
+            .map(StoredDomainEvent::getEventType)
+            .toList();
+
+        // Relays de outros contextos de teste usam o mesmo banco e podem ter publicado o primeiro evento;
+        // enquanto ele estiver pendente, o segundo nunca é reivindicado
+        Boolean firstPending = jdbcTemplate.queryForObject("""
+            select processed_at is null from vehicle_evaluation.domain_events
+             where aggregate_id = ?::uuid and event_type = 'EvaluationCreated'
+            """, Boolean.class, evaluationId);
+        if (Boolean.TRUE.equals(firstPending)) {
+            assertThat(claimed).doesNotContain("EvaluationSubmitted");
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.gestauto.vehicleevaluation.api.repository;
+
+import com.gestauto.vehicleevaluation.api.VehicleEvaluationApplication;
+import com.gestauto.vehicleevaluation.api.support.IntegrationTestContainers;
+import com.gestauto.vehicleevaluation.application.command.UpdateChecklistHandler;
+import com.gestauto.vehicleevaluation.application.dto.BodyworkDto;
+import com.gestauto.vehicleevaluation.application.dto.DocumentsDto;
+import com.gestauto.vehicleevaluation.application.dto.UpdateChecklistCommand;
+import com.gestauto.vehicleevaluation.domain.entity.EvaluationChecklist;
+import com.gestauto.vehicleevaluation.domain.entity.VehicleEvaluation;
+import com.gestauto.vehicleevaluation.domain.enums.FuelType;
+import com.gestauto.vehicleevaluation.domain.repository.VehicleEvaluationRepository;
+import com.gestauto.vehicleevaluation.domain.value.Money;
+import com.gestauto.vehicleevaluation.domain.value.Plate;
+import com.gestauto.vehicleevaluation.domain.value.VehicleInfo;
+import java.math.BigDecimal;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(
+    classes = VehicleEvaluationApplication.class,
+    properties = {
+        "app.analytics.columnar.enabled=false",
+        "app.outbox.relay.enabled=false",
+        "spring.autoconfigure.exclude="
+            + "org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration,"
+            + "org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration,"
+            + "org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration,"
+            + "org.springframework.boot.autoconfigure.security.servlet.SecurityFilterAutoConfiguration,"
+            + "org.springframework.boot.autoconfigure.security.oauth2.resource.servlet.OAuth2ResourceServerAutoConfiguration"
+    }
+)
+class EvaluationChecklistPersistenceIT extends IntegrationTestContainers {
+
+    @Autowired
+    UpdateChecklistHandler updateChecklistHandler;
+
+    @Autowired
+    VehicleEvaluationRepository repository;
+
+    @Test
+    @DisplayName("Deve gravar o primeiro checklist e em seguida a avaliação na mesma transação")
+    void firstChecklistIsSavedWithEvaluation() throws Exception {
+        VehicleEvaluation evaluation = repository.save(evaluation("CHK1A23"));
+
+        updateChecklistHandler.handle(command(evaluation, "GOOD"));
+
+        EvaluationChecklist checklist = repository.findById(evaluation.getId()).orElseThrow().getChecklist();
+        assertThat(checklist).isNotNull();
+        assertThat(checklist.getBodyCondition()).isEqualTo("GOOD");
+        assertThat(checklist.isCrvlPresent()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve atualizar o checklist existente sem criar outra linha")
+    void existingChecklistIsUpdated() throws Exception {
+        VehicleEvaluation evaluation = repository.save(evaluation("CHK1A24"));
+        updateChecklistHandler.handle(command(evaluation, "GOOD"));
+        String checklistId = repository.findById(evaluation.getId()).orElseThrow().getChecklist().getChecklistId();
+
+        updateChecklistHandler.handle(command(evaluation, "FAIR"));
+
+        EvaluationChecklist checklist = repository.findById(evaluation.getId()).orElseThrow().getChecklist();
+        assertThat(checklist.getChecklistId()).isEqualTo(checklistId);
+        assertThat(checklist.getBodyCondition()).isEqualTo("FAIR");
+    }
+
+    private static UpdateChecklistCommand command(VehicleEvaluation evaluation, String bodyCondition) {
+        BodyworkDto bodywork = new BodyworkDto(bodyCondition, "GOOD", false, false,
+            false, false, false, 0, 0, 0, 0, false, null);
+        DocumentsDto documents = new DocumentsDto(true, true, true, true, null);
+        return new UpdateChecklistCommand(UUID.fromString(evaluation.getId().getValueAsString()),
+            bodywork, null, null, null, documents);
+    }
+
+    // A placa é única na tabela: cada teste usa a sua
+    private static VehicleEvaluation evaluation(String plate) {
+        return VehicleEvaluation.create(Plate.of(plate), "12345678901",
+            VehicleInfo.of("Toyota", "Corolla", "2.0 XEI", 2021, 2022, "Prata", FuelType.FLEX),
+            Money.of(new BigDecimal("45210")), "evaluator-" + UUID.randomUUID());
+    }
+}
@@ -0,0 +1,117 @@
+package com.gestauto.vehicleevaluation.api.repository;
+
+import com.gestauto.vehicleevaluation.api.VehicleEvaluationApplication;
+import com.gestauto.vehicleevaluation.api.support.IntegrationTestContainers;
+import com.gestauto.vehicleevaluation.domain.entity.VehicleEvaluation;
+import com.gestauto.vehicleevaluation.domain.enums.EvaluationStatus;
+import com.gestauto.vehicleevaluation.domain.enums.FuelType;
+import com.gestauto.vehicleevaluation.domain.report.EvaluationSummary;
+import com.gestauto.vehicleevaluation.domain.report.EvaluationSummaryFilter;
+import com.gestauto.vehicleevaluation.domain.repository.EvaluationSummaryRepository;
+import com.gestauto.vehicleevaluation.domain.repository.VehicleEvaluationRepository;
+import com.gestauto.vehicleevaluation.domain.value.Money;
+import com.gestauto.vehicleevaluation.domain.value.Plate;
+import com.gestauto.vehicleevaluation.domain.value.VehicleInfo;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(
+    classes = VehicleEvaluationApplication.class,
+    properties = {
+        "app.analytics.columnar.enabled=false",
+        "app.outbox.relay.enabled=false",
+        "spring.autoconfigure.exclude="
+            + "org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration,"
+            + "org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration,"
+            + "org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration,"
+            + "org.springframework.boot.autoconfigure.security.servlet.SecurityFilterAutoConfiguration,"
+            + "org.springframework.boot.autoconfigure.security.oauth2.resource.servlet.OAuth2ResourceServerAutoConfiguration"
+    }
+)
+class EvaluationSummaryRepositoryIT extends IntegrationTestContainers {
+
+    @Autowired
+    EvaluationSummaryRepository summaryRepository;
+
+    @Autowired
+    VehicleEvaluationRepository evaluationRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Deve percorrer todas as páginas por keyset, inclusive com created_at empatado")
+    void keysetPagesCoverEveryRowOnce() {
+        String evaluatorId = "evaluator-" + UUID.randomUUID();
+        for (int i = 0; i < 5; i++) {
+            evaluationRepository.save(evaluation("SUM1A2" + i, evaluatorId));
+        }
+        // Três avaliações com o mesmo created_at: a ordem entre elas vem só do id
+        LocalDateTime tied = LocalDateTime.now().minusDays(1).truncatedTo(ChronoUnit.MILLIS);
+        jdbcTemplate.update("""
+            update vehicle_evaluation.vehicle_evaluations set created_at = ?
+             where evaluator_id = ? and plate in ('SUM1A20', 'SUM1A21', 'SUM1A22')
+            """, Timestamp.valueOf(tied), evaluatorId);
+        EvaluationSummaryFilter filter = new EvaluationSummaryFilter(evaluatorId, null, null, null, null, null);
+
+        for (boolean descending : new boolean[] {true, false}) {
+            List<UUID> expected = summaryRepository.findPage(filter, "createdAt", descending, 0, 10).stream()
+                .map(EvaluationSummary::id)
+                .toList();
+
+            List<UUID> paged = new ArrayList<>();
+            List<EvaluationSummary> page = summaryRepository.findAfter(filter, null, null, descending, 2);
+            while (!page.isEmpty()) {
+                page.forEach(summary -> paged.add(summary.id()));
+                EvaluationSummary last = page.get(page.size() - 1);
+                page = summaryRepository.findAfter(filter, last.createdAt(), last.id(), descending, 2);
+            }
+
+            assertThat(expected).hasSize(5);
+            assertThat(paged).containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve aceitar filtros nulos e combinar os informados")
+    void nullFiltersMatchEveryRow() {
+        String evaluatorId = "evaluator-" + UUID.randomUUID();
+        for (int i = 0; i < 3; i++) {
+            evaluationRepository.save(evaluation("SUM1B2" + i, evaluatorId));
+        }
+        EvaluationSummary newest = summaryRepository.findPage(
+            new EvaluationSummaryFilter(evaluatorId, null, null, null, null, null), "createdAt", true, 0, 1).get(0);
+
+        assertThat(summaryRepository.count(EvaluationSummaryFilter.NONE)).isGreaterThanOrEqualTo(3);
+        assertThat(summaryRepository.findPage(EvaluationSummaryFilter.NONE, "plate", false, 0, 5)).isNotEmpty();
+        assertThat(summaryRepository.findAfter(EvaluationSummaryFilter.NONE, newest.createdAt(), newest.id(), true, 5))
+            .noneMatch(summary -> summary.id().equals(newest.id()));
+
+        EvaluationSummaryFilter combined = new EvaluationSummaryFilter(evaluatorId, EvaluationStatus.DRAFT,
+            "Toyota", "SUM1B", LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1));
+        assertThat(summaryRepository.count(combined)).isEqualTo(3);
+        assertThat(summaryRepository.findAfter(combined, newest.createdAt(), newest.id(), true, 5)).hasSize(2);
+
+        EvaluationSummaryFilter otherStatus = new EvaluationSummaryFilter(evaluatorId, EvaluationStatus.APPROVED,
+            null, null, null, null);
+        assertThat(summaryRepository.count(otherStatus)).isZero();
+    }
+
+    private static VehicleEvaluation evaluation(String plate, String evaluatorId) {
+        return VehicleEvaluation.create(Plate.of(plate), "12345678901",
+            VehicleInfo.of("Toyota", "Corolla", "2.0 XEI", 2021, 2022, "Prata", FuelType.FLEX),
+            Money.of(new BigDecimal("45210")), evaluatorId);
+    }
+}
@@ -0,0 +1,68 @@
+package com.gestauto.vehicleevaluation.api.repository;
+
+import com.gestauto.vehicleevaluation.api.VehicleEvaluationApplication;
+import com.gestauto.vehicleevaluation.api.support.IntegrationTestContainers;
+import com.gestauto.vehicleevaluation.domain.report.ReportJob;
+import com.gestauto.vehicleevaluation.domain.repository.ReportJobRepository;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(
+    classes = VehicleEvaluationApplication.class,
+    properties = {
+        "app.analytics.columnar.enabled=false",
+        "app.outbox.relay.enabled=false",
+        "spring.autoconfigure.exclude="
+            + "org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration,"
+            + "org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration,"
+            + "org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration,"
+            + "org.springframework.boot.autoconfigure.security.servlet.SecurityFilterAutoConfiguration,"
+            + "org.springframework.boot.autoconfigure.security.oauth2.resource.servlet.OAuth2ResourceServerAutoConfiguration"
+    }
+)
+class ReportJobRepositoryIT extends IntegrationTestContainers {
+
+    @Autowired
+    ReportJobRepository repository;
+
+    @Test
+    @DisplayName("Deve recusar a reserva acima do limite de jobs ativos do usuário")
+    void reserveEnforcesPerUserLimit() {
+        String user = "user-" + UUID.randomUUID();
+        LocalDateTime activeSince = LocalDateTime.now().minusMinutes(15);
+        ReportJob first = ReportJob.queued(UUID.randomUUID(), user);
+
+        assertThat(repository.reserve(first, 2, activeSince)).isTrue();
+        assertThat(repository.reserve(ReportJob.queued(UUID.randomUUID(), user), 2, activeSince)).isTrue();
+        assertThat(repository.reserve(ReportJob.queued(UUID.randomUUID(), user), 2, activeSince)).isFalse();
+        assertThat(repository.reserve(ReportJob.queued(UUID.randomUUID(), "other-" + user), 2, activeSince)).isTrue();
+
+        repository.markRunning(first.jobId());
+        repository.finish(first.jobId(), ReportJob.Status.COMPLETED, null);
+
+        assertThat(repository.findById(first.jobId()).orElseThrow().status()).isEqualTo(ReportJob.Status.COMPLETED);
+        assertThat(repository.reserve(ReportJob.queued(UUID.randomUUID(), user), 2, activeSince)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve marcar jobs abandonados como falhos e liberar o limite")
+    void abandonedJobsAreFailed() {
+        String user = "user-" + UUID.randomUUID();
+        ReportJob job = ReportJob.queued(UUID.randomUUID(), user);
+        repository.reserve(job, 1, LocalDateTime.now().minusMinutes(15));
+
+        assertThat(repository.failAbandoned(LocalDateTime.now().plusSeconds(1))).isPositive();
+
+        ReportJob failed = repository.findById(job.jobId()).orElseThrow();
+        assertThat(failed.status()).isEqualTo(ReportJob.Status.FAILED);
+        assertThat(failed.completedAt()).isNotNull();
+        assertThat(repository.reserve(ReportJob.queued(UUID.randomUUID(), user), 1,
+            LocalDateTime.now().minusMinutes(15))).isTrue();
+    }
+}
@@ -0,0 +1,157 @@
+package com.gestauto.vehicleevaluation.api.repository;
+
+import com.gestauto.vehicleevaluation.api.VehicleEvaluationApplication;
+import com.gestauto.vehicleevaluation.api.support.IntegrationTestContainers;
+import com.gestauto.vehicleevaluation.domain.entity.DepreciationItem;
+import com.gestauto.vehicleevaluation.domain.entity.EvaluationChecklist;
+import com.gestauto.vehicleevaluation.domain.entity.EvaluationPhoto;
+import com.gestauto.vehicleevaluation.domain.entity.VehicleEvaluation;
+import com.gestauto.vehicleevaluation.domain.enums.EvaluationStatus;
+import com.gestauto.vehicleevaluation.domain.enums.FuelType;
+import com.gestauto.vehicleevaluation.domain.enums.PhotoType;
+import com.gestauto.vehicleevaluation.domain.exception.ConcurrentEvaluationUpdateException;
+import com.gestauto.vehicleevaluation.domain.repository.VehicleEvaluationRepository;
+import com.gestauto.vehicleevaluation.domain.value.Money;
+import com.gestauto.vehicleevaluation.domain.value.Plate;
+import com.gestauto.vehicleevaluation.domain.value.VehicleInfo;
+import com.gestauto.vehicleevaluation.infra.entity.DepreciationItemJpaEntity;
+import com.gestauto.vehicleevaluation.infra.entity.EvaluationChecklistJpaEntity;
+import com.gestauto.vehicleevaluation.infra.entity.EvaluationPhotoJpaEntity;
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(
+    classes = VehicleEvaluationApplication.class,
+    properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "app.analytics.columnar.enabled=false",
+        "spring.autoconfigure.exclude="
+            + "org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration,"
+            + "org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration,"
+            + "org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration,"
+            + "org.springframework.boot.autoconfigure.security.servlet.SecurityFilterAutoConfiguration,"
+            + "org.springframework.boot.autoconfigure.security.oauth2.resource.servlet.OAuth2ResourceServerAutoConfiguration"
+    }
+)
+class VehicleEvaluationRepositoryQueryCountIT extends IntegrationTestContainers {
+
+    private static final List<PhotoType> PERSISTABLE_PHOTO_TYPES =
+        List.of(PhotoType.INTERIOR_FRONT, PhotoType.INTERIOR_REAR, PhotoType.TRUNK_OPEN);
+
+    // avaliações + fotos + itens de depreciação + problemas críticos do checklist
+    private static final long EXPECTED_STATEMENTS = 4;
+
+    @Autowired
+    VehicleEvaluationRepository repository;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("Deve carregar a lista de avaliações com número fixo de consultas")
+    void listQueriesUseFixedNumberOfStatements() {
+        String evaluatorId = "evaluator-" + UUID.randomUUID();
+        for (int i = 0; i < 3; i++) {
+            repository.save(evaluation(evaluatorId, i));
+        }
+
+        long withThree = countStatements(evaluatorId, 3);
+
+        for (int i = 3; i < 8; i++) {
+            repository.save(evaluation(evaluatorId, i));
+        }
+
+        long withEight = countStatements(evaluatorId, 8);
+
+        assertThat(withThree).isEqualTo(EXPECTED_STATEMENTS);
+        assertThat(withEight).isEqualTo(EXPECTED_STATEMENTS);
+    }
+
+    @Test
+    @DisplayName("Deve gravar apenas as linhas alteradas ao salvar uma avaliação existente")
+    void saveWritesOnlyChangedRows() {
+        String evaluatorId = "evaluator-" + UUID.randomUUID();
+        VehicleEvaluation evaluation = repository.save(evaluation(evaluatorId, 9));
+        VehicleEvaluation loaded = repository.findById(evaluation.getId()).orElseThrow();
+        loaded.addDepreciationItem(DepreciationItem.create(loaded.getId(), "TIRES", "Pneus gastos",
+            Money.of(new BigDecimal("400.00")), "Troca", evaluatorId));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        repository.save(loaded);
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+        assertThat(statistics.getEntityDeleteCount()).isZero();
+        assertThat(statistics.getEntityStatistics(EvaluationPhotoJpaEntity.class.getName()).getUpdateCount()).isZero();
+        assertThat(statistics.getEntityStatistics(DepreciationItemJpaEntity.class.getName()).getUpdateCount()).isZero();
+        assertThat(statistics.getEntityStatistics(EvaluationChecklistJpaEntity.class.getName()).getUpdateCount()).isZero();
+        assertThat(statistics.getCollectionRecreateCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve recusar gravar uma avaliação lida em versão desatualizada")
+    void saveRejectsStaleVersion() {
+        String evaluatorId = "evaluator-" + UUID.randomUUID();
+        VehicleEvaluation saved = repository.save(evaluation(evaluatorId, 8));
+        VehicleEvaluation first = repository.findById(saved.getId()).orElseThrow();
+        VehicleEvaluation second = repository.findById(saved.getId()).orElseThrow();
+
+        first.setObservations("Primeira alteração");
+        VehicleEvaluation updated = repository.save(first);
+        second.setObservations("Alteração concorrente");
+
+        assertThat(updated.getVersion()).isEqualTo(first.getVersion() + 1);
+        assertThatThrownBy(() -> repository.save(second))
+            .isInstanceOf(ConcurrentEvaluationUpdateException.class);
+        assertThatThrownBy(() -> repository.advanceVersion(saved.getId(), first.getVersion()))
+            .isInstanceOf(ConcurrentEvaluationUpdateException.class);
+    }
+
+    private long countStatements(String evaluatorId, int expectedSize) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<VehicleEvaluation> evaluations = repository.findByStatusAndEvaluator(EvaluationStatus.DRAFT, evaluatorId);
+
+        assertThat(evaluations).hasSize(expectedSize);
+        assertThat(evaluations).allSatisfy(evaluation -> {
+            assertThat(evaluation.getPhotos()).hasSize(PERSISTABLE_PHOTO_TYPES.size());
+            assertThat(evaluation.getDepreciationItems()).hasSize(2);
+            assertThat(evaluation.getChecklist().getCriticalIssues()).hasSize(1);
+        });
+        return statistics.getPrepareStatementCount();
+    }
+
+    private VehicleEvaluation evaluation(String evaluatorId, int index) {
+        VehicleEvaluation evaluation = VehicleEvaluation.create(Plate.of("QRY1A2" + index), "12345678901",
+            VehicleInfo.of("Toyota", "Corolla", "2.0 XEI", 2021, 2022, "Prata", FuelType.FLEX),
+            Money.of(new BigDecimal("45210")), evaluatorId);
+
+        for (PhotoType type : PERSISTABLE_PHOTO_TYPES) {
+            String key = "evaluations/" + evaluation.getId().getValueAsString() + "/" + type.name().toLowerCase() + ".jpg";
+            evaluation.addPhoto(EvaluationPhoto.create(evaluation.getId(), type, type.name() + ".jpg", key, 1024L,
+                "image/jpeg", "https://cdn.gestauto.test/" + key, "https://cdn.gestauto.test/" + key));
+        }
+        evaluation.addDepreciationItem(DepreciationItem.create(evaluation.getId(), "BODY", "Amassado",
+            Money.of(new BigDecimal("850.00")), "Martelinho", evaluatorId));
+        evaluation.addDepreciationItem(DepreciationItem.create(evaluation.getId(), "PAINT", "Riscos",
+            Money.of(new BigDecimal("600.00")), "Polimento", evaluatorId));
+
+        EvaluationChecklist checklist = EvaluationChecklist.create(evaluation.getId());
+        checklist.addCriticalIssue("Chassi com sinais de solda");
+        evaluation.updateChecklist(checklist);
+        return evaluation;
+    }
+}
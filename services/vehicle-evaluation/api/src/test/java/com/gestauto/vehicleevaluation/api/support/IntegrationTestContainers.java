@@ -16,7 +16,8 @@ public abstract class IntegrationTestContainers {
         .withPassword("gestauto123");
 
     static final RabbitMQContainer rabbitmq = new RabbitMQContainer(DockerImageName.parse("rabbitmq:3.11-alpine"))
-        .withUser("gestauto", "gestauto123");
+        .withUser("gestauto", "gestauto123")
+        .withPluginsEnabled("rabbitmq_consistent_hash_exchange");
 
     private static final Object START_LOCK = new Object();
     private static volatile boolean started = false;
@@ -11,27 +11,38 @@ import com.gestauto.vehicleevaluation.domain.value.ImageUploadRequest;
 import com.gestauto.vehicleevaluation.domain.value.ImageUploadResult;
 import com.gestauto.vehicleevaluation.domain.value.UploadedPhoto;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Map;
 
+/**
+ * Handler para envio de fotos de uma avaliação.
+ *
+ * Executa em etapas para não segurar conexão do pool durante o upload:
+ * a avaliação é lida (com a versão atual), as fotos são enviadas ao storage
+ * fora de qualquer transação e os metadados são gravados em uma transação curta
+ * que antes avança a versão da avaliação, falhando se ela mudou nesse intervalo.
+ */
 @Component
 public class AddPhotosHandler implements CommandHandler<AddPhotosCommand, Void> {
 
     private final VehicleEvaluationRepository evaluationRepository;
     private final ImageStorageService imageStorageService;
     private final EvaluationPhotoRepository photoRepository;
+    private final TransactionTemplate transactionTemplate;
 
     public AddPhotosHandler(VehicleEvaluationRepository evaluationRepository,
                             ImageStorageService imageStorageService,
-                            EvaluationPhotoRepository photoRepository) {
+                            EvaluationPhotoRepository photoRepository,
+                            PlatformTransactionManager transactionManager) {
         this.evaluationRepository = evaluationRepository;
         this.imageStorageService = imageStorageService;
         this.photoRepository = photoRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     @Override
-    @Transactional
     public Void handle(AddPhotosCommand command) {
         EvaluationId evaluationId = EvaluationId.from(command.evaluationId());
         VehicleEvaluation evaluation = evaluationRepository.findById(evaluationId)
@@ -46,14 +57,23 @@ public class AddPhotosHandler implements CommandHandler<AddPhotosCommand, Void>
             }
         }
 
-        // Upload photos
+        // Upload photos (sem transação aberta)
         ImageUploadResult result = imageStorageService.uploadEvaluationPhotos(command.evaluationId(), command.photos());
 
         if (!result.errors().isEmpty()) {
             throw new RuntimeException("Error uploading photos: " + result.errors());
         }
 
-        // Save metadata
+        // Save metadata em transação curta, com verificação otimista da versão lida
+        transactionTemplate.executeWithoutResult(status -> {
+            evaluationRepository.advanceVersion(evaluationId, evaluation.getVersion());
+            savePhotoMetadata(command, evaluationId, result);
+        });
+
+        return null;
+    }
+
+    private void savePhotoMetadata(AddPhotosCommand command, EvaluationId evaluationId, ImageUploadResult result) {
         for (Map.Entry<String, UploadedPhoto> entry : result.uploadedPhotos().entrySet()) {
             PhotoType type = PhotoType.valueOf(entry.getKey());
             UploadedPhoto uploadedPhoto = entry.getValue();
@@ -76,9 +96,10 @@ public class AddPhotosHandler implements CommandHandler<AddPhotosCommand, Void>
                     uploadedPhoto.originalUrl(),
                     uploadedPhoto.thumbnailUrl()
             );
+            if (uploadedPhoto.pdfImageKey() != null) {
+                photo.attachPdfImage(uploadedPhoto.pdfImageKey(), uploadedPhoto.pdfImageSize());
+            }
             photoRepository.save(photo);
         }
-
-        return null;
     }
 }
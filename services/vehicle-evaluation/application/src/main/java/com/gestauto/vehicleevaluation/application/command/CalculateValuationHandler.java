@@ -9,10 +9,10 @@ import com.gestauto.vehicleevaluation.domain.enums.EvaluationStatus;
 import com.gestauto.vehicleevaluation.domain.event.ValuationCalculatedEvent;
 import com.gestauto.vehicleevaluation.domain.repository.VehicleEvaluationRepository;
 import com.gestauto.vehicleevaluation.domain.value.EvaluationId;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * Handler CQRS para o comando CalculateValuation.
@@ -24,15 +24,30 @@ import org.springframework.transaction.annotation.Transactional;
  * - Atualizar dados de valoração na avaliação
  * - Persistir alterações
  * - Publicar evento de domínio
+ *
+ * O handler não abre transação própria: a consulta à FIPE feita pelo cálculo
+ * roda sem conexão do pool presa. A gravação e o registro do evento na outbox
+ * acontecem juntos em uma transação curta, que rejeita a avaliação se a versão
+ * lida tiver mudado.
  */
 @Component
 @Slf4j
-@RequiredArgsConstructor
 public class CalculateValuationHandler implements CommandHandler<CalculateValuationCommand, ValuationResultDto> {
 
     private final VehicleEvaluationRepository evaluationRepository;
     private final ValuationService valuationService;
     private final DomainEventPublisherService eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    public CalculateValuationHandler(VehicleEvaluationRepository evaluationRepository,
+                                     ValuationService valuationService,
+                                     DomainEventPublisherService eventPublisher,
+                                     PlatformTransactionManager transactionManager) {
+        this.evaluationRepository = evaluationRepository;
+        this.valuationService = valuationService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
 
     /**
      * Executa o cálculo de valoração para uma avaliação.
@@ -42,7 +57,6 @@ public class CalculateValuationHandler implements CommandHandler<CalculateValuat
      * @throws IllegalArgumentException se avaliação não encontrada ou em status inválido
      */
     @Override
-    @Transactional
     public ValuationResultDto handle(CalculateValuationCommand command) {
         log.info(
             "Iniciando handler CalculateValuation para avaliação: {}",
@@ -91,12 +105,13 @@ public class CalculateValuationHandler implements CommandHandler<CalculateValuat
         // 5. Atualizar avaliação com resultado
         updateEvaluationWithValuationResult(evaluation, valuationResult);
 
-        // 6. Salvar avaliação
-        evaluationRepository.save(evaluation);
-        log.debug("Avaliação salva com sucesso");
+        // 6. Salvar avaliação e publicar evento de domínio na mesma transação
+        transactionTemplate.executeWithoutResult(status -> {
+            evaluationRepository.save(evaluation);
+            log.debug("Avaliação salva com sucesso");
 
-        // 7. Publicar evento de domínio
-        publishValuationCalculatedEvent(valuationResult);
+            publishValuationCalculatedEvent(valuationResult);
+        });
 
         return valuationResult;
     }
@@ -11,10 +11,10 @@ import com.gestauto.vehicleevaluation.domain.repository.VehicleEvaluationReposit
 import com.gestauto.vehicleevaluation.domain.value.Money;
 import com.gestauto.vehicleevaluation.domain.value.Plate;
 import com.gestauto.vehicleevaluation.domain.value.VehicleInfo;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 import java.util.Optional;
@@ -26,18 +26,31 @@ import java.util.UUID;
  * Este handler implementa o comando de criação de avaliação seguindo
  * o padrão CQRS e encapsulando toda a lógica de negócio necessária
  * para a criação de uma avaliação de veículo.
+ *
+ * A consulta à FIPE é feita fora de transação; apenas as leituras de validação
+ * e a inserção final usam conexão. A inserção e o registro dos eventos na outbox
+ * acontecem juntos em uma transação curta.
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class CreateEvaluationHandler implements CommandHandler<CreateEvaluationCommand, UUID> {
 
     private final VehicleEvaluationRepository vehicleEvaluationRepository;
     private final FipeService fipeService;
     private final DomainEventPublisherService eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    public CreateEvaluationHandler(VehicleEvaluationRepository vehicleEvaluationRepository,
+                                   FipeService fipeService,
+                                   DomainEventPublisherService eventPublisher,
+                                   PlatformTransactionManager transactionManager) {
+        this.vehicleEvaluationRepository = vehicleEvaluationRepository;
+        this.fipeService = fipeService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
 
     @Override
-    @Transactional
     public UUID handle(CreateEvaluationCommand command) throws Exception {
         log.info("Iniciando criação da avaliação para o veículo de placa: {}", command.plate());
 
@@ -52,11 +65,13 @@ public class CreateEvaluationHandler implements CommandHandler<CreateEvaluationC
             // 3. Criar entidade VehicleEvaluation
             VehicleEvaluation evaluation = createEvaluation(command, plate, vehicleInfo);
 
-            // 4. Salvar avaliação
-            VehicleEvaluation savedEvaluation = vehicleEvaluationRepository.save(evaluation);
-
-            // 5. Publicar eventos de domínio
-            publishDomainEvents(savedEvaluation);
+            // 4. Salvar avaliação e publicar os eventos gerados na criação; a instância
+            // devolvida pelo repositório é reconstruída e não carrega eventos
+            VehicleEvaluation savedEvaluation = transactionTemplate.execute(status -> {
+                VehicleEvaluation saved = vehicleEvaluationRepository.save(evaluation);
+                publishDomainEvents(evaluation);
+                return saved;
+            });
 
             log.info("Avaliação criada com sucesso. ID: {}", savedEvaluation.getId().getValueAsString());
 
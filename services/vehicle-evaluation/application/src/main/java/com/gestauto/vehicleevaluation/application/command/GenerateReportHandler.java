@@ -4,14 +4,18 @@ import com.gestauto.vehicleevaluation.domain.entity.VehicleEvaluation;
 import com.gestauto.vehicleevaluation.domain.enums.EvaluationStatus;
 import com.gestauto.vehicleevaluation.domain.exception.EvaluationNotFoundException;
 import com.gestauto.vehicleevaluation.domain.repository.VehicleEvaluationRepository;
+import com.gestauto.vehicleevaluation.domain.service.ReportCache;
 import com.gestauto.vehicleevaluation.domain.service.ReportService;
 import com.gestauto.vehicleevaluation.domain.value.EvaluationId;
+import com.gestauto.vehicleevaluation.domain.value.ReportCacheKey;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
+import java.util.Optional;
 
 /**
  * Handler responsável por gerar relatórios PDF de avaliações.
@@ -24,6 +28,12 @@ import java.time.LocalDateTime;
  * - QR code para validação online
  * - Marca d'água dinâmica
  * - Performance otimizada < 30 segundos
+ *
+ * Laudos já renderizados são servidos do {@link ReportCache}, indexados pela
+ * versão da avaliação (status + updatedAt).
+ *
+ * A avaliação é lida em uma transação curta do repositório e o PDF é renderizado
+ * depois, sem transação aberta, para não segurar conexão durante a renderização.
  */
 @Component
 @RequiredArgsConstructor
@@ -32,36 +42,27 @@ public class GenerateReportHandler implements CommandHandler<GenerateReportComma
 
     private final VehicleEvaluationRepository evaluationRepository;
     private final ReportService reportService;
+    private final ReportCache reportCache;
 
     @Override
-    @Transactional(readOnly = true)
     public byte[] handle(GenerateReportCommand command) {
         log.info("Gerando relatório para avaliação: evaluationId={}", command.evaluationId());
 
         try {
-            // 1. Buscar avaliação
-            VehicleEvaluation evaluation = evaluationRepository.findById(
-                EvaluationId.from(command.evaluationId().toString())
-            ).orElseThrow(() -> new EvaluationNotFoundException(
-                command.evaluationId().toString()
-            ));
-
-            // 2. Validar status - não permitir relatórios para avaliações em DRAFT
-            if (evaluation.getStatus() == EvaluationStatus.DRAFT) {
-                throw new IllegalStateException(
-                    "Cannot generate report for evaluation in DRAFT status. " +
-                    "Evaluation must be submitted for approval first."
-                );
-            }
-
-            // 3. Validar validade do laudo (72 horas)
-            validateReportValidity(evaluation);
+            // 1-4. Buscar e validar avaliação
+            VehicleEvaluation evaluation = loadReportableEvaluation(command);
 
-            // 4. Validar se tem dados mínimos
-            validateEvaluationData(evaluation);
+            // 5. Reutilizar laudo já renderizado para esta versão da avaliação
+            ReportCacheKey cacheKey = ReportCacheKey.of(evaluation);
+            Optional<byte[]> cached = reportCache.get(cacheKey);
+            if (cached.isPresent()) {
+                log.info("Relatório servido do cache: key={}, tamanho={} bytes", cacheKey, cached.get().length);
+                return cached.get();
+            }
 
-            // 5. Gerar PDF
+            // 6. Gerar PDF
             byte[] report = reportService.generateEvaluationReport(evaluation);
+            reportCache.put(cacheKey, report);
 
             log.info("Relatório gerado com sucesso. Tamanho: {} bytes", report.length);
 
@@ -82,6 +83,103 @@ public class GenerateReportHandler implements CommandHandler<GenerateReportComma
         }
     }
 
+    /**
+     * Prepara o laudo para entrega em streaming.
+     *
+     * A avaliação é carregada e validada antes da escrita; o PDF é renderizado
+     * somente quando o {@link StreamingReport} é escrito na resposta, página a página,
+     * sem acumular o documento inteiro em memória. Laudos em cache são copiados
+     * diretamente do storage. Laudos renderizados são gravados ao mesmo tempo na
+     * resposta e em um arquivo temporário do cache; o envio desse arquivo ao
+     * storage acontece no commit da entrada, de forma síncrona, depois que o
+     * laudo inteiro foi escrito na resposta.
+     *
+     * @param command comando com o ID da avaliação
+     * @return relatório pronto para ser escrito no stream de saída
+     */
+    public StreamingReport prepareStreamingReport(GenerateReportCommand command) {
+        log.info("Preparando relatório em streaming para avaliação: evaluationId={}", command.evaluationId());
+
+        VehicleEvaluation evaluation = loadReportableEvaluation(command);
+        ReportCacheKey cacheKey = ReportCacheKey.of(evaluation);
+
+        return outputStream -> {
+            if (reportCache.copyTo(cacheKey, outputStream)) {
+                log.info("Relatório servido do cache em streaming: key={}", cacheKey);
+                return;
+            }
+
+            try (ReportCache.PendingEntry cacheEntry = reportCache.openEntry(cacheKey)) {
+                reportService.writeEvaluationReport(evaluation,
+                    new TeeOutputStream(outputStream, cacheEntry.outputStream()));
+                cacheEntry.commit();
+            }
+
+            log.info("Relatório gerado em streaming com sucesso: evaluationId={}", command.evaluationId());
+        };
+    }
+
+    /**
+     * Renderiza o laudo diretamente para o cache, para geração em segundo plano.
+     *
+     * Se a versão atual da avaliação já estiver em cache, nada é renderizado nem
+     * transferido. Como o cache é o único destino do laudo, falhas ao armazená-lo
+     * são propagadas ao chamador.
+     *
+     * @param command comando com o ID da avaliação
+     * @return true se o laudo foi renderizado, false se já estava em cache
+     * @throws IOException se a entrada de cache não puder ser criada
+     */
+    public boolean renderToCache(GenerateReportCommand command) throws IOException {
+        VehicleEvaluation evaluation = loadReportableEvaluation(command);
+        ReportCacheKey cacheKey = ReportCacheKey.of(evaluation);
+
+        if (reportCache.contains(cacheKey)) {
+            log.info("Relatório já disponível no cache: key={}", cacheKey);
+            return false;
+        }
+
+        try (ReportCache.PendingEntry cacheEntry = reportCache.openRequiredEntry(cacheKey)) {
+            reportService.writeEvaluationReport(evaluation, cacheEntry.outputStream());
+            cacheEntry.commit();
+        }
+
+        log.info("Relatório renderizado para o cache: key={}", cacheKey);
+        return true;
+    }
+
+    /**
+     * Busca a avaliação e valida se ela pode ter o laudo gerado.
+     *
+     * @param command comando com o ID da avaliação
+     * @return avaliação apta a gerar relatório
+     * @throws EvaluationNotFoundException se a avaliação não existir
+     * @throws IllegalStateException se a avaliação não puder gerar relatório
+     */
+    private VehicleEvaluation loadReportableEvaluation(GenerateReportCommand command) {
+        VehicleEvaluation evaluation = evaluationRepository.findById(
+            EvaluationId.from(command.evaluationId().toString())
+        ).orElseThrow(() -> new EvaluationNotFoundException(
+            command.evaluationId().toString()
+        ));
+
+        // Não permitir relatórios para avaliações em DRAFT
+        if (evaluation.getStatus() == EvaluationStatus.DRAFT) {
+            throw new IllegalStateException(
+                "Cannot generate report for evaluation in DRAFT status. " +
+                "Evaluation must be submitted for approval first."
+            );
+        }
+
+        // Validar validade do laudo (72 horas)
+        validateReportValidity(evaluation);
+
+        // Validar se tem dados mínimos
+        validateEvaluationData(evaluation);
+
+        return evaluation;
+    }
+
     /**
      * Valida se o laudo ainda está dentro do prazo de validade de 72 horas.
      *
@@ -129,4 +227,36 @@ public class GenerateReportHandler implements CommandHandler<GenerateReportComma
             );
         }
     }
+
+    /**
+     * Replica os bytes escritos para a resposta e para a entrada de cache.
+     */
+    private static final class TeeOutputStream extends OutputStream {
+
+        private final OutputStream primary;
+        private final OutputStream secondary;
+
+        private TeeOutputStream(OutputStream primary, OutputStream secondary) {
+            this.primary = primary;
+            this.secondary = secondary;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            primary.write(b);
+            secondary.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            primary.write(b, off, len);
+            secondary.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            primary.flush();
+            secondary.flush();
+        }
+    }
 }
@@ -0,0 +1,29 @@
+package com.gestauto.vehicleevaluation.application.command;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+
+/**
+ * Comando para reconstruir os agregados diários do dashboard.
+ */
+@Schema(description = "Comando para reconstruir agregados diários")
+public record RebuildDailyStatsCommand(
+
+    @Schema(description = "Primeiro dia a reconstruir (inclusive)")
+    LocalDate startDate,
+
+    @Schema(description = "Último dia a reconstruir (inclusive)")
+    LocalDate endDate
+
+) {
+
+    public RebuildDailyStatsCommand {
+        if (startDate == null || endDate == null) {
+            throw new IllegalArgumentException("startDate and endDate are required");
+        }
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("startDate must be <= endDate");
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.gestauto.vehicleevaluation.application.command;
+
+import com.gestauto.vehicleevaluation.application.query.GetEvaluationDashboardQuery;
+import com.gestauto.vehicleevaluation.application.service.DashboardPrecomputeService;
+import com.gestauto.vehicleevaluation.domain.repository.EvaluationDailyStatsRepository;
+import com.gestauto.vehicleevaluation.domain.service.DashboardCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Handler que reconstrói evaluation_daily_stats a partir das avaliações.
+ *
+ * Usado após cargas em lote, correções manuais ou falhas no refresh
+ * incremental. Ao final, remove as visões com período explícito e
+ * recalcula as visões padrão do dashboard.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RebuildDailyStatsHandler implements CommandHandler<RebuildDailyStatsCommand, Integer> {
+
+    private final EvaluationDailyStatsRepository dailyStatsRepository;
+    private final DashboardCache dashboardCache;
+    private final DashboardPrecomputeService dashboardPrecomputeService;
+
+    @Override
+    public Integer handle(RebuildDailyStatsCommand command) {
+        log.info("Reconstruindo agregados diários: startDate={}, endDate={}",
+                command.startDate(), command.endDate());
+
+        int rows = dailyStatsRepository.rebuild(command.startDate(), command.endDate());
+
+        dashboardCache.evictByKeyPrefix(GetEvaluationDashboardQuery.RANGE_VIEW_KEY_PREFIX);
+        dashboardPrecomputeService.refreshDefaultViews();
+        return rows;
+    }
+}
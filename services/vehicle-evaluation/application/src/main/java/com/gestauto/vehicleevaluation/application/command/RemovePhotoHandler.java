@@ -1,8 +1,10 @@
 package com.gestauto.vehicleevaluation.application.command;
 
 import com.gestauto.vehicleevaluation.domain.entity.EvaluationPhoto;
+import com.gestauto.vehicleevaluation.domain.entity.VehicleEvaluation;
 import com.gestauto.vehicleevaluation.domain.enums.PhotoType;
 import com.gestauto.vehicleevaluation.domain.repository.EvaluationPhotoRepository;
+import com.gestauto.vehicleevaluation.domain.repository.VehicleEvaluationRepository;
 import com.gestauto.vehicleevaluation.domain.service.ImageStorageService;
 import com.gestauto.vehicleevaluation.domain.value.EvaluationId;
 import org.springframework.stereotype.Component;
@@ -10,13 +12,24 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
+/**
+ * Handler para remoção de uma foto da avaliação.
+ *
+ * A remoção avança a versão da avaliação (e o updated_at), com a mesma
+ * verificação otimista do envio de fotos: o laudo em cache é indexado pela
+ * versão, e sem o avanço continuaria sendo servido com a foto removida.
+ */
 @Component
 public class RemovePhotoHandler implements CommandHandler<RemovePhotoCommand, Void> {
 
+    private final VehicleEvaluationRepository evaluationRepository;
     private final EvaluationPhotoRepository photoRepository;
     private final ImageStorageService imageStorageService;
 
-    public RemovePhotoHandler(EvaluationPhotoRepository photoRepository, ImageStorageService imageStorageService) {
+    public RemovePhotoHandler(VehicleEvaluationRepository evaluationRepository,
+                              EvaluationPhotoRepository photoRepository,
+                              ImageStorageService imageStorageService) {
+        this.evaluationRepository = evaluationRepository;
         this.photoRepository = photoRepository;
         this.imageStorageService = imageStorageService;
     }
@@ -26,6 +39,8 @@ public class RemovePhotoHandler implements CommandHandler<RemovePhotoCommand, Vo
     public Void handle(RemovePhotoCommand command) {
         EvaluationId evaluationId = EvaluationId.from(command.evaluationId());
         PhotoType type = PhotoType.valueOf(command.photoType());
+        VehicleEvaluation evaluation = evaluationRepository.findById(evaluationId)
+                .orElseThrow(() -> new RuntimeException("Evaluation not found"));
 
         List<EvaluationPhoto> photos = photoRepository.findByEvaluationId(evaluationId);
         EvaluationPhoto photoToRemove = photos.stream()
@@ -33,11 +48,17 @@ public class RemovePhotoHandler implements CommandHandler<RemovePhotoCommand, Vo
                 .findFirst()
                 .orElseThrow(() -> new RuntimeException("Photo not found"));
 
+        // Falha antes de apagar qualquer arquivo se a avaliação mudou desde a leitura
+        evaluationRepository.advanceVersion(evaluationId, evaluation.getVersion());
+
         // Delete from storage
         imageStorageService.deleteImage(photoToRemove.getUploadUrl());
         if (photoToRemove.getThumbnailUrl() != null) {
             imageStorageService.deleteImage(photoToRemove.getThumbnailUrl());
         }
+        if (photoToRemove.hasPdfImage()) {
+            imageStorageService.deleteImage(photoToRemove.getPdfImagePath());
+        }
 
         // Delete from DB
         photoRepository.deleteById(photoToRemove.getPhotoId());
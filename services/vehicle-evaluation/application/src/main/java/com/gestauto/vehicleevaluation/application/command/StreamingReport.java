@@ -0,0 +1,22 @@
+package com.gestauto.vehicleevaluation.application.command;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Relatório PDF pronto para ser escrito diretamente no stream de resposta.
+ *
+ * A avaliação já foi carregada e validada; a renderização acontece apenas
+ * quando {@link #writeTo(OutputStream)} é invocado, fora da transação.
+ */
+@FunctionalInterface
+public interface StreamingReport {
+
+    /**
+     * Escreve o PDF no stream informado sem fechá-lo.
+     *
+     * @param outputStream destino dos bytes do PDF
+     * @throws IOException se houver falha ao escrever no destino
+     */
+    void writeTo(OutputStream outputStream) throws IOException;
+}
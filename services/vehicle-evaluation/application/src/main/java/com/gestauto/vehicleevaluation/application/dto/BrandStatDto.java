@@ -1,5 +1,6 @@
 package com.gestauto.vehicleevaluation.application.dto;
 
+import java.io.Serializable;
 import java.math.BigDecimal;
 
 public record BrandStatDto(
@@ -7,5 +8,5 @@ public record BrandStatDto(
     long evaluationsCount,
     BigDecimal averageTicket,
     BigDecimal approvalRatePercent
-) {
+) implements Serializable {
 }
@@ -1,5 +1,6 @@
 package com.gestauto.vehicleevaluation.application.dto;
 
+import java.io.Serializable;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -9,5 +10,5 @@ public record EvaluationDashboardDto(
     List<MonthlyStatDto> monthlyTrend,
     List<BrandStatDto> brandDistribution,
     LocalDateTime generatedAt
-) {
+) implements Serializable {
 }
@@ -1,11 +1,14 @@
 package com.gestauto.vehicleevaluation.application.dto;
 
+import java.io.Serializable;
 import java.math.BigDecimal;
 
 public record EvaluationKpiDto(
     BigDecimal evaluationsPerMonth,
     BigDecimal approvalRatePercent,
     BigDecimal averageTicket,
-    BigDecimal averageReviewTimeHours
-) {
+    BigDecimal averageReviewTimeHours,
+    LatencyPercentilesDto reviewTimePercentiles,
+    LatencyPercentilesDto submissionTimePercentiles
+) implements Serializable {
 }
@@ -0,0 +1,12 @@
+package com.gestauto.vehicleevaluation.application.dto;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+public record LatencyPercentilesDto(
+    BigDecimal p50Hours,
+    BigDecimal p90Hours,
+    BigDecimal p99Hours,
+    long samples
+) implements Serializable {
+}
@@ -1,5 +1,6 @@
 package com.gestauto.vehicleevaluation.application.dto;
 
+import java.io.Serializable;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
@@ -7,5 +8,5 @@ public record MonthlyStatDto(
     LocalDate month,
     long evaluationsCount,
     BigDecimal totalTicket
-) {
+) implements Serializable {
 }
@@ -1,5 +1,6 @@
 package com.gestauto.vehicleevaluation.application.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.util.List;
@@ -29,6 +30,16 @@ public record PagedResult<T>(
     boolean last,
 
     @Schema(description = "Número de elementos na página atual")
-    int numberOfElements
+    int numberOfElements,
 
-) {}
\ No newline at end of file
+    @Schema(description = "Cursor da próxima página, quando a listagem suporta paginação por cursor")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    String nextCursor
+
+) {
+
+    public PagedResult(List<T> content, int page, int size, long totalElements, int totalPages,
+                       boolean first, boolean last, int numberOfElements) {
+        this(content, page, size, totalElements, totalPages, first, last, numberOfElements, null);
+    }
+}
\ No newline at end of file
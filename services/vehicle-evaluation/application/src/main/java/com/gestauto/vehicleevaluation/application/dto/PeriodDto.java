@@ -1,9 +1,10 @@
 package com.gestauto.vehicleevaluation.application.dto;
 
+import java.io.Serializable;
 import java.time.LocalDateTime;
 
 public record PeriodDto(
     LocalDateTime startDate,
     LocalDateTime endDate
-) {
+) implements Serializable {
 }
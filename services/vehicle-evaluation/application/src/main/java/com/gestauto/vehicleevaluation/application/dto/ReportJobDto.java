@@ -0,0 +1,48 @@
+package com.gestauto.vehicleevaluation.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * DTO com o estado de um job assíncrono de geração de laudo PDF.
+ */
+@Schema(description = "Job assíncrono de geração de laudo")
+public record ReportJobDto(
+    @Schema(description = "ID do job")
+    UUID jobId,
+
+    @Schema(description = "ID da avaliação")
+    UUID evaluationId,
+
+    @Schema(description = "Usuário que solicitou o laudo")
+    String requestedBy,
+
+    @Schema(description = "Situação do job")
+    Status status,
+
+    @Schema(description = "Data/hora da solicitação")
+    LocalDateTime submittedAt,
+
+    @Schema(description = "Data/hora de conclusão")
+    LocalDateTime completedAt,
+
+    @Schema(description = "Motivo da falha, quando houver")
+    String errorMessage
+) {
+
+    /**
+     * Situação de um job de laudo.
+     */
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED;
+
+        public boolean isFinished() {
+            return this == COMPLETED || this == FAILED;
+        }
+    }
+}
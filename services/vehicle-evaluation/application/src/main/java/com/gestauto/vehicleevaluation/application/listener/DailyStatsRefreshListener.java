@@ -0,0 +1,89 @@
+package com.gestauto.vehicleevaluation.application.listener;
+
+import com.gestauto.vehicleevaluation.application.command.EvaluationApprovedEvent;
+import com.gestauto.vehicleevaluation.application.command.EvaluationRejectedEvent;
+import com.gestauto.vehicleevaluation.application.service.DashboardPrecomputeService;
+import com.gestauto.vehicleevaluation.domain.event.DomainEvent;
+import com.gestauto.vehicleevaluation.domain.repository.EvaluationDailyStatsRepository;
+import com.gestauto.vehicleevaluation.domain.service.EvaluationAnalyticsIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Mantém o índice analítico em memória, evaluation_daily_stats e as visões do
+ * dashboard atualizados conforme as avaliações mudam.
+ *
+ * Cada evento reaplica a avaliação ao índice analítico e recalcula apenas a
+ * sua fatia diária após o commit; em seguida, atualiza as visões do dashboard
+ * que incluem o avaliador dessa fatia.
+ * Falhas são registradas e não afetam o fluxo da avaliação; o agregado pode
+ * ser reconstruído com {@code RebuildDailyStatsCommand}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DailyStatsRefreshListener {
+
+    private static final Set<String> REFRESHING_EVENT_TYPES = Set.of(
+        "EvaluationCreated",
+        "EvaluationSubmitted",
+        "EvaluationApproved",
+        "EvaluationRejected",
+        "ValuationCalculated"
+    );
+
+    private final EvaluationAnalyticsIndex analyticsIndex;
+    private final EvaluationDailyStatsRepository dailyStatsRepository;
+    private final DashboardPrecomputeService dashboardPrecomputeService;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEvaluationApproved(EvaluationApprovedEvent event) {
+        refresh(event.getEvaluationId(), "EvaluationApproved");
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEvaluationRejected(EvaluationRejectedEvent event) {
+        refresh(event.getEvaluationId(), "EvaluationRejected");
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDomainEvent(DomainEvent event) {
+        if (REFRESHING_EVENT_TYPES.contains(event.getEventType())) {
+            refresh(event.getEvaluationId(), event.getEventType());
+        }
+    }
+
+    private void refresh(String evaluationId, String reason) {
+        if (evaluationId == null) {
+            return;
+        }
+
+        UUID id;
+        try {
+            id = UUID.fromString(evaluationId);
+        } catch (IllegalArgumentException e) {
+            log.warn("Identificador de avaliação inválido: evaluationId={}, evento={}", evaluationId, reason);
+            return;
+        }
+
+        try {
+            analyticsIndex.apply(id);
+        } catch (Exception e) {
+            log.warn("Falha ao atualizar índice analítico: evaluationId={}, evento={}, erro={}",
+                evaluationId, reason, e.getMessage());
+        }
+
+        try {
+            dailyStatsRepository.refresh(id)
+                .ifPresent(dashboardPrecomputeService::refreshEvaluatorViews);
+        } catch (Exception e) {
+            log.warn("Falha ao atualizar agregado diário: evaluationId={}, evento={}, erro={}",
+                evaluationId, reason, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.gestauto.vehicleevaluation.application.listener;
+
+import com.gestauto.vehicleevaluation.application.command.EvaluationApprovedEvent;
+import com.gestauto.vehicleevaluation.application.command.EvaluationRejectedEvent;
+import com.gestauto.vehicleevaluation.domain.event.DomainEvent;
+import com.gestauto.vehicleevaluation.domain.event.ValuationCalculatedEvent;
+import com.gestauto.vehicleevaluation.domain.service.ReportCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Invalida os laudos PDF em cache quando a avaliação muda de estado.
+ *
+ * A chave do cache já inclui a versão da avaliação, portanto a invalidação
+ * serve para liberar as versões obsoletas no storage assim que a transação
+ * que alterou a avaliação é confirmada.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReportCacheInvalidationListener {
+
+    private static final Set<String> INVALIDATING_EVENT_TYPES = Set.of(
+        "EvaluationApproved",
+        "EvaluationRejected",
+        "ValuationCalculated"
+    );
+
+    private final ReportCache reportCache;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEvaluationApproved(EvaluationApprovedEvent event) {
+        evict(event.getEvaluationId(), "EvaluationApproved");
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEvaluationRejected(EvaluationRejectedEvent event) {
+        evict(event.getEvaluationId(), "EvaluationRejected");
+    }
+
+    /**
+     * Trata os eventos de domínio publicados via DomainEventPublisherService
+     * (ex.: {@link ValuationCalculatedEvent}).
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDomainEvent(DomainEvent event) {
+        if (INVALIDATING_EVENT_TYPES.contains(event.getEventType())) {
+            evict(event.getEvaluationId(), event.getEventType());
+        }
+    }
+
+    private void evict(String evaluationId, String reason) {
+        if (evaluationId == null) {
+            return;
+        }
+
+        try {
+            reportCache.evict(UUID.fromString(evaluationId));
+            log.debug("Cache de laudos invalidado: evaluationId={}, evento={}", evaluationId, reason);
+        } catch (Exception e) {
+            log.warn("Falha ao invalidar cache de laudos: evaluationId={}, evento={}, erro={}",
+                evaluationId, reason, e.getMessage());
+        }
+    }
+}
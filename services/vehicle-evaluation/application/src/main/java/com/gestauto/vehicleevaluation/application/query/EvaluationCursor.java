@@ -0,0 +1,56 @@
+package com.gestauto.vehicleevaluation.application.query;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Posição na listagem de avaliações, na ordem (createdAt, id).
+ *
+ * Trafega como texto opaco em Base64 URL-safe; o cliente só devolve o
+ * valor recebido em nextCursor.
+ */
+public record EvaluationCursor(LocalDateTime createdAt, UUID id) {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Codifica o cursor para a resposta.
+     *
+     * @return cursor opaco
+     */
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica um cursor recebido do cliente.
+     *
+     * @param value cursor opaco
+     * @return posição na listagem
+     * @throws InvalidCursorException se o cursor for inválido
+     */
+    public static EvaluationCursor decode(String value) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Cursor inválido: " + value, e);
+        }
+        int separator = raw.indexOf(SEPARATOR);
+        if (separator < 0) {
+            throw new InvalidCursorException("Cursor inválido: " + value);
+        }
+        try {
+            return new EvaluationCursor(
+                LocalDateTime.parse(raw.substring(0, separator)),
+                UUID.fromString(raw.substring(separator + 1))
+            );
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new InvalidCursorException("Cursor inválido: " + value, e);
+        }
+    }
+}
@@ -3,14 +3,17 @@ package com.gestauto.vehicleevaluation.application.query;
 import com.gestauto.vehicleevaluation.application.dto.BrandStatDto;
 import com.gestauto.vehicleevaluation.application.dto.EvaluationDashboardDto;
 import com.gestauto.vehicleevaluation.application.dto.EvaluationKpiDto;
+import com.gestauto.vehicleevaluation.application.dto.LatencyPercentilesDto;
 import com.gestauto.vehicleevaluation.application.dto.MonthlyStatDto;
 import com.gestauto.vehicleevaluation.application.dto.PeriodDto;
-import com.gestauto.vehicleevaluation.domain.report.BrandStat;
+import com.gestauto.vehicleevaluation.domain.report.DashboardSnapshot;
 import com.gestauto.vehicleevaluation.domain.report.EvaluationKpi;
-import com.gestauto.vehicleevaluation.domain.report.MonthlyStat;
+import com.gestauto.vehicleevaluation.domain.report.LatencyPercentiles;
 import com.gestauto.vehicleevaluation.domain.repository.EvaluationDashboardRepository;
+import com.gestauto.vehicleevaluation.domain.service.DashboardCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
 
@@ -26,19 +29,37 @@ import java.util.List;
 @Slf4j
 public class GetEvaluationDashboardHandler implements QueryHandler<GetEvaluationDashboardQuery, EvaluationDashboardDto> {
 
-    private static final int DEFAULT_MONTHS_RANGE = 12;
-
     private final EvaluationDashboardRepository dashboardRepository;
 
     @Override
     @Cacheable(
-        value = "evaluation-dashboard",
+        value = DashboardCache.CACHE_NAME,
         cacheManager = "dashboardCacheManager",
-        key = "T(String).valueOf(#query.startDate()) + ':' + T(String).valueOf(#query.endDate()) + ':' + T(String).valueOf(#query.evaluatorId()) + ':' + T(String).valueOf(#query.status())"
+        key = "#query.cacheKey()"
     )
     public EvaluationDashboardDto handle(GetEvaluationDashboardQuery query) {
+        return buildDashboard(query);
+    }
+
+    /**
+     * Recalcula a visão e substitui a entrada no cache sem removê-la antes,
+     * de forma que leituras concorrentes nunca encontrem o cache vazio.
+     *
+     * @param query consulta da visão
+     * @return dashboard recalculado
+     */
+    @CachePut(
+        value = DashboardCache.CACHE_NAME,
+        cacheManager = "dashboardCacheManager",
+        key = "#query.cacheKey()"
+    )
+    public EvaluationDashboardDto refresh(GetEvaluationDashboardQuery query) {
+        return buildDashboard(query);
+    }
+
+    private EvaluationDashboardDto buildDashboard(GetEvaluationDashboardQuery query) {
         LocalDateTime effectiveEndDate = query.endDate() != null ? query.endDate() : LocalDateTime.now();
-        LocalDateTime effectiveStartDate = query.startDate() != null ? query.startDate() : effectiveEndDate.minusMonths(DEFAULT_MONTHS_RANGE);
+        LocalDateTime effectiveStartDate = query.startDate() != null ? query.startDate() : effectiveEndDate.minusMonths(GetEvaluationDashboardQuery.DEFAULT_MONTHS_RANGE);
 
         if (effectiveStartDate.isAfter(effectiveEndDate)) {
             throw new IllegalArgumentException("startDate must be <= endDate");
@@ -47,26 +68,13 @@ public class GetEvaluationDashboardHandler implements QueryHandler<GetEvaluation
         log.info("Loading evaluation dashboard: startDate={}, endDate={}, evaluatorId={}, status={}",
             effectiveStartDate, effectiveEndDate, query.evaluatorId(), query.status());
 
-        EvaluationKpi kpis = dashboardRepository.getKpis(
-            effectiveStartDate,
-            effectiveEndDate,
-            query.evaluatorId(),
-            query.status()
-        );
-
-        List<MonthlyStat> monthly = dashboardRepository.getMonthlyStats(
-            effectiveStartDate,
-            effectiveEndDate,
-            query.evaluatorId(),
-            query.status()
-        );
-
-        List<BrandStat> brands = dashboardRepository.getBrandStats(
+        DashboardSnapshot snapshot = dashboardRepository.getSnapshot(
             effectiveStartDate,
             effectiveEndDate,
             query.evaluatorId(),
             query.status()
         );
+        EvaluationKpi kpis = snapshot.kpis();
 
         BigDecimal evaluationsPerMonth = calculateEvaluationsPerMonth(
             kpis.totalEvaluations(),
@@ -78,14 +86,16 @@ public class GetEvaluationDashboardHandler implements QueryHandler<GetEvaluation
             evaluationsPerMonth,
             defaultZero(kpis.approvalRatePercent()),
             defaultZero(kpis.averageTicket()),
-            defaultZero(kpis.averageReviewTimeHours())
+            defaultZero(kpis.averageReviewTimeHours()),
+            toDto(kpis.reviewTimePercentiles()),
+            toDto(kpis.submissionTimePercentiles())
         );
 
-        List<MonthlyStatDto> monthlyDtos = monthly.stream()
+        List<MonthlyStatDto> monthlyDtos = snapshot.monthlyStats().stream()
             .map(m -> new MonthlyStatDto(m.month(), m.evaluationsCount(), m.totalTicket()))
             .toList();
 
-        List<BrandStatDto> brandDtos = brands.stream()
+        List<BrandStatDto> brandDtos = snapshot.brandStats().stream()
             .map(b -> new BrandStatDto(b.brand(), b.evaluationsCount(), b.averageTicket(), b.approvalRatePercent()))
             .toList();
 
@@ -111,6 +121,11 @@ public class GetEvaluationDashboardHandler implements QueryHandler<GetEvaluation
             .divide(BigDecimal.valueOf(months), 2, RoundingMode.HALF_UP);
     }
 
+    private LatencyPercentilesDto toDto(LatencyPercentiles percentiles) {
+        LatencyPercentiles value = percentiles != null ? percentiles : LatencyPercentiles.EMPTY;
+        return new LatencyPercentilesDto(value.p50Hours(), value.p90Hours(), value.p99Hours(), value.samples());
+    }
+
     private BigDecimal defaultZero(BigDecimal value) {
         return value != null ? value : BigDecimal.ZERO;
     }
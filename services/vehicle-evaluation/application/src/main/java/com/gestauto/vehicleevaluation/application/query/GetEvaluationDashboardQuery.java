@@ -21,4 +21,57 @@ public record GetEvaluationDashboardQuery(
     EvaluationStatus status
 
 ) {
+
+    /**
+     * Período padrão, em meses até agora, quando as datas não são informadas.
+     */
+    public static final int DEFAULT_MONTHS_RANGE = 12;
+
+    /**
+     * Prefixo comum das chaves de visões com período ou status explícitos.
+     */
+    public static final String RANGE_VIEW_KEY_PREFIX = "range|";
+
+    private static final String DEFAULT_VIEW_KEY_PREFIX = "default|";
+
+    /**
+     * Visão padrão (últimos {@value #DEFAULT_MONTHS_RANGE} meses, sem filtro de
+     * status), geral ou de um avaliador. É a visão pré-calculada do dashboard.
+     *
+     * @param evaluatorId avaliador, ou null para a visão geral
+     * @return consulta da visão padrão
+     */
+    public static GetEvaluationDashboardQuery defaultView(String evaluatorId) {
+        return new GetEvaluationDashboardQuery(null, null, evaluatorId, null);
+    }
+
+    /**
+     * Prefixo das chaves de visões com período ou status explícitos de um avaliador.
+     *
+     * @param evaluatorId avaliador, ou null para as visões gerais
+     * @return prefixo de chave
+     */
+    public static String rangeViewKeyPrefix(String evaluatorId) {
+        return RANGE_VIEW_KEY_PREFIX + evaluatorId + "|";
+    }
+
+    /**
+     * @return true se a consulta corresponde à visão padrão
+     */
+    public boolean isDefaultView() {
+        return startDate == null && endDate == null && status == null;
+    }
+
+    /**
+     * Chave do cache do dashboard. Visões padrão têm chave estável (não dependem
+     * do horário da requisição); as demais começam por {@link #rangeViewKeyPrefix}.
+     *
+     * @return chave do cache
+     */
+    public String cacheKey() {
+        if (isDefaultView()) {
+            return DEFAULT_VIEW_KEY_PREFIX + evaluatorId;
+        }
+        return rangeViewKeyPrefix(evaluatorId) + status + "|" + startDate + "|" + endDate;
+    }
 }
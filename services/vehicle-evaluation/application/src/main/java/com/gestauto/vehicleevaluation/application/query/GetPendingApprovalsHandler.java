@@ -2,16 +2,15 @@ package com.gestauto.vehicleevaluation.application.query;
 
 import com.gestauto.vehicleevaluation.application.dto.PagedResult;
 import com.gestauto.vehicleevaluation.application.dto.PendingEvaluationSummaryDto;
-import com.gestauto.vehicleevaluation.domain.entity.VehicleEvaluation;
-import com.gestauto.vehicleevaluation.domain.enums.EvaluationStatus;
-import com.gestauto.vehicleevaluation.domain.repository.VehicleEvaluationRepository;
+import com.gestauto.vehicleevaluation.domain.report.PendingEvaluationSummary;
+import com.gestauto.vehicleevaluation.domain.repository.EvaluationSummaryRepository;
+import com.gestauto.vehicleevaluation.domain.value.Plate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
-import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -20,13 +19,15 @@ import java.util.stream.Collectors;
  *
  * Este handler implementa a query de pendências seguindo
  * o padrão CQRS e retorna uma lista paginada priorizada.
+ * Ordenação e paginação são feitas no banco, sobre índices parciais da fila
+ * de aprovação, sem limite de tamanho da fila.
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class GetPendingApprovalsHandler implements QueryHandler<GetPendingApprovalsQuery, PagedResult<PendingEvaluationSummaryDto>> {
 
-    private final VehicleEvaluationRepository evaluationRepository;
+    private final EvaluationSummaryRepository evaluationSummaryRepository;
 
     @Override
     public PagedResult<PendingEvaluationSummaryDto> handle(GetPendingApprovalsQuery query) {
@@ -34,28 +35,20 @@ public class GetPendingApprovalsHandler implements QueryHandler<GetPendingApprov
                 query.page(), query.size(), query.sortBy(), query.sortDescending());
 
         try {
-            // 1. Buscar avaliações pendentes (busca todas para ordenação em memória)
-            List<VehicleEvaluation> allPending = evaluationRepository.findPendingApprovals(
-                EvaluationStatus.PENDING_APPROVAL, 0, 1000); // TODO: implementar paginação eficiente
+            // 1. Buscar a página já ordenada no banco
+            List<PendingEvaluationSummary> pageContent = evaluationSummaryRepository.findPendingApprovals(
+                query.sortBy(), query.sortDescending(), query.page(), query.size());
 
-            // 2. Aplicar ordenação
-            List<VehicleEvaluation> sortedEvaluations = sortEvaluations(allPending, query);
-
-            // 3. Aplicar paginação manual
-            int start = query.page() * query.size();
-            int end = Math.min(start + query.size(), sortedEvaluations.size());
-            List<VehicleEvaluation> pageContent = sortedEvaluations.subList(start, end);
-
-            // 4. Converter para DTOs
+            // 2. Converter para DTOs
             List<PendingEvaluationSummaryDto> summaries = pageContent.stream()
                 .map(this::toSummaryDto)
                 .collect(Collectors.toList());
 
-            // 5. Calcular total de páginas
-            int totalPages = (int) Math.ceil((double) sortedEvaluations.size() / query.size());
-            long totalElements = sortedEvaluations.size();
+            // 3. Calcular total de páginas
+            long totalElements = evaluationSummaryRepository.countPendingApprovals();
+            int totalPages = (int) Math.ceil((double) totalElements / query.size());
 
-            // 6. Retornar resultado paginado
+            // 4. Retornar resultado paginado
             PagedResult<PendingEvaluationSummaryDto> result = new PagedResult<>(
                 summaries,
                 query.page(),
@@ -79,68 +72,36 @@ public class GetPendingApprovalsHandler implements QueryHandler<GetPendingApprov
     }
 
     /**
-     * Ordena avaliações conforme query.
+     * Converte o resumo de leitura para PendingEvaluationSummaryDto.
      *
-     * @param evaluations lista de avaliações
-     * @param query query com parâmetros de ordenação
-     * @return lista ordenada
-     */
-    private List<VehicleEvaluation> sortEvaluations(List<VehicleEvaluation> evaluations, GetPendingApprovalsQuery query) {
-        Comparator<VehicleEvaluation> comparator;
-
-        switch (query.sortBy()) {
-            case "finalValue":
-                comparator = Comparator.comparing(
-                    (VehicleEvaluation e) -> e.getFinalValue() != null ? e.getFinalValue().getAmount() : java.math.BigDecimal.ZERO
-                );
-                break;
-            case "createdAt":
-                comparator = Comparator.comparing(VehicleEvaluation::getCreatedAt);
-                break;
-            default:
-                comparator = Comparator.comparing(VehicleEvaluation::getCreatedAt);
-        }
-
-        if (query.sortDescending()) {
-            comparator = comparator.reversed();
-        }
-
-        return evaluations.stream()
-            .sorted(comparator)
-            .collect(Collectors.toList());
-    }
-
-    /**
-     * Converte VehicleEvaluation para PendingEvaluationSummaryDto.
-     *
-     * @param evaluation entidade de domínio
+     * @param summary resumo da avaliação
      * @return DTO de resumo para pendências
      */
-    private PendingEvaluationSummaryDto toSummaryDto(VehicleEvaluation evaluation) {
+    private PendingEvaluationSummaryDto toSummaryDto(PendingEvaluationSummary summary) {
         return new PendingEvaluationSummaryDto(
-            java.util.UUID.fromString(evaluation.getId().getValueAsString()),
-            evaluation.getPlate().getFormatted(),
-            formatVehicleInfo(evaluation),
-            evaluation.getFinalValue() != null ? evaluation.getFinalValue().getAmount() : null,
-            evaluation.getCreatedAt(),
-            evaluation.getEvaluatorId(), // TODO: buscar nome do avaliador via serviço
-            calculateDaysPending(evaluation.getCreatedAt()),
-            evaluation.getPhotos().size(),
-            hasCriticalIssues(evaluation)
+            summary.id(),
+            Plate.of(summary.plate()).getFormatted(),
+            formatVehicleInfo(summary),
+            summary.finalValue(),
+            summary.createdAt(),
+            summary.evaluatorId(), // TODO: buscar nome do avaliador via serviço
+            calculateDaysPending(summary.createdAt()),
+            (int) summary.photoCount(),
+            summary.hasCriticalIssues()
         );
     }
 
     /**
      * Formata informações do veículo.
      *
-     * @param evaluation avaliação
+     * @param summary resumo da avaliação
      * @return string formatada marca/modelo/ano
      */
-    private String formatVehicleInfo(VehicleEvaluation evaluation) {
+    private String formatVehicleInfo(PendingEvaluationSummary summary) {
         return String.format("%s %s %d",
-            evaluation.getVehicleInfo().getBrand(),
-            evaluation.getVehicleInfo().getModel(),
-            evaluation.getVehicleInfo().getYearModel());
+            summary.brand(),
+            summary.model(),
+            summary.yearModel());
     }
 
     /**
@@ -152,16 +113,4 @@ public class GetPendingApprovalsHandler implements QueryHandler<GetPendingApprov
     private Integer calculateDaysPending(LocalDateTime createdAt) {
         return (int) ChronoUnit.DAYS.between(createdAt, LocalDateTime.now());
     }
-
-    /**
-     * Verifica se avaliação possui problemas críticos.
-     *
-     * @param evaluation avaliação
-     * @return true se possui problemas críticos
-     */
-    private Boolean hasCriticalIssues(VehicleEvaluation evaluation) {
-        // TODO: implementar lógica baseada no checklist
-        // Por enquanto, retorna false
-        return false;
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,16 @@
+package com.gestauto.vehicleevaluation.application.query;
+
+/**
+ * Exceção lançada quando o cursor da listagem não pode ser decodificado
+ * ou não é compatível com a ordenação pedida.
+ */
+public class InvalidCursorException extends IllegalArgumentException {
+
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+
+    public InvalidCursorException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
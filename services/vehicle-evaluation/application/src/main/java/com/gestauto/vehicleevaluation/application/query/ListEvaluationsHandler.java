@@ -2,14 +2,15 @@ package com.gestauto.vehicleevaluation.application.query;
 
 import com.gestauto.vehicleevaluation.application.dto.PagedResult;
 import com.gestauto.vehicleevaluation.application.dto.VehicleEvaluationSummaryDto;
-import com.gestauto.vehicleevaluation.domain.entity.VehicleEvaluation;
-import com.gestauto.vehicleevaluation.domain.repository.VehicleEvaluationRepository;
+import com.gestauto.vehicleevaluation.domain.report.EvaluationSummary;
+import com.gestauto.vehicleevaluation.domain.report.EvaluationSummaryFilter;
+import com.gestauto.vehicleevaluation.domain.repository.EvaluationSummaryRepository;
+import com.gestauto.vehicleevaluation.domain.value.Plate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
-import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
@@ -17,45 +18,35 @@ import java.util.stream.Collectors;
  *
  * Este handler implementa a query de listagem seguindo
  * o padrão CQRS e retorna uma lista paginada de avaliações.
+ * As linhas vêm do repositório de resumos, sem hidratar os agregados; filtros,
+ * ordenação, contagem e paginação são resolvidos no banco.
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class ListEvaluationsHandler implements QueryHandler<ListEvaluationsQuery, PagedResult<VehicleEvaluationSummaryDto>> {
 
-    private final VehicleEvaluationRepository vehicleEvaluationRepository;
+    private static final String SORT_BY_CREATED_AT = "createdAt";
+    private static final long UNKNOWN_TOTAL = -1L;
+
+    private final EvaluationSummaryRepository evaluationSummaryRepository;
 
     @Override
     public PagedResult<VehicleEvaluationSummaryDto> handle(ListEvaluationsQuery query) throws Exception {
-        log.info("Listando avaliações com filtros: evaluatorId={}, status={}, page={}, size={}",
-                query.evaluatorId(), query.status(), query.page(), query.size());
+        log.info("Listando avaliações com filtros: evaluatorId={}, status={}, brand={}, plate={}, page={}, size={}, cursor={}",
+                query.evaluatorId(), query.status(), query.brand(), query.plate(), query.page(), query.size(),
+                query.cursor() != null);
 
         try {
-            // 1. Buscar avaliações conforme filtros
-            List<VehicleEvaluation> evaluations = findEvaluations(query);
-
-            // 2. Converter para DTOs resumidos
-            List<VehicleEvaluationSummaryDto> summaryDtos = evaluations.stream()
-                    .map(this::convertToSummaryDto)
-                    .collect(Collectors.toList());
-
-            // 3. Calcular metadados de paginação
-            long totalElements = countTotalEvaluations(query);
-            int totalPages = (int) Math.ceil((double) totalElements / query.size());
-
-            PagedResult<VehicleEvaluationSummaryDto> result = new PagedResult<>(
-                    summaryDtos,
-                    query.page(),
-                    query.size(),
-                    totalElements,
-                    totalPages,
-                    query.page() == 0,
-                    query.page() >= totalPages - 1,
-                    summaryDtos.size()
-            );
-
-            log.info("Listagem concluída. Retornando {} de {} avaliações (página {} de {})",
-                    summaryDtos.size(), totalElements, query.page() + 1, totalPages);
+            EvaluationSummaryFilter filter = toFilter(query);
+            boolean descending = !"ASC".equalsIgnoreCase(query.sortDirection());
+
+            PagedResult<VehicleEvaluationSummaryDto> result = query.cursor() != null
+                    ? findByCursor(filter, descending, query)
+                    : findByPage(filter, descending, query);
+
+            log.info("Listagem concluída. Retornando {} de {} avaliações (página {})",
+                    result.numberOfElements(), result.totalElements(), query.page() + 1);
 
             return result;
 
@@ -66,64 +57,126 @@ public class ListEvaluationsHandler implements QueryHandler<ListEvaluationsQuery
     }
 
     /**
-     * Busca avaliações conforme filtros da query.
+     * Página por deslocamento, com total de avaliações que atendem aos filtros.
+     * Quando ordenada por createdAt, também devolve o cursor para continuar a leitura.
      *
-     * @param query query com filtros
-     * @return lista de avaliações encontradas
+     * @param filter filtros da listagem
+     * @param descending ordem decrescente
+     * @param query query com paginação
+     * @return página de resumos
      */
-    private List<VehicleEvaluation> findEvaluations(ListEvaluationsQuery query) {
-        // Implementação básica - em produção usaria specification pattern
-        if (query.evaluatorId() != null && query.status() != null) {
-            return vehicleEvaluationRepository.findByStatusAndEvaluator(
-                    query.status(),
-                    query.evaluatorId().toString()
-            );
-        } else if (query.evaluatorId() != null) {
-            return vehicleEvaluationRepository.findByEvaluator(query.evaluatorId().toString());
-        } else if (query.status() != null) {
-            return vehicleEvaluationRepository.findByStatus(query.status());
-        } else {
-            return vehicleEvaluationRepository.findAll(query.page(), query.size());
+    private PagedResult<VehicleEvaluationSummaryDto> findByPage(EvaluationSummaryFilter filter, boolean descending,
+                                                                ListEvaluationsQuery query) {
+        List<EvaluationSummary> evaluations = evaluationSummaryRepository.findPage(
+                filter, query.sortBy(), descending, query.page(), query.size());
+        long totalElements = evaluationSummaryRepository.count(filter);
+        int totalPages = (int) Math.ceil((double) totalElements / query.size());
+        boolean hasNext = (long) (query.page() + 1) * query.size() < totalElements;
+
+        String nextCursor = hasNext && SORT_BY_CREATED_AT.equals(query.sortBy()) && !evaluations.isEmpty()
+                ? cursorOf(evaluations.get(evaluations.size() - 1))
+                : null;
+
+        return new PagedResult<>(
+                toDtos(evaluations),
+                query.page(),
+                query.size(),
+                totalElements,
+                totalPages,
+                query.page() == 0,
+                !hasNext,
+                evaluations.size(),
+                nextCursor
+        );
+    }
+
+    /**
+     * Página por cursor: lê size + 1 linhas a partir da posição do cursor para saber se há próxima página.
+     * Não conta o total, para que o custo dependa só do tamanho da página.
+     * O cursor guarda a posição em (createdAt, id), então só vale para essa ordenação.
+     *
+     * @param filter filtros da listagem
+     * @param descending ordem decrescente
+     * @param query query com cursor
+     * @return página de resumos, com totalElements e totalPages iguais a -1
+     * @throws InvalidCursorException se o cursor for inválido ou a ordenação não for por createdAt
+     */
+    private PagedResult<VehicleEvaluationSummaryDto> findByCursor(EvaluationSummaryFilter filter, boolean descending,
+                                                                  ListEvaluationsQuery query) {
+        if (!SORT_BY_CREATED_AT.equals(query.sortBy())) {
+            throw new InvalidCursorException("Cursor só pode ser usado com ordenação por createdAt");
         }
+        EvaluationCursor cursor = EvaluationCursor.decode(query.cursor());
+        List<EvaluationSummary> rows = evaluationSummaryRepository.findAfter(
+                filter, cursor.createdAt(), cursor.id(), descending, query.size() + 1);
+
+        boolean hasNext = rows.size() > query.size();
+        List<EvaluationSummary> evaluations = hasNext ? rows.subList(0, query.size()) : rows;
+
+        return new PagedResult<>(
+                toDtos(evaluations),
+                query.page(),
+                query.size(),
+                UNKNOWN_TOTAL,
+                (int) UNKNOWN_TOTAL,
+                false,
+                !hasNext,
+                evaluations.size(),
+                hasNext ? cursorOf(evaluations.get(evaluations.size() - 1)) : null
+        );
     }
 
     /**
-     * Conta total de avaliações conforme filtros.
+     * Monta os filtros da query. A placa é comparada pelo início, sem hífen e em maiúsculas.
      *
      * @param query query com filtros
-     * @return número total de avaliações
+     * @return filtros da listagem
      */
-    private long countTotalEvaluations(ListEvaluationsQuery query) {
-        // Implementação básica - em produção usaria count com filtros
-        if (query.status() != null) {
-            return vehicleEvaluationRepository.countByStatus(query.status());
-        } else {
-            // Mock - em produção implementaria count total
-            return 100L; // Valor mock para exemplo
-        }
+    private EvaluationSummaryFilter toFilter(ListEvaluationsQuery query) {
+        String platePrefix = query.plate() != null
+                ? query.plate().replaceAll("[^A-Za-z0-9]", "").toUpperCase()
+                : null;
+        return new EvaluationSummaryFilter(
+                query.evaluatorId() != null ? query.evaluatorId().toString() : null,
+                query.status(),
+                query.brand() != null && !query.brand().isBlank() ? query.brand() : null,
+                platePrefix != null && !platePrefix.isEmpty() ? platePrefix : null,
+                query.createdFrom(),
+                query.createdTo()
+        );
+    }
+
+    private String cursorOf(EvaluationSummary summary) {
+        return new EvaluationCursor(summary.createdAt(), summary.id()).encode();
+    }
+
+    private List<VehicleEvaluationSummaryDto> toDtos(List<EvaluationSummary> evaluations) {
+        return evaluations.stream()
+                .map(this::convertToSummaryDto)
+                .collect(Collectors.toList());
     }
 
     /**
-     * Converte entidade VehicleEvaluation para VehicleEvaluationSummaryDto.
+     * Converte o resumo de leitura para VehicleEvaluationSummaryDto.
      *
-     * @param evaluation entidade de domínio
+     * @param summary resumo da avaliação
      * @return DTO resumido da avaliação
      */
-    private VehicleEvaluationSummaryDto convertToSummaryDto(VehicleEvaluation evaluation) {
+    private VehicleEvaluationSummaryDto convertToSummaryDto(EvaluationSummary summary) {
         return new VehicleEvaluationSummaryDto(
-                UUID.fromString(evaluation.getId().getValueAsString()),
-                evaluation.getPlate().getFormatted(),
-                evaluation.getVehicleInfo().getBrand(),
-                evaluation.getVehicleInfo().getModel(),
-                evaluation.getVehicleInfo().getYearModel(),
-                evaluation.getMileage().getAmount().intValue(),
-                evaluation.getStatus().name(),
-                evaluation.getFinalValue() != null ? evaluation.getFinalValue().getAmount() : null,
-                evaluation.getEvaluatorId(),
-                evaluation.getApproverId(),
-                evaluation.getCreatedAt(),
-                evaluation.getUpdatedAt(),
-                evaluation.isExpired()
+                summary.id(),
+                Plate.of(summary.plate()).getFormatted(),
+                summary.brand(),
+                summary.model(),
+                summary.yearModel(),
+                summary.mileage() != null ? summary.mileage().intValue() : null,
+                summary.status().name(),
+                summary.finalValue(),
+                summary.evaluatorId(),
+                summary.approverId(),
+                summary.createdAt(),
+                summary.updatedAt(),
+                summary.isExpired()
         );
     }
 }
\ No newline at end of file
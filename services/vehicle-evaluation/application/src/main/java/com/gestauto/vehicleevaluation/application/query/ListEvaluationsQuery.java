@@ -3,6 +3,7 @@ package com.gestauto.vehicleevaluation.application.query;
 import com.gestauto.vehicleevaluation.domain.enums.EvaluationStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 /**
@@ -30,10 +31,27 @@ public record ListEvaluationsQuery(
     String sortBy,
 
     @Schema(description = "Direção da ordenação", example = "DESC")
-    String sortDirection
+    String sortDirection,
+
+    @Schema(description = "Marca do veículo para filtro")
+    String brand,
+
+    @Schema(description = "Criadas a partir de (inclusive)")
+    LocalDateTime createdFrom,
+
+    @Schema(description = "Criadas até (exclusive)")
+    LocalDateTime createdTo,
+
+    @Schema(description = "Cursor retornado em nextCursor; quando informado, page é ignorado e a ordenação é por createdAt")
+    String cursor
 
 ) {
 
+    public ListEvaluationsQuery(UUID evaluatorId, EvaluationStatus status, String plate, Integer page,
+                                Integer size, String sortBy, String sortDirection) {
+        this(evaluatorId, status, plate, page, size, sortBy, sortDirection, null, null, null, null);
+    }
+
     public ListEvaluationsQuery {
         // Valores padrão
         if (page == null) page = 0;
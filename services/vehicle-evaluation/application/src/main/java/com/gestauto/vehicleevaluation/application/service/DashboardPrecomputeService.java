@@ -0,0 +1,31 @@
+package com.gestauto.vehicleevaluation.application.service;
+
+/**
+ * Mantém pré-calculadas no cache as visões padrão do dashboard gerencial.
+ *
+ * A visão geral e as visões por avaliador dos últimos 12 meses são
+ * recalculadas em segundo plano, de modo que a página inicial do gerente
+ * seja servida sempre do cache, sem consultar o banco na requisição.
+ */
+public interface DashboardPrecomputeService {
+
+    /**
+     * Recalcula a visão padrão geral e as de cada avaliador ativo.
+     */
+    void refreshDefaultViews();
+
+    /**
+     * Atualiza as visões afetadas por uma mudança nas avaliações do avaliador:
+     * remove as visões com período explícito (gerais e do avaliador) e
+     * recalcula as visões padrão correspondentes.
+     *
+     * @param evaluatorId avaliador cujas avaliações mudaram
+     */
+    void refreshEvaluatorViews(String evaluatorId);
+
+    /**
+     * Incorpora ao índice analítico local as mudanças feitas por outras
+     * instâncias e atualiza as visões dos avaliadores afetados.
+     */
+    void synchronizeAnalyticsIndex();
+}
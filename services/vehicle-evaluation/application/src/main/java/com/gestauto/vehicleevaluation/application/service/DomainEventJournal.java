@@ -0,0 +1,149 @@
+package com.gestauto.vehicleevaluation.application.service;
+
+import com.gestauto.vehicleevaluation.domain.event.DomainEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Diário em memória dos últimos eventos de domínio publicados.
+ *
+ * Buffer circular de capacidade fixa (app.events.journal.capacity) sem locks:
+ * cada publicação reserva uma sequência com incremento atômico e grava a entrada
+ * na posição correspondente, sobrescrevendo a mais antiga (nunca uma mais nova,
+ * caso escritores concorrentes se atrasem). O consumo de memória
+ * é limitado pela capacidade, independentemente do tempo de vida do processo.
+ * Capacidade 0 desliga o diário.
+ *
+ * Leituras são instantâneos sem bloqueio: uma entrada sobrescrita durante a
+ * leitura é descartada pela verificação de sequência.
+ */
+@Component
+public class DomainEventJournal {
+
+    private final int capacity;
+    private final AtomicReferenceArray<Entry> slots;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public DomainEventJournal(@Value("${app.events.journal.capacity:1024}") int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Journal capacity cannot be negative: " + capacity);
+        }
+        this.capacity = capacity;
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * Registra um evento publicado.
+     *
+     * @param event evento publicado
+     */
+    public void append(DomainEvent event) {
+        if (capacity == 0) {
+            return;
+        }
+        long seq = sequence.getAndIncrement();
+        store(new Entry(seq, event, LocalDateTime.now()));
+    }
+
+    /**
+     * Grava a entrada na sua posição, a menos que a posição já guarde uma entrada
+     * mais nova: um escritor atrasado não sobrescreve quem reservou depois dele.
+     */
+    void store(Entry entry) {
+        int index = index(entry.sequence());
+        Entry current;
+        do {
+            current = slots.get(index);
+            if (current != null && current.sequence() > entry.sequence()) {
+                return;
+            }
+        } while (!slots.compareAndSet(index, current, entry));
+    }
+
+    /**
+     * Retorna os eventos mais recentes, do mais novo para o mais antigo.
+     *
+     * @param eventType filtra pelo tipo do evento (opcional)
+     * @param evaluationId filtra pelo ID da avaliação (opcional)
+     * @param limit quantidade máxima de eventos
+     * @return eventos retidos que atendem aos filtros
+     */
+    public List<Entry> recent(String eventType, String evaluationId, int limit) {
+        if (capacity == 0 || limit <= 0) {
+            return List.of();
+        }
+
+        long head = sequence.get();
+        long oldest = Math.max(0, head - capacity);
+        List<Entry> result = new ArrayList<>(Math.min(limit, capacity));
+        for (long seq = head - 1; seq >= oldest && result.size() < limit; seq--) {
+            Entry entry = slots.get(index(seq));
+            if (entry == null || entry.sequence() != seq) {
+                continue;
+            }
+            if (eventType != null && !eventType.equals(entry.event().getEventType())) {
+                continue;
+            }
+            if (evaluationId != null && !evaluationId.equals(entry.event().getEvaluationId())) {
+                continue;
+            }
+            result.add(entry);
+        }
+        return result;
+    }
+
+    /**
+     * Retorna todos os eventos retidos, do mais antigo para o mais novo.
+     *
+     * @return eventos retidos
+     */
+    public List<DomainEvent> snapshot() {
+        List<DomainEvent> events = new ArrayList<>(capacity);
+        recent(null, null, capacity).forEach(entry -> events.add(entry.event()));
+        Collections.reverse(events);
+        return events;
+    }
+
+    /**
+     * Descarta as entradas retidas. Não deve concorrer com publicações.
+     */
+    public void clear() {
+        for (int i = 0; i < capacity; i++) {
+            slots.set(i, null);
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Retorna o total de eventos registrados desde a inicialização.
+     *
+     * @return total de eventos, incluindo os já sobrescritos
+     */
+    public long getTotalAppended() {
+        return sequence.get();
+    }
+
+    private int index(long seq) {
+        return (int) (seq % capacity);
+    }
+
+    /**
+     * Evento retido no diário.
+     *
+     * @param sequence posição do evento na ordem de publicação
+     * @param event evento publicado
+     * @param publishedAt data/hora do registro no diário
+     */
+    public record Entry(long sequence, DomainEvent event, LocalDateTime publishedAt) {
+    }
+}
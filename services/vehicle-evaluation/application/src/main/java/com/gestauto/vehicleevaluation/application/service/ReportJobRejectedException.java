@@ -0,0 +1,12 @@
+package com.gestauto.vehicleevaluation.application.service;
+
+/**
+ * Exceção lançada quando um job de laudo não pode ser aceito por limite
+ * de concorrência do usuário ou por fila cheia.
+ */
+public class ReportJobRejectedException extends RuntimeException {
+
+    public ReportJobRejectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,33 @@
+package com.gestauto.vehicleevaluation.application.service;
+
+import com.gestauto.vehicleevaluation.application.dto.ReportJobDto;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Serviço de geração assíncrona de laudos PDF.
+ *
+ * Os laudos são renderizados por um pool dedicado de workers, fora das
+ * threads de requisição; o PDF concluído fica disponível no cache de laudos
+ * e é servido pelo endpoint de download do relatório.
+ */
+public interface ReportJobService {
+
+    /**
+     * Enfileira a geração do laudo para o usuário autenticado.
+     *
+     * @param evaluationId ID da avaliação
+     * @return job criado
+     * @throws ReportJobRejectedException se o usuário ou a fila atingiram o limite
+     */
+    ReportJobDto submit(UUID evaluationId);
+
+    /**
+     * Consulta o estado de um job do usuário autenticado.
+     *
+     * @param jobId ID do job
+     * @return job, se ainda estiver retido e tiver sido solicitado pelo usuário (ou por qualquer usuário, para ADMIN)
+     */
+    Optional<ReportJobDto> findJob(UUID jobId);
+}
@@ -0,0 +1,120 @@
+package com.gestauto.vehicleevaluation.application.service.impl;
+
+import com.gestauto.vehicleevaluation.application.query.GetEvaluationDashboardHandler;
+import com.gestauto.vehicleevaluation.application.query.GetEvaluationDashboardQuery;
+import com.gestauto.vehicleevaluation.application.service.DashboardPrecomputeService;
+import com.gestauto.vehicleevaluation.domain.repository.EvaluationDashboardRepository;
+import com.gestauto.vehicleevaluation.domain.service.DashboardCache;
+import com.gestauto.vehicleevaluation.domain.service.EvaluationAnalyticsIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Implementação do pré-cálculo das visões padrão do dashboard.
+ *
+ * As visões são regravadas com {@code @CachePut}, sem remoção prévia, e o
+ * intervalo do agendamento (app.cache.dashboard.precompute-interval-ms) é
+ * menor que os TTLs do cache, portanto a visão padrão nunca expira.
+ *
+ * O índice analítico é mantido por instância; a sincronização periódica
+ * (app.analytics.columnar.sync-interval-ms) incorpora as mudanças das demais
+ * instâncias e regrava as visões afetadas, para que uma instância atrasada não
+ * deixe no cache compartilhado uma visão calculada sobre dados antigos.
+ *
+ * Métrica: dashboard.precompute.duration.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DashboardPrecomputeServiceImpl implements DashboardPrecomputeService {
+
+    private final GetEvaluationDashboardHandler dashboardHandler;
+    private final EvaluationDashboardRepository dashboardRepository;
+    private final DashboardCache dashboardCache;
+    private final EvaluationAnalyticsIndex analyticsIndex;
+    private final Optional<MeterRegistry> meterRegistry;
+
+    @Override
+    @Scheduled(
+        initialDelayString = "${app.cache.dashboard.precompute-initial-delay-ms:10000}",
+        fixedDelayString = "${app.cache.dashboard.precompute-interval-ms:300000}"
+    )
+    public void refreshDefaultViews() {
+        Timer.Sample sample = meterRegistry.isPresent() ? Timer.start(meterRegistry.get()) : null;
+        try {
+            refreshView(null);
+
+            List<String> evaluatorIds = dashboardRepository.findActiveEvaluatorIds(
+                LocalDateTime.now().minusMonths(GetEvaluationDashboardQuery.DEFAULT_MONTHS_RANGE));
+            evaluatorIds.forEach(this::refreshView);
+
+            log.debug("Visões padrão do dashboard pré-calculadas: {} avaliadores", evaluatorIds.size());
+        } catch (Exception e) {
+            log.warn("Falha ao pré-calcular visões do dashboard: {}", e.getMessage());
+        } finally {
+            if (sample != null) {
+                sample.stop(Timer.builder("dashboard.precompute.duration")
+                    .description("Tempo de pré-cálculo das visões padrão do dashboard")
+                    .register(meterRegistry.get()));
+            }
+        }
+    }
+
+    @Override
+    @Async
+    public void refreshEvaluatorViews(String evaluatorId) {
+        // Visões gerais incluem as avaliações de todos os avaliadores
+        dashboardCache.evictByKeyPrefix(GetEvaluationDashboardQuery.rangeViewKeyPrefix(null));
+        refreshView(null);
+
+        if (evaluatorId != null) {
+            dashboardCache.evictByKeyPrefix(GetEvaluationDashboardQuery.rangeViewKeyPrefix(evaluatorId));
+            refreshView(evaluatorId);
+        }
+    }
+
+    @Override
+    @Scheduled(
+        initialDelayString = "${app.analytics.columnar.sync-interval-ms:15000}",
+        fixedDelayString = "${app.analytics.columnar.sync-interval-ms:15000}"
+    )
+    public void synchronizeAnalyticsIndex() {
+        Set<String> changedEvaluators;
+        try {
+            changedEvaluators = analyticsIndex.synchronize();
+        } catch (Exception e) {
+            log.warn("Falha ao sincronizar índice analítico: {}", e.getMessage());
+            return;
+        }
+        if (changedEvaluators.isEmpty()) {
+            return;
+        }
+
+        dashboardCache.evictByKeyPrefix(GetEvaluationDashboardQuery.rangeViewKeyPrefix(null));
+        refreshView(null);
+        for (String evaluatorId : changedEvaluators) {
+            dashboardCache.evictByKeyPrefix(GetEvaluationDashboardQuery.rangeViewKeyPrefix(evaluatorId));
+            refreshView(evaluatorId);
+        }
+        log.debug("Visões do dashboard atualizadas após sincronização: {} avaliadores", changedEvaluators.size());
+    }
+
+    private void refreshView(String evaluatorId) {
+        try {
+            dashboardHandler.refresh(GetEvaluationDashboardQuery.defaultView(evaluatorId));
+        } catch (Exception e) {
+            log.warn("Falha ao recalcular visão do dashboard: evaluatorId={}, erro={}",
+                evaluatorId, e.getMessage());
+        }
+    }
+}
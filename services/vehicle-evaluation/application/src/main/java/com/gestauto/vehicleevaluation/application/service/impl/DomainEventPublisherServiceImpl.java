@@ -1,17 +1,17 @@
 package com.gestauto.vehicleevaluation.application.service.impl;
 
+import com.gestauto.vehicleevaluation.application.service.DomainEventJournal;
 import com.gestauto.vehicleevaluation.application.service.DomainEventPublisherService;
 import com.gestauto.vehicleevaluation.domain.event.DomainEvent;
 import com.gestauto.vehicleevaluation.domain.event.DomainEventExternalPublisher;
+import com.gestauto.vehicleevaluation.domain.repository.DomainEventRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -21,7 +21,13 @@ import java.util.concurrent.atomic.AtomicLong;
  * 1. Spring ApplicationEventPublisher (para listeners locais síncronos)
  * 2. RabbitMQ (para integração assíncrona entre bounded contexts)
  *
- * Também mantém um registro em memória para testes e auditoria.
+ * Quando a outbox ({@link DomainEventRepository}) está configurada, o evento é
+ * gravado nela em vez de ser enviado direto ao RabbitMQ. A gravação participa
+ * da transação de quem publica, junto com a agregação, e o relay da outbox faz
+ * a entrega; uma falha ao gravar é propagada para desfazer a transação.
+ *
+ * Os últimos eventos publicados ficam no {@link DomainEventJournal}, de
+ * capacidade fixa, para inspeção e testes.
  */
 @Service
 public class DomainEventPublisherServiceImpl implements DomainEventPublisherService {
@@ -30,13 +36,17 @@ public class DomainEventPublisherServiceImpl implements DomainEventPublisherServ
 
     private final ApplicationEventPublisher springEventPublisher;
     private DomainEventExternalPublisher rabbitMQEventPublisher;
+    private DomainEventRepository outbox;
+
+    private final DomainEventJournal journal;
 
     private final AtomicLong eventCounter = new AtomicLong(0);
-    private final ConcurrentHashMap<Long, DomainEvent> publishedEvents = new ConcurrentHashMap<>();
     private boolean available = true;
 
-    public DomainEventPublisherServiceImpl(ApplicationEventPublisher springEventPublisher) {
+    public DomainEventPublisherServiceImpl(ApplicationEventPublisher springEventPublisher,
+                                           DomainEventJournal journal) {
         this.springEventPublisher = springEventPublisher;
+        this.journal = journal;
     }
 
     /**
@@ -49,6 +59,15 @@ public class DomainEventPublisherServiceImpl implements DomainEventPublisherServ
         log.info("RabbitMQ event publisher configured for domain events");
     }
 
+    /**
+     * Setter para injeção da outbox transacional (opcional).
+     */
+    @Autowired(required = false)
+    public void setDomainEventRepository(DomainEventRepository outbox) {
+        this.outbox = outbox;
+        log.info("Transactional outbox configured for domain events");
+    }
+
     @Override
     public void publish(DomainEvent event) {
         if (!isAvailable()) {
@@ -60,13 +79,16 @@ public class DomainEventPublisherServiceImpl implements DomainEventPublisherServ
         }
 
         long eventId = eventCounter.incrementAndGet();
-        publishedEvents.put(eventId, event);
+        journal.append(event);
 
         // Publica evento localmente via Spring
         springEventPublisher.publishEvent(event);
 
-        // Publica evento no RabbitMQ se disponível
-        if (rabbitMQEventPublisher != null) {
+        if (outbox != null) {
+            // Entregue ao RabbitMQ pelo relay após o commit
+            outbox.save(event);
+        } else if (rabbitMQEventPublisher != null) {
+            // Sem outbox, publica direto no RabbitMQ
             try {
                 rabbitMQEventPublisher.publishEvent(event);
                 
@@ -122,19 +144,19 @@ public class DomainEventPublisherServiceImpl implements DomainEventPublisherServ
     }
 
     /**
-     * Retorna todos os eventos publicados.
+     * Retorna os eventos publicados ainda retidos no diário.
      *
-     * @return lista de eventos publicados
+     * @return eventos retidos, do mais antigo para o mais novo
      */
     public List<DomainEvent> getPublishedEvents() {
-        return new ArrayList<>(publishedEvents.values());
+        return journal.snapshot();
     }
 
     /**
-     * Limpa todos os eventos publicados.
+     * Limpa os eventos retidos e o contador.
      */
     public void clearEvents() {
-        publishedEvents.clear();
+        journal.clear();
         eventCounter.set(0);
         log.debug("Published events cleared");
     }
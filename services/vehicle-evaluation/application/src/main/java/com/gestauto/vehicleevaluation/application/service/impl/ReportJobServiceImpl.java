@@ -0,0 +1,218 @@
+package com.gestauto.vehicleevaluation.application.service.impl;
+
+import com.gestauto.vehicleevaluation.application.command.GenerateReportCommand;
+import com.gestauto.vehicleevaluation.application.command.GenerateReportHandler;
+import com.gestauto.vehicleevaluation.application.dto.ReportJobDto;
+import com.gestauto.vehicleevaluation.application.service.ReportJobRejectedException;
+import com.gestauto.vehicleevaluation.application.service.ReportJobService;
+import com.gestauto.vehicleevaluation.domain.report.ReportJob;
+import com.gestauto.vehicleevaluation.domain.repository.ReportJobRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Implementação da fila de geração de laudos com pool fixo de workers.
+ *
+ * Cada job renderiza o PDF em streaming para o cache de laudos, sem manter o
+ * documento em memória nem ocupar threads do Tomcat ou conexões do Hikari durante
+ * a renderização. O job só é concluído se o laudo ficar armazenado no cache; se a
+ * versão atual já estiver lá, nada é renderizado. A fila é limitada e cada usuário
+ * pode ter no máximo app.pdf.jobs.max-per-user jobs pendentes ou em execução.
+ *
+ * O job é executado pela instância que o aceitou, mas seu estado fica no
+ * {@link ReportJobRepository}: a consulta de status pode chegar a qualquer
+ * instância e o limite por usuário vale para o serviço inteiro. Jobs ativos sem
+ * atualização há app.pdf.jobs.abandoned-after-minutes (instância parada no meio)
+ * são marcados como falhos e deixam de contar para o limite.
+ *
+ * Jobs só são visíveis para quem os solicitou (ou ADMIN) e jobs finalizados são
+ * removidos periodicamente após app.pdf.jobs.retention-minutes.
+ *
+ * Métricas: pdf.report.jobs.queue.depth, pdf.report.jobs.active,
+ * pdf.report.jobs (por resultado) e pdf.report.jobs.wait (tempo em fila).
+ */
+@Slf4j
+@Service
+public class ReportJobServiceImpl implements ReportJobService {
+
+    private final GenerateReportHandler generateReportHandler;
+    private final ReportJobRepository reportJobRepository;
+    private final Optional<MeterRegistry> meterRegistry;
+    private final ThreadPoolExecutor executor;
+    private final int maxJobsPerUser;
+    private final Duration retention;
+    private final Duration abandonedAfter;
+
+    public ReportJobServiceImpl(
+            GenerateReportHandler generateReportHandler,
+            ReportJobRepository reportJobRepository,
+            Optional<MeterRegistry> meterRegistry,
+            @Value("${app.pdf.jobs.workers:4}") int workers,
+            @Value("${app.pdf.jobs.queue-capacity:100}") int queueCapacity,
+            @Value("${app.pdf.jobs.max-per-user:3}") int maxJobsPerUser,
+            @Value("${app.pdf.jobs.retention-minutes:60}") int retentionMinutes,
+            @Value("${app.pdf.jobs.abandoned-after-minutes:15}") int abandonedAfterMinutes) {
+        this.generateReportHandler = generateReportHandler;
+        this.reportJobRepository = reportJobRepository;
+        this.meterRegistry = meterRegistry;
+        this.maxJobsPerUser = maxJobsPerUser;
+        this.retention = Duration.ofMinutes(retentionMinutes);
+        this.abandonedAfter = Duration.ofMinutes(abandonedAfterMinutes);
+
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+            workers, workers, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "report-worker-" + threadCounter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+
+        meterRegistry.ifPresent(registry -> {
+            Gauge.builder("pdf.report.jobs.queue.depth", executor, e -> e.getQueue().size())
+                .description("Jobs de laudo aguardando worker")
+                .register(registry);
+            Gauge.builder("pdf.report.jobs.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Jobs de laudo em renderização")
+                .register(registry);
+        });
+    }
+
+    @Override
+    public ReportJobDto submit(UUID evaluationId) {
+        String userId = getCurrentUserId();
+
+        ReportJob job = ReportJob.queued(evaluationId, userId);
+        if (!reportJobRepository.reserve(job, maxJobsPerUser, LocalDateTime.now().minus(abandonedAfter))) {
+            incrementCounter("rejected");
+            log.warn("Limite de jobs de laudo por usuário atingido: userId={}, limite={}", userId, maxJobsPerUser);
+            throw new ReportJobRejectedException(String.format(
+                "Limite de %d laudos simultâneos por usuário atingido", maxJobsPerUser));
+        }
+
+        try {
+            executor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            reportJobRepository.delete(job.jobId());
+            incrementCounter("rejected");
+            log.warn("Fila de laudos cheia, job recusado: evaluationId={}, userId={}", evaluationId, userId);
+            throw new ReportJobRejectedException("Fila de geração de laudos cheia. Tente novamente em instantes.");
+        }
+
+        log.info("Job de laudo enfileirado: jobId={}, evaluationId={}, userId={}",
+                job.jobId(), evaluationId, userId);
+        return toDto(job);
+    }
+
+    @Override
+    public Optional<ReportJobDto> findJob(UUID jobId) {
+        return reportJobRepository.findById(jobId)
+            .filter(this::isVisibleToCurrentUser)
+            .map(ReportJobServiceImpl::toDto);
+    }
+
+    /**
+     * Marca como falhos os jobs abandonados e remove jobs finalizados há mais
+     * tempo que a retenção configurada.
+     */
+    @Scheduled(fixedDelayString = "${app.pdf.jobs.eviction-interval-ms:60000}")
+    public void evictExpiredJobs() {
+        LocalDateTime now = LocalDateTime.now();
+        int abandoned = reportJobRepository.failAbandoned(now.minus(abandonedAfter));
+        if (abandoned > 0) {
+            log.warn("{} jobs de laudo abandonados marcados como falhos", abandoned);
+        }
+        reportJobRepository.deleteFinishedBefore(now.minus(retention));
+    }
+
+    private void run(ReportJob job) {
+        reportJobRepository.markRunning(job.jobId());
+        meterRegistry.ifPresent(registry -> Timer.builder("pdf.report.jobs.wait")
+            .description("Tempo de espera de jobs de laudo na fila")
+            .register(registry)
+            .record(Duration.between(job.submittedAt(), LocalDateTime.now())));
+
+        try {
+            // Renderiza em streaming direto para o cache; o download é servido de lá
+            boolean rendered = generateReportHandler.renderToCache(new GenerateReportCommand(job.evaluationId()));
+
+            incrementCounter("completed");
+            reportJobRepository.finish(job.jobId(), ReportJob.Status.COMPLETED, null);
+            log.info("Job de laudo concluído: jobId={}, evaluationId={}, renderizado={}",
+                    job.jobId(), job.evaluationId(), rendered);
+        } catch (Exception e) {
+            incrementCounter("failed");
+            reportJobRepository.finish(job.jobId(), ReportJob.Status.FAILED, e.getMessage());
+            log.error("Falha no job de laudo: jobId={}, evaluationId={}", job.jobId(), job.evaluationId(), e);
+        }
+    }
+
+    private void incrementCounter(String result) {
+        meterRegistry.ifPresent(registry -> Counter.builder("pdf.report.jobs")
+            .description("Jobs de laudo por resultado")
+            .tag("result", result)
+            .register(registry)
+            .increment());
+    }
+
+    /**
+     * Verifica se o usuário atual solicitou o job ou possui role ADMIN.
+     *
+     * @param job job consultado
+     * @return true se o job pode ser exibido ao usuário atual
+     */
+    private boolean isVisibleToCurrentUser(ReportJob job) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return false;
+        }
+        return job.requestedBy().equals(authentication.getName())
+            || authentication.getAuthorities().stream()
+                .anyMatch(auth -> auth.getAuthority().equals("ROLE_ADMIN"));
+    }
+
+    /**
+     * Obtém o ID do usuário autenticado.
+     *
+     * @return ID do usuário
+     */
+    private String getCurrentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            throw new SecurityException("User not authenticated");
+        }
+        return authentication.getName();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static ReportJobDto toDto(ReportJob job) {
+        return new ReportJobDto(job.jobId(), job.evaluationId(), job.requestedBy(),
+            ReportJobDto.Status.valueOf(job.status().name()),
+            job.submittedAt(), job.completedAt(), job.errorMessage());
+    }
+}
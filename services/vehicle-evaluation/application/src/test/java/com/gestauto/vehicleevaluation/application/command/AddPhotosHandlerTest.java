@@ -1,7 +1,9 @@
 package com.gestauto.vehicleevaluation.application.command;
 
+import com.gestauto.vehicleevaluation.domain.entity.EvaluationPhoto;
 import com.gestauto.vehicleevaluation.domain.entity.VehicleEvaluation;
 import com.gestauto.vehicleevaluation.domain.enums.PhotoType;
+import com.gestauto.vehicleevaluation.domain.exception.ConcurrentEvaluationUpdateException;
 import com.gestauto.vehicleevaluation.domain.repository.EvaluationPhotoRepository;
 import com.gestauto.vehicleevaluation.domain.repository.VehicleEvaluationRepository;
 import com.gestauto.vehicleevaluation.domain.service.ImageStorageService;
@@ -12,9 +14,12 @@ import com.gestauto.vehicleevaluation.domain.value.UploadedPhoto;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.io.ByteArrayInputStream;
 import java.util.Collections;
@@ -24,6 +29,7 @@ import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,6 +44,9 @@ class AddPhotosHandlerTest {
     @Mock
     private EvaluationPhotoRepository photoRepository;
 
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private AddPhotosHandler handler;
 
@@ -73,6 +82,64 @@ class AddPhotosHandlerTest {
         verify(photoRepository, times(1)).save(any());
     }
 
+    @Test
+    void shouldAttachPdfDerivativeToSavedPhoto() {
+        VehicleEvaluation mockEvaluation = mock(VehicleEvaluation.class);
+        when(evaluationRepository.findById(any(EvaluationId.class))).thenReturn(Optional.of(mockEvaluation));
+
+        String pdfKey = "evaluations/" + evaluationId + "/EXTERIOR_FRONT_pdf.jpg";
+        UploadedPhoto photo = new UploadedPhoto(
+                "http://example.com/photo.jpg", "http://example.com/photo-thumb.jpg", pdfKey, 120_000L);
+        when(imageStorageService.uploadEvaluationPhotos(any(), any())).thenReturn(new ImageUploadResult(
+                Map.of(PhotoType.EXTERIOR_FRONT.name(), photo),
+                Collections.emptyMap()
+        ));
+
+        handler.handle(command);
+
+        ArgumentCaptor<EvaluationPhoto> saved = ArgumentCaptor.forClass(EvaluationPhoto.class);
+        verify(photoRepository).save(saved.capture());
+        assertEquals(pdfKey, saved.getValue().getPdfImagePath());
+        assertEquals(120_000L, saved.getValue().getPdfImageSize());
+    }
+
+    @Test
+    void shouldUploadOutsideTransactionAndCheckVersionBeforeSaving() {
+        VehicleEvaluation mockEvaluation = mock(VehicleEvaluation.class);
+        when(mockEvaluation.getVersion()).thenReturn(7L);
+        when(evaluationRepository.findById(any(EvaluationId.class))).thenReturn(Optional.of(mockEvaluation));
+        when(imageStorageService.uploadEvaluationPhotos(any(), any())).thenReturn(new ImageUploadResult(
+                Map.of(PhotoType.EXTERIOR_FRONT.name(), new UploadedPhoto("http://example.com/photo.jpg", null)),
+                Collections.emptyMap()
+        ));
+
+        handler.handle(command);
+
+        InOrder inOrder = inOrder(imageStorageService, transactionManager, evaluationRepository, photoRepository);
+        inOrder.verify(imageStorageService).uploadEvaluationPhotos(any(), any());
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(evaluationRepository).advanceVersion(EvaluationId.from(evaluationId), 7L);
+        inOrder.verify(photoRepository).save(any());
+        inOrder.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void shouldNotSaveMetadataWhenEvaluationChangedDuringUpload() {
+        VehicleEvaluation mockEvaluation = mock(VehicleEvaluation.class);
+        when(evaluationRepository.findById(any(EvaluationId.class))).thenReturn(Optional.of(mockEvaluation));
+        when(imageStorageService.uploadEvaluationPhotos(any(), any())).thenReturn(new ImageUploadResult(
+                Map.of(PhotoType.EXTERIOR_FRONT.name(), new UploadedPhoto("http://example.com/photo.jpg", null)),
+                Collections.emptyMap()
+        ));
+        doThrow(new ConcurrentEvaluationUpdateException(evaluationId.toString(), 0L))
+                .when(evaluationRepository).advanceVersion(any(), anyLong());
+
+        assertThrows(ConcurrentEvaluationUpdateException.class, () -> handler.handle(command));
+
+        verify(photoRepository, never()).save(any());
+        verify(transactionManager).rollback(any());
+    }
+
     @Test
     void shouldThrowExceptionWhenEvaluationNotFound() {
         when(evaluationRepository.findById(any(EvaluationId.class))).thenReturn(Optional.empty());
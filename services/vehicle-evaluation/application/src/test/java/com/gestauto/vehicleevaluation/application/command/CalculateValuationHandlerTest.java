@@ -20,6 +20,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.math.BigDecimal;
 import java.util.UUID;
@@ -46,11 +47,15 @@ class CalculateValuationHandlerTest {
     @Mock
     private DomainEventPublisherService eventPublisher;
 
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     private CalculateValuationHandler handler;
 
     @BeforeEach
     void setUp() {
-        handler = new CalculateValuationHandler(evaluationRepository, valuationService, eventPublisher);
+        handler = new CalculateValuationHandler(evaluationRepository, valuationService, eventPublisher,
+            transactionManager);
     }
 
     @Test
@@ -15,6 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.util.Collections;
 import java.util.Optional;
@@ -36,6 +37,9 @@ class CreateEvaluationHandlerTest {
     @Mock
     private DomainEventPublisherService eventPublisher;
 
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private CreateEvaluationHandler handler;
 
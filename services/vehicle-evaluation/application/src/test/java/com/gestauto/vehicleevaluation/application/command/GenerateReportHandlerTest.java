@@ -7,10 +7,12 @@ import com.gestauto.vehicleevaluation.domain.enums.EvaluationStatus;
 import com.gestauto.vehicleevaluation.domain.enums.PhotoType;
 import com.gestauto.vehicleevaluation.domain.exception.EvaluationNotFoundException;
 import com.gestauto.vehicleevaluation.domain.repository.VehicleEvaluationRepository;
+import com.gestauto.vehicleevaluation.domain.service.ReportCache;
 import com.gestauto.vehicleevaluation.domain.service.ReportService;
 import com.gestauto.vehicleevaluation.domain.value.EvaluationId;
 import com.gestauto.vehicleevaluation.domain.value.Money;
 import com.gestauto.vehicleevaluation.domain.value.Plate;
+import com.gestauto.vehicleevaluation.domain.value.ReportCacheKey;
 import com.gestauto.vehicleevaluation.domain.value.VehicleInfo;
 import com.gestauto.vehicleevaluation.domain.enums.FuelType;
 import org.junit.jupiter.api.BeforeEach;
@@ -20,6 +22,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.util.Optional;
 import java.util.UUID;
@@ -28,6 +32,7 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -43,13 +48,16 @@ class GenerateReportHandlerTest {
     @Mock
     private ReportService reportService;
 
+    @Mock
+    private ReportCache reportCache;
+
     private GenerateReportHandler handler;
     private VehicleEvaluation evaluation;
     private UUID evaluationId;
 
     @BeforeEach
     void setUp() {
-        handler = new GenerateReportHandler(evaluationRepository, reportService);
+        handler = new GenerateReportHandler(evaluationRepository, reportService, reportCache);
         evaluationId = UUID.randomUUID();
 
         // Criar avaliação de teste
@@ -257,4 +265,179 @@ class GenerateReportHandlerTest {
         verify(evaluationRepository, times(1)).findById(any(EvaluationId.class));
         verify(evaluationRepository, never()).save(any());
     }
+
+    @Test
+    @DisplayName("deve servir relatório do cache sem renderizar novamente")
+    void testServeReportFromCache() throws Exception {
+        evaluation = createRestoredEvaluation(
+            EvaluationStatus.APPROVED,
+            Money.of(BigDecimal.valueOf(50000)),
+            Money.of(BigDecimal.valueOf(45000))
+        );
+
+        when(evaluationRepository.findById(any(EvaluationId.class)))
+                .thenReturn(Optional.of(evaluation));
+
+        byte[] cachedPdf = "CACHED_PDF_CONTENT".getBytes();
+        when(reportCache.get(ReportCacheKey.of(evaluation)))
+                .thenReturn(Optional.of(cachedPdf));
+
+        byte[] result = handler.handle(new GenerateReportCommand(evaluationId));
+
+        assertArrayEquals(cachedPdf, result, "PDF deve vir do cache");
+        verify(reportService, never()).generateEvaluationReport(any());
+        verify(reportCache, never()).put(any(), any());
+    }
+
+    @Test
+    @DisplayName("deve armazenar relatório renderizado no cache")
+    void testStoreRenderedReportInCache() throws Exception {
+        evaluation = createRestoredEvaluation(
+            EvaluationStatus.APPROVED,
+            Money.of(BigDecimal.valueOf(50000)),
+            Money.of(BigDecimal.valueOf(45000))
+        );
+
+        when(evaluationRepository.findById(any(EvaluationId.class)))
+                .thenReturn(Optional.of(evaluation));
+
+        byte[] mockPdf = "MOCK_PDF_CONTENT".getBytes();
+        when(reportService.generateEvaluationReport(evaluation))
+                .thenReturn(mockPdf);
+
+        handler.handle(new GenerateReportCommand(evaluationId));
+
+        verify(reportCache).get(ReportCacheKey.of(evaluation));
+        verify(reportCache).put(ReportCacheKey.of(evaluation), mockPdf);
+    }
+
+    @Test
+    @DisplayName("deve copiar relatório do cache no streaming sem renderizar")
+    void testStreamReportFromCache() throws Exception {
+        evaluation = createRestoredEvaluation(
+            EvaluationStatus.APPROVED,
+            Money.of(BigDecimal.valueOf(50000)),
+            Money.of(BigDecimal.valueOf(45000))
+        );
+
+        when(evaluationRepository.findById(any(EvaluationId.class)))
+                .thenReturn(Optional.of(evaluation));
+        when(reportCache.copyTo(eq(ReportCacheKey.of(evaluation)), any(OutputStream.class)))
+                .thenReturn(true);
+
+        StreamingReport report = handler.prepareStreamingReport(new GenerateReportCommand(evaluationId));
+        report.writeTo(new ByteArrayOutputStream());
+
+        verify(reportService, never()).writeEvaluationReport(any(), any());
+        verify(reportCache, never()).openEntry(any());
+    }
+
+    @Test
+    @DisplayName("deve renderizar no stream e gravar a entrada de cache")
+    void testStreamRenderedReportIntoCache() throws Exception {
+        evaluation = createRestoredEvaluation(
+            EvaluationStatus.APPROVED,
+            Money.of(BigDecimal.valueOf(50000)),
+            Money.of(BigDecimal.valueOf(45000))
+        );
+
+        when(evaluationRepository.findById(any(EvaluationId.class)))
+                .thenReturn(Optional.of(evaluation));
+
+        ByteArrayOutputStream cached = new ByteArrayOutputStream();
+        ReportCache.PendingEntry entry = mock(ReportCache.PendingEntry.class);
+        when(entry.outputStream()).thenReturn(cached);
+        when(reportCache.openEntry(ReportCacheKey.of(evaluation))).thenReturn(entry);
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(1);
+            out.write("MOCK_PDF_CONTENT".getBytes());
+            return null;
+        }).when(reportService).writeEvaluationReport(eq(evaluation), any(OutputStream.class));
+
+        StreamingReport report = handler.prepareStreamingReport(new GenerateReportCommand(evaluationId));
+        ByteArrayOutputStream response = new ByteArrayOutputStream();
+        report.writeTo(response);
+
+        assertEquals("MOCK_PDF_CONTENT", response.toString());
+        assertEquals("MOCK_PDF_CONTENT", cached.toString());
+        verify(entry).commit();
+        verify(entry).close();
+    }
+
+    @Test
+    @DisplayName("deve descartar a entrada de cache quando a renderização falhar")
+    void testDiscardCacheEntryWhenStreamingFails() throws Exception {
+        evaluation = createRestoredEvaluation(
+            EvaluationStatus.APPROVED,
+            Money.of(BigDecimal.valueOf(50000)),
+            Money.of(BigDecimal.valueOf(45000))
+        );
+
+        when(evaluationRepository.findById(any(EvaluationId.class)))
+                .thenReturn(Optional.of(evaluation));
+
+        ReportCache.PendingEntry entry = mock(ReportCache.PendingEntry.class);
+        when(entry.outputStream()).thenReturn(OutputStream.nullOutputStream());
+        when(reportCache.openEntry(any())).thenReturn(entry);
+        doThrow(new RuntimeException("Falha no PDF"))
+                .when(reportService).writeEvaluationReport(eq(evaluation), any(OutputStream.class));
+
+        StreamingReport report = handler.prepareStreamingReport(new GenerateReportCommand(evaluationId));
+
+        assertThrows(RuntimeException.class, () -> report.writeTo(new ByteArrayOutputStream()));
+        verify(entry, never()).commit();
+        verify(entry).close();
+    }
+
+    @Test
+    @DisplayName("não deve renderizar em segundo plano quando o laudo já está no cache")
+    void testRenderToCacheSkipsCachedReport() throws Exception {
+        evaluation = createRestoredEvaluation(
+            EvaluationStatus.APPROVED,
+            Money.of(BigDecimal.valueOf(50000)),
+            Money.of(BigDecimal.valueOf(45000))
+        );
+
+        when(evaluationRepository.findById(any(EvaluationId.class)))
+                .thenReturn(Optional.of(evaluation));
+        when(reportCache.contains(ReportCacheKey.of(evaluation))).thenReturn(true);
+
+        assertFalse(handler.renderToCache(new GenerateReportCommand(evaluationId)));
+        verify(reportService, never()).writeEvaluationReport(any(), any());
+        verify(reportCache, never()).copyTo(any(), any());
+        verify(reportCache, never()).openRequiredEntry(any());
+    }
+
+    @Test
+    @DisplayName("deve propagar falha ao armazenar laudo renderizado em segundo plano")
+    void testRenderToCachePropagatesCommitFailure() throws Exception {
+        evaluation = createRestoredEvaluation(
+            EvaluationStatus.APPROVED,
+            Money.of(BigDecimal.valueOf(50000)),
+            Money.of(BigDecimal.valueOf(45000))
+        );
+
+        when(evaluationRepository.findById(any(EvaluationId.class)))
+                .thenReturn(Optional.of(evaluation));
+        ReportCache.PendingEntry entry = mock(ReportCache.PendingEntry.class);
+        when(entry.outputStream()).thenReturn(new ByteArrayOutputStream());
+        doThrow(new IllegalStateException("Falha ao armazenar laudo no cache")).when(entry).commit();
+        when(reportCache.openRequiredEntry(ReportCacheKey.of(evaluation))).thenReturn(entry);
+
+        assertThrows(IllegalStateException.class,
+                () -> handler.renderToCache(new GenerateReportCommand(evaluationId)));
+        verify(reportService).writeEvaluationReport(eq(evaluation), any(OutputStream.class));
+        verify(entry).close();
+    }
+
+    @Test
+    @DisplayName("deve validar avaliação antes de iniciar o streaming")
+    void testStreamingRejectsDraftEvaluation() {
+        when(evaluationRepository.findById(any(EvaluationId.class)))
+                .thenReturn(Optional.of(evaluation));
+
+        assertThrows(IllegalStateException.class,
+                () -> handler.prepareStreamingReport(new GenerateReportCommand(evaluationId)));
+        verifyNoInteractions(reportService, reportCache);
+    }
 }
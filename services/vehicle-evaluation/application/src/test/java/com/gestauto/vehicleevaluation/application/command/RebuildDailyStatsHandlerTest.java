@@ -0,0 +1,58 @@
+package com.gestauto.vehicleevaluation.application.command;
+
+import com.gestauto.vehicleevaluation.application.query.GetEvaluationDashboardQuery;
+import com.gestauto.vehicleevaluation.application.service.DashboardPrecomputeService;
+import com.gestauto.vehicleevaluation.domain.repository.EvaluationDailyStatsRepository;
+import com.gestauto.vehicleevaluation.domain.service.DashboardCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes unitários para o RebuildDailyStatsHandler.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RebuildDailyStatsHandler Tests")
+class RebuildDailyStatsHandlerTest {
+
+    @Mock
+    private EvaluationDailyStatsRepository dailyStatsRepository;
+
+    @Mock
+    private DashboardCache dashboardCache;
+
+    @Mock
+    private DashboardPrecomputeService dashboardPrecomputeService;
+
+    @InjectMocks
+    private RebuildDailyStatsHandler handler;
+
+    @Test
+    @DisplayName("deve reconstruir o intervalo e recalcular as visões do dashboard")
+    void shouldRebuildRange() {
+        LocalDate start = LocalDate.of(2025, 1, 1);
+        LocalDate end = LocalDate.of(2025, 3, 31);
+        when(dailyStatsRepository.rebuild(start, end)).thenReturn(120);
+
+        assertEquals(120, handler.handle(new RebuildDailyStatsCommand(start, end)));
+
+        verify(dashboardCache).evictByKeyPrefix(GetEvaluationDashboardQuery.RANGE_VIEW_KEY_PREFIX);
+        verify(dashboardPrecomputeService).refreshDefaultViews();
+    }
+
+    @Test
+    @DisplayName("deve recusar intervalo invertido")
+    void shouldRejectInvertedRange() {
+        assertThrows(IllegalArgumentException.class, () ->
+            new RebuildDailyStatsCommand(LocalDate.of(2025, 2, 1), LocalDate.of(2025, 1, 1)));
+    }
+}
@@ -1,13 +1,18 @@
 package com.gestauto.vehicleevaluation.application.command;
 
 import com.gestauto.vehicleevaluation.domain.entity.EvaluationPhoto;
+import com.gestauto.vehicleevaluation.domain.entity.VehicleEvaluation;
 import com.gestauto.vehicleevaluation.domain.enums.PhotoType;
+import com.gestauto.vehicleevaluation.domain.exception.ConcurrentEvaluationUpdateException;
 import com.gestauto.vehicleevaluation.domain.repository.EvaluationPhotoRepository;
+import com.gestauto.vehicleevaluation.domain.repository.VehicleEvaluationRepository;
 import com.gestauto.vehicleevaluation.domain.service.ImageStorageService;
 import com.gestauto.vehicleevaluation.domain.value.EvaluationId;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -15,11 +20,13 @@ import static org.mockito.Mockito.*;
 
 class RemovePhotoHandlerTest {
 
+    private final VehicleEvaluationRepository evaluationRepository = mock(VehicleEvaluationRepository.class);
+
     @Test
     void handle_deletesOriginalAndThumbnail_whenPresent() {
         EvaluationPhotoRepository repo = mock(EvaluationPhotoRepository.class);
         ImageStorageService storage = mock(ImageStorageService.class);
-        RemovePhotoHandler handler = new RemovePhotoHandler(repo, storage);
+        RemovePhotoHandler handler = new RemovePhotoHandler(evaluationRepository, repo, storage);
 
         UUID evaluationUuid = UUID.randomUUID();
         EvaluationId evaluationId = EvaluationId.from(evaluationUuid);
@@ -35,6 +42,7 @@ class RemovePhotoHandlerTest {
                 "https://cdn.example/front_thumb.jpg"
         );
 
+        stubEvaluation(evaluationId, 3L);
         when(repo.findByEvaluationId(evaluationId)).thenReturn(List.of(photo));
 
         handler.handle(new RemovePhotoCommand(evaluationUuid, "EXTERIOR_FRONT"));
@@ -48,7 +56,7 @@ class RemovePhotoHandlerTest {
     void handle_deletesOnlyOriginal_whenThumbnailIsNull() {
         EvaluationPhotoRepository repo = mock(EvaluationPhotoRepository.class);
         ImageStorageService storage = mock(ImageStorageService.class);
-        RemovePhotoHandler handler = new RemovePhotoHandler(repo, storage);
+        RemovePhotoHandler handler = new RemovePhotoHandler(evaluationRepository, repo, storage);
 
         UUID evaluationUuid = UUID.randomUUID();
         EvaluationId evaluationId = EvaluationId.from(evaluationUuid);
@@ -63,6 +71,7 @@ class RemovePhotoHandlerTest {
                 "https://cdn.example/rear.png"
         );
 
+        stubEvaluation(evaluationId, 3L);
         when(repo.findByEvaluationId(evaluationId)).thenReturn(List.of(photo));
 
         handler.handle(new RemovePhotoCommand(evaluationUuid, "EXTERIOR_REAR"));
@@ -76,15 +85,108 @@ class RemovePhotoHandlerTest {
     void handle_whenPhotoNotFound_throws() {
         EvaluationPhotoRepository repo = mock(EvaluationPhotoRepository.class);
         ImageStorageService storage = mock(ImageStorageService.class);
-        RemovePhotoHandler handler = new RemovePhotoHandler(repo, storage);
+        RemovePhotoHandler handler = new RemovePhotoHandler(evaluationRepository, repo, storage);
 
         UUID evaluationUuid = UUID.randomUUID();
         EvaluationId evaluationId = EvaluationId.from(evaluationUuid);
 
+        stubEvaluation(evaluationId, 3L);
         when(repo.findByEvaluationId(evaluationId)).thenReturn(List.of());
 
         assertThatThrownBy(() -> handler.handle(new RemovePhotoCommand(evaluationUuid, "EXTERIOR_FRONT")))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("Photo not found");
     }
+
+    @Test
+    void handle_advancesEvaluationVersion_beforeDeletingFiles() {
+        EvaluationPhotoRepository repo = mock(EvaluationPhotoRepository.class);
+        ImageStorageService storage = mock(ImageStorageService.class);
+        RemovePhotoHandler handler = new RemovePhotoHandler(evaluationRepository, repo, storage);
+
+        UUID evaluationUuid = UUID.randomUUID();
+        EvaluationId evaluationId = EvaluationId.from(evaluationUuid);
+        EvaluationPhoto photo = EvaluationPhoto.createWithoutThumbnail(
+                evaluationId,
+            PhotoType.ENGINE_BAY,
+                "engine.jpg",
+                "/path/engine.jpg",
+                2222,
+                "image/jpeg",
+                "https://cdn.example/engine.jpg"
+        );
+        stubEvaluation(evaluationId, 7L);
+        when(repo.findByEvaluationId(evaluationId)).thenReturn(List.of(photo));
+
+        handler.handle(new RemovePhotoCommand(evaluationUuid, "ENGINE_BAY"));
+
+        InOrder inOrder = inOrder(evaluationRepository, storage, repo);
+        inOrder.verify(evaluationRepository).advanceVersion(evaluationId, 7L);
+        inOrder.verify(storage).deleteImage("https://cdn.example/engine.jpg");
+        inOrder.verify(repo).deleteById(photo.getPhotoId());
+    }
+
+    @Test
+    void handle_whenEvaluationChanged_keepsPhoto() {
+        EvaluationPhotoRepository repo = mock(EvaluationPhotoRepository.class);
+        ImageStorageService storage = mock(ImageStorageService.class);
+        RemovePhotoHandler handler = new RemovePhotoHandler(evaluationRepository, repo, storage);
+
+        UUID evaluationUuid = UUID.randomUUID();
+        EvaluationId evaluationId = EvaluationId.from(evaluationUuid);
+        EvaluationPhoto photo = EvaluationPhoto.createWithoutThumbnail(
+                evaluationId,
+            PhotoType.ENGINE_BAY,
+                "engine.jpg",
+                "/path/engine.jpg",
+                2222,
+                "image/jpeg",
+                "https://cdn.example/engine.jpg"
+        );
+        stubEvaluation(evaluationId, 7L);
+        when(repo.findByEvaluationId(evaluationId)).thenReturn(List.of(photo));
+        doThrow(new ConcurrentEvaluationUpdateException(evaluationUuid.toString(), 7L))
+                .when(evaluationRepository).advanceVersion(evaluationId, 7L);
+
+        assertThatThrownBy(() -> handler.handle(new RemovePhotoCommand(evaluationUuid, "ENGINE_BAY")))
+                .isInstanceOf(ConcurrentEvaluationUpdateException.class);
+        verifyNoInteractions(storage);
+        verify(repo, never()).deleteById(any());
+    }
+
+    @Test
+    void handle_deletesPdfDerivative_whenPresent() {
+        EvaluationPhotoRepository repo = mock(EvaluationPhotoRepository.class);
+        ImageStorageService storage = mock(ImageStorageService.class);
+        RemovePhotoHandler handler = new RemovePhotoHandler(evaluationRepository, repo, storage);
+
+        UUID evaluationUuid = UUID.randomUUID();
+        EvaluationId evaluationId = EvaluationId.from(evaluationUuid);
+        EvaluationPhoto photo = EvaluationPhoto.create(
+                evaluationId,
+            PhotoType.INTERIOR_FRONT,
+                "interior.jpg",
+                "/path/interior.jpg",
+                4096,
+                "image/jpeg",
+                "https://cdn.example/interior.jpg",
+                "https://cdn.example/interior_thumb.jpg"
+        );
+        photo.attachPdfImage("evaluations/interior_pdf.jpg", 2048L);
+        stubEvaluation(evaluationId, 1L);
+        when(repo.findByEvaluationId(evaluationId)).thenReturn(List.of(photo));
+
+        handler.handle(new RemovePhotoCommand(evaluationUuid, "INTERIOR_FRONT"));
+
+        verify(storage).deleteImage("https://cdn.example/interior.jpg");
+        verify(storage).deleteImage("https://cdn.example/interior_thumb.jpg");
+        verify(storage).deleteImage("evaluations/interior_pdf.jpg");
+        verify(repo).deleteById(photo.getPhotoId());
+    }
+
+    private void stubEvaluation(EvaluationId evaluationId, long version) {
+        VehicleEvaluation evaluation = mock(VehicleEvaluation.class);
+        when(evaluation.getVersion()).thenReturn(version);
+        when(evaluationRepository.findById(evaluationId)).thenReturn(Optional.of(evaluation));
+    }
 }
@@ -122,7 +122,9 @@ class DtoSmokeTest {
             BigDecimal.valueOf(10),
             BigDecimal.valueOf(5),
             BigDecimal.valueOf(3),
-            BigDecimal.valueOf(2)
+            BigDecimal.valueOf(2),
+            new LatencyPercentilesDto(BigDecimal.ONE, BigDecimal.valueOf(4), BigDecimal.valueOf(9), 20L),
+            new LatencyPercentilesDto(BigDecimal.ONE, BigDecimal.valueOf(2), BigDecimal.valueOf(3), 20L)
         );
         BrandStatDto brandStat = new BrandStatDto("Toyota", 5L, BigDecimal.valueOf(20000), BigDecimal.valueOf(80));
         EvaluationDashboardDto dashboard = new EvaluationDashboardDto(period, kpis, List.of(monthly), List.of(brandStat), now);
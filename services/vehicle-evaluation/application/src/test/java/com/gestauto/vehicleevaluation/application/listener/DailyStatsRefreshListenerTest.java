@@ -0,0 +1,126 @@
+package com.gestauto.vehicleevaluation.application.listener;
+
+import com.gestauto.vehicleevaluation.application.command.EvaluationApprovedEvent;
+import com.gestauto.vehicleevaluation.application.service.DashboardPrecomputeService;
+import com.gestauto.vehicleevaluation.domain.event.ChecklistCompletedEvent;
+import com.gestauto.vehicleevaluation.domain.event.EvaluationCreatedEvent;
+import com.gestauto.vehicleevaluation.domain.event.ValuationCalculatedEvent;
+import com.gestauto.vehicleevaluation.domain.repository.EvaluationDailyStatsRepository;
+import com.gestauto.vehicleevaluation.domain.service.EvaluationAnalyticsIndex;
+import com.gestauto.vehicleevaluation.domain.value.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes unitários para o DailyStatsRefreshListener.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DailyStatsRefreshListener Tests")
+class DailyStatsRefreshListenerTest {
+
+    @Mock
+    private EvaluationAnalyticsIndex analyticsIndex;
+
+    @Mock
+    private EvaluationDailyStatsRepository dailyStatsRepository;
+
+    @Mock
+    private DashboardPrecomputeService dashboardPrecomputeService;
+
+    private DailyStatsRefreshListener listener;
+    private UUID evaluationId;
+
+    @BeforeEach
+    void setUp() {
+        listener = new DailyStatsRefreshListener(analyticsIndex, dailyStatsRepository, dashboardPrecomputeService);
+        evaluationId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("deve recalcular a fatia diária ao criar avaliação")
+    void shouldRefreshOnCreation() {
+        listener.onDomainEvent(new EvaluationCreatedEvent(
+            evaluationId.toString(), "evaluator", "ABC1234", "VW", "Gol"));
+
+        verify(analyticsIndex).apply(evaluationId);
+        verify(dailyStatsRepository).refresh(evaluationId);
+    }
+
+    @Test
+    @DisplayName("deve recalcular a fatia diária ao recalcular valoração")
+    void shouldRefreshOnValuationCalculated() {
+        listener.onDomainEvent(new ValuationCalculatedEvent(
+            evaluationId.toString(), null, null, null, null, null, false));
+
+        verify(dailyStatsRepository).refresh(evaluationId);
+    }
+
+    @Test
+    @DisplayName("deve recalcular a fatia diária e as visões do avaliador ao aprovar avaliação")
+    void shouldRefreshOnApproval() {
+        when(dailyStatsRepository.refresh(evaluationId)).thenReturn(Optional.of("evaluator-1"));
+
+        listener.onEvaluationApproved(new EvaluationApprovedEvent(
+            evaluationId.toString(), "manager", Money.of(BigDecimal.TEN), LocalDateTime.now()));
+
+        verify(dailyStatsRepository).refresh(evaluationId);
+        verify(dashboardPrecomputeService).refreshEvaluatorViews("evaluator-1");
+    }
+
+    @Test
+    @DisplayName("não deve recalcular visões quando a avaliação não existir")
+    void shouldSkipViewsForMissingEvaluation() {
+        when(dailyStatsRepository.refresh(evaluationId)).thenReturn(Optional.empty());
+
+        listener.onDomainEvent(new ValuationCalculatedEvent(
+            evaluationId.toString(), null, null, null, null, null, false));
+
+        verify(dashboardPrecomputeService, never()).refreshEvaluatorViews(any());
+    }
+
+    @Test
+    @DisplayName("deve ignorar eventos que não alteram os agregados")
+    void shouldIgnoreUnrelatedEvents() {
+        listener.onDomainEvent(new ChecklistCompletedEvent(evaluationId, 90, false, List.of()));
+
+        verify(analyticsIndex, never()).apply(any());
+        verify(dailyStatsRepository, never()).refresh(any());
+    }
+
+    @Test
+    @DisplayName("deve recalcular a fatia diária mesmo com falha no índice analítico")
+    void shouldRefreshDailyStatsWhenAnalyticsIndexFails() {
+        doThrow(new RuntimeException("index unavailable")).when(analyticsIndex).apply(evaluationId);
+
+        listener.onDomainEvent(new ValuationCalculatedEvent(
+            evaluationId.toString(), null, null, null, null, null, false));
+
+        verify(dailyStatsRepository).refresh(evaluationId);
+    }
+
+    @Test
+    @DisplayName("não deve propagar falhas do refresh")
+    void shouldSwallowRefreshFailures() {
+        doThrow(new RuntimeException("db down")).when(dailyStatsRepository).refresh(evaluationId);
+
+        assertDoesNotThrow(() -> listener.onEvaluationApproved(new EvaluationApprovedEvent(
+            evaluationId.toString(), "manager", Money.of(BigDecimal.TEN), LocalDateTime.now())));
+    }
+}
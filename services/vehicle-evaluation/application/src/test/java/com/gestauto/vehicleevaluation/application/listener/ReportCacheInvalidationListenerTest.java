@@ -0,0 +1,89 @@
+package com.gestauto.vehicleevaluation.application.listener;
+
+import com.gestauto.vehicleevaluation.application.command.EvaluationApprovedEvent;
+import com.gestauto.vehicleevaluation.application.command.EvaluationRejectedEvent;
+import com.gestauto.vehicleevaluation.domain.event.EvaluationCreatedEvent;
+import com.gestauto.vehicleevaluation.domain.event.ValuationCalculatedEvent;
+import com.gestauto.vehicleevaluation.domain.service.ReportCache;
+import com.gestauto.vehicleevaluation.domain.value.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Testes unitários para o ReportCacheInvalidationListener.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReportCacheInvalidationListener Tests")
+class ReportCacheInvalidationListenerTest {
+
+    @Mock
+    private ReportCache reportCache;
+
+    private ReportCacheInvalidationListener listener;
+    private UUID evaluationId;
+
+    @BeforeEach
+    void setUp() {
+        listener = new ReportCacheInvalidationListener(reportCache);
+        evaluationId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("deve invalidar cache ao aprovar avaliação")
+    void shouldEvictOnApproval() {
+        listener.onEvaluationApproved(new EvaluationApprovedEvent(
+            evaluationId.toString(), "manager", Money.of(BigDecimal.TEN), LocalDateTime.now()));
+
+        verify(reportCache).evict(evaluationId);
+    }
+
+    @Test
+    @DisplayName("deve invalidar cache ao rejeitar avaliação")
+    void shouldEvictOnRejection() {
+        listener.onEvaluationRejected(new EvaluationRejectedEvent(
+            evaluationId.toString(), "manager", "motivo", LocalDateTime.now()));
+
+        verify(reportCache).evict(evaluationId);
+    }
+
+    @Test
+    @DisplayName("deve invalidar cache ao recalcular valoração")
+    void shouldEvictOnValuationCalculated() {
+        listener.onDomainEvent(new ValuationCalculatedEvent(
+            evaluationId.toString(), null, null, null, null, null, false));
+
+        verify(reportCache).evict(evaluationId);
+    }
+
+    @Test
+    @DisplayName("deve ignorar eventos que não alteram o laudo")
+    void shouldIgnoreUnrelatedEvents() {
+        listener.onDomainEvent(new EvaluationCreatedEvent(
+            evaluationId.toString(), "evaluator", "ABC1234", "VW", "Gol"));
+
+        verify(reportCache, never()).evict(any());
+    }
+
+    @Test
+    @DisplayName("não deve propagar falhas do cache")
+    void shouldSwallowCacheFailures() {
+        doThrow(new RuntimeException("storage down")).when(reportCache).evict(evaluationId);
+
+        assertDoesNotThrow(() -> listener.onEvaluationRejected(new EvaluationRejectedEvent(
+            evaluationId.toString(), "manager", "motivo", LocalDateTime.now())));
+    }
+}
@@ -1,7 +1,9 @@
 package com.gestauto.vehicleevaluation.application.query;
 
 import com.gestauto.vehicleevaluation.domain.report.BrandStat;
+import com.gestauto.vehicleevaluation.domain.report.DashboardSnapshot;
 import com.gestauto.vehicleevaluation.domain.report.EvaluationKpi;
+import com.gestauto.vehicleevaluation.domain.report.LatencyPercentiles;
 import com.gestauto.vehicleevaluation.domain.report.MonthlyStat;
 import com.gestauto.vehicleevaluation.domain.repository.EvaluationDashboardRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -43,16 +45,18 @@ class GetEvaluationDashboardHandlerTest {
             120,
             BigDecimal.valueOf(80.0),
             BigDecimal.valueOf(50000.00),
-            BigDecimal.valueOf(12.5)
+            BigDecimal.valueOf(12.5),
+            new LatencyPercentiles(new BigDecimal("6.00"), new BigDecimal("30.00"), new BigDecimal("96.00"), 100L),
+            LatencyPercentiles.EMPTY
         );
 
-        when(dashboardRepository.getKpis(startDate, endDate, null, null)).thenReturn(kpi);
-        when(dashboardRepository.getMonthlyStats(startDate, endDate, null, null)).thenReturn(List.of(
-            new MonthlyStat(LocalDate.of(2025, 1, 1), 10, BigDecimal.valueOf(500000)),
-            new MonthlyStat(LocalDate.of(2025, 2, 1), 10, BigDecimal.valueOf(510000))
-        ));
-        when(dashboardRepository.getBrandStats(startDate, endDate, null, null)).thenReturn(List.of(
-            new BrandStat("Toyota", 30, BigDecimal.valueOf(52000), BigDecimal.valueOf(85.0))
+        when(dashboardRepository.getSnapshot(startDate, endDate, null, null)).thenReturn(new DashboardSnapshot(
+            kpi,
+            List.of(
+                new MonthlyStat(LocalDate.of(2025, 1, 1), 10, BigDecimal.valueOf(500000)),
+                new MonthlyStat(LocalDate.of(2025, 2, 1), 10, BigDecimal.valueOf(510000))
+            ),
+            List.of(new BrandStat("Toyota", 30, BigDecimal.valueOf(52000), BigDecimal.valueOf(85.0)))
         ));
 
         var result = handler.handle(new GetEvaluationDashboardQuery(startDate, endDate, null, null));
@@ -61,6 +65,8 @@ class GetEvaluationDashboardHandlerTest {
         assertNotNull(result.kpis());
         assertEquals(new BigDecimal("10.00"), result.kpis().evaluationsPerMonth());
         assertEquals(BigDecimal.valueOf(80.0), result.kpis().approvalRatePercent());
+        assertEquals(new BigDecimal("96.00"), result.kpis().reviewTimePercentiles().p99Hours());
+        assertEquals(0L, result.kpis().submissionTimePercentiles().samples());
         assertEquals(2, result.monthlyTrend().size());
         assertEquals(1, result.brandDistribution().size());
     }
@@ -2,14 +2,8 @@ package com.gestauto.vehicleevaluation.application.query;
 
 import com.gestauto.vehicleevaluation.application.dto.PagedResult;
 import com.gestauto.vehicleevaluation.application.dto.PendingEvaluationSummaryDto;
-import com.gestauto.vehicleevaluation.domain.entity.VehicleEvaluation;
-import com.gestauto.vehicleevaluation.domain.enums.EvaluationStatus;
-import com.gestauto.vehicleevaluation.domain.enums.FuelType;
-import com.gestauto.vehicleevaluation.domain.repository.VehicleEvaluationRepository;
-import com.gestauto.vehicleevaluation.domain.value.EvaluationId;
-import com.gestauto.vehicleevaluation.domain.value.Money;
-import com.gestauto.vehicleevaluation.domain.value.Plate;
-import com.gestauto.vehicleevaluation.domain.value.VehicleInfo;
+import com.gestauto.vehicleevaluation.domain.report.PendingEvaluationSummary;
+import com.gestauto.vehicleevaluation.domain.repository.EvaluationSummaryRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -26,8 +20,9 @@ import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 /**
@@ -38,31 +33,31 @@ import static org.mockito.Mockito.*;
 class GetPendingApprovalsHandlerTest {
 
     @Mock
-    private VehicleEvaluationRepository evaluationRepository;
+    private EvaluationSummaryRepository evaluationSummaryRepository;
 
     @InjectMocks
     private GetPendingApprovalsHandler handler;
 
-    private List<VehicleEvaluation> mockEvaluations;
+    private List<PendingEvaluationSummary> mockEvaluations;
 
     @BeforeEach
     void setUp() {
         mockEvaluations = new ArrayList<>();
         
-        // Criar 5 avaliações mock com valores diferentes
+        // Criar 5 resumos com valores diferentes
         for (int i = 0; i < 5; i++) {
-            VehicleEvaluation eval = mock(VehicleEvaluation.class);
-            EvaluationId evalId = EvaluationId.from(UUID.randomUUID().toString());
-            
-            when(eval.getId()).thenReturn(evalId);
-            when(eval.getPlate()).thenReturn(Plate.of("ABC" + i + "D34"));
-            when(eval.getVehicleInfo()).thenReturn(VehicleInfo.create("Brand" + i, "Model" + i, 2020 + i, "Prata", FuelType.FLEX, "Version"));
-            when(eval.getFinalValue()).thenReturn(Money.of(new BigDecimal(50000 + (i * 10000))));
-            when(eval.getCreatedAt()).thenReturn(LocalDateTime.now().minusDays(i));
-            when(eval.getEvaluatorId()).thenReturn("evaluator-" + i);
-            when(eval.getPhotos()).thenReturn(List.of());
-            
-            mockEvaluations.add(eval);
+            mockEvaluations.add(new PendingEvaluationSummary(
+                UUID.randomUUID(),
+                "ABC" + i + "D34",
+                "Brand" + i,
+                "Model" + i,
+                2020 + i,
+                new BigDecimal(50000 + (i * 10000)),
+                LocalDateTime.now().minusDays(i),
+                "evaluator-" + i,
+                i,
+                i == 0
+            ));
         }
     }
 
@@ -70,8 +65,7 @@ class GetPendingApprovalsHandlerTest {
     void handle_WithDefaultQuery_ShouldReturnPagedResults() {
         // Arrange
         GetPendingApprovalsQuery query = new GetPendingApprovalsQuery(0, 20, "finalValue", true);
-        when(evaluationRepository.findPendingApprovals(any(), anyInt(), anyInt()))
-            .thenReturn(mockEvaluations);
+        stubPage(mockEvaluations, 5);
 
         // Act
         PagedResult<PendingEvaluationSummaryDto> result = handler.handle(query);
@@ -85,72 +79,71 @@ class GetPendingApprovalsHandlerTest {
     }
 
     @Test
-    void handle_WithSortByValue_ShouldOrderByValueDescending() {
+    void handle_WithSortByValue_ShouldDelegateOrderingToRepository() {
         // Arrange
         GetPendingApprovalsQuery query = new GetPendingApprovalsQuery(0, 20, "finalValue", true);
-        when(evaluationRepository.findPendingApprovals(any(), anyInt(), anyInt()))
-            .thenReturn(mockEvaluations);
+        stubPage(mockEvaluations, 5);
 
         // Act
-        PagedResult<PendingEvaluationSummaryDto> result = handler.handle(query);
+        handler.handle(query);
 
         // Assert
-        List<PendingEvaluationSummaryDto> content = result.content();
-        assertThat(content).isNotEmpty();
-        
-        // Verificar que está ordenado do maior para o menor valor
-        for (int i = 0; i < content.size() - 1; i++) {
-            BigDecimal currentValue = content.get(i).suggestedValue();
-            BigDecimal nextValue = content.get(i + 1).suggestedValue();
-            assertThat(currentValue).isGreaterThanOrEqualTo(nextValue);
-        }
+        verify(evaluationSummaryRepository).findPendingApprovals("finalValue", true, 0, 20);
     }
 
     @Test
-    void handle_WithSortByDateAscending_ShouldOrderByDateAscending() {
+    void handle_WithSortByDateAscending_ShouldDelegateOrderingToRepository() {
         // Arrange
         GetPendingApprovalsQuery query = new GetPendingApprovalsQuery(0, 20, "createdAt", false);
-        when(evaluationRepository.findPendingApprovals(any(), anyInt(), anyInt()))
-            .thenReturn(mockEvaluations);
+        stubPage(mockEvaluations, 5);
 
         // Act
         PagedResult<PendingEvaluationSummaryDto> result = handler.handle(query);
 
         // Assert
-        List<PendingEvaluationSummaryDto> content = result.content();
-        assertThat(content).isNotEmpty();
-        
-        // Verificar que está ordenado da data mais antiga para a mais recente
-        for (int i = 0; i < content.size() - 1; i++) {
-            LocalDateTime currentDate = content.get(i).createdAt();
-            LocalDateTime nextDate = content.get(i + 1).createdAt();
-            assertThat(currentDate).isBeforeOrEqualTo(nextDate);
-        }
+        verify(evaluationSummaryRepository).findPendingApprovals("createdAt", false, 0, 20);
+        assertThat(result.content()).extracting(PendingEvaluationSummaryDto::id)
+            .containsExactlyElementsOf(mockEvaluations.stream().map(PendingEvaluationSummary::id).toList());
     }
 
     @Test
     void handle_WithPagination_ShouldReturnCorrectPage() {
         // Arrange
         GetPendingApprovalsQuery query = new GetPendingApprovalsQuery(1, 2, "finalValue", true);
-        when(evaluationRepository.findPendingApprovals(any(), anyInt(), anyInt()))
-            .thenReturn(mockEvaluations);
+        stubPage(mockEvaluations.subList(2, 4), 5);
 
         // Act
         PagedResult<PendingEvaluationSummaryDto> result = handler.handle(query);
 
         // Assert
+        verify(evaluationSummaryRepository).findPendingApprovals("finalValue", true, 1, 2);
         assertThat(result.content()).hasSize(2);
         assertThat(result.page()).isEqualTo(1);
         assertThat(result.size()).isEqualTo(2);
         assertThat(result.totalPages()).isEqualTo(3);
     }
 
+    @Test
+    void handle_WithQueueBeyondThousand_ShouldPageWithoutLimit() {
+        // Arrange
+        GetPendingApprovalsQuery query = new GetPendingApprovalsQuery(100, 20, "createdAt", true);
+        stubPage(mockEvaluations, 2500);
+
+        // Act
+        PagedResult<PendingEvaluationSummaryDto> result = handler.handle(query);
+
+        // Assert
+        verify(evaluationSummaryRepository).findPendingApprovals("createdAt", true, 100, 20);
+        assertThat(result.totalElements()).isEqualTo(2500);
+        assertThat(result.totalPages()).isEqualTo(125);
+        assertThat(result.last()).isFalse();
+    }
+
     @Test
     void handle_ShouldCalculateDaysPending() {
         // Arrange
-        GetPendingApprovalsQuery query = new GetPendingApprovalsQuery(0, 20, "createdAt", false);
-        when(evaluationRepository.findPendingApprovals(any(), anyInt(), anyInt()))
-            .thenReturn(mockEvaluations);
+        GetPendingApprovalsQuery query = new GetPendingApprovalsQuery(0, 20, "createdAt", true);
+        stubPage(mockEvaluations, 5);
 
         // Act
         PagedResult<PendingEvaluationSummaryDto> result = handler.handle(query);
@@ -159,17 +152,16 @@ class GetPendingApprovalsHandlerTest {
         List<PendingEvaluationSummaryDto> content = result.content();
         assertThat(content).allMatch(dto -> dto.daysPending() >= 0);
 
-        // Ordenado por createdAt asc: mais antiga primeiro => mais dias pendente
-        assertThat(content.get(0).daysPending())
-            .isGreaterThanOrEqualTo(content.get(content.size() - 1).daysPending());
+        // Primeira linha é a mais recente, última é a mais antiga => mais dias pendente
+        assertThat(content.get(content.size() - 1).daysPending())
+            .isGreaterThan(content.get(0).daysPending());
     }
 
     @Test
     void handle_ShouldFormatVehicleInfo() {
         // Arrange
         GetPendingApprovalsQuery query = new GetPendingApprovalsQuery(0, 20, "finalValue", true);
-        when(evaluationRepository.findPendingApprovals(any(), anyInt(), anyInt()))
-            .thenReturn(mockEvaluations);
+        stubPage(mockEvaluations, 5);
 
         // Act
         PagedResult<PendingEvaluationSummaryDto> result = handler.handle(query);
@@ -187,8 +179,7 @@ class GetPendingApprovalsHandlerTest {
     void handle_WithEmptyResults_ShouldReturnEmptyPage() {
         // Arrange
         GetPendingApprovalsQuery query = new GetPendingApprovalsQuery(0, 20, "finalValue", true);
-        when(evaluationRepository.findPendingApprovals(any(), anyInt(), anyInt()))
-            .thenReturn(List.of());
+        stubPage(List.of(), 0);
 
         // Act
         PagedResult<PendingEvaluationSummaryDto> result = handler.handle(query);
@@ -233,8 +224,7 @@ class GetPendingApprovalsHandlerTest {
     void handle_ShouldSetPaginationFlags() {
         // Arrange
         GetPendingApprovalsQuery query = new GetPendingApprovalsQuery(0, 2, "finalValue", true);
-        when(evaluationRepository.findPendingApprovals(any(), anyInt(), anyInt()))
-            .thenReturn(mockEvaluations);
+        stubPage(mockEvaluations.subList(0, 2), 5);
 
         // Act
         PagedResult<PendingEvaluationSummaryDto> result = handler.handle(query);
@@ -248,8 +238,7 @@ class GetPendingApprovalsHandlerTest {
     void handle_OnLastPage_ShouldSetLastFlag() {
         // Arrange
         GetPendingApprovalsQuery query = new GetPendingApprovalsQuery(2, 2, "finalValue", true);
-        when(evaluationRepository.findPendingApprovals(any(), anyInt(), anyInt()))
-            .thenReturn(mockEvaluations);
+        stubPage(mockEvaluations.subList(4, 5), 5);
 
         // Act
         PagedResult<PendingEvaluationSummaryDto> result = handler.handle(query);
@@ -257,4 +246,28 @@ class GetPendingApprovalsHandlerTest {
         // Assert
         assertThat(result.last()).isTrue();
     }
+
+    @Test
+    void handle_ShouldMapPhotoCountAndCriticalIssuesFromSummary() {
+        // Arrange
+        GetPendingApprovalsQuery query = new GetPendingApprovalsQuery(0, 20, "createdAt", true);
+        stubPage(mockEvaluations, 5);
+
+        // Act
+        PagedResult<PendingEvaluationSummaryDto> result = handler.handle(query);
+
+        // Assert
+        PendingEvaluationSummaryDto newest = result.content().get(0);
+        assertThat(newest.plate()).isEqualTo("ABC-0D34");
+        assertThat(newest.photoCount()).isZero();
+        assertThat(newest.hasCriticalIssues()).isTrue();
+        assertThat(result.content().get(4).photoCount()).isEqualTo(4);
+        assertThat(result.content().get(4).hasCriticalIssues()).isFalse();
+    }
+
+    private void stubPage(List<PendingEvaluationSummary> page, long total) {
+        when(evaluationSummaryRepository.findPendingApprovals(anyString(), anyBoolean(), anyInt(), anyInt()))
+            .thenReturn(page);
+        when(evaluationSummaryRepository.countPendingApprovals()).thenReturn(total);
+    }
 }
@@ -2,96 +2,200 @@ package com.gestauto.vehicleevaluation.application.query;
 
 import com.gestauto.vehicleevaluation.application.dto.PagedResult;
 import com.gestauto.vehicleevaluation.application.dto.VehicleEvaluationSummaryDto;
-import com.gestauto.vehicleevaluation.domain.entity.VehicleEvaluation;
 import com.gestauto.vehicleevaluation.domain.enums.EvaluationStatus;
-import com.gestauto.vehicleevaluation.domain.enums.FuelType;
-import com.gestauto.vehicleevaluation.domain.repository.VehicleEvaluationRepository;
-import com.gestauto.vehicleevaluation.domain.value.Money;
-import com.gestauto.vehicleevaluation.domain.value.Plate;
-import com.gestauto.vehicleevaluation.domain.value.VehicleInfo;
+import com.gestauto.vehicleevaluation.domain.report.EvaluationSummary;
+import com.gestauto.vehicleevaluation.domain.report.EvaluationSummaryFilter;
+import com.gestauto.vehicleevaluation.domain.repository.EvaluationSummaryRepository;
 import org.junit.jupiter.api.Test;
-import org.mockito.ArgumentMatchers;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 class ListEvaluationsHandlerTest {
 
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 3, 10, 9, 30);
+
     @Test
-    void handle_callsFindAll_whenNoFilters() throws Exception {
-        VehicleEvaluationRepository repo = mock(VehicleEvaluationRepository.class);
-        ListEvaluationsHandler handler = new ListEvaluationsHandler(repo);
-
-        VehicleEvaluation evaluation = VehicleEvaluation.create(
-                Plate.of("ABC1234"),
-                "12345678901",
-                VehicleInfo.of("Toyota", "Corolla", "2.0", 2023, 2023, "Prata", FuelType.FLEX),
-                Money.of(BigDecimal.valueOf(10000)),
-                "evaluator"
+    void handle_readsFirstPageAndCount_whenNoFilters() throws Exception {
+        EvaluationSummaryRepository summaryRepo = mock(EvaluationSummaryRepository.class);
+        ListEvaluationsHandler handler = new ListEvaluationsHandler(summaryRepo);
+
+        EvaluationSummary summary = new EvaluationSummary(
+                UUID.randomUUID(),
+                "ABC1234",
+                "Toyota",
+                "Corolla",
+                2023,
+                BigDecimal.valueOf(10000),
+                EvaluationStatus.APPROVED,
+                new BigDecimal("95000.00"),
+                "evaluator",
+                "manager",
+                LocalDateTime.now().minusDays(10),
+                LocalDateTime.now().minusDays(9),
+                LocalDateTime.now().minusDays(2)
         );
 
-        when(repo.findAll(0, 20)).thenReturn(List.of(evaluation));
+        when(summaryRepo.findPage(EvaluationSummaryFilter.NONE, "createdAt", true, 0, 20)).thenReturn(List.of(summary));
+        when(summaryRepo.count(EvaluationSummaryFilter.NONE)).thenReturn(1L);
 
         // Use null page/size to exercise ListEvaluationsQuery defaults
         ListEvaluationsQuery query = new ListEvaluationsQuery(null, null, null, null, null, null, null);
         PagedResult<VehicleEvaluationSummaryDto> result = handler.handle(query);
 
-        verify(repo).findAll(0, 20);
+        verify(summaryRepo).findPage(EvaluationSummaryFilter.NONE, "createdAt", true, 0, 20);
         assertThat(result.content()).hasSize(1);
+        VehicleEvaluationSummaryDto dto = result.content().get(0);
+        assertThat(dto.plate()).isEqualTo("ABC-1234");
+        assertThat(dto.mileage()).isEqualTo(10000);
+        assertThat(dto.status()).isEqualTo("APPROVED");
+        assertThat(dto.expired()).isTrue();
         assertThat(result.page()).isEqualTo(0);
         assertThat(result.size()).isEqualTo(20);
-        assertThat(result.totalElements()).isEqualTo(100L);
+        assertThat(result.totalElements()).isEqualTo(1L);
+        assertThat(result.last()).isTrue();
+        assertThat(result.nextCursor()).isNull();
     }
 
     @Test
-    void handle_callsFindByEvaluator_whenEvaluatorFilter() throws Exception {
-        VehicleEvaluationRepository repo = mock(VehicleEvaluationRepository.class);
-        ListEvaluationsHandler handler = new ListEvaluationsHandler(repo);
+    void handle_combinesAllFiltersInOneQuery() throws Exception {
+        EvaluationSummaryRepository summaryRepo = mock(EvaluationSummaryRepository.class);
+        ListEvaluationsHandler handler = new ListEvaluationsHandler(summaryRepo);
 
         UUID evaluatorId = UUID.randomUUID();
-        when(repo.findByEvaluator(evaluatorId.toString())).thenReturn(List.of());
+        LocalDateTime from = BASE.minusDays(30);
+        EvaluationSummaryFilter expected = new EvaluationSummaryFilter(
+                evaluatorId.toString(), EvaluationStatus.DRAFT, "Toyota", "ABC1", from, BASE);
+        List<EvaluationSummary> page = summaries(5);
+        when(summaryRepo.findPage(expected, "createdAt", false, 0, 5)).thenReturn(page);
+        when(summaryRepo.count(expected)).thenReturn(7L);
+
+        ListEvaluationsQuery query = new ListEvaluationsQuery(evaluatorId, EvaluationStatus.DRAFT, "abc-1", 0, 5,
+                "createdAt", "ASC", "Toyota", from, BASE, null);
+        PagedResult<VehicleEvaluationSummaryDto> result = handler.handle(query);
+
+        verify(summaryRepo).findPage(expected, "createdAt", false, 0, 5);
+        verify(summaryRepo).count(expected);
+        assertThat(result.totalElements()).isEqualTo(7L);
+        assertThat(result.totalPages()).isEqualTo(2);
+        assertThat(result.last()).isFalse();
+        assertThat(EvaluationCursor.decode(result.nextCursor()))
+                .isEqualTo(new EvaluationCursor(page.get(4).createdAt(), page.get(4).id()));
+    }
 
-        ListEvaluationsQuery query = new ListEvaluationsQuery(evaluatorId, null, null, 0, 10, null, null);
+    @Test
+    void handle_omitsCursor_whenSortedByOtherField() throws Exception {
+        EvaluationSummaryRepository summaryRepo = mock(EvaluationSummaryRepository.class);
+        ListEvaluationsHandler handler = new ListEvaluationsHandler(summaryRepo);
+
+        when(summaryRepo.findPage(any(), anyString(), anyBoolean(), anyInt(), anyInt())).thenReturn(summaries(2));
+        when(summaryRepo.count(any())).thenReturn(10L);
+
+        ListEvaluationsQuery query = new ListEvaluationsQuery(null, null, null, 0, 2, "finalValue", "DESC");
         PagedResult<VehicleEvaluationSummaryDto> result = handler.handle(query);
 
-        verify(repo).findByEvaluator(evaluatorId.toString());
-        assertThat(result.content()).isEmpty();
-        assertThat(result.size()).isEqualTo(10);
+        verify(summaryRepo).findPage(EvaluationSummaryFilter.NONE, "finalValue", true, 0, 2);
+        assertThat(result.last()).isFalse();
+        assertThat(result.nextCursor()).isNull();
     }
 
     @Test
-    void handle_callsFindByStatusAndCounts_whenStatusFilter() throws Exception {
-        VehicleEvaluationRepository repo = mock(VehicleEvaluationRepository.class);
-        ListEvaluationsHandler handler = new ListEvaluationsHandler(repo);
+    void handle_readsAfterCursorWithoutCounting() throws Exception {
+        EvaluationSummaryRepository summaryRepo = mock(EvaluationSummaryRepository.class);
+        ListEvaluationsHandler handler = new ListEvaluationsHandler(summaryRepo);
 
-        when(repo.findByStatus(EvaluationStatus.DRAFT)).thenReturn(List.of());
-        when(repo.countByStatus(EvaluationStatus.DRAFT)).thenReturn(7L);
+        EvaluationCursor cursor = new EvaluationCursor(BASE, UUID.randomUUID());
+        List<EvaluationSummary> rows = summaries(4);
+        when(summaryRepo.findAfter(EvaluationSummaryFilter.NONE, cursor.createdAt(), cursor.id(), true, 4))
+                .thenReturn(rows);
 
-        ListEvaluationsQuery query = new ListEvaluationsQuery(null, EvaluationStatus.DRAFT, null, 0, 5, null, null);
+        ListEvaluationsQuery query = new ListEvaluationsQuery(null, null, null, 0, 3, "createdAt", "DESC",
+                null, null, null, cursor.encode());
         PagedResult<VehicleEvaluationSummaryDto> result = handler.handle(query);
 
-        verify(repo).findByStatus(EvaluationStatus.DRAFT);
-        verify(repo).countByStatus(EvaluationStatus.DRAFT);
-        assertThat(result.totalElements()).isEqualTo(7L);
-        assertThat(result.totalPages()).isEqualTo(2);
+        verify(summaryRepo, never()).count(any());
+        verify(summaryRepo, never()).findPage(any(), anyString(), anyBoolean(), anyInt(), anyInt());
+        assertThat(result.content()).hasSize(3);
+        assertThat(result.totalElements()).isEqualTo(-1L);
+        assertThat(result.last()).isFalse();
+        assertThat(EvaluationCursor.decode(result.nextCursor()))
+                .isEqualTo(new EvaluationCursor(rows.get(2).createdAt(), rows.get(2).id()));
     }
 
     @Test
-    void handle_callsFindByStatusAndEvaluator_whenBothFilters() throws Exception {
-        VehicleEvaluationRepository repo = mock(VehicleEvaluationRepository.class);
-        ListEvaluationsHandler handler = new ListEvaluationsHandler(repo);
+    void handle_marksLastPage_whenCursorReachesEnd() throws Exception {
+        EvaluationSummaryRepository summaryRepo = mock(EvaluationSummaryRepository.class);
+        ListEvaluationsHandler handler = new ListEvaluationsHandler(summaryRepo);
 
-        UUID evaluatorId = UUID.randomUUID();
-        when(repo.findByStatusAndEvaluator(EvaluationStatus.DRAFT, evaluatorId.toString())).thenReturn(List.of());
+        EvaluationCursor cursor = new EvaluationCursor(BASE, UUID.randomUUID());
+        when(summaryRepo.findAfter(any(), any(), any(), anyBoolean(), anyInt())).thenReturn(summaries(2));
 
-        ListEvaluationsQuery query = new ListEvaluationsQuery(evaluatorId, EvaluationStatus.DRAFT, null, 0, 20, null, null);
-        handler.handle(query);
+        ListEvaluationsQuery query = new ListEvaluationsQuery(null, null, null, 0, 3, "createdAt", "DESC",
+                null, null, null, cursor.encode());
+        PagedResult<VehicleEvaluationSummaryDto> result = handler.handle(query);
+
+        assertThat(result.content()).hasSize(2);
+        assertThat(result.last()).isTrue();
+        assertThat(result.nextCursor()).isNull();
+    }
+
+    @Test
+    void handle_rejectsInvalidCursor() {
+        EvaluationSummaryRepository summaryRepo = mock(EvaluationSummaryRepository.class);
+        ListEvaluationsHandler handler = new ListEvaluationsHandler(summaryRepo);
+
+        ListEvaluationsQuery query = new ListEvaluationsQuery(null, null, null, 0, 20, "createdAt", "DESC",
+                null, null, null, "bm90LWEtY3Vyc29y");
+
+        assertThatThrownBy(() -> handler.handle(query)).isInstanceOf(InvalidCursorException.class);
+        verifyNoInteractions(summaryRepo);
+    }
+
+    @Test
+    void handle_rejectsCursorWithSortOtherThanCreatedAt() {
+        EvaluationSummaryRepository summaryRepo = mock(EvaluationSummaryRepository.class);
+        ListEvaluationsHandler handler = new ListEvaluationsHandler(summaryRepo);
+        String cursor = new EvaluationCursor(BASE, UUID.randomUUID()).encode();
+
+        ListEvaluationsQuery query = new ListEvaluationsQuery(null, null, null, 0, 20, "brand", "DESC",
+                null, null, null, cursor);
+
+        assertThatThrownBy(() -> handler.handle(query))
+                .isInstanceOf(InvalidCursorException.class)
+                .hasMessageContaining("createdAt");
+        verifyNoInteractions(summaryRepo);
+    }
 
-        verify(repo).findByStatusAndEvaluator(EvaluationStatus.DRAFT, evaluatorId.toString());
-        verify(repo, never()).findAll(ArgumentMatchers.anyInt(), ArgumentMatchers.anyInt());
+    private static List<EvaluationSummary> summaries(int count) {
+        List<EvaluationSummary> summaries = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            summaries.add(new EvaluationSummary(
+                    UUID.randomUUID(),
+                    "ABC123" + i,
+                    "Toyota",
+                    "Corolla",
+                    2023,
+                    BigDecimal.valueOf(10000),
+                    EvaluationStatus.DRAFT,
+                    null,
+                    "evaluator",
+                    null,
+                    BASE.minusHours(i),
+                    BASE.minusHours(i),
+                    null
+            ));
+        }
+        return summaries;
     }
 }
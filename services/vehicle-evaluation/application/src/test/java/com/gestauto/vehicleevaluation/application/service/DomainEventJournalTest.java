@@ -0,0 +1,119 @@
+package com.gestauto.vehicleevaluation.application.service;
+
+import com.gestauto.vehicleevaluation.domain.event.DomainEvent;
+import com.gestauto.vehicleevaluation.domain.event.EvaluationCreatedEvent;
+import com.gestauto.vehicleevaluation.domain.event.EvaluationSubmittedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes unitários para o DomainEventJournal.
+ */
+@DisplayName("DomainEventJournal Tests")
+class DomainEventJournalTest {
+
+    @Test
+    @DisplayName("deve reter apenas os eventos mais recentes até a capacidade")
+    void keepsOnlyMostRecentEvents() {
+        DomainEventJournal journal = new DomainEventJournal(3);
+        List<DomainEvent> events = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            DomainEvent event = created("eval-" + i);
+            events.add(event);
+            journal.append(event);
+        }
+
+        assertThat(journal.getTotalAppended()).isEqualTo(5);
+        assertThat(journal.snapshot()).containsExactly(events.get(2), events.get(3), events.get(4));
+        assertThat(journal.recent(null, null, 2))
+            .extracting(DomainEventJournal.Entry::sequence)
+            .containsExactly(4L, 3L);
+    }
+
+    @Test
+    @DisplayName("deve filtrar por tipo e por avaliação")
+    void filtersByTypeAndEvaluation() {
+        DomainEventJournal journal = new DomainEventJournal(10);
+        journal.append(created("eval-1"));
+        journal.append(new EvaluationSubmittedEvent("eval-1", "evaluator", "ABC1234", 45000.0, 50000.0));
+        journal.append(created("eval-2"));
+
+        assertThat(journal.recent("EvaluationCreated", null, 10))
+            .extracting(entry -> entry.event().getEvaluationId())
+            .containsExactly("eval-2", "eval-1");
+        assertThat(journal.recent(null, "eval-1", 10))
+            .extracting(entry -> entry.event().getEventType())
+            .containsExactly("EvaluationSubmitted", "EvaluationCreated");
+        assertThat(journal.recent("EvaluationSubmitted", "eval-2", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("não deve reter eventos com capacidade zero")
+    void disabledWithZeroCapacity() {
+        DomainEventJournal journal = new DomainEventJournal(0);
+        journal.append(created("eval-1"));
+
+        assertThat(journal.snapshot()).isEmpty();
+        assertThat(journal.recent(null, null, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("não deve sobrescrever entrada mais nova com escritor atrasado")
+    void lateWriterDoesNotOverwriteNewerEntry() {
+        DomainEventJournal journal = new DomainEventJournal(2);
+        journal.append(created("eval-0"));
+        DomainEvent second = created("eval-1");
+        journal.append(second);
+        DomainEvent newest = created("eval-2");
+        journal.append(newest);
+
+        // escritor que reservou a sequência 0 grava depois da sequência 2, na mesma posição
+        journal.store(new DomainEventJournal.Entry(0, created("stale"), LocalDateTime.now()));
+
+        assertThat(journal.recent(null, null, 10))
+            .extracting(DomainEventJournal.Entry::event)
+            .containsExactly(newest, second);
+    }
+
+    @Test
+    @DisplayName("deve manter entradas consistentes com publicações concorrentes")
+    void concurrentAppends() throws Exception {
+        DomainEventJournal journal = new DomainEventJournal(64);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        journal.append(created("eval-" + i));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(journal.getTotalAppended()).isEqualTo(4000);
+        assertThat(journal.recent(null, null, 100))
+            .extracting(DomainEventJournal.Entry::sequence)
+            .hasSize(64)
+            .startsWith(3999L)
+            .doesNotHaveDuplicates();
+    }
+
+    private static DomainEvent created(String evaluationId) {
+        return new EvaluationCreatedEvent(evaluationId, "evaluator", "ABC1234", "Toyota", "Corolla");
+    }
+}
@@ -0,0 +1,128 @@
+package com.gestauto.vehicleevaluation.application.service.impl;
+
+import com.gestauto.vehicleevaluation.application.query.GetEvaluationDashboardHandler;
+import com.gestauto.vehicleevaluation.application.query.GetEvaluationDashboardQuery;
+import com.gestauto.vehicleevaluation.domain.enums.EvaluationStatus;
+import com.gestauto.vehicleevaluation.domain.repository.EvaluationDashboardRepository;
+import com.gestauto.vehicleevaluation.domain.service.DashboardCache;
+import com.gestauto.vehicleevaluation.domain.service.EvaluationAnalyticsIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes unitários para o DashboardPrecomputeServiceImpl.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DashboardPrecomputeServiceImpl Tests")
+class DashboardPrecomputeServiceImplTest {
+
+    @Mock
+    private GetEvaluationDashboardHandler dashboardHandler;
+
+    @Mock
+    private EvaluationDashboardRepository dashboardRepository;
+
+    @Mock
+    private DashboardCache dashboardCache;
+
+    @Mock
+    private EvaluationAnalyticsIndex analyticsIndex;
+
+    private DashboardPrecomputeServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new DashboardPrecomputeServiceImpl(
+            dashboardHandler, dashboardRepository, dashboardCache, analyticsIndex, Optional.empty());
+    }
+
+    @Test
+    @DisplayName("deve pré-calcular a visão geral e a de cada avaliador ativo")
+    void shouldRefreshDefaultViews() {
+        when(dashboardRepository.findActiveEvaluatorIds(any(LocalDateTime.class)))
+            .thenReturn(List.of("evaluator-1", "evaluator-2"));
+
+        service.refreshDefaultViews();
+
+        verify(dashboardHandler).refresh(GetEvaluationDashboardQuery.defaultView(null));
+        verify(dashboardHandler).refresh(GetEvaluationDashboardQuery.defaultView("evaluator-1"));
+        verify(dashboardHandler).refresh(GetEvaluationDashboardQuery.defaultView("evaluator-2"));
+    }
+
+    @Test
+    @DisplayName("deve continuar o pré-cálculo quando uma visão falhar")
+    void shouldContinueWhenViewFails() {
+        when(dashboardRepository.findActiveEvaluatorIds(any(LocalDateTime.class)))
+            .thenReturn(List.of("evaluator-1"));
+        doThrow(new RuntimeException("db down"))
+            .when(dashboardHandler).refresh(GetEvaluationDashboardQuery.defaultView(null));
+
+        assertDoesNotThrow(() -> service.refreshDefaultViews());
+
+        verify(dashboardHandler).refresh(GetEvaluationDashboardQuery.defaultView("evaluator-1"));
+    }
+
+    @Test
+    @DisplayName("deve invalidar apenas visões gerais e do avaliador alterado")
+    void shouldRefreshEvaluatorViews() {
+        service.refreshEvaluatorViews("evaluator-1");
+
+        verify(dashboardCache).evictByKeyPrefix(GetEvaluationDashboardQuery.rangeViewKeyPrefix(null));
+        verify(dashboardCache).evictByKeyPrefix(GetEvaluationDashboardQuery.rangeViewKeyPrefix("evaluator-1"));
+        verify(dashboardCache, never()).evictByKeyPrefix(GetEvaluationDashboardQuery.RANGE_VIEW_KEY_PREFIX);
+        verify(dashboardHandler).refresh(GetEvaluationDashboardQuery.defaultView(null));
+        verify(dashboardHandler).refresh(GetEvaluationDashboardQuery.defaultView("evaluator-1"));
+    }
+
+    @Test
+    @DisplayName("deve regravar as visões dos avaliadores alterados por outras instâncias")
+    void shouldRefreshViewsChangedBySynchronization() {
+        when(analyticsIndex.synchronize()).thenReturn(Set.of("evaluator-2"));
+
+        service.synchronizeAnalyticsIndex();
+
+        verify(dashboardCache).evictByKeyPrefix(GetEvaluationDashboardQuery.rangeViewKeyPrefix(null));
+        verify(dashboardCache).evictByKeyPrefix(GetEvaluationDashboardQuery.rangeViewKeyPrefix("evaluator-2"));
+        verify(dashboardHandler).refresh(GetEvaluationDashboardQuery.defaultView(null));
+        verify(dashboardHandler).refresh(GetEvaluationDashboardQuery.defaultView("evaluator-2"));
+    }
+
+    @Test
+    @DisplayName("não deve regravar visões quando a sincronização não trouxer mudanças")
+    void shouldSkipRefreshWhenNothingSynchronized() {
+        when(analyticsIndex.synchronize()).thenReturn(Set.of());
+
+        service.synchronizeAnalyticsIndex();
+
+        verifyNoInteractions(dashboardHandler, dashboardCache);
+    }
+
+    @Test
+    @DisplayName("deve usar chave estável para a visão padrão e chave por avaliador para períodos explícitos")
+    void shouldBuildCacheKeys() {
+        assertEquals("default|null", GetEvaluationDashboardQuery.defaultView(null).cacheKey());
+        assertEquals("default|evaluator-1", GetEvaluationDashboardQuery.defaultView("evaluator-1").cacheKey());
+
+        GetEvaluationDashboardQuery range = new GetEvaluationDashboardQuery(
+            LocalDateTime.of(2025, 1, 1, 0, 0), null, "evaluator-1", EvaluationStatus.APPROVED);
+        assertTrue(range.cacheKey().startsWith(GetEvaluationDashboardQuery.rangeViewKeyPrefix("evaluator-1")));
+        assertFalse(range.cacheKey().startsWith(GetEvaluationDashboardQuery.rangeViewKeyPrefix(null)));
+    }
+}
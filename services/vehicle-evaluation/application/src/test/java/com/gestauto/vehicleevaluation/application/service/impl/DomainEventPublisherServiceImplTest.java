@@ -1,8 +1,10 @@
 package com.gestauto.vehicleevaluation.application.service.impl;
 
+import com.gestauto.vehicleevaluation.application.service.DomainEventJournal;
 import com.gestauto.vehicleevaluation.domain.event.DomainEvent;
 import com.gestauto.vehicleevaluation.domain.event.DomainEventExternalPublisher;
 import com.gestauto.vehicleevaluation.domain.event.EvaluationCreatedEvent;
+import com.gestauto.vehicleevaluation.domain.repository.DomainEventRepository;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.springframework.context.ApplicationEventPublisher;
@@ -36,7 +38,7 @@ class DomainEventPublisherServiceImplTest {
     @Test
     void publish_validatesAvailabilityAndNulls() {
         ApplicationEventPublisher springPublisher = mock(ApplicationEventPublisher.class);
-        DomainEventPublisherServiceImpl svc = new DomainEventPublisherServiceImpl(springPublisher);
+        DomainEventPublisherServiceImpl svc = new DomainEventPublisherServiceImpl(springPublisher, new DomainEventJournal(16));
 
         assertThatThrownBy(() -> svc.publish(null))
                 .isInstanceOf(IllegalArgumentException.class);
@@ -49,7 +51,7 @@ class DomainEventPublisherServiceImplTest {
     @Test
     void publish_and_publishBatch_recordsAndDelegates() {
         ApplicationEventPublisher springPublisher = mock(ApplicationEventPublisher.class);
-        DomainEventPublisherServiceImpl svc = new DomainEventPublisherServiceImpl(springPublisher);
+        DomainEventPublisherServiceImpl svc = new DomainEventPublisherServiceImpl(springPublisher, new DomainEventJournal(16));
 
         DummyRabbitPublisher rabbit = new DummyRabbitPublisher();
         svc.setRabbitMQEventPublisher(rabbit);
@@ -87,7 +89,7 @@ class DomainEventPublisherServiceImplTest {
     @Test
     void publish_whenRabbitPublisherMisconfigured_doesNotThrow() {
         ApplicationEventPublisher springPublisher = mock(ApplicationEventPublisher.class);
-        DomainEventPublisherServiceImpl svc = new DomainEventPublisherServiceImpl(springPublisher);
+        DomainEventPublisherServiceImpl svc = new DomainEventPublisherServiceImpl(springPublisher, new DomainEventJournal(16));
 
         svc.setRabbitMQEventPublisher(new ThrowingRabbitPublisher());
 
@@ -97,4 +99,34 @@ class DomainEventPublisherServiceImplTest {
         verify(springPublisher).publishEvent(event);
         assertThat(svc.getPublishedEventCount()).isEqualTo(1);
     }
+
+    @Test
+    void publish_withOutbox_savesEventInsteadOfSendingToRabbit() {
+        ApplicationEventPublisher springPublisher = mock(ApplicationEventPublisher.class);
+        DomainEventPublisherServiceImpl svc = new DomainEventPublisherServiceImpl(springPublisher, new DomainEventJournal(16));
+        DomainEventRepository outbox = mock(DomainEventRepository.class);
+        DummyRabbitPublisher rabbit = new DummyRabbitPublisher();
+        svc.setRabbitMQEventPublisher(rabbit);
+        svc.setDomainEventRepository(outbox);
+
+        DomainEvent event = new EvaluationCreatedEvent("eval-1", "user-1", "ABC1234", "Toyota", "Corolla");
+        svc.publish(event);
+
+        verify(springPublisher).publishEvent(event);
+        verify(outbox).save(event);
+        assertThat(rabbit.calls).isZero();
+    }
+
+    @Test
+    void publish_whenOutboxFails_propagatesToRollBackCaller() {
+        ApplicationEventPublisher springPublisher = mock(ApplicationEventPublisher.class);
+        DomainEventPublisherServiceImpl svc = new DomainEventPublisherServiceImpl(springPublisher, new DomainEventJournal(16));
+        DomainEventRepository outbox = mock(DomainEventRepository.class);
+        doThrow(new IllegalStateException("db down")).when(outbox).save(any());
+        svc.setDomainEventRepository(outbox);
+
+        DomainEvent event = new EvaluationCreatedEvent("eval-1", "user-1", "ABC1234", "Toyota", "Corolla");
+
+        assertThatThrownBy(() -> svc.publish(event)).isInstanceOf(IllegalStateException.class);
+    }
 }
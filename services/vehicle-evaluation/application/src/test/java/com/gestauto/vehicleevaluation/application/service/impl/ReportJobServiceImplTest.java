@@ -0,0 +1,276 @@
+package com.gestauto.vehicleevaluation.application.service.impl;
+
+import com.gestauto.vehicleevaluation.application.command.GenerateReportCommand;
+import com.gestauto.vehicleevaluation.application.command.GenerateReportHandler;
+import com.gestauto.vehicleevaluation.application.dto.ReportJobDto;
+import com.gestauto.vehicleevaluation.application.service.ReportJobRejectedException;
+import com.gestauto.vehicleevaluation.domain.exception.EvaluationNotFoundException;
+import com.gestauto.vehicleevaluation.domain.report.ReportJob;
+import com.gestauto.vehicleevaluation.domain.repository.ReportJobRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextImpl;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes unitários para o ReportJobServiceImpl.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReportJobServiceImpl Tests")
+class ReportJobServiceImplTest {
+
+    @Mock
+    private GenerateReportHandler generateReportHandler;
+
+    private SimpleMeterRegistry meterRegistry;
+    private InMemoryReportJobRepository reportJobRepository;
+    private ReportJobServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        reportJobRepository = new InMemoryReportJobRepository();
+        service = new ReportJobServiceImpl(generateReportHandler, reportJobRepository, Optional.of(meterRegistry),
+            1, 10, 2, 60, 15);
+        authenticate("evaluator-1");
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("deve renderizar o laudo no worker e marcar job como concluído")
+    void testCompletesJob() throws Exception {
+        UUID evaluationId = UUID.randomUUID();
+        when(generateReportHandler.renderToCache(new GenerateReportCommand(evaluationId))).thenReturn(true);
+
+        ReportJobDto job = service.submit(evaluationId);
+
+        assertEquals("evaluator-1", job.requestedBy());
+        assertEquals(ReportJobDto.Status.COMPLETED, awaitFinished(job.jobId()).status());
+        assertEquals(1.0, meterRegistry.counter("pdf.report.jobs", "result", "completed").count());
+    }
+
+    @Test
+    @DisplayName("deve marcar job como falho quando a geração falhar")
+    void testFailsJob() throws Exception {
+        when(generateReportHandler.renderToCache(any()))
+            .thenThrow(new EvaluationNotFoundException("abc"));
+
+        ReportJobDto job = service.submit(UUID.randomUUID());
+        ReportJobDto finished = awaitFinished(job.jobId());
+
+        assertEquals(ReportJobDto.Status.FAILED, finished.status());
+        assertNotNull(finished.errorMessage());
+    }
+
+    @Test
+    @DisplayName("deve recusar jobs acima do limite por usuário e liberar após conclusão")
+    void testPerUserConcurrencyCap() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(generateReportHandler.renderToCache(any()))
+            .thenAnswer(invocation -> release.await(5, TimeUnit.SECONDS));
+
+        ReportJobDto first = service.submit(UUID.randomUUID());
+        ReportJobDto second = service.submit(UUID.randomUUID());
+
+        assertThrows(ReportJobRejectedException.class, () -> service.submit(UUID.randomUUID()));
+        awaitStatus(first.jobId(), ReportJobDto.Status.RUNNING);
+        assertEquals(1.0, meterRegistry.get("pdf.report.jobs.queue.depth").gauge().value());
+
+        release.countDown();
+        awaitFinished(first.jobId());
+        awaitFinished(second.jobId());
+
+        assertDoesNotThrow(() -> service.submit(UUID.randomUUID()));
+    }
+
+    @Test
+    @DisplayName("deve marcar job como falho quando o laudo não for armazenado no cache")
+    void testFailsJobWhenCacheStoreFails() throws Exception {
+        when(generateReportHandler.renderToCache(any()))
+            .thenThrow(new IllegalStateException("Falha ao armazenar laudo no cache"));
+
+        ReportJobDto finished = awaitFinished(service.submit(UUID.randomUUID()).jobId());
+
+        assertEquals(ReportJobDto.Status.FAILED, finished.status());
+        assertEquals("Falha ao armazenar laudo no cache", finished.errorMessage());
+    }
+
+    @Test
+    @DisplayName("deve exibir o job apenas ao solicitante ou a ADMIN")
+    void testJobVisibleOnlyToOwnerOrAdmin() throws Exception {
+        when(generateReportHandler.renderToCache(any())).thenReturn(true);
+        UUID jobId = service.submit(UUID.randomUUID()).jobId();
+        awaitFinished(jobId);
+
+        authenticate("evaluator-2");
+        assertTrue(service.findJob(jobId).isEmpty());
+
+        authenticate("admin", "ROLE_ADMIN");
+        assertTrue(service.findJob(jobId).isPresent());
+    }
+
+    @Test
+    @DisplayName("deve remover jobs finalizados após a retenção")
+    void testEvictsFinishedJobs() throws Exception {
+        service.shutdown();
+        service = new ReportJobServiceImpl(generateReportHandler, reportJobRepository, Optional.of(meterRegistry),
+            1, 10, 2, 0, 15);
+        when(generateReportHandler.renderToCache(any())).thenReturn(false);
+        UUID jobId = service.submit(UUID.randomUUID()).jobId();
+        awaitFinished(jobId);
+        Thread.sleep(5);
+
+        service.evictExpiredJobs();
+
+        assertTrue(service.findJob(jobId).isEmpty());
+    }
+
+    @Test
+    @DisplayName("deve consultar jobs aceitos por outra instância")
+    void testFindsJobFromSharedRepository() {
+        ReportJob job = ReportJob.queued(UUID.randomUUID(), "evaluator-1");
+        reportJobRepository.reserve(job, 2, LocalDateTime.now().minusMinutes(15));
+
+        ReportJobDto found = service.findJob(job.jobId()).orElseThrow();
+
+        assertEquals(ReportJobDto.Status.QUEUED, found.status());
+        assertEquals(job.evaluationId(), found.evaluationId());
+    }
+
+    @Test
+    @DisplayName("deve contar para o limite os jobs ativos do usuário em outras instâncias")
+    void testPerUserCapSharedAcrossInstances() {
+        reportJobRepository.reserve(ReportJob.queued(UUID.randomUUID(), "evaluator-1"), 2,
+            LocalDateTime.now().minusMinutes(15));
+        reportJobRepository.reserve(ReportJob.queued(UUID.randomUUID(), "evaluator-1"), 2,
+            LocalDateTime.now().minusMinutes(15));
+
+        assertThrows(ReportJobRejectedException.class, () -> service.submit(UUID.randomUUID()));
+        assertEquals(1.0, meterRegistry.counter("pdf.report.jobs", "result", "rejected").count());
+    }
+
+    @Test
+    @DisplayName("deve retornar vazio para job desconhecido")
+    void testUnknownJob() {
+        assertTrue(service.findJob(UUID.randomUUID()).isEmpty());
+    }
+
+    /**
+     * Repositório em memória com a mesma semântica de reserva do banco.
+     */
+    private static final class InMemoryReportJobRepository implements ReportJobRepository {
+
+        private final Map<UUID, ReportJob> jobs = new ConcurrentHashMap<>();
+        private final Map<UUID, LocalDateTime> updatedAt = new ConcurrentHashMap<>();
+
+        @Override
+        public synchronized boolean reserve(ReportJob job, int maxActivePerUser, LocalDateTime activeSince) {
+            long active = jobs.values().stream()
+                .filter(existing -> existing.requestedBy().equals(job.requestedBy()))
+                .filter(existing -> existing.status() == ReportJob.Status.QUEUED
+                    || existing.status() == ReportJob.Status.RUNNING)
+                .filter(existing -> !updatedAt.get(existing.jobId()).isBefore(activeSince))
+                .count();
+            if (active >= maxActivePerUser) {
+                return false;
+            }
+            save(job);
+            return true;
+        }
+
+        @Override
+        public void markRunning(UUID jobId) {
+            ReportJob job = jobs.get(jobId);
+            save(new ReportJob(jobId, job.evaluationId(), job.requestedBy(), ReportJob.Status.RUNNING,
+                job.submittedAt(), null, null));
+        }
+
+        @Override
+        public void finish(UUID jobId, ReportJob.Status status, String errorMessage) {
+            ReportJob job = jobs.get(jobId);
+            save(new ReportJob(jobId, job.evaluationId(), job.requestedBy(), status,
+                job.submittedAt(), LocalDateTime.now(), errorMessage));
+        }
+
+        @Override
+        public void delete(UUID jobId) {
+            jobs.remove(jobId);
+        }
+
+        @Override
+        public Optional<ReportJob> findById(UUID jobId) {
+            return Optional.ofNullable(jobs.get(jobId));
+        }
+
+        @Override
+        public int failAbandoned(LocalDateTime updatedBefore) {
+            return 0;
+        }
+
+        @Override
+        public int deleteFinishedBefore(LocalDateTime completedBefore) {
+            int before = jobs.size();
+            jobs.values().removeIf(job -> job.completedAt() != null && job.completedAt().isBefore(completedBefore));
+            return before - jobs.size();
+        }
+
+        private void save(ReportJob job) {
+            updatedAt.put(job.jobId(), LocalDateTime.now());
+            jobs.put(job.jobId(), job);
+        }
+    }
+
+    private static void authenticate(String userId, String... roles) {
+        SecurityContextHolder.setContext(new SecurityContextImpl(new UsernamePasswordAuthenticationToken(
+            userId, null, Arrays.stream(roles).map(SimpleGrantedAuthority::new).toList())));
+    }
+
+    private void awaitStatus(UUID jobId, ReportJobDto.Status status) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (service.findJob(jobId).orElseThrow().status() != status) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("Job não atingiu " + status + " no prazo: " + jobId);
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private ReportJobDto awaitFinished(UUID jobId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (System.currentTimeMillis() < deadline) {
+            ReportJobDto job = service.findJob(jobId).orElseThrow();
+            if (job.status().isFinished()) {
+                return job;
+            }
+            Thread.sleep(10);
+        }
+        fail("Job não concluído no prazo: " + jobId);
+        return null;
+    }
+}
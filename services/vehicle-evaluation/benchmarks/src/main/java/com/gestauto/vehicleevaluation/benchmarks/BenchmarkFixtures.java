@@ -0,0 +1,213 @@
+package com.gestauto.vehicleevaluation.benchmarks;
+
+import com.gestauto.vehicleevaluation.domain.entity.DepreciationItem;
+import com.gestauto.vehicleevaluation.domain.entity.EvaluationChecklist;
+import com.gestauto.vehicleevaluation.domain.entity.EvaluationPhoto;
+import com.gestauto.vehicleevaluation.domain.entity.VehicleEvaluation;
+import com.gestauto.vehicleevaluation.domain.enums.EvaluationStatus;
+import com.gestauto.vehicleevaluation.domain.enums.FuelType;
+import com.gestauto.vehicleevaluation.domain.enums.PhotoType;
+import com.gestauto.vehicleevaluation.domain.value.EvaluationId;
+import com.gestauto.vehicleevaluation.domain.value.Money;
+import com.gestauto.vehicleevaluation.domain.value.Plate;
+import com.gestauto.vehicleevaluation.domain.value.VehicleInfo;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Massa de dados dos benchmarks: agregado aprovado com as 15 fotos, checklist
+ * preenchido e itens de depreciação, equivalente a um laudo real.
+ */
+final class BenchmarkFixtures {
+
+    static final String FIPE_BRAND = "Toyota";
+    static final String FIPE_MODEL = "Corolla";
+    static final Money FIPE_PRICE = Money.of(new BigDecimal("128450.00"));
+
+    private static final List<PhotoType> PERSISTABLE_PHOTO_TYPES =
+        List.of(PhotoType.INTERIOR_FRONT, PhotoType.INTERIOR_REAR, PhotoType.TRUNK_OPEN);
+
+    private static final int ORIGINAL_WIDTH_PX = 4032;
+    private static final int ORIGINAL_HEIGHT_PX = 3024;
+    private static final int PDF_WIDTH_PX = 800;
+    private static final int PDF_HEIGHT_PX = 600;
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Cria uma avaliação aprovada completa.
+     *
+     * @param photoObjects mapa chave → bytes preenchido com os objetos referenciados pelas fotos
+     * @param pdfDerivatives se as fotos possuem a versão para PDF gerada no upload
+     * @return avaliação pronta para gerar laudo
+     */
+    static VehicleEvaluation approvedEvaluation(Map<String, byte[]> photoObjects, boolean pdfDerivatives) {
+        return approvedEvaluation(photoObjects, pdfDerivatives, List.of(PhotoType.values()));
+    }
+
+    /**
+     * Cria uma avaliação aprovada com 15 fotos que podem ser persistidas.
+     *
+     * PhotoTypeJpa (e o CHECK da coluna photo_type) ainda usa nomes diferentes de
+     * PhotoType; apenas os tipos comuns aos dois enums passam pelo mapper.
+     *
+     * @return avaliação pronta para conversão em entidade JPA
+     */
+    static VehicleEvaluation persistableEvaluation() {
+        List<PhotoType> photoTypes = new ArrayList<>();
+        for (int i = 0; i < PhotoType.values().length; i++) {
+            photoTypes.add(PERSISTABLE_PHOTO_TYPES.get(i % PERSISTABLE_PHOTO_TYPES.size()));
+        }
+        return approvedEvaluation(new HashMap<>(), true, photoTypes);
+    }
+
+    private static VehicleEvaluation approvedEvaluation(Map<String, byte[]> photoObjects, boolean pdfDerivatives,
+                                                        List<PhotoType> photoTypes) {
+        EvaluationId evaluationId = EvaluationId.generate();
+        byte[] original = jpeg(ORIGINAL_WIDTH_PX, ORIGINAL_HEIGHT_PX);
+        byte[] pdfImage = jpeg(PDF_WIDTH_PX, PDF_HEIGHT_PX);
+
+        List<EvaluationPhoto> photos = new ArrayList<>();
+        for (int i = 0; i < photoTypes.size(); i++) {
+            PhotoType type = photoTypes.get(i);
+            String basePath = "evaluations/" + evaluationId.getValueAsString() + "/" + i + "_" + type.name().toLowerCase();
+            String originalKey = basePath + ".jpg";
+            EvaluationPhoto photo = EvaluationPhoto.create(evaluationId, type, type.name() + ".jpg",
+                originalKey, original.length, "image/jpeg",
+                "https://cdn.gestauto.test/" + originalKey, "https://cdn.gestauto.test/" + basePath + "_thumb.jpg");
+            photoObjects.put(originalKey, original);
+
+            if (pdfDerivatives) {
+                String pdfKey = basePath + "_pdf.jpg";
+                photo.attachPdfImage(pdfKey, (long) pdfImage.length);
+                photoObjects.put(pdfKey, pdfImage);
+            }
+            photos.add(photo);
+        }
+
+        List<DepreciationItem> depreciationItems = List.of(
+            DepreciationItem.create(evaluationId, "BODY", "Amassado na porta traseira",
+                Money.of(new BigDecimal("850.00")), "Reparo com martelinho", "evaluator-1"),
+            DepreciationItem.create(evaluationId, "PAINT", "Riscos no para-choque",
+                Money.of(new BigDecimal("600.00")), "Polimento e retoque", "evaluator-1"),
+            DepreciationItem.create(evaluationId, "TIRES", "Pneus dianteiros com desgaste",
+                Money.of(new BigDecimal("1200.00")), "Troca de dois pneus", "evaluator-1"),
+            DepreciationItem.create(evaluationId, "MECHANICAL", "Pastilhas de freio",
+                Money.of(new BigDecimal("450.00")), "Troca preventiva", "evaluator-1"),
+            DepreciationItem.create(evaluationId, "INTERIOR", "Desgaste no volante",
+                Money.of(new BigDecimal("300.00")), "Revestimento", "evaluator-1")
+        );
+
+        LocalDateTime createdAt = LocalDateTime.now().minusDays(2);
+        return VehicleEvaluation.restore(
+            evaluationId,
+            Plate.of("BRA2E19"),
+            "12345678901",
+            vehicleInfo(),
+            Money.of(new BigDecimal("45210")),
+            EvaluationStatus.APPROVED,
+            FIPE_PRICE,
+            Money.of(new BigDecimal("109182.50")),
+            Money.of(new BigDecimal("105782.50")),
+            Money.of(new BigDecimal("105000.00")),
+            "Veículo em bom estado geral, revisões em concessionária.",
+            "Valor ajustado conforme negociação.",
+            createdAt,
+            createdAt.plusDays(1),
+            createdAt.plusHours(5),
+            createdAt.plusDays(1),
+            "evaluator-1",
+            "manager-1",
+            createdAt.plusDays(8),
+            UUID.randomUUID().toString(),
+            photos,
+            depreciationItems,
+            checklist(evaluationId)
+        );
+    }
+
+    /**
+     * Cria avaliação em rascunho, sem fotos, para cálculos de valoração.
+     */
+    static VehicleEvaluation draftEvaluation() {
+        VehicleEvaluation evaluation = VehicleEvaluation.create(Plate.of("ABC1234"), "12345678901",
+            vehicleInfo(), Money.of(new BigDecimal("45210")), "evaluator-1");
+        for (int i = 0; i < 5; i++) {
+            evaluation.addDepreciationItem(DepreciationItem.create(evaluation.getId(), "BODY",
+                "Reparo " + i, Money.of(new BigDecimal("350.00")), "Justificativa " + i, "evaluator-1"));
+        }
+        return evaluation;
+    }
+
+    /**
+     * Checklist preenchido com penalidades em todas as seções.
+     */
+    static EvaluationChecklist checklist(EvaluationId evaluationId) {
+        EvaluationChecklist checklist = EvaluationChecklist.create(evaluationId);
+        checklist.setBodyCondition("GOOD");
+        checklist.setPaintCondition("FAIR");
+        checklist.setLightScratches(true);
+        checklist.setSmallDents(true);
+        checklist.setDoorRepairs(1);
+        checklist.setFenderRepairs(1);
+        checklist.setEngineCondition("GOOD");
+        checklist.setTransmissionCondition("EXCELLENT");
+        checklist.setSuspensionCondition("GOOD");
+        checklist.setBrakeCondition("FAIR");
+        checklist.setBatteryCondition("GOOD");
+        checklist.setTiresCondition("FAIR");
+        checklist.setUnevenWear(true);
+        checklist.setSeatsCondition("GOOD");
+        checklist.setDashboardCondition("EXCELLENT");
+        checklist.setElectronicsCondition("GOOD");
+        checklist.setSteeringWheelWear(true);
+        checklist.setCrvlPresent(true);
+        checklist.setManualPresent(true);
+        checklist.setSpareKeyPresent(false);
+        checklist.setMaintenanceRecords(true);
+        checklist.setMechanicalNotes("Revisão dos 40 mil km realizada.");
+        checklist.setAestheticNotes("Pequenos riscos no para-choque traseiro.");
+        return checklist;
+    }
+
+    private static VehicleInfo vehicleInfo() {
+        return VehicleInfo.of(FIPE_BRAND, FIPE_MODEL, "2.0 XEI", 2021, 2022, "Prata", FuelType.FLEX);
+    }
+
+    /**
+     * JPEG com gradiente, para que o tamanho e o custo de decodificação se aproximem de uma foto real.
+     */
+    private static byte[] jpeg(int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        try {
+            graphics.setPaint(new GradientPaint(0, 0, Color.DARK_GRAY, width, height, Color.LIGHT_GRAY));
+            graphics.fillRect(0, 0, width, height);
+        } finally {
+            graphics.dispose();
+        }
+
+        try {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            ImageIO.write(image, "jpg", output);
+            return output.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
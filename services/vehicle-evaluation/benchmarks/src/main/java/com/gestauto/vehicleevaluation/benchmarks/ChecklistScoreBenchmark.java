@@ -0,0 +1,40 @@
+package com.gestauto.vehicleevaluation.benchmarks;
+
+import com.gestauto.vehicleevaluation.domain.entity.EvaluationChecklist;
+import com.gestauto.vehicleevaluation.domain.value.EvaluationId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cálculo do score de conservação sobre um checklist com penalidades em todas as seções.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChecklistScoreBenchmark {
+
+    private EvaluationChecklist checklist;
+
+    @Setup
+    public void setUp() {
+        checklist = BenchmarkFixtures.checklist(EvaluationId.generate());
+    }
+
+    @Benchmark
+    public int calculateScore() {
+        return checklist.calculateScore();
+    }
+}
@@ -0,0 +1,87 @@
+package com.gestauto.vehicleevaluation.benchmarks;
+
+import com.gestauto.vehicleevaluation.domain.enums.EvaluationStatus;
+import com.gestauto.vehicleevaluation.domain.report.DashboardSnapshot;
+import com.gestauto.vehicleevaluation.infra.analytics.ColumnarAnalyticsEngine;
+import com.gestauto.vehicleevaluation.infra.analytics.EvaluationFact;
+import com.gestauto.vehicleevaluation.infra.entity.EvaluationStatusJpa;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Recortes do dashboard servidos pelo motor analítico colunar.
+ *
+ * A tabela é gerada com avaliações distribuídas em dois anos, 40 marcas e
+ * 200 avaliadores, em ordem de criação como na carga a partir do banco; o
+ * recorte padrão cobre os últimos 12 meses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ColumnarAnalyticsBenchmark {
+
+    private static final LocalDate END = LocalDate.of(2025, 12, 31);
+    private static final LocalDate START = END.minusMonths(12).plusDays(1);
+
+    @Param({"100000", "1000000"})
+    private int evaluations;
+
+    private ColumnarAnalyticsEngine engine;
+
+    @Setup
+    public void setUp() {
+        // Sem banco: os fatos são carregados diretamente
+        engine = new ColumnarAnalyticsEngine(null, null, Optional.empty(), true, 16384, 0, 60_000);
+
+        Random random = new Random(42);
+        EvaluationStatusJpa[] statuses = EvaluationStatusJpa.values();
+        engine.load(IntStream.range(0, evaluations).mapToObj(i -> new EvaluationFact(
+            UUID.randomUUID(),
+            0L,
+            END.minusDays(729 - (long) i * 730 / evaluations),
+            statuses[random.nextInt(statuses.length)],
+            "brand-" + random.nextInt(40),
+            "evaluator-" + random.nextInt(200),
+            BigDecimal.valueOf(2_000_000 + random.nextInt(20_000_000), 2),
+            Duration.ofMinutes(random.nextInt(20_000)),
+            Duration.ofMinutes(random.nextInt(5_000))
+        )));
+    }
+
+    @TearDown
+    public void tearDown() {
+        engine.shutdown();
+    }
+
+    @Benchmark
+    public DashboardSnapshot globalView() {
+        return engine.getSnapshot(START, END, null, null);
+    }
+
+    @Benchmark
+    public DashboardSnapshot evaluatorApprovedView() {
+        return engine.getSnapshot(START, END, "evaluator-7", EvaluationStatus.APPROVED);
+    }
+}
@@ -0,0 +1,43 @@
+package com.gestauto.vehicleevaluation.benchmarks;
+
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+
+import java.io.ByteArrayInputStream;
+import java.util.Map;
+
+/**
+ * S3Client em memória que atende apenas getObject, isolando o benchmark da rede.
+ */
+final class InMemoryS3Client implements S3Client {
+
+    private final Map<String, byte[]> objects;
+
+    InMemoryS3Client(Map<String, byte[]> objects) {
+        this.objects = objects;
+    }
+
+    @Override
+    public ResponseInputStream<GetObjectResponse> getObject(GetObjectRequest request) {
+        byte[] content = objects.get(request.key());
+        if (content == null) {
+            throw NoSuchKeyException.builder().message("Objeto não encontrado: " + request.key()).build();
+        }
+        return new ResponseInputStream<>(
+            GetObjectResponse.builder().contentLength((long) content.length).build(),
+            AbortableInputStream.create(new ByteArrayInputStream(content)));
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+}
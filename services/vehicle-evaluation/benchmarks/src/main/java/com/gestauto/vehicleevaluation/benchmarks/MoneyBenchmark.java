@@ -0,0 +1,75 @@
+package com.gestauto.vehicleevaluation.benchmarks;
+
+import com.gestauto.vehicleevaluation.domain.value.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Aritmética de Money usada na valoração e nos relatórios.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+
+    private Money fipePrice;
+    private Money depreciation;
+    private BigDecimal liquidity;
+
+    @Setup
+    public void setUp() {
+        fipePrice = Money.of(new BigDecimal("128450.00"));
+        depreciation = Money.of(new BigDecimal("3400.00"));
+        liquidity = new BigDecimal("0.85");
+    }
+
+    @Benchmark
+    public Money add() {
+        return fipePrice.add(depreciation);
+    }
+
+    @Benchmark
+    public Money subtract() {
+        return fipePrice.subtract(depreciation);
+    }
+
+    @Benchmark
+    public Money multiply() {
+        return fipePrice.multiply(liquidity);
+    }
+
+    @Benchmark
+    public Money percentage() {
+        return fipePrice.percentage(5.0);
+    }
+
+    /**
+     * Mesma sequência de operações do valor sugerido na valoração.
+     */
+    @Benchmark
+    public Money suggestedValueChain() {
+        return fipePrice.multiply(liquidity)
+            .subtract(depreciation)
+            .add(fipePrice.percentage(5.0))
+            .add(fipePrice.percentage(10.0));
+    }
+
+    @Benchmark
+    public String toBrazilianFormat() {
+        return fipePrice.toBrazilianFormat();
+    }
+}
@@ -0,0 +1,40 @@
+package com.gestauto.vehicleevaluation.benchmarks;
+
+import com.gestauto.vehicleevaluation.domain.value.Plate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Normalização e validação de placas nos padrões antigo e Mercosul.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlateBenchmark {
+
+    @Param({"ABC1234", "BRA2E19", "abc-1234"})
+    private String rawPlate;
+
+    @Benchmark
+    public Plate of() {
+        return Plate.of(rawPlate);
+    }
+
+    @Benchmark
+    public boolean ofAndCheckMercosul() {
+        return Plate.of(rawPlate).isValidMercosul();
+    }
+}
@@ -0,0 +1,74 @@
+package com.gestauto.vehicleevaluation.benchmarks;
+
+import com.gestauto.vehicleevaluation.domain.entity.VehicleEvaluation;
+import com.gestauto.vehicleevaluation.infra.pdf.PdfGenerator;
+import com.gestauto.vehicleevaluation.infra.pdf.QrCodeGenerator;
+import com.gestauto.vehicleevaluation.infra.pdf.ReportPhotoLoader;
+import com.gestauto.vehicleevaluation.infra.service.ReportServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Geração do laudo PDF completo (15 fotos) com o storage em memória.
+ *
+ * O parâmetro pdfDerivatives compara fotos com versão para PDF gerada no upload
+ * contra fotos antigas, que são decodificadas e reduzidas durante a geração.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReportGenerationBenchmark {
+
+    @Param({"true", "false"})
+    private boolean pdfDerivatives;
+
+    private ReportServiceImpl reportService;
+    private VehicleEvaluation evaluation;
+
+    @Setup
+    public void setUp() {
+        Map<String, byte[]> photoObjects = new HashMap<>();
+        evaluation = BenchmarkFixtures.approvedEvaluation(photoObjects, pdfDerivatives);
+
+        ReportPhotoLoader photoLoader = new ReportPhotoLoader(
+            new InMemoryS3Client(photoObjects), "gestauto-benchmarks", 5, 50, 20);
+        // ImageStorageService não participa da renderização do laudo
+        reportService = new ReportServiceImpl(
+            new PdfGenerator(), new QrCodeGenerator(200), photoLoader, null, Optional.empty());
+
+        // Valores de app.* normalmente injetados pelo Spring
+        setField("baseUrl", "https://gestauto.test");
+        setField("maxImageSizeMb", 5);
+        setField("maxTotalImagesSizeMb", 50);
+    }
+
+    @Benchmark
+    public byte[] generateEvaluationReport() {
+        return reportService.generateEvaluationReport(evaluation);
+    }
+
+    private void setField(String name, Object value) {
+        Field field = ReflectionUtils.findField(ReportServiceImpl.class, name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, reportService, value);
+    }
+}
@@ -0,0 +1,99 @@
+package com.gestauto.vehicleevaluation.benchmarks;
+
+import com.gestauto.vehicleevaluation.application.dto.ValuationResultDto;
+import com.gestauto.vehicleevaluation.application.service.FipeService;
+import com.gestauto.vehicleevaluation.application.service.ValuationConfig;
+import com.gestauto.vehicleevaluation.application.service.ValuationService;
+import com.gestauto.vehicleevaluation.domain.entity.VehicleEvaluation;
+import com.gestauto.vehicleevaluation.domain.enums.FuelType;
+import com.gestauto.vehicleevaluation.domain.value.Money;
+import com.gestauto.vehicleevaluation.domain.value.VehicleInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cálculo de valoração com a tabela FIPE substituída por valores fixos,
+ * medindo apenas a regra de negócio.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValuationServiceBenchmark {
+
+    private ValuationService valuationService;
+    private ValuationConfig config;
+    private VehicleEvaluation evaluation;
+
+    @Setup
+    public void setUp() {
+        valuationService = new ValuationService(new StubFipeService());
+        config = ValuationConfig.defaultConfig();
+        evaluation = BenchmarkFixtures.draftEvaluation();
+    }
+
+    @Benchmark
+    public ValuationResultDto calculateValuation() {
+        return valuationService.calculateValuation(evaluation, config);
+    }
+
+    @Benchmark
+    public ValuationResultDto calculateValuationWithManualAdjustment() {
+        return valuationService.calculateValuationWithManualAdjustment(evaluation, config, 5.0);
+    }
+
+    /**
+     * FipeService com respostas fixas, sem cache nem chamadas HTTP.
+     */
+    private static final class StubFipeService implements FipeService {
+
+        @Override
+        public Optional<VehicleInfo> getVehicleInfoByPlate(String plate) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<VehicleInfo> getVehicleInfoByFipeCode(String fipeCode) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Money> getFipePrice(String brand, String model, int year, FuelType fuelType) {
+            return Optional.of(BenchmarkFixtures.FIPE_PRICE);
+        }
+
+        @Override
+        public boolean isValidFipeCode(String fipeCode) {
+            return true;
+        }
+
+        @Override
+        public Optional<VehicleInfo> getDetailedVehicleInfo(String brand, String model, int yearManufacture,
+                                                            int yearModel, FuelType fuelType) {
+            return Optional.empty();
+        }
+
+        @Override
+        public double calculateLiquidityPercentage(String brand, String model, int age) {
+            return 0.85;
+        }
+
+        @Override
+        public boolean hasGoodMarketAcceptance(String brand, String model, int year) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.gestauto.vehicleevaluation.benchmarks;
+
+import com.gestauto.vehicleevaluation.domain.entity.VehicleEvaluation;
+import com.gestauto.vehicleevaluation.infra.entity.VehicleEvaluationJpaEntity;
+import com.gestauto.vehicleevaluation.infra.mapper.VehicleEvaluationMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversão do agregado completo (15 fotos, checklist e depreciações) entre
+ * domínio e entidade JPA.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VehicleEvaluationMapperBenchmark {
+
+    private VehicleEvaluation evaluation;
+    private VehicleEvaluationJpaEntity entity;
+
+    @Setup
+    public void setUp() {
+        evaluation = BenchmarkFixtures.persistableEvaluation();
+        entity = VehicleEvaluationMapper.toEntity(evaluation);
+    }
+
+    @Benchmark
+    public VehicleEvaluationJpaEntity toEntity() {
+        return VehicleEvaluationMapper.toEntity(evaluation);
+    }
+
+    @Benchmark
+    public VehicleEvaluation toDomain() {
+        return VehicleEvaluationMapper.toDomain(entity);
+    }
+}
@@ -24,6 +24,8 @@ public final class EvaluationPhoto {
     private final LocalDateTime uploadedAt;
     private String thumbnailUrl;
     private final String uploadUrl;
+    private String pdfImagePath;
+    private long pdfImageSize;
 
     private EvaluationPhoto(String photoId, EvaluationId evaluationId, PhotoType photoType,
                             String fileName, String filePath, long fileSize, String contentType,
@@ -91,6 +93,21 @@ public final class EvaluationPhoto {
             filePath, fileSize, contentType, uploadUrl, thumbnailUrl, uploadedAt);
     }
 
+    /**
+     * Reidrata foto já existente com a versão para PDF gerada no upload.
+     */
+    public static EvaluationPhoto restore(String photoId, EvaluationId evaluationId, PhotoType photoType,
+                                          String fileName, String filePath, long fileSize,
+                                          String contentType, String uploadUrl, String thumbnailUrl,
+                                          LocalDateTime uploadedAt, String pdfImagePath, Long pdfImageSize) {
+        EvaluationPhoto photo = restore(photoId, evaluationId, photoType, fileName, filePath, fileSize,
+            contentType, uploadUrl, thumbnailUrl, uploadedAt);
+        if (pdfImagePath != null && pdfImageSize != null) {
+            photo.attachPdfImage(pdfImagePath, pdfImageSize);
+        }
+        return photo;
+    }
+
     /**
      * Cria uma nova foto de avaliação sem thumbnail.
      *
@@ -165,6 +182,43 @@ public final class EvaluationPhoto {
         }
     }
 
+    /**
+     * Associa a versão reduzida (800x600 JPEG) usada na geração do laudo PDF.
+     *
+     * @param pdfImagePath caminho da versão para PDF no storage
+     * @param pdfImageSize tamanho da versão para PDF em bytes
+     * @throws IllegalArgumentException se os dados forem inválidos
+     */
+    public void attachPdfImage(String pdfImagePath, long pdfImageSize) {
+        if (pdfImagePath == null || pdfImagePath.trim().isEmpty()) {
+            throw new IllegalArgumentException("PdfImagePath cannot be empty");
+        }
+        if (pdfImageSize <= 0) {
+            throw new IllegalArgumentException("PdfImageSize must be positive");
+        }
+        this.pdfImagePath = pdfImagePath;
+        this.pdfImageSize = pdfImageSize;
+    }
+
+    /**
+     * Verifica se a foto possui versão pronta para o laudo PDF.
+     *
+     * @return true se a versão para PDF foi gerada no upload
+     */
+    public boolean hasPdfImage() {
+        return pdfImagePath != null;
+    }
+
+    /**
+     * Tamanho em bytes da imagem efetivamente embutida no laudo:
+     * a versão para PDF quando existir, caso contrário o original.
+     *
+     * @return tamanho em bytes
+     */
+    public long getReportImageSize() {
+        return hasPdfImage() ? pdfImageSize : fileSize;
+    }
+
     /**
      * Verifica se a foto é de alta qualidade.
      * Considera alta qualidade se tiver mais de 2MB.
@@ -234,6 +288,14 @@ public final class EvaluationPhoto {
         return uploadUrl;
     }
 
+    public String getPdfImagePath() {
+        return pdfImagePath;
+    }
+
+    public long getPdfImageSize() {
+        return pdfImageSize;
+    }
+
     /**
      * Retorna o tamanho do arquivo formatado para exibição.
      *
@@ -48,6 +48,7 @@ public final class VehicleEvaluation {
     private String approverId;
     private LocalDateTime validUntil;
     private String validationToken;
+    private long version;
     private final List<DomainEvent> domainEvents;
 
     private void validate() {
@@ -156,6 +157,30 @@ public final class VehicleEvaluation {
                                             List<EvaluationPhoto> photos,
                                             List<DepreciationItem> depreciationItems,
                                             EvaluationChecklist checklist) {
+        return restore(id, plate, renavam, vehicleInfo, mileage, status, fipePrice, baseValue, finalValue,
+            approvedValue, observations, justification, createdAt, updatedAt, submittedAt, approvedAt,
+            evaluatorId, approverId, validUntil, validationToken, photos, depreciationItems, checklist, 0L);
+    }
+
+    /**
+     * Reidrata uma avaliação a partir do estado persistido, incluindo a versão lida.
+     *
+     * A versão acompanha o agregado até a gravação: o repositório recusa salvar se
+     * outra operação tiver alterado a avaliação depois da leitura.
+     */
+    public static VehicleEvaluation restore(EvaluationId id, Plate plate, String renavam,
+                                            VehicleInfo vehicleInfo, Money mileage,
+                                            EvaluationStatus status,
+                                            Money fipePrice, Money baseValue, Money finalValue,
+                                            Money approvedValue, String observations, String justification,
+                                            LocalDateTime createdAt, LocalDateTime updatedAt,
+                                            LocalDateTime submittedAt, LocalDateTime approvedAt,
+                                            String evaluatorId, String approverId,
+                                            LocalDateTime validUntil, String validationToken,
+                                            List<EvaluationPhoto> photos,
+                                            List<DepreciationItem> depreciationItems,
+                                            EvaluationChecklist checklist,
+                                            long version) {
         VehicleEvaluation evaluation = new VehicleEvaluation(id, plate, renavam, vehicleInfo, mileage, evaluatorId, true);
         evaluation.status = Objects.requireNonNull(status, "Status cannot be null");
         evaluation.fipePrice = fipePrice;
@@ -171,6 +196,7 @@ public final class VehicleEvaluation {
         evaluation.approverId = approverId;
         evaluation.validUntil = validUntil;
         evaluation.validationToken = validationToken;
+        evaluation.version = version;
 
         evaluation.photos.clear();
         if (photos != null) {
@@ -657,6 +683,13 @@ public final class VehicleEvaluation {
         return validationToken;
     }
 
+    /**
+     * Versão persistida lida junto com a avaliação (controle de concorrência otimista).
+     */
+    public long getVersion() {
+        return version;
+    }
+
     // Setters com validação
     public void setObservations(String observations) {
         validateEditable("set observations");
@@ -0,0 +1,85 @@
+package com.gestauto.vehicleevaluation.domain.event;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Evento de domínio já gravado na outbox (tabela domain_events).
+ *
+ * Carrega o identificador estável do registro e o payload serializado do evento
+ * original, exatamente como será entregue ao broker; o relay publica esse payload
+ * sem precisar reconstruir o evento concreto.
+ */
+public final class StoredDomainEvent implements DomainEvent {
+
+    private final String eventId;
+    private final String eventType;
+    private final String evaluationId;
+    private final LocalDateTime occurredAt;
+    private final String payload;
+    private final int processingAttempts;
+
+    /**
+     * Constrói um evento lido da outbox.
+     *
+     * @param eventId ID do registro na outbox
+     * @param eventType tipo do evento (ex.: EvaluationApproved)
+     * @param evaluationId ID da avaliação que emitiu o evento
+     * @param occurredAt data/hora em que o evento ocorreu
+     * @param payload evento serializado em JSON
+     * @param processingAttempts tentativas de publicação já registradas
+     */
+    public StoredDomainEvent(String eventId, String eventType, String evaluationId,
+                             LocalDateTime occurredAt, String payload, int processingAttempts) {
+        this.eventId = Objects.requireNonNull(eventId, "EventId cannot be null");
+        this.eventType = Objects.requireNonNull(eventType, "EventType cannot be null");
+        this.evaluationId = Objects.requireNonNull(evaluationId, "EvaluationId cannot be null");
+        this.occurredAt = Objects.requireNonNull(occurredAt, "OccurredAt cannot be null");
+        this.payload = Objects.requireNonNull(payload, "Payload cannot be null");
+        this.processingAttempts = processingAttempts;
+    }
+
+    public String getEventId() {
+        return eventId;
+    }
+
+    @Override
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    @Override
+    public String getEventType() {
+        return eventType;
+    }
+
+    @Override
+    public String getEvaluationId() {
+        return evaluationId;
+    }
+
+    /**
+     * Retorna o evento original serializado em JSON.
+     *
+     * @return payload do evento
+     */
+    @Override
+    public String getEventData() {
+        return payload;
+    }
+
+    public int getProcessingAttempts() {
+        return processingAttempts;
+    }
+
+    @Override
+    public String toString() {
+        return "StoredDomainEvent{" +
+                "eventId='" + eventId + '\'' +
+                ", eventType='" + eventType + '\'' +
+                ", evaluationId='" + evaluationId + '\'' +
+                ", occurredAt=" + occurredAt +
+                ", processingAttempts=" + processingAttempts +
+                '}';
+    }
+}
@@ -0,0 +1,46 @@
+package com.gestauto.vehicleevaluation.domain.exception;
+
+/**
+ * Exceção lançada quando uma avaliação foi alterada por outra operação entre a
+ * leitura e a gravação.
+ *
+ * Os handlers leem a avaliação, executam o trabalho remoto fora de transação e só
+ * então gravam; esta exceção indica que a versão lida ficou desatualizada e que a
+ * operação deve ser repetida sobre o estado atual.
+ */
+public class ConcurrentEvaluationUpdateException extends DomainException {
+
+    private final String evaluationId;
+    private final long expectedVersion;
+
+    /**
+     * Constrói uma nova exceção de conflito de versão.
+     *
+     * @param evaluationId ID da avaliação
+     * @param expectedVersion versão lida pela operação
+     */
+    public ConcurrentEvaluationUpdateException(String evaluationId, long expectedVersion) {
+        super(String.format("Evaluation %s was modified concurrently (expected version %d)",
+            evaluationId, expectedVersion));
+        this.evaluationId = evaluationId;
+        this.expectedVersion = expectedVersion;
+    }
+
+    /**
+     * Retorna o ID da avaliação em conflito.
+     *
+     * @return ID da avaliação
+     */
+    public String getEvaluationId() {
+        return evaluationId;
+    }
+
+    /**
+     * Retorna a versão que a operação esperava encontrar.
+     *
+     * @return versão esperada
+     */
+    public long getExpectedVersion() {
+        return expectedVersion;
+    }
+}
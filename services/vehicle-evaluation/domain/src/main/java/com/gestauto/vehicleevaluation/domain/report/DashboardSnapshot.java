@@ -0,0 +1,13 @@
+package com.gestauto.vehicleevaluation.domain.report;
+
+import java.util.List;
+
+/**
+ * KPIs, série mensal e quebra por marca de um mesmo recorte do dashboard.
+ */
+public record DashboardSnapshot(
+    EvaluationKpi kpis,
+    List<MonthlyStat> monthlyStats,
+    List<BrandStat> brandStats
+) {
+}
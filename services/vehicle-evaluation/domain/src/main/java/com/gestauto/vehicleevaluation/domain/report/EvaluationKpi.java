@@ -6,6 +6,16 @@ public record EvaluationKpi(
     long totalEvaluations,
     BigDecimal approvalRatePercent,
     BigDecimal averageTicket,
-    BigDecimal averageReviewTimeHours
+    BigDecimal averageReviewTimeHours,
+    LatencyPercentiles reviewTimePercentiles,
+    LatencyPercentiles submissionTimePercentiles
 ) {
+
+    public EvaluationKpi(long totalEvaluations,
+                         BigDecimal approvalRatePercent,
+                         BigDecimal averageTicket,
+                         BigDecimal averageReviewTimeHours) {
+        this(totalEvaluations, approvalRatePercent, averageTicket, averageReviewTimeHours,
+            LatencyPercentiles.EMPTY, LatencyPercentiles.EMPTY);
+    }
 }
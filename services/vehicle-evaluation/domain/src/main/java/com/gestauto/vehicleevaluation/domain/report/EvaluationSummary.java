@@ -0,0 +1,52 @@
+package com.gestauto.vehicleevaluation.domain.report;
+
+import com.gestauto.vehicleevaluation.domain.enums.EvaluationStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Resumo de uma avaliação para listagens, lido sem hidratar o agregado.
+ *
+ * @param id          ID da avaliação
+ * @param plate       placa sem formatação
+ * @param brand       marca do veículo
+ * @param model       modelo do veículo
+ * @param yearModel   ano modelo
+ * @param mileage     quilometragem
+ * @param status      status da avaliação
+ * @param finalValue  valor final (opcional)
+ * @param evaluatorId ID do avaliador
+ * @param approverId  ID do aprovador (opcional)
+ * @param createdAt   data de criação
+ * @param updatedAt   data da última atualização
+ * @param validUntil  validade do laudo aprovado (opcional)
+ */
+public record EvaluationSummary(
+    UUID id,
+    String plate,
+    String brand,
+    String model,
+    Integer yearModel,
+    BigDecimal mileage,
+    EvaluationStatus status,
+    BigDecimal finalValue,
+    String evaluatorId,
+    String approverId,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt,
+    LocalDateTime validUntil
+) {
+
+    /**
+     * Mesma regra de VehicleEvaluation.isExpired().
+     *
+     * @return true se a avaliação aprovada já passou da validade
+     */
+    public boolean isExpired() {
+        return status == EvaluationStatus.APPROVED &&
+               validUntil != null &&
+               LocalDateTime.now().isAfter(validUntil);
+    }
+}
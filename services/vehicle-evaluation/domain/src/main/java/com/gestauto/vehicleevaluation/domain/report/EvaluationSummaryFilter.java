@@ -0,0 +1,28 @@
+package com.gestauto.vehicleevaluation.domain.report;
+
+import com.gestauto.vehicleevaluation.domain.enums.EvaluationStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Filtros combináveis da listagem de avaliações. Campos nulos não filtram.
+ *
+ * @param evaluatorId ID do avaliador
+ * @param status      status da avaliação
+ * @param brand       marca do veículo (igualdade)
+ * @param platePrefix início da placa, sem hífen e em maiúsculas
+ * @param createdFrom criadas a partir de (inclusive)
+ * @param createdTo   criadas até (exclusive)
+ */
+public record EvaluationSummaryFilter(
+    String evaluatorId,
+    EvaluationStatus status,
+    String brand,
+    String platePrefix,
+    LocalDateTime createdFrom,
+    LocalDateTime createdTo
+) {
+
+    public static final EvaluationSummaryFilter NONE =
+        new EvaluationSummaryFilter(null, null, null, null, null, null);
+}
@@ -0,0 +1,22 @@
+package com.gestauto.vehicleevaluation.domain.report;
+
+import java.math.BigDecimal;
+
+/**
+ * Percentis de uma duração do fluxo de avaliação, em horas.
+ *
+ * @param p50Hours mediana
+ * @param p90Hours percentil 90
+ * @param p99Hours percentil 99
+ * @param samples  quantidade de durações consideradas
+ */
+public record LatencyPercentiles(
+    BigDecimal p50Hours,
+    BigDecimal p90Hours,
+    BigDecimal p99Hours,
+    long samples
+) {
+
+    public static final LatencyPercentiles EMPTY =
+        new LatencyPercentiles(BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, 0L);
+}
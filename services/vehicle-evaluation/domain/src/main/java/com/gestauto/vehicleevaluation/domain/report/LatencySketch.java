@@ -0,0 +1,106 @@
+package com.gestauto.vehicleevaluation.domain.report;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Sketch de quantis de durações com precisão relativa fixa.
+ *
+ * As durações, em segundos, são contadas em baldes logarítmicos: o balde
+ * {@code i} cobre (γ^(i-1), γ^i], com γ = (1 + α) / (1 - α) e α = 1%, e
+ * durações de até um segundo caem no balde 0. Qualquer quantil estimado fica
+ * a no máximo 1% do valor real, e dois sketches se combinam somando os
+ * contadores balde a balde. Isso permite guardar os contadores por dia e
+ * juntá-los na consulta, com custo proporcional aos dias e não às avaliações.
+ */
+public final class LatencySketch {
+
+    /**
+     * Erro relativo máximo dos quantis estimados.
+     */
+    public static final double RELATIVE_ACCURACY = 0.01;
+
+    /**
+     * Logaritmo natural de γ, usado também pelas consultas que gravam os baldes.
+     */
+    public static final double LOG_GAMMA = Math.log((1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY));
+
+    /**
+     * Último balde; durações acima de dez anos são contadas nele.
+     */
+    public static final int MAX_BUCKET = (int) Math.ceil(Math.log(10 * 365.25 * 86_400) / LOG_GAMMA);
+
+    private static final BigDecimal SECONDS_PER_HOUR = BigDecimal.valueOf(3600);
+
+    private final long[] counts = new long[MAX_BUCKET + 1];
+    private long total;
+
+    /**
+     * Balde de uma duração em segundos.
+     */
+    public static int bucketOf(long seconds) {
+        if (seconds <= 1) {
+            return 0;
+        }
+        return Math.min(MAX_BUCKET, (int) Math.ceil(Math.log(seconds) / LOG_GAMMA));
+    }
+
+    public void add(long seconds) {
+        addBucket(bucketOf(seconds), 1);
+    }
+
+    public void addBucket(int bucket, long count) {
+        if (bucket < 0 || bucket > MAX_BUCKET) {
+            throw new IllegalArgumentException("Balde fora do intervalo do sketch: " + bucket);
+        }
+        counts[bucket] += count;
+        total += count;
+    }
+
+    public LatencySketch merge(LatencySketch other) {
+        for (int i = 0; i <= MAX_BUCKET; i++) {
+            counts[i] += other.counts[i];
+        }
+        total += other.total;
+        return this;
+    }
+
+    public long count() {
+        return total;
+    }
+
+    /**
+     * Estimativa do quantil em segundos.
+     *
+     * @param quantile quantil entre 0 e 1
+     */
+    public double quantileSeconds(double quantile) {
+        if (quantile < 0 || quantile > 1) {
+            throw new IllegalArgumentException("Quantil deve estar entre 0 e 1: " + quantile);
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = (long) Math.ceil(quantile * total);
+        long seen = 0;
+        for (int i = 0; i <= MAX_BUCKET; i++) {
+            seen += counts[i];
+            if (seen >= Math.max(rank, 1)) {
+                return i == 0 ? 0 : 2 * Math.exp(i * LOG_GAMMA) / (1 + Math.exp(LOG_GAMMA));
+            }
+        }
+        return 2 * Math.exp(MAX_BUCKET * LOG_GAMMA) / (1 + Math.exp(LOG_GAMMA));
+    }
+
+    public LatencyPercentiles percentiles() {
+        if (total == 0) {
+            return LatencyPercentiles.EMPTY;
+        }
+        return new LatencyPercentiles(hours(0.5), hours(0.9), hours(0.99), total);
+    }
+
+    private BigDecimal hours(double quantile) {
+        return BigDecimal.valueOf(quantileSeconds(quantile)).divide(SECONDS_PER_HOUR, 2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,33 @@
+package com.gestauto.vehicleevaluation.domain.report;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Resumo de uma avaliação aguardando aprovação, lido sem hidratar o agregado.
+ *
+ * @param id                ID da avaliação
+ * @param plate             placa sem formatação
+ * @param brand             marca do veículo
+ * @param model             modelo do veículo
+ * @param yearModel         ano modelo
+ * @param finalValue        valor final (opcional)
+ * @param createdAt         data de criação
+ * @param evaluatorId       ID do avaliador
+ * @param photoCount        quantidade de fotos anexadas
+ * @param hasCriticalIssues se o checklist registra problemas críticos
+ */
+public record PendingEvaluationSummary(
+    UUID id,
+    String plate,
+    String brand,
+    String model,
+    Integer yearModel,
+    BigDecimal finalValue,
+    LocalDateTime createdAt,
+    String evaluatorId,
+    long photoCount,
+    boolean hasCriticalIssues
+) {
+}
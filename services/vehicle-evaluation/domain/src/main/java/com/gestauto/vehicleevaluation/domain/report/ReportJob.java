@@ -0,0 +1,48 @@
+package com.gestauto.vehicleevaluation.domain.report;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Job assíncrono de geração de laudo PDF, compartilhado entre as instâncias.
+ *
+ * @param jobId        ID do job
+ * @param evaluationId ID da avaliação
+ * @param requestedBy  usuário que solicitou o laudo
+ * @param status       situação do job
+ * @param submittedAt  data/hora da solicitação
+ * @param completedAt  data/hora de conclusão (opcional)
+ * @param errorMessage motivo da falha (opcional)
+ */
+public record ReportJob(
+    UUID jobId,
+    UUID evaluationId,
+    String requestedBy,
+    Status status,
+    LocalDateTime submittedAt,
+    LocalDateTime completedAt,
+    String errorMessage
+) {
+
+    /**
+     * Cria um job recém-enfileirado.
+     *
+     * @param evaluationId ID da avaliação
+     * @param requestedBy usuário que solicitou o laudo
+     * @return job na situação QUEUED
+     */
+    public static ReportJob queued(UUID evaluationId, String requestedBy) {
+        return new ReportJob(UUID.randomUUID(), evaluationId, requestedBy, Status.QUEUED,
+            LocalDateTime.now(), null, null);
+    }
+
+    /**
+     * Situação de um job de laudo.
+     */
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+}
@@ -1,8 +1,11 @@
 package com.gestauto.vehicleevaluation.domain.repository;
 
 import com.gestauto.vehicleevaluation.domain.event.DomainEvent;
+import com.gestauto.vehicleevaluation.domain.event.StoredDomainEvent;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -10,23 +13,36 @@ import java.util.List;
  *
  * Interface de domínio que define operações de persistência
  * para eventos emitidos pelas agregações de domínio.
+ *
+ * A tabela funciona como outbox transacional: o evento é gravado na mesma
+ * transação que altera a agregação e publicado depois por um relay.
  */
 public interface DomainEventRepository {
 
     /**
-     * Salva um evento de domínio.
+     * Salva um evento de domínio na transação corrente.
      *
      * @param event evento a ser salvo
      */
     void save(DomainEvent event);
 
     /**
-     * Lista eventos pendentes de processamento.
+     * Reivindica eventos pendentes de processamento, na ordem em que foram gravados.
+     *
+     * A reivindicação é gravada e confirmada antes do retorno: os eventos ficam
+     * reservados para quem os reivindicou até o fim da concessão e são pulados por
+     * outras instâncias nesse intervalo, sem manter bloqueios ou conexão enquanto
+     * são publicados. Só é reivindicado o evento pendente mais antigo de cada
+     * agregação, para que os eventos de uma agregação sejam publicados em ordem
+     * mesmo após falhas. Eventos que já esgotaram as tentativas não são
+     * retornados nem seguram os eventos seguintes da agregação.
      *
+     * @param claimant identificador de quem reivindica
      * @param limit limite máximo de eventos
-     * @return lista de eventos não processados
+     * @param lease duração da concessão
+     * @return lista de eventos reivindicados
      */
-    List<DomainEvent> findPendingEvents(int limit);
+    List<StoredDomainEvent> claimPendingEvents(String claimant, int limit, Duration lease);
 
     /**
      * Marca evento como processado.
@@ -36,6 +52,34 @@ public interface DomainEventRepository {
      */
     void markAsProcessed(String eventId, LocalDateTime processedAt);
 
+    /**
+     * Marca um lote de eventos como processado em uma única instrução.
+     *
+     * @param eventIds IDs dos eventos
+     * @param processedAt data do processamento
+     */
+    void markAsProcessed(Collection<String> eventIds, LocalDateTime processedAt);
+
+    /**
+     * Registra uma tentativa de publicação sem sucesso para um lote de eventos e
+     * encerra a concessão, deixando-os elegíveis para a próxima rodada.
+     * Eventos cuja concessão passou a outra instância não são alterados.
+     *
+     * @param eventIds IDs dos eventos
+     * @param claimant identificador de quem reivindicou os eventos
+     * @param errorMessage motivo da falha
+     */
+    void recordFailure(Collection<String> eventIds, String claimant, String errorMessage);
+
+    /**
+     * Encerra a concessão de eventos que não chegaram a ser publicados, sem
+     * contar tentativa.
+     *
+     * @param eventIds IDs dos eventos
+     * @param claimant identificador de quem reivindicou os eventos
+     */
+    void releaseClaims(Collection<String> eventIds, String claimant);
+
     /**
      * Lista eventos por tipo.
      *
@@ -0,0 +1,32 @@
+package com.gestauto.vehicleevaluation.domain.repository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Agregados diários de avaliações (dia x avaliador x marca x status) que
+ * alimentam o dashboard gerencial.
+ *
+ * Dia de criação, avaliador e marca não mudam ao longo da vida da avaliação,
+ * por isso cada alteração recalcula apenas a fatia dessa combinação.
+ */
+public interface EvaluationDailyStatsRepository {
+
+    /**
+     * Recalcula a fatia diária que contém a avaliação informada.
+     *
+     * @param evaluationId ID da avaliação alterada
+     * @return avaliador da fatia recalculada, ou vazio se a avaliação não existe
+     */
+    Optional<String> refresh(UUID evaluationId);
+
+    /**
+     * Reconstrói os agregados do intervalo a partir das avaliações.
+     *
+     * @param startDate primeiro dia (inclusive)
+     * @param endDate último dia (inclusive)
+     * @return número de linhas de agregado gravadas
+     */
+    int rebuild(LocalDate startDate, LocalDate endDate);
+}
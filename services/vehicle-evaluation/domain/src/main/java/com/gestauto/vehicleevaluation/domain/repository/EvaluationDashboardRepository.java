@@ -1,27 +1,32 @@
 package com.gestauto.vehicleevaluation.domain.repository;
 
 import com.gestauto.vehicleevaluation.domain.enums.EvaluationStatus;
-import com.gestauto.vehicleevaluation.domain.report.BrandStat;
-import com.gestauto.vehicleevaluation.domain.report.EvaluationKpi;
-import com.gestauto.vehicleevaluation.domain.report.MonthlyStat;
+import com.gestauto.vehicleevaluation.domain.report.DashboardSnapshot;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 public interface EvaluationDashboardRepository {
 
-    EvaluationKpi getKpis(LocalDateTime startDate,
-                          LocalDateTime endDate,
-                          String evaluatorId,
-                          EvaluationStatus status);
+    /**
+     * Agrega KPIs, série mensal e estatísticas por marca do período filtrado.
+     *
+     * @param startDate início do período
+     * @param endDate fim do período
+     * @param evaluatorId avaliador (opcional)
+     * @param status status da avaliação (opcional)
+     * @return agregados do dashboard
+     */
+    DashboardSnapshot getSnapshot(LocalDateTime startDate,
+                                  LocalDateTime endDate,
+                                  String evaluatorId,
+                                  EvaluationStatus status);
 
-    List<MonthlyStat> getMonthlyStats(LocalDateTime startDate,
-                                     LocalDateTime endDate,
-                                     String evaluatorId,
-                                     EvaluationStatus status);
-
-    List<BrandStat> getBrandStats(LocalDateTime startDate,
-                                 LocalDateTime endDate,
-                                 String evaluatorId,
-                                 EvaluationStatus status);
+    /**
+     * Lista os avaliadores com avaliações a partir da data informada.
+     *
+     * @param since início do período
+     * @return IDs dos avaliadores
+     */
+    List<String> findActiveEvaluatorIds(LocalDateTime since);
 }
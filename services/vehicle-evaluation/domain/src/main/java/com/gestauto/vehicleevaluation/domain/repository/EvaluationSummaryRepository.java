@@ -0,0 +1,73 @@
+package com.gestauto.vehicleevaluation.domain.repository;
+
+import com.gestauto.vehicleevaluation.domain.report.EvaluationSummary;
+import com.gestauto.vehicleevaluation.domain.report.EvaluationSummaryFilter;
+import com.gestauto.vehicleevaluation.domain.report.PendingEvaluationSummary;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repositório de leitura para listagens de avaliações.
+ *
+ * Seleciona apenas as colunas exibidas nas listas, sem carregar fotos,
+ * checklist ou itens de depreciação dos agregados.
+ */
+public interface EvaluationSummaryRepository {
+
+    /**
+     * Lista uma página de resumos por deslocamento.
+     *
+     * @param filter filtros da listagem
+     * @param sortBy campo de ordenação: createdAt, finalValue ou plate (demais valores usam createdAt)
+     * @param descending ordem decrescente
+     * @param page número da página (base 0)
+     * @param size tamanho da página
+     * @return resumos da página
+     */
+    List<EvaluationSummary> findPage(EvaluationSummaryFilter filter, String sortBy, boolean descending, int page, int size);
+
+    /**
+     * Lista resumos a partir de uma posição (createdAt, id), sem deslocamento.
+     *
+     * O custo depende apenas do tamanho da página, não da posição na listagem.
+     * Com createdAt e id nulos, retorna o início da listagem.
+     *
+     * @param filter filtros da listagem
+     * @param createdAt data de criação do último item já lido
+     * @param id ID do último item já lido
+     * @param descending ordem decrescente por (createdAt, id)
+     * @param limit quantidade máxima de resumos
+     * @return resumos posteriores à posição informada
+     */
+    List<EvaluationSummary> findAfter(EvaluationSummaryFilter filter, LocalDateTime createdAt, UUID id,
+                                      boolean descending, int limit);
+
+    /**
+     * Conta avaliações que atendem aos filtros.
+     *
+     * @param filter filtros da listagem
+     * @return total de avaliações
+     */
+    long count(EvaluationSummaryFilter filter);
+
+    /**
+     * Lista uma página da fila de aprovação (status PENDING_APPROVAL), ordenada no banco,
+     * com contagem de fotos e indicação de problemas críticos.
+     *
+     * @param sortBy campo de ordenação: finalValue (nulo conta como zero) ou createdAt
+     * @param descending ordem decrescente
+     * @param page número da página (base 0)
+     * @param size tamanho da página
+     * @return resumos da página
+     */
+    List<PendingEvaluationSummary> findPendingApprovals(String sortBy, boolean descending, int page, int size);
+
+    /**
+     * Conta avaliações aguardando aprovação.
+     *
+     * @return tamanho da fila de aprovação
+     */
+    long countPendingApprovals();
+}
@@ -0,0 +1,79 @@
+package com.gestauto.vehicleevaluation.domain.repository;
+
+import com.gestauto.vehicleevaluation.domain.report.ReportJob;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repositório dos jobs de geração de laudo.
+ *
+ * O estado dos jobs e a contagem de jobs ativos por usuário ficam no banco, para
+ * que qualquer instância consulte um job e o limite por usuário valha para o
+ * serviço inteiro, e não por instância.
+ */
+public interface ReportJobRepository {
+
+    /**
+     * Grava o job se o usuário tiver menos que o limite de jobs ativos.
+     *
+     * A verificação e a gravação são serializadas por usuário entre instâncias.
+     * Jobs ativos sem atualização desde {@code activeSince} são considerados
+     * abandonados e não contam para o limite.
+     *
+     * @param job job recém-enfileirado
+     * @param maxActivePerUser limite de jobs pendentes ou em execução por usuário
+     * @param activeSince início da janela de jobs ativos
+     * @return true se o job foi gravado; false se o usuário atingiu o limite
+     */
+    boolean reserve(ReportJob job, int maxActivePerUser, LocalDateTime activeSince);
+
+    /**
+     * Marca o job como em execução.
+     *
+     * @param jobId ID do job
+     */
+    void markRunning(UUID jobId);
+
+    /**
+     * Finaliza o job.
+     *
+     * @param jobId ID do job
+     * @param status situação final (COMPLETED ou FAILED)
+     * @param errorMessage motivo da falha (opcional)
+     */
+    void finish(UUID jobId, ReportJob.Status status, String errorMessage);
+
+    /**
+     * Remove um job que não chegou a ser enfileirado.
+     *
+     * @param jobId ID do job
+     */
+    void delete(UUID jobId);
+
+    /**
+     * Busca um job pelo ID.
+     *
+     * @param jobId ID do job
+     * @return job, se existir
+     */
+    Optional<ReportJob> findById(UUID jobId);
+
+    /**
+     * Marca como falhos os jobs ativos sem atualização desde a data informada,
+     * deixados para trás por uma instância que parou no meio do processamento.
+     *
+     * @param updatedBefore data limite da última atualização
+     * @return quantidade de jobs marcados
+     */
+    int failAbandoned(LocalDateTime updatedBefore);
+
+    /**
+     * Remove jobs finalizados antes da data informada.
+     *
+     * @param completedBefore data limite de conclusão
+     * @return quantidade de jobs removidos
+     */
+    int deleteFinishedBefore(LocalDateTime completedBefore);
+}
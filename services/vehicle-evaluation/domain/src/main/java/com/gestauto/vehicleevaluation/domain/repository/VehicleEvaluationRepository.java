@@ -21,8 +21,13 @@ public interface VehicleEvaluationRepository {
     /**
      * Salva uma avaliação de veículo.
      *
+     * Avaliações já persistidas só são gravadas se ainda estiverem na versão
+     * com que foram lidas ({@link VehicleEvaluation#getVersion()}).
+     *
      * @param evaluation avaliação a ser salva
-     * @return avaliação salva com ID gerado
+     * @return avaliação salva, com a nova versão
+     * @throws com.gestauto.vehicleevaluation.domain.exception.ConcurrentEvaluationUpdateException
+     *         se a avaliação foi alterada depois da leitura
      */
     VehicleEvaluation save(VehicleEvaluation evaluation);
 
@@ -34,6 +39,20 @@ public interface VehicleEvaluationRepository {
      */
     VehicleEvaluation update(VehicleEvaluation evaluation);
 
+    /**
+     * Avança a versão da avaliação, desde que ela ainda esteja na versão esperada.
+     *
+     * Usado quando a gravação acontece fora do agregado (ex.: fotos gravadas pelo
+     * repositório próprio) para que a mesma verificação otimista do {@link #save}
+     * se aplique.
+     *
+     * @param id ID da avaliação
+     * @param expectedVersion versão lida antes do trabalho remoto
+     * @throws com.gestauto.vehicleevaluation.domain.exception.ConcurrentEvaluationUpdateException
+     *         se a avaliação foi alterada depois da leitura
+     */
+    void advanceVersion(EvaluationId id, long expectedVersion);
+
     /**
      * Busca avaliação por ID.
      *
@@ -0,0 +1,22 @@
+package com.gestauto.vehicleevaluation.domain.service;
+
+/**
+ * Cache das visões do dashboard gerencial.
+ *
+ * As visões ficam em dois níveis (memória local e Redis); remoções valem para
+ * os dois níveis e para todas as instâncias do serviço.
+ */
+public interface DashboardCache {
+
+    /**
+     * Nome do cache das visões do dashboard.
+     */
+    String CACHE_NAME = "evaluation-dashboard";
+
+    /**
+     * Remove as visões cuja chave começa com o prefixo informado.
+     *
+     * @param keyPrefix prefixo da chave das visões
+     */
+    void evictByKeyPrefix(String keyPrefix);
+}
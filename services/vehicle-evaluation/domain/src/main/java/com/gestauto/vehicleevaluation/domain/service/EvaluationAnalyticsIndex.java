@@ -0,0 +1,31 @@
+package com.gestauto.vehicleevaluation.domain.service;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Índice analítico em memória das avaliações, usado pelos recortes do dashboard.
+ *
+ * O índice é mantido de forma incremental: a cada mudança, o estado atual da
+ * avaliação é reaplicado a partir da base. Como cada instância mantém o seu
+ * índice e os eventos locais não cruzam instâncias, as mudanças feitas pelas
+ * demais são incorporadas periodicamente por {@link #synchronize()}.
+ */
+public interface EvaluationAnalyticsIndex {
+
+    /**
+     * Reaplica ao índice o estado atual da avaliação. Avaliações que não
+     * existem mais são removidas.
+     *
+     * @param evaluationId identificador da avaliação alterada
+     */
+    void apply(UUID evaluationId);
+
+    /**
+     * Incorpora ao índice as avaliações alteradas na base desde a última
+     * sincronização, inclusive por outras instâncias.
+     *
+     * @return avaliadores cujas avaliações mudaram no índice
+     */
+    Set<String> synchronize();
+}
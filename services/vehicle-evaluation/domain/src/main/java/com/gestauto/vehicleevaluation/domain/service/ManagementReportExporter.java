@@ -2,6 +2,7 @@ package com.gestauto.vehicleevaluation.domain.service;
 
 import com.gestauto.vehicleevaluation.domain.enums.EvaluationStatus;
 
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 
 public interface ManagementReportExporter {
@@ -11,6 +12,17 @@ public interface ManagementReportExporter {
                               String evaluatorId,
                               EvaluationStatus status);
 
+    /**
+     * Escreve o Excel detalhado direto no stream, com memória constante
+     * independentemente do número de avaliações exportadas.
+     * O stream não é fechado.
+     */
+    void writeDetailedExcel(LocalDateTime startDate,
+                            LocalDateTime endDate,
+                            String evaluatorId,
+                            EvaluationStatus status,
+                            OutputStream outputStream);
+
     byte[] exportSummaryPdf(LocalDateTime startDate,
                             LocalDateTime endDate,
                             String evaluatorId,
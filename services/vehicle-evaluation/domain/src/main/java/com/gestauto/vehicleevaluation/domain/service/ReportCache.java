@@ -0,0 +1,100 @@
+package com.gestauto.vehicleevaluation.domain.service;
+
+import com.gestauto.vehicleevaluation.domain.value.ReportCacheKey;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Cache persistente de laudos PDF já renderizados.
+ *
+ * Evita a renderização repetida de laudos que não mudaram entre downloads.
+ * Falhas no cache nunca devem impedir a geração do relatório.
+ */
+public interface ReportCache {
+
+    /**
+     * Busca um laudo previamente renderizado.
+     *
+     * @param key chave derivada da versão da avaliação
+     * @return bytes do PDF, se presente no cache
+     */
+    Optional<byte[]> get(ReportCacheKey key);
+
+    /**
+     * Verifica se um laudo já está no cache, sem transferir o conteúdo.
+     *
+     * @param key chave derivada da versão da avaliação
+     * @return true se o laudo estiver no cache
+     */
+    boolean contains(ReportCacheKey key);
+
+    /**
+     * Copia um laudo previamente renderizado para o stream informado, sem
+     * carregá-lo inteiro em memória.
+     *
+     * @param key chave derivada da versão da avaliação
+     * @param outputStream destino dos bytes do PDF
+     * @return true se o laudo estava no cache e foi copiado
+     * @throws IOException se houver falha ao escrever no destino
+     */
+    boolean copyTo(ReportCacheKey key, OutputStream outputStream) throws IOException;
+
+    /**
+     * Abre uma entrada para armazenar um laudo à medida que ele é renderizado.
+     * O laudo só é publicado no cache após {@link PendingEntry#commit()}.
+     *
+     * @param key chave derivada da versão da avaliação
+     * @return entrada pendente de escrita
+     */
+    PendingEntry openEntry(ReportCacheKey key);
+
+    /**
+     * Abre uma entrada para um laudo cujo único destino é o cache (geração em
+     * segundo plano). Diferente de {@link #openEntry(ReportCacheKey)}, falhas são
+     * propagadas: cache desabilitado ou indisponível impede a abertura, e
+     * {@link PendingEntry#commit()} lança exceção se o laudo não for armazenado.
+     *
+     * @param key chave derivada da versão da avaliação
+     * @return entrada pendente de escrita
+     * @throws IOException se a entrada não puder ser criada
+     */
+    PendingEntry openRequiredEntry(ReportCacheKey key) throws IOException;
+
+    /**
+     * Armazena um laudo renderizado.
+     *
+     * @param key chave derivada da versão da avaliação
+     * @param report bytes do PDF
+     */
+    void put(ReportCacheKey key, byte[] report);
+
+    /**
+     * Remove todas as versões em cache dos laudos de uma avaliação.
+     *
+     * @param evaluationId ID da avaliação
+     */
+    void evict(UUID evaluationId);
+
+    /**
+     * Entrada de cache em escrita. Fechar a entrada sem {@link #commit()}
+     * descarta o conteúdo parcial (ex.: falha na renderização).
+     */
+    interface PendingEntry extends AutoCloseable {
+
+        /**
+         * @return stream que recebe os bytes do laudo
+         */
+        OutputStream outputStream();
+
+        /**
+         * Publica o conteúdo escrito no cache.
+         */
+        void commit();
+
+        @Override
+        void close();
+    }
+}
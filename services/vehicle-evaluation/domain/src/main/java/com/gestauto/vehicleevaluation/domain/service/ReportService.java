@@ -13,6 +13,17 @@ public interface ReportService {
      */
     byte[] generateEvaluationReport(com.gestauto.vehicleevaluation.domain.entity.VehicleEvaluation evaluation);
 
+    /**
+     * Gera relatório PDF da avaliação escrevendo diretamente no stream de saída,
+     * à medida que as páginas são montadas, sem manter o documento inteiro em memória.
+     * O stream não é fechado ao final.
+     *
+     * @param evaluation avaliação para gerar relatório
+     * @param outputStream destino dos bytes do PDF
+     */
+    void writeEvaluationReport(com.gestauto.vehicleevaluation.domain.entity.VehicleEvaluation evaluation,
+                               java.io.OutputStream outputStream);
+
     /**
      * Gera URL de validação para o laudo.
      *
@@ -0,0 +1,53 @@
+package com.gestauto.vehicleevaluation.domain.value;
+
+import com.gestauto.vehicleevaluation.domain.entity.VehicleEvaluation;
+import com.gestauto.vehicleevaluation.domain.enums.EvaluationStatus;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Chave de cache de um laudo PDF renderizado.
+ *
+ * A chave é derivada da versão do agregado (status + updatedAt), de modo que
+ * qualquer alteração na avaliação produz uma nova chave e o laudo anterior
+ * deixa de ser servido sem necessidade de invalidação explícita.
+ */
+public record ReportCacheKey(UUID evaluationId, EvaluationStatus status, LocalDateTime updatedAt) {
+
+    public ReportCacheKey {
+        Objects.requireNonNull(evaluationId, "EvaluationId cannot be null");
+        Objects.requireNonNull(status, "Status cannot be null");
+        Objects.requireNonNull(updatedAt, "UpdatedAt cannot be null");
+    }
+
+    /**
+     * Cria a chave a partir do estado atual da avaliação.
+     *
+     * @param evaluation avaliação a ser renderizada
+     * @return chave de cache correspondente à versão da avaliação
+     */
+    public static ReportCacheKey of(VehicleEvaluation evaluation) {
+        return new ReportCacheKey(
+            evaluation.getId().getValue(),
+            evaluation.getStatus(),
+            evaluation.getUpdatedAt()
+        );
+    }
+
+    /**
+     * Retorna a versão do agregado codificada na chave.
+     *
+     * @return versão no formato {STATUS}-{epochMillis}
+     */
+    public String version() {
+        return status.name() + "-" + updatedAt.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    @Override
+    public String toString() {
+        return evaluationId + "/" + version();
+    }
+}
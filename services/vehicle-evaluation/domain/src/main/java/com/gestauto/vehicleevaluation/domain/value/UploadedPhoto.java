@@ -1,4 +1,16 @@
 package com.gestauto.vehicleevaluation.domain.value;
 
-public record UploadedPhoto(String originalUrl, String thumbnailUrl) {
+/**
+ * Resultado do upload de uma foto e de seus derivados.
+ *
+ * @param originalUrl URL pública da imagem original
+ * @param thumbnailUrl URL pública do thumbnail 200x200
+ * @param pdfImageKey chave no storage da versão 800x600 usada no laudo PDF
+ * @param pdfImageSize tamanho em bytes da versão para PDF
+ */
+public record UploadedPhoto(String originalUrl, String thumbnailUrl, String pdfImageKey, long pdfImageSize) {
+
+    public UploadedPhoto(String originalUrl, String thumbnailUrl) {
+        this(originalUrl, thumbnailUrl, null, 0L);
+    }
 }
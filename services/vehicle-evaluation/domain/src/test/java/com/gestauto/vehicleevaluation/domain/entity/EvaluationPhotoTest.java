@@ -134,4 +134,27 @@ class EvaluationPhotoTest {
         assertEquals("http://example.test/thumb.png", restored.getThumbnailUrl());
         assertNotNull(restored.toString());
     }
+
+    @Test
+    void shouldAttachPdfImageAndReportItsSize() {
+        EvaluationPhoto photo = EvaluationPhoto.createWithoutThumbnail(
+            EvaluationId.generate(),
+            PhotoType.EXTERIOR_FRONT,
+            "front.jpg",
+            "evaluations/1/EXTERIOR_FRONT.jpg",
+            4 * 1024 * 1024,
+            "image/jpeg",
+            "http://example.test/front.jpg"
+        );
+        assertFalse(photo.hasPdfImage());
+        assertEquals(4 * 1024 * 1024, photo.getReportImageSize());
+
+        photo.attachPdfImage("evaluations/1/EXTERIOR_FRONT_pdf.jpg", 150_000);
+
+        assertTrue(photo.hasPdfImage());
+        assertEquals("evaluations/1/EXTERIOR_FRONT_pdf.jpg", photo.getPdfImagePath());
+        assertEquals(150_000, photo.getReportImageSize());
+        assertThrows(IllegalArgumentException.class, () -> photo.attachPdfImage(" ", 10));
+        assertThrows(IllegalArgumentException.class, () -> photo.attachPdfImage("key.jpg", 0));
+    }
 }
@@ -0,0 +1,67 @@
+package com.gestauto.vehicleevaluation.domain.report;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o LatencySketch.
+ */
+@DisplayName("LatencySketch Tests")
+class LatencySketchTest {
+
+    @Test
+    @DisplayName("deve estimar quantis com erro relativo de até 1%")
+    void shouldEstimateQuantilesWithinRelativeAccuracy() {
+        Random random = new Random(7);
+        long[] samples = new long[10_000];
+        LatencySketch sketch = new LatencySketch();
+        for (int i = 0; i < samples.length; i++) {
+            // Cauda longa: maioria em horas, alguns casos em dias
+            samples[i] = (long) (3_600 * Math.exp(random.nextGaussian() * 1.2));
+            sketch.add(samples[i]);
+        }
+        Arrays.sort(samples);
+
+        for (double quantile : new double[]{0.5, 0.9, 0.99}) {
+            long exact = samples[(int) Math.ceil(quantile * samples.length) - 1];
+            assertEquals(exact, sketch.quantileSeconds(quantile), exact * LatencySketch.RELATIVE_ACCURACY + 1);
+        }
+    }
+
+    @Test
+    @DisplayName("deve combinar sketches como se as amostras tivessem sido somadas em um só")
+    void shouldMergeSketches() {
+        LatencySketch monday = new LatencySketch();
+        LatencySketch tuesday = new LatencySketch();
+        LatencySketch combined = new LatencySketch();
+        for (long seconds = 60; seconds < 200_000; seconds += 997) {
+            (seconds % 2 == 0 ? monday : tuesday).add(seconds);
+            combined.add(seconds);
+        }
+
+        LatencySketch merged = new LatencySketch().merge(monday).merge(tuesday);
+
+        assertEquals(combined.count(), merged.count());
+        assertEquals(combined.percentiles(), merged.percentiles());
+    }
+
+    @Test
+    @DisplayName("deve limitar durações extremas aos baldes das pontas")
+    void shouldClampExtremeDurations() {
+        assertEquals(0, LatencySketch.bucketOf(-30));
+        assertEquals(0, LatencySketch.bucketOf(1));
+        assertEquals(LatencySketch.MAX_BUCKET, LatencySketch.bucketOf(Long.MAX_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> new LatencySketch().addBucket(LatencySketch.MAX_BUCKET + 1, 1));
+    }
+
+    @Test
+    @DisplayName("deve retornar percentis zerados sem amostras")
+    void shouldReturnEmptyPercentilesWithoutSamples() {
+        assertSame(LatencyPercentiles.EMPTY, new LatencySketch().percentiles());
+    }
+}
@@ -0,0 +1,256 @@
+package com.gestauto.vehicleevaluation.infra.analytics;
+
+import com.gestauto.vehicleevaluation.domain.enums.EvaluationStatus;
+import com.gestauto.vehicleevaluation.domain.report.DashboardSnapshot;
+import com.gestauto.vehicleevaluation.domain.service.EvaluationAnalyticsIndex;
+import com.gestauto.vehicleevaluation.infra.entity.EvaluationStatusJpa;
+import com.gestauto.vehicleevaluation.infra.repository.VehicleEvaluationJpaRepository;
+import com.gestauto.vehicleevaluation.infra.repository.projection.EvaluationFactProjection;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Motor analítico colunar em memória para os recortes do dashboard.
+ *
+ * Os fatos de todas as avaliações são carregados uma vez após a subida do
+ * serviço e, a partir daí, mantidos por {@link #apply(UUID)} a cada mudança
+ * local e por {@link #synchronize()}, que relê as avaliações alteradas por
+ * updated_at para incorporar as mudanças feitas por outras instâncias. Cada
+ * fato carrega a row_version da avaliação: leituras concorrentes ou atrasadas
+ * nunca substituem um fato mais novo.
+ * As agregações filtradas rodam sobre a tabela colunar, divididas em blocos
+ * processados em paralelo com fork-join, sem ida ao banco.
+ *
+ * Mudanças recebidas durante a carga são guardadas e reaplicadas ao final,
+ * para que a tabela carregada não sobrescreva um estado mais novo. Enquanto a
+ * carga não termina, {@link #isReady()} retorna false e o dashboard continua
+ * sendo servido pelo agregado diário no banco.
+ */
+@Component
+@Slf4j
+public class ColumnarAnalyticsEngine implements EvaluationAnalyticsIndex {
+
+    private final VehicleEvaluationJpaRepository jpaRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Optional<MeterRegistry> meterRegistry;
+    private final boolean enabled;
+    private final int chunkSize;
+    private final Duration syncOverlap;
+    private final ForkJoinPool pool;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Set<UUID> changedWhileLoading = new HashSet<>();
+    private EvaluationFactTable table = new EvaluationFactTable();
+    private volatile boolean ready;
+    private volatile LocalDateTime syncedUntil;
+
+    public ColumnarAnalyticsEngine(
+            VehicleEvaluationJpaRepository jpaRepository,
+            PlatformTransactionManager transactionManager,
+            Optional<MeterRegistry> meterRegistry,
+            @Value("${app.analytics.columnar.enabled:true}") boolean enabled,
+            @Value("${app.analytics.columnar.chunk-size:16384}") int chunkSize,
+            @Value("${app.analytics.columnar.parallelism:0}") int parallelism,
+            @Value("${app.analytics.columnar.sync-overlap-ms:60000}") long syncOverlapMs) {
+        this.jpaRepository = jpaRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+        this.syncOverlap = Duration.ofMillis(syncOverlapMs);
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Indica se a carga inicial terminou e as agregações podem ser servidas pelo motor.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (!enabled) {
+            log.info("Motor analítico colunar desabilitado; dashboard servido pelo agregado diário");
+            return;
+        }
+
+        try {
+            Timer.Sample sample = meterRegistry.isPresent() ? Timer.start(meterRegistry.get()) : null;
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<EvaluationFactProjection> rows = jpaRepository.streamEvaluationFacts()) {
+                    load(rows.map(EvaluationFact::from));
+                }
+            });
+            if (sample != null) {
+                sample.stop(Timer.builder("analytics.columnar.load.duration")
+                    .description("Tempo de carga do motor analítico colunar")
+                    .register(meterRegistry.get()));
+            }
+        } catch (Exception e) {
+            log.error("Falha ao carregar o motor analítico colunar; dashboard segue no agregado diário: {}",
+                e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Substitui o conteúdo do motor pelos fatos informados e o marca como pronto.
+     * As mudanças recebidas durante a carga são reaplicadas em seguida.
+     */
+    public void load(Stream<EvaluationFact> facts) {
+        // Mudanças gravadas durante a carga são relidas pela primeira sincronização
+        LocalDateTime loadStartedAt = LocalDateTime.now();
+        EvaluationFactTable loaded = new EvaluationFactTable();
+        facts.forEach(loaded::upsert);
+
+        Set<UUID> replay;
+        lock.writeLock().lock();
+        try {
+            table = loaded;
+            syncedUntil = loadStartedAt;
+            ready = true;
+            replay = Set.copyOf(changedWhileLoading);
+            changedWhileLoading.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        meterRegistry.ifPresent(registry -> registry.gauge("analytics.columnar.rows", this, engine -> engine.rows()));
+        log.info("Motor analítico colunar carregado: linhas={}, reaplicadas={}", loaded.size(), replay.size());
+        replay.forEach(this::apply);
+    }
+
+    @Override
+    public void apply(UUID evaluationId) {
+        if (!enabled) {
+            return;
+        }
+        if (!ready) {
+            lock.writeLock().lock();
+            try {
+                if (!ready) {
+                    changedWhileLoading.add(evaluationId);
+                    return;
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        // Lido fora do lock: a versão do fato impede que uma leitura atrasada sobrescreva uma mais nova
+        Optional<EvaluationFact> fact = jpaRepository.findEvaluationFactById(evaluationId).map(EvaluationFact::from);
+        lock.writeLock().lock();
+        try {
+            fact.ifPresentOrElse(table::upsert, () -> table.remove(evaluationId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Relê as avaliações com updated_at a partir da última sincronização, menos
+     * uma sobreposição (app.analytics.columnar.sync-overlap-ms) que cobre
+     * transações confirmadas depois de gravarem updated_at e diferenças de relógio
+     * entre instâncias. Fatos já conhecidos na mesma versão são ignorados.
+     */
+    @Override
+    public Set<String> synchronize() {
+        LocalDateTime since = syncedUntil;
+        if (!enabled || !ready || since == null) {
+            return Set.of();
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        List<EvaluationFact> facts = jpaRepository.findEvaluationFactsUpdatedSince(since.minus(syncOverlap))
+            .stream()
+            .map(EvaluationFact::from)
+            .toList();
+
+        Set<String> changedEvaluators = new HashSet<>();
+        lock.writeLock().lock();
+        try {
+            for (EvaluationFact fact : facts) {
+                if (table.upsert(fact)) {
+                    changedEvaluators.add(fact.evaluatorId());
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        syncedUntil = startedAt;
+
+        if (!changedEvaluators.isEmpty()) {
+            log.debug("Motor analítico colunar sincronizado: lidas={}, avaliadores alterados={}",
+                facts.size(), changedEvaluators.size());
+        }
+        return changedEvaluators;
+    }
+
+    /**
+     * KPIs, série mensal e quebra por marca do recorte, considerando os dias
+     * inteiros de início e fim como o agregado diário.
+     */
+    public DashboardSnapshot getSnapshot(LocalDate startDate,
+                                         LocalDate endDate,
+                                         String evaluatorId,
+                                         EvaluationStatus status) {
+        EvaluationStatusJpa statusFilter = status != null ? EvaluationStatusJpa.valueOf(status.name()) : null;
+
+        lock.readLock().lock();
+        try {
+            FactFilter filter = table.filter(startDate, endDate, evaluatorId, statusFilter);
+            return table.aggregate(filter, pool, chunkSize).toSnapshot(table.brandNames());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Avaliadores com avaliações criadas a partir do dia informado.
+     */
+    public List<String> findActiveEvaluatorIds(LocalDate since) {
+        lock.readLock().lock();
+        try {
+            return table.activeEvaluators(since);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    private int rows() {
+        lock.readLock().lock();
+        try {
+            return table.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.gestauto.vehicleevaluation.infra.analytics;
+
+import com.gestauto.vehicleevaluation.infra.entity.EvaluationStatusJpa;
+import com.gestauto.vehicleevaluation.infra.repository.projection.EvaluationFactProjection;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Fato de uma avaliação, na forma em que entra na tabela colunar.
+ *
+ * O ticket segue a mesma regra do agregado diário: valor aprovado, senão o
+ * final, senão o base. O tempo de submissão só existe para avaliações
+ * submetidas e o de revisão, com submissão e aprovação. A versão é a
+ * row_version da avaliação e impede que uma leitura antiga substitua uma mais nova.
+ */
+public record EvaluationFact(
+    UUID id,
+    long version,
+    LocalDate createdDate,
+    EvaluationStatusJpa status,
+    String brand,
+    String evaluatorId,
+    BigDecimal ticket,
+    Duration submissionTime,
+    Duration reviewTime
+) {
+
+    public static EvaluationFact from(EvaluationFactProjection row) {
+        BigDecimal ticket = row.getApprovedValueAmount() != null ? row.getApprovedValueAmount()
+            : row.getFinalValueAmount() != null ? row.getFinalValueAmount()
+            : row.getBaseValueAmount();
+        Duration submissionTime = row.getSubmittedAt() != null
+            ? Duration.between(row.getCreatedAt(), row.getSubmittedAt())
+            : null;
+        Duration reviewTime = row.getSubmittedAt() != null && row.getApprovedAt() != null
+            ? Duration.between(row.getSubmittedAt(), row.getApprovedAt())
+            : null;
+
+        return new EvaluationFact(
+            row.getId(),
+            row.getRowVersion() != null ? row.getRowVersion() : 0L,
+            row.getCreatedAt().toLocalDate(),
+            row.getStatus(),
+            row.getBrand(),
+            row.getEvaluatorId(),
+            ticket,
+            submissionTime,
+            reviewTime
+        );
+    }
+}
@@ -0,0 +1,299 @@
+package com.gestauto.vehicleevaluation.infra.analytics;
+
+import com.gestauto.vehicleevaluation.domain.report.LatencySketch;
+import com.gestauto.vehicleevaluation.infra.entity.EvaluationStatusJpa;
+
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Tabela colunar dos fatos de avaliação.
+ *
+ * Cada coluna é um array primitivo indexado pela linha; marca e avaliador são
+ * codificados por dicionário, o ticket fica em centavos e os tempos de
+ * submissão e revisão também são guardados como baldes do {@link LatencySketch}.
+ * Para cada bloco de
+ * {@link #BLOCK_SIZE} linhas são mantidos o menor e o maior dia de criação, o
+ * que permite pular blocos fora do período; como as avaliações entram em ordem
+ * de criação e o dia nunca muda, os blocos ficam estreitos. Uma avaliação
+ * removida mantém sua linha com status {@link #REMOVED}, reaproveitada se ela
+ * voltar a existir. A versão de cada linha impede que um fato mais antigo
+ * substitua um mais novo.
+ *
+ * Não é thread-safe: o acesso é coordenado por {@link ColumnarAnalyticsEngine}.
+ */
+final class EvaluationFactTable {
+
+    /**
+     * Status de uma linha cuja avaliação não existe mais.
+     */
+    static final int REMOVED = -1;
+
+    /**
+     * Ticket ou tempo de revisão ausente.
+     */
+    static final long NO_VALUE = Long.MIN_VALUE;
+
+    /**
+     * Tempo sem balde de latência.
+     */
+    static final int NO_BUCKET = -1;
+
+    /**
+     * Linhas por bloco do índice de mínimo e máximo dia de criação.
+     */
+    static final int BLOCK_SIZE = 4096;
+
+    private static final int INITIAL_CAPACITY = BLOCK_SIZE;
+    private static final int APPROVED = EvaluationStatusJpa.APPROVED.ordinal();
+
+    private final Map<UUID, Integer> rowsById = new HashMap<>();
+    private final Dictionary brands = new Dictionary();
+    private final Dictionary evaluators = new Dictionary();
+
+    private int size;
+    private long[] version = new long[INITIAL_CAPACITY];
+    private int[] createdDay = new int[INITIAL_CAPACITY];
+    private int[] createdMonth = new int[INITIAL_CAPACITY];
+    private int[] status = new int[INITIAL_CAPACITY];
+    private int[] brand = new int[INITIAL_CAPACITY];
+    private int[] evaluator = new int[INITIAL_CAPACITY];
+    private long[] ticketCents = new long[INITIAL_CAPACITY];
+    private long[] reviewSeconds = new long[INITIAL_CAPACITY];
+    private int[] reviewBucket = new int[INITIAL_CAPACITY];
+    private int[] submissionBucket = new int[INITIAL_CAPACITY];
+    private int[] blockMinDay = newBlockIndex(1, Integer.MAX_VALUE);
+    private int[] blockMaxDay = newBlockIndex(1, Integer.MIN_VALUE);
+
+    /**
+     * Grava o fato na linha da avaliação, a menos que a linha já tenha versão igual ou mais nova.
+     *
+     * @return true se a linha foi criada ou atualizada
+     */
+    boolean upsert(EvaluationFact fact) {
+        Integer row = rowsById.get(fact.id());
+        if (row != null && version[row] >= fact.version()) {
+            return false;
+        }
+        if (row == null) {
+            ensureCapacity(size + 1);
+            row = size++;
+            rowsById.put(fact.id(), row);
+        }
+
+        int day = (int) fact.createdDate().toEpochDay();
+        int block = row / BLOCK_SIZE;
+        version[row] = fact.version();
+        createdDay[row] = day;
+        blockMinDay[block] = Math.min(blockMinDay[block], day);
+        blockMaxDay[block] = Math.max(blockMaxDay[block], day);
+        createdMonth[row] = monthIndex(fact.createdDate());
+        status[row] = fact.status().ordinal();
+        brand[row] = brands.encode(fact.brand());
+        evaluator[row] = evaluators.encode(fact.evaluatorId());
+        ticketCents[row] = fact.ticket() != null
+            ? fact.ticket().movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact()
+            : NO_VALUE;
+        reviewSeconds[row] = fact.reviewTime() != null ? fact.reviewTime().getSeconds() : NO_VALUE;
+        reviewBucket[row] = fact.reviewTime() != null
+            ? LatencySketch.bucketOf(fact.reviewTime().getSeconds())
+            : NO_BUCKET;
+        submissionBucket[row] = fact.submissionTime() != null
+            ? LatencySketch.bucketOf(fact.submissionTime().getSeconds())
+            : NO_BUCKET;
+        return true;
+    }
+
+    void remove(UUID evaluationId) {
+        Integer row = rowsById.get(evaluationId);
+        if (row != null) {
+            status[row] = REMOVED;
+        }
+    }
+
+    /**
+     * Quantidade de linhas ocupadas, incluindo as removidas.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Traduz o recorte do dashboard para os códigos das colunas.
+     */
+    FactFilter filter(LocalDate startDate, LocalDate endDate, String evaluatorId, EvaluationStatusJpa statusFilter) {
+        int evaluatorCode = FactFilter.ANY;
+        if (evaluatorId != null) {
+            evaluatorCode = evaluators.find(evaluatorId);
+            if (evaluatorCode < 0) {
+                evaluatorCode = FactFilter.NONE;
+            }
+        }
+        return new FactFilter(
+            (int) startDate.toEpochDay(),
+            (int) endDate.toEpochDay(),
+            evaluatorCode,
+            statusFilter != null ? statusFilter.ordinal() : FactFilter.ANY
+        );
+    }
+
+    /**
+     * Agrega as linhas do filtro. Tabelas maiores que um bloco são divididas
+     * em blocos processados em paralelo no pool informado.
+     */
+    FactAggregate aggregate(FactFilter filter, ForkJoinPool pool, int chunkSize) {
+        if (size <= chunkSize) {
+            return scan(filter, 0, size);
+        }
+        return pool.invoke(new FactAggregationTask(this, filter, 0, size, chunkSize));
+    }
+
+    /**
+     * Varre sequencialmente as linhas do intervalo [from, to), pulando os
+     * blocos sem dias dentro do período.
+     */
+    FactAggregate scan(FactFilter filter, int from, int to) {
+        int firstMonth = monthIndex(LocalDate.ofEpochDay(filter.fromDay()));
+        int lastMonth = monthIndex(LocalDate.ofEpochDay(filter.toDay()));
+        FactAggregate aggregate = new FactAggregate(firstMonth, Math.max(0, lastMonth - firstMonth + 1), brands.size());
+
+        int fromDay = filter.fromDay();
+        int toDay = filter.toDay();
+        int evaluatorFilter = filter.evaluator();
+        int statusFilter = filter.status();
+
+        int blockStart = from;
+        while (blockStart < to) {
+            int block = blockStart / BLOCK_SIZE;
+            int blockEnd = Math.min(to, (block + 1) * BLOCK_SIZE);
+            if (blockMaxDay[block] < fromDay || blockMinDay[block] > toDay) {
+                blockStart = blockEnd;
+                continue;
+            }
+
+            for (int row = blockStart; row < blockEnd; row++) {
+                int rowStatus = status[row];
+                int day = createdDay[row];
+                if (rowStatus == REMOVED || day < fromDay || day > toDay) {
+                    continue;
+                }
+                if (evaluatorFilter != FactFilter.ANY && evaluator[row] != evaluatorFilter) {
+                    continue;
+                }
+                if (statusFilter != FactFilter.ANY && rowStatus != statusFilter) {
+                    continue;
+                }
+                aggregate.add(createdMonth[row], brand[row], rowStatus == APPROVED, ticketCents[row],
+                    reviewSeconds[row], reviewBucket[row], submissionBucket[row]);
+            }
+            blockStart = blockEnd;
+        }
+        return aggregate;
+    }
+
+    /**
+     * Avaliadores com avaliações criadas a partir do dia informado, em ordem alfabética.
+     */
+    List<String> activeEvaluators(LocalDate since) {
+        int sinceDay = (int) since.toEpochDay();
+        boolean[] active = new boolean[evaluators.size()];
+        for (int row = 0; row < size; row++) {
+            if (status[row] != REMOVED && createdDay[row] >= sinceDay) {
+                active[evaluator[row]] = true;
+            }
+        }
+
+        List<String> result = new ArrayList<>();
+        for (int code = 0; code < active.length; code++) {
+            if (active[code]) {
+                result.add(evaluators.decode(code));
+            }
+        }
+        result.sort(null);
+        return result;
+    }
+
+    List<String> brandNames() {
+        return brands.values();
+    }
+
+    static int monthIndex(LocalDate date) {
+        return date.getYear() * 12 + date.getMonthValue() - 1;
+    }
+
+    static LocalDate monthStart(int monthIndex) {
+        return LocalDate.of(monthIndex / 12, monthIndex % 12 + 1, 1);
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= createdDay.length) {
+            return;
+        }
+        int capacity = Math.max(required, createdDay.length * 2);
+        version = Arrays.copyOf(version, capacity);
+        createdDay = Arrays.copyOf(createdDay, capacity);
+        createdMonth = Arrays.copyOf(createdMonth, capacity);
+        status = Arrays.copyOf(status, capacity);
+        brand = Arrays.copyOf(brand, capacity);
+        evaluator = Arrays.copyOf(evaluator, capacity);
+        ticketCents = Arrays.copyOf(ticketCents, capacity);
+        reviewSeconds = Arrays.copyOf(reviewSeconds, capacity);
+        reviewBucket = Arrays.copyOf(reviewBucket, capacity);
+        submissionBucket = Arrays.copyOf(submissionBucket, capacity);
+
+        int blocks = (capacity + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        int previousBlocks = blockMinDay.length;
+        blockMinDay = Arrays.copyOf(blockMinDay, blocks);
+        blockMaxDay = Arrays.copyOf(blockMaxDay, blocks);
+        Arrays.fill(blockMinDay, previousBlocks, blocks, Integer.MAX_VALUE);
+        Arrays.fill(blockMaxDay, previousBlocks, blocks, Integer.MIN_VALUE);
+    }
+
+    private static int[] newBlockIndex(int blocks, int initialValue) {
+        int[] index = new int[blocks];
+        Arrays.fill(index, initialValue);
+        return index;
+    }
+
+    /**
+     * Dicionário de valores textuais para códigos inteiros sequenciais.
+     */
+    private static final class Dictionary {
+
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        int encode(String value) {
+            Integer code = codes.get(value);
+            if (code == null) {
+                code = values.size();
+                codes.put(value, code);
+                values.add(value);
+            }
+            return code;
+        }
+
+        int find(String value) {
+            return codes.getOrDefault(value, -1);
+        }
+
+        String decode(int code) {
+            return values.get(code);
+        }
+
+        int size() {
+            return values.size();
+        }
+
+        List<String> values() {
+            return values;
+        }
+    }
+}
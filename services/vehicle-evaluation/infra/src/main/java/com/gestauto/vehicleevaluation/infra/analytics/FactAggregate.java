@@ -0,0 +1,166 @@
+package com.gestauto.vehicleevaluation.infra.analytics;
+
+import com.gestauto.vehicleevaluation.domain.report.BrandStat;
+import com.gestauto.vehicleevaluation.domain.report.DashboardSnapshot;
+import com.gestauto.vehicleevaluation.domain.report.EvaluationKpi;
+import com.gestauto.vehicleevaluation.domain.report.LatencySketch;
+import com.gestauto.vehicleevaluation.domain.report.MonthlyStat;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Acumulador parcial de uma agregação do dashboard.
+ *
+ * Cada fatia da tabela produz um acumulador próprio; os parciais são somados
+ * com {@link #merge(FactAggregate)}. Valores monetários ficam em centavos e o
+ * tempo de revisão em segundos até a montagem do snapshot; os percentis saem
+ * de sketches combinados da mesma forma.
+ */
+final class FactAggregate {
+
+    private static final BigDecimal CENTS = BigDecimal.valueOf(100);
+    private static final BigDecimal SECONDS_PER_HOUR = BigDecimal.valueOf(3600);
+
+    private final int firstMonth;
+
+    private long count;
+    private long approved;
+    private long ticketSum;
+    private long ticketCount;
+    private long reviewSum;
+    private long reviewCount;
+    private final LatencySketch reviewTime = new LatencySketch();
+    private final LatencySketch submissionTime = new LatencySketch();
+
+    private final long[] monthCount;
+    private final long[] monthTicketSum;
+
+    private final long[] brandCount;
+    private final long[] brandApproved;
+    private final long[] brandTicketSum;
+    private final long[] brandTicketCount;
+
+    FactAggregate(int firstMonth, int months, int brands) {
+        this.firstMonth = firstMonth;
+        this.monthCount = new long[months];
+        this.monthTicketSum = new long[months];
+        this.brandCount = new long[brands];
+        this.brandApproved = new long[brands];
+        this.brandTicketSum = new long[brands];
+        this.brandTicketCount = new long[brands];
+    }
+
+    void add(int month, int brand, boolean isApproved, long ticketCents,
+             long reviewSeconds, int reviewBucket, int submissionBucket) {
+        int monthSlot = month - firstMonth;
+        count++;
+        monthCount[monthSlot]++;
+        brandCount[brand]++;
+
+        if (isApproved) {
+            approved++;
+            brandApproved[brand]++;
+        }
+        if (ticketCents != EvaluationFactTable.NO_VALUE) {
+            ticketSum += ticketCents;
+            ticketCount++;
+            monthTicketSum[monthSlot] += ticketCents;
+            brandTicketSum[brand] += ticketCents;
+            brandTicketCount[brand]++;
+        }
+        if (reviewSeconds != EvaluationFactTable.NO_VALUE) {
+            reviewSum += reviewSeconds;
+            reviewCount++;
+        }
+        if (reviewBucket != EvaluationFactTable.NO_BUCKET) {
+            reviewTime.addBucket(reviewBucket, 1);
+        }
+        if (submissionBucket != EvaluationFactTable.NO_BUCKET) {
+            submissionTime.addBucket(submissionBucket, 1);
+        }
+    }
+
+    FactAggregate merge(FactAggregate other) {
+        count += other.count;
+        approved += other.approved;
+        ticketSum += other.ticketSum;
+        ticketCount += other.ticketCount;
+        reviewSum += other.reviewSum;
+        reviewCount += other.reviewCount;
+        reviewTime.merge(other.reviewTime);
+        submissionTime.merge(other.submissionTime);
+        for (int i = 0; i < monthCount.length; i++) {
+            monthCount[i] += other.monthCount[i];
+            monthTicketSum[i] += other.monthTicketSum[i];
+        }
+        for (int i = 0; i < brandCount.length; i++) {
+            brandCount[i] += other.brandCount[i];
+            brandApproved[i] += other.brandApproved[i];
+            brandTicketSum[i] += other.brandTicketSum[i];
+            brandTicketCount[i] += other.brandTicketCount[i];
+        }
+        return this;
+    }
+
+    /**
+     * Monta o snapshot com meses em ordem cronológica e marcas por volume,
+     * como na consulta SQL equivalente.
+     *
+     * @param brandNames nomes das marcas indexados pelo código do dicionário
+     */
+    DashboardSnapshot toSnapshot(List<String> brandNames) {
+        EvaluationKpi kpis = new EvaluationKpi(
+            count,
+            percent(approved, count),
+            average(ticketSum, ticketCount, CENTS),
+            average(reviewSum, reviewCount, SECONDS_PER_HOUR),
+            reviewTime.percentiles(),
+            submissionTime.percentiles()
+        );
+
+        List<MonthlyStat> monthly = new ArrayList<>();
+        for (int i = 0; i < monthCount.length; i++) {
+            if (monthCount[i] > 0) {
+                monthly.add(new MonthlyStat(
+                    EvaluationFactTable.monthStart(firstMonth + i),
+                    monthCount[i],
+                    BigDecimal.valueOf(monthTicketSum[i], 2)
+                ));
+            }
+        }
+
+        List<BrandStat> brands = new ArrayList<>();
+        for (int i = 0; i < brandCount.length; i++) {
+            if (brandCount[i] > 0) {
+                brands.add(new BrandStat(
+                    brandNames.get(i),
+                    brandCount[i],
+                    average(brandTicketSum[i], brandTicketCount[i], CENTS),
+                    percent(brandApproved[i], brandCount[i])
+                ));
+            }
+        }
+        brands.sort(Comparator.comparingLong(BrandStat::evaluationsCount).reversed()
+            .thenComparing(BrandStat::brand, Comparator.nullsLast(Comparator.naturalOrder())));
+
+        return new DashboardSnapshot(kpis, List.copyOf(monthly), List.copyOf(brands));
+    }
+
+    private static BigDecimal average(long sum, long samples, BigDecimal unit) {
+        if (samples == 0) {
+            return BigDecimal.ZERO;
+        }
+        return BigDecimal.valueOf(sum).divide(unit.multiply(BigDecimal.valueOf(samples)), 2, RoundingMode.HALF_UP);
+    }
+
+    private static BigDecimal percent(long part, long total) {
+        if (total == 0) {
+            return BigDecimal.ZERO;
+        }
+        return BigDecimal.valueOf(part * 100).divide(BigDecimal.valueOf(total), 2, RoundingMode.HALF_UP);
+    }
+}
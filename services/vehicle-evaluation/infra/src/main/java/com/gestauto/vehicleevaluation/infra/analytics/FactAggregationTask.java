@@ -0,0 +1,39 @@
+package com.gestauto.vehicleevaluation.infra.analytics;
+
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Agregação fork-join sobre um intervalo de linhas da tabela colunar.
+ *
+ * O intervalo é dividido ao meio até caber em um bloco; cada bloco é varrido
+ * sequencialmente e os parciais são somados na volta da recursão.
+ */
+final class FactAggregationTask extends RecursiveTask<FactAggregate> {
+
+    private final EvaluationFactTable table;
+    private final FactFilter filter;
+    private final int from;
+    private final int to;
+    private final int chunkSize;
+
+    FactAggregationTask(EvaluationFactTable table, FactFilter filter, int from, int to, int chunkSize) {
+        this.table = table;
+        this.filter = filter;
+        this.from = from;
+        this.to = to;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    protected FactAggregate compute() {
+        if (to - from <= chunkSize) {
+            return table.scan(filter, from, to);
+        }
+
+        int middle = (from + to) >>> 1;
+        FactAggregationTask left = new FactAggregationTask(table, filter, from, middle, chunkSize);
+        left.fork();
+        FactAggregate right = new FactAggregationTask(table, filter, middle, to, chunkSize).compute();
+        return right.merge(left.join());
+    }
+}
@@ -0,0 +1,23 @@
+package com.gestauto.vehicleevaluation.infra.analytics;
+
+/**
+ * Filtro de uma agregação sobre a tabela colunar, já traduzido para os
+ * códigos das colunas.
+ *
+ * @param fromDay   primeiro dia (epoch day), inclusivo
+ * @param toDay     último dia (epoch day), inclusivo
+ * @param evaluator código do avaliador, {@link #ANY} ou {@link #NONE}
+ * @param status    ordinal do status, ou {@link #ANY}
+ */
+record FactFilter(int fromDay, int toDay, int evaluator, int status) {
+
+    /**
+     * Sem filtro na coluna.
+     */
+    static final int ANY = -1;
+
+    /**
+     * Valor ausente do dicionário: nenhuma linha corresponde.
+     */
+    static final int NONE = -2;
+}
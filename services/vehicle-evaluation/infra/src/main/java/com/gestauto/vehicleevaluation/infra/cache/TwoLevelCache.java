@@ -0,0 +1,172 @@
+package com.gestauto.vehicleevaluation.infra.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.util.ByteUtils;
+
+import java.util.Optional;
+import java.util.concurrent.Callable;
+
+/**
+ * Cache em dois níveis: Caffeine local (L1) na frente do Redis (L2).
+ *
+ * Leituras consultam o L1 e, em falta, o L2, promovendo o valor para o L1.
+ * Escritas e remoções atualizam os dois níveis e são difundidas às demais
+ * instâncias, que descartam apenas o próprio L1 e passam a ler do Redis.
+ *
+ * Métrica: cache.two-level.lookups (por cache e resultado l1, l2 ou miss).
+ */
+public class TwoLevelCache implements Cache {
+
+    /**
+     * Operações de invalidação difundidas entre instâncias.
+     */
+    enum Invalidation {
+        KEY,
+        PREFIX,
+        ALL
+    }
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> local;
+    private final RedisCache remote;
+    private final TwoLevelCacheManager cacheManager;
+    private final Optional<MeterRegistry> meterRegistry;
+
+    TwoLevelCache(String name,
+                  com.github.benmanes.caffeine.cache.Cache<Object, Object> local,
+                  RedisCache remote,
+                  TwoLevelCacheManager cacheManager,
+                  Optional<MeterRegistry> meterRegistry) {
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.cacheManager = cacheManager;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        Object value = local.getIfPresent(key);
+        if (value != null) {
+            countLookup("l1");
+            return new SimpleValueWrapper(value);
+        }
+
+        ValueWrapper remoteValue = remote.get(key);
+        if (remoteValue != null && remoteValue.get() != null) {
+            local.put(key, remoteValue.get());
+            countLookup("l2");
+            return remoteValue;
+        }
+
+        countLookup("miss");
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            evict(key);
+            return;
+        }
+
+        remote.put(key, value);
+        local.put(key, value);
+        cacheManager.broadcast(name, Invalidation.KEY, key.toString());
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        local.invalidate(key);
+        cacheManager.broadcast(name, Invalidation.KEY, key.toString());
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+        cacheManager.broadcast(name, Invalidation.ALL, "");
+    }
+
+    /**
+     * Remove dos dois níveis as entradas cuja chave começa com o prefixo.
+     *
+     * @param keyPrefix prefixo das chaves
+     */
+    public void evictByPrefix(String keyPrefix) {
+        String pattern = remote.getCacheConfiguration().getKeyPrefixFor(name) + keyPrefix + "*";
+        remote.getNativeCache().clean(name,
+            ByteUtils.getBytes(remote.getCacheConfiguration().getKeySerializationPair().write(pattern)));
+        evictLocalByPrefix(keyPrefix);
+        cacheManager.broadcast(name, Invalidation.PREFIX, keyPrefix);
+    }
+
+    /**
+     * Aplica no L1 uma invalidação recebida de outra instância.
+     */
+    void applyRemoteInvalidation(Invalidation invalidation, String argument) {
+        switch (invalidation) {
+            case KEY -> local.invalidate(argument);
+            case PREFIX -> evictLocalByPrefix(argument);
+            case ALL -> local.invalidateAll();
+        }
+    }
+
+    private void evictLocalByPrefix(String keyPrefix) {
+        local.asMap().keySet().removeIf(key -> key.toString().startsWith(keyPrefix));
+    }
+
+    private void countLookup(String result) {
+        meterRegistry.ifPresent(registry -> Counter.builder("cache.two-level.lookups")
+            .description("Consultas ao cache em dois níveis por resultado")
+            .tag("cache", name)
+            .tag("result", result)
+            .register(registry)
+            .increment());
+    }
+}
@@ -0,0 +1,109 @@
+package com.gestauto.vehicleevaluation.infra.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * CacheManager de {@link TwoLevelCache}s sobre um {@link RedisCacheManager}.
+ *
+ * Invalidações são publicadas em um canal Redis (pub/sub) e aplicadas no L1
+ * das demais instâncias; mensagens da própria instância são ignoradas.
+ * Falhas na difusão não interrompem a operação: o L1 remoto expira pelo TTL.
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+    private static final String SEPARATOR = "\n";
+
+    private final RedisCacheManager remoteCacheManager;
+    private final StringRedisTemplate redisTemplate;
+    private final String channel;
+    private final long localMaxSize;
+    private final Duration localTtl;
+    private final Optional<MeterRegistry> meterRegistry;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final ConcurrentMap<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(RedisCacheManager remoteCacheManager,
+                                StringRedisTemplate redisTemplate,
+                                String channel,
+                                long localMaxSize,
+                                Duration localTtl,
+                                Optional<MeterRegistry> meterRegistry) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+        this.localMaxSize = localMaxSize;
+        this.localTtl = localTtl;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    private TwoLevelCache createCache(String name) {
+        RedisCache remote = (RedisCache) remoteCacheManager.getCache(name);
+        if (remote == null) {
+            return null;
+        }
+
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> local = Caffeine.newBuilder()
+            .maximumSize(localMaxSize)
+            .expireAfterWrite(localTtl)
+            .build();
+        return new TwoLevelCache(name, local, remote, this, meterRegistry);
+    }
+
+    void broadcast(String cacheName, TwoLevelCache.Invalidation invalidation, String argument) {
+        try {
+            redisTemplate.convertAndSend(channel,
+                String.join(SEPARATOR, instanceId, cacheName, invalidation.name(), argument));
+        } catch (Exception e) {
+            log.warn("Falha ao difundir invalidação de cache: cache={}, operação={}, erro={}",
+                cacheName, invalidation, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(SEPARATOR, 4);
+        if (parts.length < 4 || instanceId.equals(parts[0])) {
+            return;
+        }
+
+        TwoLevelCache cache = caches.get(parts[1]);
+        if (cache == null) {
+            return;
+        }
+
+        try {
+            cache.applyRemoteInvalidation(TwoLevelCache.Invalidation.valueOf(parts[2]), parts[3]);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalidação de cache desconhecida ignorada: {}", parts[2]);
+        }
+    }
+}
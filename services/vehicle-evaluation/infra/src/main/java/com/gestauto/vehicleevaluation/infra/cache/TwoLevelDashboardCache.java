@@ -0,0 +1,33 @@
+package com.gestauto.vehicleevaluation.infra.cache;
+
+import com.gestauto.vehicleevaluation.domain.service.DashboardCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Implementação de {@link DashboardCache} sobre o cache em dois níveis.
+ */
+@Slf4j
+@Component
+public class TwoLevelDashboardCache implements DashboardCache {
+
+    private final CacheManager cacheManager;
+
+    public TwoLevelDashboardCache(@Qualifier("dashboardCacheManager") CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @Override
+    public void evictByKeyPrefix(String keyPrefix) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache instanceof TwoLevelCache twoLevelCache) {
+            twoLevelCache.evictByPrefix(keyPrefix);
+        } else if (cache != null) {
+            cache.clear();
+        }
+        log.debug("Visões do dashboard invalidadas: prefixo={}", keyPrefix);
+    }
+}
@@ -1,31 +1,52 @@
 package com.gestauto.vehicleevaluation.infra.config;
 
+import com.gestauto.vehicleevaluation.infra.cache.TwoLevelCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.BatchStrategies;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Primary;
 
 import java.time.Duration;
+import java.util.Optional;
 
 /**
  * Configuração de cache com Redis para o serviço de avaliação.
  *
  * Utiliza Spring Cache abstraction com Redis como backend,
- * configurando cache para FIPE com TTL de 24 horas.
+ * configurando cache para FIPE com TTL de 24 horas. O dashboard gerencial
+ * usa um cache em dois níveis (Caffeine local na frente do Redis).
  */
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
-    @Value("${app.cache.dashboard.ttl-seconds:60}")
+    @Value("${app.cache.dashboard.ttl-seconds:900}")
     private long dashboardTtlSeconds;
 
+    @Value("${app.cache.dashboard.l1.max-size:1000}")
+    private long dashboardLocalMaxSize;
+
+    @Value("${app.cache.dashboard.l1.ttl-seconds:300}")
+    private long dashboardLocalTtlSeconds;
+
+    @Value("${app.cache.dashboard.invalidation-channel:vehicle-evaluation:dashboard-cache:invalidation}")
+    private String dashboardInvalidationChannel;
+
+    @Value("${app.cache.dashboard.scan-batch-size:1000}")
+    private int dashboardScanBatchSize;
+
     /**
      * Configuração de cache manager com Redis.
      *
@@ -48,15 +69,52 @@ public class CacheConfig {
             .build();
     }
 
+    /**
+     * Cache do dashboard em dois níveis.
+     *
+     * O L2 (Redis) é compartilhado entre instâncias; o L1 (Caffeine) é limitado
+     * por tamanho e invalidado via pub/sub quando outra instância altera o cache.
+     * Como as visões são invalidadas por evento, o TTL serve apenas de proteção.
+     *
+     * A invalidação por prefixo remove as chaves do L2 com SCAN em lotes de
+     * app.cache.dashboard.scan-batch-size, e não com KEYS, que bloqueia o Redis
+     * enquanto percorre todo o keyspace.
+     */
     @Bean(name = "dashboardCacheManager")
-    public CacheManager dashboardCacheManager(RedisConnectionFactory connectionFactory) {
+    public TwoLevelCacheManager dashboardCacheManager(RedisConnectionFactory connectionFactory,
+                                                      Optional<MeterRegistry> meterRegistry) {
         RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
             .entryTtl(Duration.ofSeconds(dashboardTtlSeconds))
             .disableCachingNullValues();
 
-        return RedisCacheManager.builder(connectionFactory)
+        RedisCacheWriter cacheWriter = RedisCacheWriter.nonLockingRedisCacheWriter(
+            connectionFactory, BatchStrategies.scan(dashboardScanBatchSize));
+        RedisCacheManager remote = RedisCacheManager.builder(cacheWriter)
             .cacheDefaults(config)
             .build();
+        remote.afterPropertiesSet();
+
+        StringRedisTemplate redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.afterPropertiesSet();
+
+        return new TwoLevelCacheManager(
+            remote,
+            redisTemplate,
+            dashboardInvalidationChannel,
+            dashboardLocalMaxSize,
+            Duration.ofSeconds(dashboardLocalTtlSeconds),
+            meterRegistry
+        );
+    }
+
+    @Bean
+    public RedisMessageListenerContainer dashboardCacheInvalidationListener(
+            RedisConnectionFactory connectionFactory,
+            TwoLevelCacheManager dashboardCacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(dashboardCacheManager, new ChannelTopic(dashboardInvalidationChannel));
+        return container;
     }
 
     /**
@@ -1,13 +1,20 @@
 package com.gestauto.vehicleevaluation.infra.config;
 
+import com.gestauto.vehicleevaluation.infra.messaging.PerMessageBatchRecoverer;
+import com.gestauto.vehicleevaluation.infra.messaging.VehicleEvaluationEventListener;
 import org.springframework.amqp.core.*;
+import org.springframework.amqp.rabbit.config.DirectRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.config.RetryInterceptorBuilder;
 import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
 import org.springframework.amqp.rabbit.retry.RejectAndDontRequeueRecoverer;
+import org.springframework.amqp.rabbit.retry.RepublishMessageRecovererWithConfirms;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -16,12 +23,17 @@ import org.springframework.retry.interceptor.RetryOperationsInterceptor;
 import org.springframework.retry.policy.SimpleRetryPolicy;
 import org.springframework.retry.support.RetryTemplate;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
 /**
  * Configuração do RabbitMQ para publicação e consumo de eventos de domínio.
  *
  * Esta configuração define:
  * - Exchange principal para eventos (gestauto.events)
- * - Queues para o microserviço de avaliação de veículos
+ * - Queues particionadas (shards) para o microserviço de avaliação de veículos
  * - Dead Letter Queue (DLQ) para tratamento de falhas
  * - Bindings entre exchanges e queues
  * - Políticas de retry com exponential backoff
@@ -41,6 +53,18 @@ public class RabbitMQConfig {
     @Value("${rabbitmq.routing-key.vehicle-evaluation:vehicle.evaluation.*}")
     private String vehicleEvaluationRoutingKey;
 
+    @Value("${rabbitmq.sharding.shards:4}")
+    private int shardCount;
+
+    @Value("${rabbitmq.sharding.prefetch:50}")
+    private int shardPrefetch;
+
+    @Value("${rabbitmq.sharding.batch.size:50}")
+    private int shardBatchSize;
+
+    @Value("${rabbitmq.sharding.batch.receive-timeout-ms:100}")
+    private long shardBatchReceiveTimeoutMs;
+
     /**
      * Exchange principal do tipo Topic para roteamento de eventos.
      * Permite roteamento baseado em padrões de routing keys.
@@ -54,16 +78,51 @@ public class RabbitMQConfig {
     }
 
     /**
-     * Queue principal para eventos de avaliação de veículos.
-     * Configurada com DLX para enviar mensagens falhadas à DLQ.
+     * Exchange x-consistent-hash que distribui os eventos entre os shards.
+     * O hash é calculado sobre o header evaluationId, de modo que todos os
+     * eventos de uma avaliação caem sempre no mesmo shard.
+     * Requer o plugin rabbitmq_consistent_hash_exchange no broker.
      */
     @Bean
-    public Queue vehicleEvaluationQueue() {
-        return QueueBuilder
-                .durable(vehicleEvaluationQueue)
-                .withArgument("x-dead-letter-exchange", exchangeName + ".dlx")
-                .withArgument("x-dead-letter-routing-key", "vehicle.evaluation.failed")
-                .build();
+    public CustomExchange vehicleEvaluationShardExchange() {
+        return new CustomExchange(vehicleEvaluationQueue + ".sharded", "x-consistent-hash", true, false,
+                Map.of("hash-header", "evaluationId"));
+    }
+
+    /**
+     * Nomes das queues particionadas (rabbitmq.sharding.shards).
+     */
+    @Bean
+    public String[] vehicleEvaluationShardQueueNames() {
+        return IntStream.range(0, shardCount)
+                .mapToObj(shard -> vehicleEvaluationQueue + ".shard-" + shard)
+                .toArray(String[]::new);
+    }
+
+    /**
+     * Queues particionadas para eventos de avaliação de veículos, ligadas ao
+     * exchange de hash com peso igual. Configuradas com DLX para enviar mensagens
+     * falhadas à DLQ e com single active consumer, para que apenas um consumidor
+     * por shard esteja ativo mesmo com várias instâncias do serviço.
+     */
+    @Bean
+    public Declarables vehicleEvaluationShards() {
+        List<Declarable> declarables = new ArrayList<>();
+        for (String queueName : vehicleEvaluationShardQueueNames()) {
+            Queue queue = QueueBuilder
+                    .durable(queueName)
+                    .withArgument("x-dead-letter-exchange", exchangeName + ".dlx")
+                    .withArgument("x-dead-letter-routing-key", "vehicle.evaluation.failed")
+                    .singleActiveConsumer()
+                    .build();
+            declarables.add(queue);
+            declarables.add(BindingBuilder
+                    .bind(queue)
+                    .to(vehicleEvaluationShardExchange())
+                    .with("1")
+                    .noargs());
+        }
+        return new Declarables(declarables);
     }
 
     /**
@@ -88,13 +147,13 @@ public class RabbitMQConfig {
     }
 
     /**
-     * Binding da queue principal ao exchange de eventos.
+     * Binding do exchange de shards ao exchange de eventos.
      * Recebe todos os eventos relacionados a avaliação de veículos.
      */
     @Bean
     public Binding vehicleEvaluationBinding() {
         return BindingBuilder
-                .bind(vehicleEvaluationQueue())
+                .bind(vehicleEvaluationShardExchange())
                 .to(gestautoEventsExchange())
                 .with(vehicleEvaluationRoutingKey);
     }
@@ -183,6 +242,39 @@ public class RabbitMQConfig {
                 .build();
     }
 
+    /**
+     * Republica mensagens na DLQ com o motivo da falha e aguarda a confirmação
+     * do broker. Usado pelos consumidores em lote, que confirmam o lote inteiro
+     * e por isso não podem rejeitar uma única mensagem.
+     */
+    @Bean
+    public MessageRecoverer deadLetterRecoverer(RabbitTemplate rabbitTemplate) {
+        return new RepublishMessageRecovererWithConfirms(
+                rabbitTemplate, exchangeName + ".dlx", "vehicle.evaluation.failed",
+                CachingConnectionFactory.ConfirmType.CORRELATED);
+    }
+
+    /**
+     * Interceptor de retry para listeners em lote.
+     * Esgotadas as tentativas, as mensagens do lote são reentregues uma a uma
+     * ({@link PerMessageBatchRecoverer}) e só as que continuam falhando são
+     * republicadas na DLQ, com confirmação do broker.
+     */
+    @Bean
+    public RetryOperationsInterceptor batchRetryInterceptor(
+            VehicleEvaluationEventListener listener,
+            @Qualifier("deadLetterRecoverer") MessageRecoverer deadLetterRecoverer) {
+        RetryTemplate messageRetry = RetryTemplate.builder()
+                .maxAttempts(3)
+                .exponentialBackoff(1000, 2.0, 10000)
+                .build();
+        return RetryInterceptorBuilder.stateless()
+                .maxAttempts(3)
+                .backOffOptions(1000, 2.0, 10000)
+                .recoverer(new PerMessageBatchRecoverer(listener, messageRetry, deadLetterRecoverer))
+                .build();
+    }
+
     /**
      * Factory para containers de listeners com configuração customizada.
      */
@@ -198,4 +290,50 @@ public class RabbitMQConfig {
         factory.setAdviceChain(retryInterceptor());
         return factory;
     }
+
+    /**
+     * Factory para os consumidores das queues particionadas.
+     *
+     * Um consumidor por queue, cada um em seu próprio canal: as mensagens de um
+     * shard são processadas em série, na ordem de chegada, enquanto shards
+     * diferentes são processados em paralelo. O retry é feito no próprio
+     * consumidor, sem devolver a mensagem à fila, e portanto mantém a ordem.
+     */
+    @Bean
+    public DirectRabbitListenerContainerFactory shardedRabbitListenerContainerFactory(
+            ConnectionFactory connectionFactory) {
+        DirectRabbitListenerContainerFactory factory = new DirectRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setMessageConverter(jackson2JsonMessageConverter());
+        factory.setConsumersPerQueue(1);
+        factory.setPrefetchCount(shardPrefetch);
+        factory.setAdviceChain(retryInterceptor());
+        return factory;
+    }
+
+    /**
+     * Factory para os consumidores em lote das queues particionadas.
+     *
+     * O DirectMessageListenerContainer não agrupa entregas, por isso o modo em lote
+     * usa um SimpleMessageListenerContainer com um único consumidor por shard.
+     * O consumidor acumula até batch.size mensagens ou aguarda receive-timeout-ms,
+     * entrega o lote ao listener e o confirma de uma vez (ack múltiplo).
+     */
+    @Bean
+    public SimpleRabbitListenerContainerFactory batchShardedRabbitListenerContainerFactory(
+            ConnectionFactory connectionFactory,
+            @Qualifier("batchRetryInterceptor") RetryOperationsInterceptor batchRetryInterceptor) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setMessageConverter(jackson2JsonMessageConverter());
+        factory.setConcurrentConsumers(1);
+        factory.setMaxConcurrentConsumers(1);
+        factory.setPrefetchCount(Math.max(shardPrefetch, shardBatchSize));
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(shardBatchSize);
+        factory.setReceiveTimeout(shardBatchReceiveTimeoutMs);
+        factory.setAdviceChain(batchRetryInterceptor);
+        return factory;
+    }
 }
@@ -1,6 +1,7 @@
 package com.gestauto.vehicleevaluation.infra.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 import java.math.BigDecimal;
@@ -11,6 +12,7 @@ import java.util.UUID;
  * Entidade JPA para persistência de itens de depreciação.
  */
 @Entity
+@DynamicUpdate
 @Table(name = "depreciation_items", schema = "vehicle_evaluation")
 public class DepreciationItemJpaEntity {
 
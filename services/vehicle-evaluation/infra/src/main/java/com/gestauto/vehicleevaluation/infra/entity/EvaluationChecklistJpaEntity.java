@@ -10,6 +10,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import org.hibernate.annotations.DynamicUpdate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -19,6 +20,7 @@ import java.util.UUID;
  * Entidade JPA alinhada ao Checklist do domínio.
  */
 @Entity
+@DynamicUpdate
 @Table(name = "evaluation_checklists", schema = "vehicle_evaluation")
 public class EvaluationChecklistJpaEntity {
 
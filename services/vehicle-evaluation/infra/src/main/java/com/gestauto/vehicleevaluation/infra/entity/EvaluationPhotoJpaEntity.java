@@ -1,6 +1,7 @@
 package com.gestauto.vehicleevaluation.infra.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -8,6 +9,7 @@ import java.util.UUID;
  * Entidade JPA para persistência de fotos de avaliação.
  */
 @Entity
+@DynamicUpdate
 @Table(name = "evaluation_photos", schema = "vehicle_evaluation")
 public class EvaluationPhotoJpaEntity {
 
@@ -44,6 +46,12 @@ public class EvaluationPhotoJpaEntity {
     @Column(name = "upload_url", length = 500)
     private String uploadUrl;
 
+    @Column(name = "pdf_image_path", length = 500)
+    private String pdfImagePath;
+
+    @Column(name = "pdf_image_size")
+    private Long pdfImageSize;
+
     // Construtores
     public EvaluationPhotoJpaEntity() {
         this.uploadedAt = LocalDateTime.now();
@@ -129,4 +137,20 @@ public class EvaluationPhotoJpaEntity {
     public void setUploadUrl(String uploadUrl) {
         this.uploadUrl = uploadUrl;
     }
-}
\ No newline at end of file
+
+    public String getPdfImagePath() {
+        return pdfImagePath;
+    }
+
+    public void setPdfImagePath(String pdfImagePath) {
+        this.pdfImagePath = pdfImagePath;
+    }
+
+    public Long getPdfImageSize() {
+        return pdfImageSize;
+    }
+
+    public void setPdfImageSize(Long pdfImageSize) {
+        this.pdfImageSize = pdfImageSize;
+    }
+}
@@ -0,0 +1,74 @@
+package com.gestauto.vehicleevaluation.infra.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entidade JPA dos jobs de geração de laudo (tabela report_jobs).
+ *
+ * Os registros são inseridos e atualizados por instruções do
+ * {@code ReportJobJpaRepository}; a entidade serve às consultas.
+ */
+@Entity
+@Table(name = "report_jobs", schema = "vehicle_evaluation")
+public class ReportJobJpaEntity {
+
+    @Id
+    @Column(name = "job_id", columnDefinition = "UUID")
+    private UUID jobId;
+
+    @Column(name = "evaluation_id", nullable = false, columnDefinition = "UUID")
+    private UUID evaluationId;
+
+    @Column(name = "requested_by", nullable = false, length = 100)
+    private String requestedBy;
+
+    @Column(name = "status", nullable = false, length = 20)
+    private String status;
+
+    @Column(name = "submitted_at", nullable = false)
+    private LocalDateTime submittedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Column(name = "error_message", columnDefinition = "TEXT")
+    private String errorMessage;
+
+    // Getters
+    public UUID getJobId() {
+        return jobId;
+    }
+
+    public UUID getEvaluationId() {
+        return evaluationId;
+    }
+
+    public String getRequestedBy() {
+        return requestedBy;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+}
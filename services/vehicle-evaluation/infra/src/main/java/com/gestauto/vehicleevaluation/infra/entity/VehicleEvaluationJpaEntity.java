@@ -1,6 +1,7 @@
 package com.gestauto.vehicleevaluation.infra.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 import java.math.BigDecimal;
@@ -14,11 +15,22 @@ import java.util.UUID;
  *
  * Esta entidade representa a tabela no banco de dados e
  * contém as annotations JPA necessárias para o mapeamento.
+ *
+ * O grafo {@link #WITH_CHECKLIST_GRAPH} traz o checklist na mesma consulta da
+ * avaliação; as coleções são carregadas em lote pelo repositório (ver
+ * {@code VehicleEvaluationRepositoryImpl}).
  */
 @Entity
+@DynamicUpdate
 @Table(name = "vehicle_evaluations", schema = "vehicle_evaluation")
+@NamedEntityGraph(
+    name = VehicleEvaluationJpaEntity.WITH_CHECKLIST_GRAPH,
+    attributeNodes = @NamedAttributeNode("checklist")
+)
 public class VehicleEvaluationJpaEntity {
 
+    public static final String WITH_CHECKLIST_GRAPH = "VehicleEvaluation.withChecklist";
+
     @Id
     @Column(name = "id", columnDefinition = "UUID")
     private UUID id;
@@ -101,6 +113,10 @@ public class VehicleEvaluationJpaEntity {
     @Column(name = "validation_token", length = 100)
     private String validationToken;
 
+    @Version
+    @Column(name = "row_version", nullable = false)
+    private Long rowVersion;
+
     @OneToMany(mappedBy = "evaluation", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<EvaluationPhotoJpaEntity> photos = new ArrayList<>();
 
@@ -317,6 +333,14 @@ public class VehicleEvaluationJpaEntity {
         this.validationToken = validationToken;
     }
 
+    public Long getRowVersion() {
+        return rowVersion;
+    }
+
+    public void setRowVersion(Long rowVersion) {
+        this.rowVersion = rowVersion;
+    }
+
     public List<EvaluationPhotoJpaEntity> getPhotos() {
         return photos;
     }
@@ -22,6 +22,14 @@ public final class DepreciationItemMapper {
         DepreciationItemJpaEntity entity = new DepreciationItemJpaEntity();
         entity.setDepreciationId(UUID.fromString(item.getDepreciationId()));
         entity.setEvaluation(evaluationJpa);
+        copyTo(item, entity);
+        return entity;
+    }
+
+    /**
+     * Copia os atributos do item para uma entidade existente, sem trocar a instância gerenciada.
+     */
+    public static void copyTo(DepreciationItem item, DepreciationItemJpaEntity entity) {
         entity.setCategory(item.getCategory());
         entity.setDescription(item.getDescription());
         entity.setDepreciationValueAmount(MoneyMapper.toAmount(item.getDepreciationValue()));
@@ -29,7 +37,6 @@ public final class DepreciationItemMapper {
         entity.setJustification(item.getJustification());
         entity.setCreatedAt(item.getCreatedAt());
         entity.setCreatedBy(item.getCreatedBy());
-        return entity;
     }
 
     public static DepreciationItem toDomain(DepreciationItemJpaEntity entity) {
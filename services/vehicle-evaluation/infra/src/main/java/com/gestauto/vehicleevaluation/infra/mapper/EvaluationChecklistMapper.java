@@ -6,6 +6,7 @@ import com.gestauto.vehicleevaluation.infra.entity.EvaluationChecklistJpaEntity;
 import com.gestauto.vehicleevaluation.infra.entity.VehicleEvaluationJpaEntity;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
 /**
@@ -23,6 +24,15 @@ public final class EvaluationChecklistMapper {
         EvaluationChecklistJpaEntity entity = new EvaluationChecklistJpaEntity();
         entity.setChecklistId(UUID.fromString(checklist.getChecklistId()));
         entity.setEvaluation(evaluationJpa);
+        copyTo(checklist, entity);
+        return entity;
+    }
+
+    /**
+     * Copia o checklist para uma entidade existente. A lista de problemas críticos só é
+     * substituída quando muda, evitando regravar a tabela de coleção a cada save.
+     */
+    public static void copyTo(EvaluationChecklist checklist, EvaluationChecklistJpaEntity entity) {
         entity.setBodyCondition(checklist.getBodyCondition());
         entity.setPaintCondition(checklist.getPaintCondition());
         entity.setRustPresence(checklist.isRustPresence());
@@ -59,11 +69,12 @@ public final class EvaluationChecklistMapper {
         entity.setMechanicalNotes(checklist.getMechanicalNotes());
         entity.setAestheticNotes(checklist.getAestheticNotes());
         entity.setDocumentationNotes(checklist.getDocumentationNotes());
-        entity.setCriticalIssues(new ArrayList<>(checklist.getCriticalIssues()));
+        if (!Objects.equals(entity.getCriticalIssues(), checklist.getCriticalIssues())) {
+            entity.setCriticalIssues(new ArrayList<>(checklist.getCriticalIssues()));
+        }
         entity.setConservationScore(checklist.getConservationScore());
         entity.setCreatedAt(checklist.getCreatedAt());
         entity.setUpdatedAt(checklist.getUpdatedAt());
-        return entity;
     }
 
     public static EvaluationChecklist toDomain(EvaluationChecklistJpaEntity entity) {
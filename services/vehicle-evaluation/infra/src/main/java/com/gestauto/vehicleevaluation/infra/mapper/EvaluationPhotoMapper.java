@@ -23,6 +23,15 @@ public final class EvaluationPhotoMapper {
         EvaluationPhotoJpaEntity entity = new EvaluationPhotoJpaEntity();
         entity.setPhotoId(UUID.fromString(photo.getPhotoId()));
         entity.setEvaluation(evaluationJpa);
+        copyTo(photo, entity);
+        return entity;
+    }
+
+    /**
+     * Copia os atributos da foto para uma entidade existente, sem trocar a instância
+     * gerenciada; valores iguais não marcam a linha como alterada.
+     */
+    public static void copyTo(EvaluationPhoto photo, EvaluationPhotoJpaEntity entity) {
         entity.setPhotoType(PhotoTypeJpa.valueOf(photo.getPhotoType().name()));
         entity.setFileName(photo.getFileName());
         entity.setFilePath(photo.getFilePath());
@@ -31,7 +40,8 @@ public final class EvaluationPhotoMapper {
         entity.setUploadUrl(photo.getUploadUrl());
         entity.setThumbnailUrl(photo.getThumbnailUrl());
         entity.setUploadedAt(photo.getUploadedAt());
-        return entity;
+        entity.setPdfImagePath(photo.hasPdfImage() ? photo.getPdfImagePath() : null);
+        entity.setPdfImageSize(photo.hasPdfImage() ? photo.getPdfImageSize() : null);
     }
 
     public static EvaluationPhoto toDomain(EvaluationPhotoJpaEntity entity) {
@@ -48,7 +58,9 @@ public final class EvaluationPhotoMapper {
             entity.getContentType(),
             entity.getUploadUrl(),
             entity.getThumbnailUrl(),
-            entity.getUploadedAt()
+            entity.getUploadedAt(),
+            entity.getPdfImagePath(),
+            entity.getPdfImageSize()
         );
     }
 }
@@ -10,12 +10,15 @@ import com.gestauto.vehicleevaluation.domain.value.Money;
 import com.gestauto.vehicleevaluation.domain.value.Plate;
 import com.gestauto.vehicleevaluation.domain.value.VehicleInfo;
 import com.gestauto.vehicleevaluation.infra.entity.DepreciationItemJpaEntity;
-import com.gestauto.vehicleevaluation.infra.entity.EvaluationChecklistJpaEntity;
 import com.gestauto.vehicleevaluation.infra.entity.EvaluationPhotoJpaEntity;
 import com.gestauto.vehicleevaluation.infra.entity.EvaluationStatusJpa;
 import com.gestauto.vehicleevaluation.infra.entity.VehicleEvaluationJpaEntity;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -32,11 +35,30 @@ public final class VehicleEvaluationMapper {
 
         VehicleEvaluationJpaEntity entity = new VehicleEvaluationJpaEntity();
         entity.setId(UUID.fromString(evaluation.getId().getValueAsString()));
+        applyTo(evaluation, entity);
+        return entity;
+    }
+
+    /**
+     * Aplica o estado do agregado sobre a entidade já gerenciada, em vez de montar um
+     * grafo novo. Fotos e itens de depreciação são conciliados pelo id: os existentes são
+     * atualizados na mesma instância, os novos são incluídos e os ausentes removidos
+     * (orphanRemoval). Com isso o dirty checking do Hibernate só grava as colunas e as
+     * linhas filhas que realmente mudaram.
+     */
+    public static void applyTo(VehicleEvaluation evaluation, VehicleEvaluationJpaEntity entity) {
+        Objects.requireNonNull(evaluation, "VehicleEvaluation cannot be null");
+        Objects.requireNonNull(entity, "VehicleEvaluationJpaEntity cannot be null");
+
         entity.setPlate(evaluation.getPlate().getValue());
         entity.setRenavam(evaluation.getRenavam());
         entity.setEvaluatorId(evaluation.getEvaluatorId());
         entity.setApproverId(evaluation.getApproverId());
-        entity.setVehicleInfo(VehicleInfoMapper.toEmbeddable(evaluation.getVehicleInfo()));
+        if (entity.getVehicleInfo() == null || evaluation.getVehicleInfo() == null) {
+            entity.setVehicleInfo(VehicleInfoMapper.toEmbeddable(evaluation.getVehicleInfo()));
+        } else {
+            VehicleInfoMapper.copyTo(evaluation.getVehicleInfo(), entity.getVehicleInfo());
+        }
         entity.setMileageAmount(MoneyMapper.toAmount(evaluation.getMileage()));
         entity.setMileageCurrency(MoneyMapper.toCurrency(evaluation.getMileage()));
         entity.setStatus(EvaluationStatusJpa.valueOf(evaluation.getStatus().name()));
@@ -66,29 +88,67 @@ public final class VehicleEvaluationMapper {
         entity.setValidUntil(evaluation.getValidUntil());
         entity.setValidationToken(evaluation.getValidationToken());
 
-        entity.getPhotos().clear();
-        if (evaluation.getPhotos() != null) {
-            for (EvaluationPhoto photo : evaluation.getPhotos()) {
-                EvaluationPhotoJpaEntity photoEntity = EvaluationPhotoMapper.toEntity(photo, entity);
-                entity.getPhotos().add(photoEntity);
-            }
+        syncPhotos(evaluation.getPhotos(), entity);
+        syncDepreciationItems(evaluation.getDepreciationItems(), entity);
+        syncChecklist(evaluation.getChecklist(), entity);
+    }
+
+    private static void syncPhotos(List<EvaluationPhoto> photos, VehicleEvaluationJpaEntity entity) {
+        Map<UUID, EvaluationPhotoJpaEntity> current = new HashMap<>();
+        for (EvaluationPhotoJpaEntity photoEntity : entity.getPhotos()) {
+            current.put(photoEntity.getPhotoId(), photoEntity);
         }
 
-        entity.getDepreciationItems().clear();
-        if (evaluation.getDepreciationItems() != null) {
-            for (DepreciationItem item : evaluation.getDepreciationItems()) {
-                DepreciationItemJpaEntity itemEntity = DepreciationItemMapper.toEntity(item, entity);
-                entity.getDepreciationItems().add(itemEntity);
+        Set<UUID> retained = new HashSet<>();
+        if (photos != null) {
+            for (EvaluationPhoto photo : photos) {
+                UUID photoId = UUID.fromString(photo.getPhotoId());
+                retained.add(photoId);
+                EvaluationPhotoJpaEntity photoEntity = current.get(photoId);
+                if (photoEntity == null) {
+                    entity.getPhotos().add(EvaluationPhotoMapper.toEntity(photo, entity));
+                } else {
+                    EvaluationPhotoMapper.copyTo(photo, photoEntity);
+                }
             }
         }
+        entity.getPhotos().removeIf(photoEntity -> !retained.contains(photoEntity.getPhotoId()));
+    }
 
-        EvaluationChecklist checklist = evaluation.getChecklist();
-        if (checklist != null) {
-            EvaluationChecklistJpaEntity checklistEntity = EvaluationChecklistMapper.toEntity(checklist, entity);
-            entity.setChecklist(checklistEntity);
+    private static void syncDepreciationItems(List<DepreciationItem> items, VehicleEvaluationJpaEntity entity) {
+        Map<UUID, DepreciationItemJpaEntity> current = new HashMap<>();
+        for (DepreciationItemJpaEntity itemEntity : entity.getDepreciationItems()) {
+            current.put(itemEntity.getDepreciationId(), itemEntity);
         }
 
-        return entity;
+        Set<UUID> retained = new HashSet<>();
+        if (items != null) {
+            for (DepreciationItem item : items) {
+                UUID depreciationId = UUID.fromString(item.getDepreciationId());
+                retained.add(depreciationId);
+                DepreciationItemJpaEntity itemEntity = current.get(depreciationId);
+                if (itemEntity == null) {
+                    entity.getDepreciationItems().add(DepreciationItemMapper.toEntity(item, entity));
+                } else {
+                    DepreciationItemMapper.copyTo(item, itemEntity);
+                }
+            }
+        }
+        entity.getDepreciationItems().removeIf(itemEntity -> !retained.contains(itemEntity.getDepreciationId()));
+    }
+
+    /**
+     * A tabela de checklists aceita uma linha por avaliação; um checklist substituído no
+     * domínio é gravado sobre a linha existente para não violar a restrição única.
+     */
+    private static void syncChecklist(EvaluationChecklist checklist, VehicleEvaluationJpaEntity entity) {
+        if (checklist == null) {
+            entity.setChecklist(null);
+        } else if (entity.getChecklist() == null) {
+            entity.setChecklist(EvaluationChecklistMapper.toEntity(checklist, entity));
+        } else {
+            EvaluationChecklistMapper.copyTo(checklist, entity.getChecklist());
+        }
     }
 
     public static VehicleEvaluation toDomain(VehicleEvaluationJpaEntity entity) {
@@ -132,7 +192,8 @@ public final class VehicleEvaluationMapper {
             entity.getValidationToken(),
             photos,
             depreciationItems,
-            checklist
+            checklist,
+            entity.getRowVersion() != null ? entity.getRowVersion() : 0L
         );
     }
 }
@@ -31,6 +31,20 @@ public final class VehicleInfoMapper {
         );
     }
 
+    /**
+     * Atualiza apenas os campos modelados no domínio, preservando motor, câmbio,
+     * portas e chassi já gravados.
+     */
+    public static void copyTo(VehicleInfo info, VehicleInfoEmbeddable embeddable) {
+        embeddable.setBrand(info.getBrand());
+        embeddable.setModel(info.getModel());
+        embeddable.setYearManufacture(info.getYearManufacture());
+        embeddable.setYearModel(info.getYearModel());
+        embeddable.setColor(info.getColor());
+        embeddable.setFuelType(info.getFuelType().name());
+        embeddable.setVersion(info.getVersion());
+    }
+
     public static VehicleInfo toDomain(VehicleInfoEmbeddable embeddable) {
         if (embeddable == null) {
             return null;
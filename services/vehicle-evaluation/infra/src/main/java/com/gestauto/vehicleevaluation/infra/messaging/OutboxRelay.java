@@ -0,0 +1,271 @@
+package com.gestauto.vehicleevaluation.infra.messaging;
+
+import com.gestauto.vehicleevaluation.domain.event.StoredDomainEvent;
+import com.gestauto.vehicleevaluation.domain.repository.DomainEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Relay da outbox transacional para o RabbitMQ.
+ *
+ * Cada rodada tem três passos: reivindica um lote de eventos pendentes em uma
+ * transação curta, que grava uma concessão (claimed_by, claimed_until) e já
+ * confirma; entrega o lote ao pipeline de publisher confirms do
+ * {@link RabbitMQEventPublisher} e aguarda as confirmações sem transação nem
+ * conexão aberta; e conclui o lote em outra transação curta, marcando os
+ * eventos confirmados como processados em um único UPDATE.
+ * Vários nós podem rodar o relay ao mesmo tempo: eventos com concessão vigente
+ * são pulados pelos demais, e se um nó cai no meio do lote os eventos voltam a
+ * ser elegíveis quando a concessão expira (app.outbox.relay.lease-ms).
+ *
+ * Só o evento pendente mais antigo de cada avaliação é reivindicado, então um
+ * evento que falhou segura os seguintes da mesma avaliação até ser publicado
+ * ou esgotar as tentativas.
+ *
+ * Nack, retorno por falta de rota ou confirmação expirada contam uma tentativa no
+ * evento, que volta a ser elegível na próxima rodada até app.outbox.max-attempts;
+ * ao esgotar as tentativas o evento é registrado em log de erro e deixa de
+ * segurar a avaliação. Eventos que não chegaram ao broker (broker indisponível
+ * ou fila do publisher cheia) têm a concessão liberada sem contar tentativa e
+ * encerram a rodada.
+ * A entrega é at-least-once: o messageId é o ID do registro na outbox.
+ *
+ * Métricas: outbox.relay.events (status=published|failed|exhausted) e
+ * outbox.relay.batch.duration.
+ */
+@Component
+@ConditionalOnProperty(name = "app.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final DomainEventRepository outbox;
+    private final RabbitMQEventPublisher publisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Optional<MeterRegistry> meterRegistry;
+    private final String claimant = "relay-" + UUID.randomUUID();
+    private final int batchSize;
+    private final long confirmTimeoutMs;
+    private final Duration lease;
+    private final int maxAttempts;
+    private final int retentionDays;
+
+    public OutboxRelay(DomainEventRepository outbox,
+                       RabbitMQEventPublisher publisher,
+                       PlatformTransactionManager transactionManager,
+                       Optional<MeterRegistry> meterRegistry,
+                       @Value("${app.outbox.relay.batch-size:100}") int batchSize,
+                       @Value("${app.outbox.relay.confirm-timeout-ms:5000}") long confirmTimeoutMs,
+                       @Value("${app.outbox.relay.lease-ms:30000}") long leaseMs,
+                       @Value("${app.outbox.max-attempts:10}") int maxAttempts,
+                       @Value("${app.outbox.retention-days:7}") int retentionDays) {
+        this.outbox = outbox;
+        this.publisher = publisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.confirmTimeoutMs = confirmTimeoutMs;
+        this.lease = Duration.ofMillis(leaseMs);
+        this.maxAttempts = maxAttempts;
+        this.retentionDays = retentionDays;
+    }
+
+    /**
+     * Drena a outbox em lotes até não haver eventos elegíveis ou um lote ter
+     * falhas; eventos que falharam só são tentados de novo na próxima rodada.
+     * Como cada lote leva no máximo um evento por avaliação, a drenagem continua
+     * mesmo com lotes incompletos, liberando o evento seguinte de cada avaliação.
+     */
+    @Scheduled(
+        initialDelayString = "${app.outbox.relay.initial-delay-ms:5000}",
+        fixedDelayString = "${app.outbox.relay.poll-interval-ms:500}"
+    )
+    public void relay() {
+        try {
+            BatchResult result;
+            do {
+                result = relayBatch();
+            } while (result.claimed() > 0 && result.completed());
+        } catch (Exception e) {
+            log.warn("Outbox relay round failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Reivindica, publica e conclui um lote. Só a reivindicação e a conclusão
+     * abrem transação; a espera pelas confirmações acontece fora delas.
+     *
+     * @return quantidade reivindicada e se todos os eventos foram publicados
+     */
+    BatchResult relayBatch() {
+        Timer.Sample sample = meterRegistry.isPresent() ? Timer.start(meterRegistry.get()) : null;
+        try {
+            List<StoredDomainEvent> batch = outbox.claimPendingEvents(claimant, batchSize, lease);
+            if (batch.isEmpty()) {
+                return new BatchResult(0, true);
+            }
+
+            Map<StoredDomainEvent, CompletableFuture<Void>> sent = new LinkedHashMap<>();
+            for (StoredDomainEvent event : batch) {
+                sent.put(event, publisher.publishStored(event));
+            }
+
+            Settlement settlement = awaitConfirms(sent);
+            transactionTemplate.executeWithoutResult(status -> settle(settlement));
+            report(settlement);
+            return new BatchResult(batch.size(), settlement.published().size() == batch.size());
+        } finally {
+            if (sample != null) {
+                sample.stop(Timer.builder("outbox.relay.batch.duration")
+                    .description("Tempo para publicar e concluir um lote da outbox")
+                    .register(meterRegistry.get()));
+            }
+        }
+    }
+
+    /**
+     * Remove eventos já publicados além do período de retenção.
+     */
+    @Scheduled(cron = "${app.outbox.cleanup-cron:0 30 3 * * *}")
+    public void purgeProcessed() {
+        try {
+            long deleted = outbox.deleteProcessedEventsOlderThan(LocalDateTime.now().minusDays(retentionDays));
+            log.info("Purged {} processed outbox events older than {} days", deleted, retentionDays);
+        } catch (Exception e) {
+            log.warn("Failed to purge processed outbox events: {}", e.getMessage());
+        }
+    }
+
+    private Settlement awaitConfirms(Map<StoredDomainEvent, CompletableFuture<Void>> sent) {
+        Settlement settlement = new Settlement(new ArrayList<>(), new ArrayList<>(), new LinkedHashMap<>());
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(confirmTimeoutMs);
+
+        for (Map.Entry<StoredDomainEvent, CompletableFuture<Void>> entry : sent.entrySet()) {
+            StoredDomainEvent event = entry.getKey();
+            switch (awaitConfirm(entry.getValue(), deadline)) {
+                case Confirmation.Published ignored -> settlement.published().add(event.getEventId());
+                case Confirmation.NotSent ignored -> settlement.unsent().add(event.getEventId());
+                case Confirmation.Failed failed ->
+                    settlement.failedByReason().computeIfAbsent(failed.reason(), reason -> new ArrayList<>()).add(event);
+            }
+        }
+        return settlement;
+    }
+
+    private void settle(Settlement settlement) {
+        outbox.markAsProcessed(settlement.published(), LocalDateTime.now());
+        settlement.failedByReason().forEach((reason, events) ->
+            outbox.recordFailure(events.stream().map(StoredDomainEvent::getEventId).toList(), claimant, reason));
+        outbox.releaseClaims(settlement.unsent(), claimant);
+    }
+
+    private void report(Settlement settlement) {
+        int failed = 0;
+        int exhausted = 0;
+        for (Map.Entry<String, List<StoredDomainEvent>> entry : settlement.failedByReason().entrySet()) {
+            for (StoredDomainEvent event : entry.getValue()) {
+                failed++;
+                if (event.getProcessingAttempts() + 1 >= maxAttempts) {
+                    exhausted++;
+                    log.error("Outbox event exhausted {} publish attempts and will not be retried: "
+                            + "eventId={}, eventType={}, evaluationId={}, reason={}",
+                        maxAttempts, event.getEventId(), event.getEventType(), event.getEvaluationId(), entry.getKey());
+                }
+            }
+        }
+
+        increment("published", settlement.published().size());
+        increment("failed", failed);
+        increment("exhausted", exhausted);
+        if (failed > 0 || !settlement.unsent().isEmpty()) {
+            log.warn("Outbox relay batch: published={}, failed={}, unsent={}, reasons={}",
+                settlement.published().size(), failed, settlement.unsent().size(), settlement.failedByReason().keySet());
+        } else {
+            log.debug("Outbox relay batch: published={}", settlement.published().size());
+        }
+    }
+
+    /**
+     * Aguarda a confirmação de uma publicação.
+     *
+     * @return resultado da publicação
+     */
+    private Confirmation awaitConfirm(CompletableFuture<Void> confirmation, long deadline) {
+        try {
+            long remaining = Math.max(0, deadline - System.nanoTime());
+            confirmation.get(remaining, TimeUnit.NANOSECONDS);
+            return new Confirmation.Published();
+        } catch (TimeoutException e) {
+            // Retira a mensagem do lote do publisher se ainda não foi enviada
+            confirmation.cancel(false);
+            return new Confirmation.Failed("confirm timeout");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof AmqpException || cause instanceof RejectedExecutionException) {
+                return new Confirmation.NotSent();
+            }
+            return new Confirmation.Failed(cause.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Confirmation.Failed("interrupted");
+        }
+    }
+
+    private void increment(String status, int amount) {
+        if (amount > 0) {
+            meterRegistry.ifPresent(registry -> Counter.builder("outbox.relay.events")
+                .tag("status", status)
+                .description("Eventos da outbox processados pelo relay")
+                .register(registry)
+                .increment(amount));
+        }
+    }
+
+    record BatchResult(int claimed, boolean completed) {
+    }
+
+    /**
+     * Resultado da publicação de um evento: confirmado e roteado pelo broker,
+     * não enviado (o broker não chegou a recebê-lo) ou falho com o motivo.
+     */
+    private sealed interface Confirmation {
+
+        record Published() implements Confirmation {
+        }
+
+        record NotSent() implements Confirmation {
+        }
+
+        record Failed(String reason) implements Confirmation {
+        }
+    }
+
+    private record Settlement(List<String> published,
+                              List<String> unsent,
+                              Map<String, List<StoredDomainEvent>> failedByReason) {
+    }
+}
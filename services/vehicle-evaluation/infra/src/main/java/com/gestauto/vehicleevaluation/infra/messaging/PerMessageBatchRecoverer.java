@@ -0,0 +1,78 @@
+package com.gestauto.vehicleevaluation.infra.messaging;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.BatchMessageListener;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.retry.MessageBatchRecoverer;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
+import org.springframework.retry.RetryOperations;
+
+import java.util.List;
+
+/**
+ * Recuperação de lotes que esgotaram as tentativas no listener em lote.
+ *
+ * Em vez de rejeitar o lote inteiro, entrega as mensagens de novo, uma a uma e
+ * na ordem original, cada uma com suas próprias tentativas. Só as mensagens que
+ * continuam falhando vão para a DLQ, republicadas com o motivo da falha; as
+ * demais são processadas e o lote é confirmado normalmente.
+ *
+ * As mensagens do lote que já tinham sido processadas antes da falha são
+ * entregues outra vez (at-least-once). Se a própria republicação na DLQ falhar,
+ * o lote inteiro é rejeitado sem requeue e segue para a DLQ pelo dead-letter da
+ * queue, como antes, para que nenhuma mensagem seja perdida.
+ */
+public class PerMessageBatchRecoverer implements MessageBatchRecoverer {
+
+    private static final Logger log = LoggerFactory.getLogger(PerMessageBatchRecoverer.class);
+
+    private final BatchMessageListener listener;
+    private final RetryOperations messageRetry;
+    private final MessageRecoverer deadLetterRecoverer;
+
+    public PerMessageBatchRecoverer(BatchMessageListener listener,
+                                    RetryOperations messageRetry,
+                                    MessageRecoverer deadLetterRecoverer) {
+        this.listener = listener;
+        this.messageRetry = messageRetry;
+        this.deadLetterRecoverer = deadLetterRecoverer;
+    }
+
+    @Override
+    public void recover(List<Message> messages, Throwable cause) {
+        log.warn("Retry policy exhausted for batch of {} messages, redelivering one at a time: {}",
+                messages.size(), cause.getMessage());
+
+        int deadLettered = 0;
+        for (Message message : messages) {
+            try {
+                messageRetry.execute(context -> {
+                    listener.onMessageBatch(List.of(message));
+                    return null;
+                });
+            } catch (Exception e) {
+                deadLetter(messages, message, e);
+                deadLettered++;
+            }
+        }
+
+        if (deadLettered > 0) {
+            log.warn("Batch of {} messages recovered: {} sent to the dead letter queue",
+                    messages.size(), deadLettered);
+        }
+    }
+
+    private void deadLetter(List<Message> messages, Message message, Exception failure) {
+        log.error("Sending message to the dead letter queue: messageId={}, eventType={}, error={}",
+                message.getMessageProperties().getMessageId(),
+                message.getMessageProperties().getHeader("eventType"), failure.getMessage());
+        try {
+            deadLetterRecoverer.recover(message, failure);
+        } catch (RuntimeException e) {
+            throw new AmqpRejectAndDontRequeueException(
+                    "Failed to dead-letter message from batch of " + messages.size() + " messages", e);
+        }
+    }
+}
@@ -1,58 +1,125 @@
 package com.gestauto.vehicleevaluation.infra.messaging;
 
+import com.fasterxml.jackson.annotation.JsonSubTypes;
 import com.gestauto.vehicleevaluation.domain.event.*;
 import com.gestauto.vehicleevaluation.domain.event.DomainEventExternalPublisher;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.amqp.AmqpException;
 import org.springframework.amqp.core.Message;
 import org.springframework.amqp.core.MessagePostProcessor;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.sql.Timestamp;
 import java.time.ZoneId;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 /**
  * Publisher de eventos de domínio para RabbitMQ.
  *
- * Responsável por publicar eventos de domínio no RabbitMQ com:
- * - Retry automático com exponential backoff
- * - Logging estruturado de eventos
- * - Métricas de publicação
- * - Headers customizados para rastreabilidade
+ * As publicações entram em uma fila em memória limitada e uma thread dedicada
+ * as envia em lotes, disparados quando o lote atinge rabbitmq.publisher.batch-size
+ * ou quando a primeira mensagem espera rabbitmq.publisher.linger-ms. Cada lote é
+ * enviado em um único canal sem aguardar confirmação entre mensagens; os publisher
+ * confirms chegam de forma assíncrona e completam o future de cada mensagem.
+ *
+ * Nack, retorno por falta de rota ou falha de envio recolocam a mensagem no fim
+ * da fila até rabbitmq.publisher.max-attempts; depois disso o future falha. Uma
+ * mensagem recolocada pode ser entregue fora da ordem original.
+ *
+ * Métricas: events.published (type, status=success|failed|requeued),
+ * events.publish.confirm.latency, events.publish.batch.size e events.publish.queue.depth.
  */
 @Component
 public class RabbitMQEventPublisher implements DomainEventExternalPublisher {
 
     private static final Logger log = LoggerFactory.getLogger(RabbitMQEventPublisher.class);
 
+    /**
+     * Classe concreta de cada tipo de evento, usada no header de tipo que os
+     * consumidores esperam do Jackson2JsonMessageConverter.
+     */
+    private static final Map<String, String> EVENT_CLASSES = Arrays.stream(
+            DomainEvent.class.getAnnotation(JsonSubTypes.class).value())
+        .collect(Collectors.toUnmodifiableMap(JsonSubTypes.Type::name, type -> type.value().getName()));
+
     private final RabbitTemplate rabbitTemplate;
     private final MeterRegistry meterRegistry;
-    private final Map<String, Counter> eventCounters;
+    private final Map<String, Counter> eventCounters = new ConcurrentHashMap<>();
+    private final String exchangeName;
+    private final int batchSize;
+    private final long lingerNanos;
+    private final int maxAttempts;
+    private final long retryBackoffMs;
 
-    @Value("${rabbitmq.exchange.name:gestauto.events}")
-    private String exchangeName;
+    private final BlockingQueue<PendingPublish> queue;
+    private final Timer confirmLatency;
+    private final DistributionSummary batchSizes;
+    private final Thread flusher;
+    private volatile boolean running = true;
 
-    public RabbitMQEventPublisher(RabbitTemplate rabbitTemplate, MeterRegistry meterRegistry) {
+    public RabbitMQEventPublisher(RabbitTemplate rabbitTemplate,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${rabbitmq.exchange.name:gestauto.events}") String exchangeName,
+                                  @Value("${rabbitmq.publisher.queue-capacity:10000}") int queueCapacity,
+                                  @Value("${rabbitmq.publisher.batch-size:200}") int batchSize,
+                                  @Value("${rabbitmq.publisher.linger-ms:5}") long lingerMs,
+                                  @Value("${rabbitmq.publisher.max-attempts:3}") int maxAttempts,
+                                  @Value("${rabbitmq.publisher.retry-backoff-ms:1000}") long retryBackoffMs) {
         this.rabbitTemplate = rabbitTemplate;
         this.meterRegistry = meterRegistry;
-        this.eventCounters = new HashMap<>();
+        this.exchangeName = exchangeName;
+        this.batchSize = batchSize;
+        this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(lingerMs);
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMs = retryBackoffMs;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        this.confirmLatency = Timer.builder("events.publish.confirm.latency")
+            .description("Tempo entre o envio e a confirmação do broker")
+            .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("events.publish.batch.size")
+            .description("Mensagens enviadas por lote")
+            .register(meterRegistry);
+        Gauge.builder("events.publish.queue.depth", queue, BlockingQueue::size)
+            .description("Mensagens aguardando envio ao broker")
+            .register(meterRegistry);
+
+        this.flusher = new Thread(this::runFlusher, "rabbitmq-publisher");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
     }
 
     /**
-     * Publica um evento de domínio de forma assíncrona.
+     * Enfileira um evento de domínio para publicação.
+     *
+     * Não bloqueia: falhas definitivas são registradas em log e nas métricas.
      *
      * @param event evento a ser publicado
      */
-    @Async
     @Override
     public void publishEvent(DomainEvent event) {
         if (event == null) {
@@ -60,45 +127,205 @@ public class RabbitMQEventPublisher implements DomainEventExternalPublisher {
             return;
         }
 
-        String routingKey = determineRoutingKey(event);
+        publishAsync(event);
+    }
+
+    /**
+     * Enfileira um evento de domínio e devolve o resultado da confirmação.
+     *
+     * @param event evento a ser publicado
+     * @return future completado quando o broker confirma a mensagem roteada, ou
+     *         com erro quando as tentativas se esgotam ou a fila está cheia
+     */
+    public CompletableFuture<Void> publishAsync(DomainEvent event) {
         String eventId = UUID.randomUUID().toString();
+        Message message = rabbitTemplate.getMessageConverter().toMessage(event, new MessageProperties());
+        createMessagePostProcessor(event, eventId).postProcessMessage(message);
 
-        try {
-            log.info("Publishing event: type={}, evaluationId={}, eventId={}", 
-                    event.getEventType(), event.getEvaluationId(), eventId);
+        return enqueue(new PendingPublish(eventId, event.getEventType(),
+            determineRoutingKey(event.getEventType()), message, maxAttempts));
+    }
 
-            rabbitTemplate.convertAndSend(
-                exchangeName,
-                routingKey,
-                event,
-                createMessagePostProcessor(event, eventId)
-            );
+    /**
+     * Enfileira um evento lido da outbox.
+     *
+     * O payload já serializado é enviado sem conversão e o ID do registro na
+     * outbox vira o messageId, de modo que uma republicação após falha chega aos
+     * consumidores com a mesma chave de idempotência. Não há nova tentativa em
+     * memória: o future falha no primeiro nack ou retorno e a outbox decide quando
+     * republicar. Falhas de envio completam o future com {@link AmqpException} e
+     * fila cheia com {@link RejectedExecutionException}. Cancelar o future antes
+     * do envio retira a mensagem do lote.
+     *
+     * @param event evento gravado na outbox
+     * @return future completado quando o broker confirma a mensagem roteada
+     */
+    public CompletableFuture<Void> publishStored(StoredDomainEvent event) {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        properties.setContentEncoding(StandardCharsets.UTF_8.name());
+        properties.setTimestamp(Timestamp.from(event.getOccurredAt().atZone(ZoneId.systemDefault()).toInstant()));
+        properties.setMessageId(event.getEventId());
+        properties.setHeader("eventId", event.getEventId());
+        properties.setHeader("eventType", event.getEventType());
+        properties.setHeader("evaluationId", event.getEvaluationId());
+        properties.setHeader("publishedAt", System.currentTimeMillis());
+        properties.setHeader("source", "vehicle-evaluation-service");
+        properties.setHeader("idempotencyKey", event.getEventId());
+        String eventClass = EVENT_CLASSES.get(event.getEventType());
+        if (eventClass != null) {
+            properties.setHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME, eventClass);
+        }
+
+        Message message = new Message(event.getEventData().getBytes(StandardCharsets.UTF_8), properties);
+        return enqueue(new PendingPublish(event.getEventId(), event.getEventType(),
+            determineRoutingKey(event.getEventType()), message, 1));
+    }
+
+    private CompletableFuture<Void> enqueue(PendingPublish publish) {
+        if (!running || !queue.offer(publish)) {
+            incrementCounter("events.published", publish.eventType, "failed");
+            publish.result.completeExceptionally(
+                new RejectedExecutionException("Publish queue is full or publisher is stopped"));
+        }
+        return publish.result;
+    }
+
+    private void runFlusher() {
+        List<PendingPublish> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                collectBatch(batch);
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("Unexpected error in RabbitMQ publisher: {}", e.getMessage(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Aguarda a primeira mensagem e completa o lote até o tamanho máximo ou o fim do linger.
+     */
+    private void collectBatch(List<PendingPublish> batch) throws InterruptedException {
+        PendingPublish first = queue.poll(1, TimeUnit.SECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
 
-            // Registrar métrica de sucesso
-            incrementCounter("events.published", event.getEventType(), "success");
+        long deadline = System.nanoTime() + lingerNanos;
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                return;
+            }
+            PendingPublish next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
 
-            log.info("Event published successfully: type={}, evaluationId={}, eventId={}, routingKey={}", 
-                    event.getEventType(), event.getEvaluationId(), eventId, routingKey);
+    /**
+     * Envia o lote em um único canal; as confirmações são tratadas de forma assíncrona.
+     */
+    private void flush(List<PendingPublish> batch) throws InterruptedException {
+        List<PendingPublish> toSend = batch.stream().filter(publish -> !publish.result.isDone()).toList();
+        if (toSend.isEmpty()) {
+            return;
+        }
+        batchSizes.record(toSend.size());
 
+        List<PendingPublish> sent = new ArrayList<>(toSend.size());
+        try {
+            rabbitTemplate.invoke(operations -> {
+                for (PendingPublish publish : toSend) {
+                    CorrelationData correlation = new CorrelationData(publish.eventId);
+                    publish.attempts++;
+                    publish.sentAt = System.nanoTime();
+                    correlation.getFuture().whenComplete((confirm, error) ->
+                        onConfirm(publish, correlation, confirm, error));
+                    operations.send(exchangeName, publish.routingKey, publish.message, correlation);
+                    sent.add(publish);
+                }
+                return null;
+            });
         } catch (AmqpException e) {
-            // Registrar métrica de falha
-            incrementCounter("events.published", event.getEventType(), "failed");
+            // As mensagens já enviadas recebem confirmação (ou nack no fechamento do canal)
+            log.warn("Failed to send batch to RabbitMQ: sent={}, batch={}, error={}",
+                    sent.size(), toSend.size(), e.getMessage());
+            toSend.stream()
+                .filter(publish -> !sent.contains(publish))
+                .forEach(publish -> retryOrFail(publish, e));
+            Thread.sleep(retryBackoffMs);
+        }
+    }
+
+    private void onConfirm(PendingPublish publish, CorrelationData correlation,
+                           CorrelationData.Confirm confirm, Throwable error) {
+        confirmLatency.record(System.nanoTime() - publish.sentAt, TimeUnit.NANOSECONDS);
 
-            log.error("Failed to publish event: type={}, evaluationId={}, eventId={}, error={}", 
-                    event.getEventType(), event.getEvaluationId(), eventId, e.getMessage(), e);
+        if (error == null && confirm.isAck() && correlation.getReturned() == null) {
+            incrementCounter("events.published", publish.eventType, "success");
+            publish.result.complete(null);
+            return;
+        }
 
-            throw new EventPublishingException(
-                String.format("Failed to publish event: %s - %s", event.getEventType(), eventId), 
-                e
-            );
+        String reason;
+        if (error != null) {
+            reason = "confirm failed: " + error.getMessage();
+        } else if (!confirm.isAck()) {
+            reason = "nack: " + confirm.getReason();
+        } else {
+            reason = "returned: " + correlation.getReturned().getReplyText();
         }
+        retryOrFail(publish, new EventPublishingException(reason, error));
+    }
+
+    private void retryOrFail(PendingPublish publish, Exception cause) {
+        if (publish.attempts < publish.maxAttempts && running && !publish.result.isDone()
+                && queue.offer(publish)) {
+            incrementCounter("events.published", publish.eventType, "requeued");
+            log.debug("Event re-enqueued: type={}, eventId={}, attempt={}, reason={}",
+                    publish.eventType, publish.eventId, publish.attempts, cause.getMessage());
+            return;
+        }
+
+        incrementCounter("events.published", publish.eventType, "failed");
+        log.error("Failed to publish event: type={}, eventId={}, attempts={}, error={}",
+                publish.eventType, publish.eventId, publish.attempts, cause.getMessage());
+        publish.result.completeExceptionally(cause);
+    }
+
+    /**
+     * Interrompe o envio e falha as publicações ainda na fila.
+     */
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        running = false;
+        flusher.interrupt();
+        flusher.join(TimeUnit.SECONDS.toMillis(5));
+
+        List<PendingPublish> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.forEach(publish -> publish.result.completeExceptionally(
+            new RejectedExecutionException("Publisher stopped before sending event " + publish.eventId)));
     }
 
     /**
      * Determina a routing key baseada no tipo do evento.
      */
-    private String determineRoutingKey(DomainEvent event) {
-        return switch (event.getEventType()) {
+    private String determineRoutingKey(String eventType) {
+        return switch (eventType) {
             case "EvaluationCreated" -> "vehicle.evaluation.created";
             case "EvaluationSubmitted" -> "vehicle.evaluation.submitted";
             case "EvaluationApproved" -> "vehicle.evaluation.approved";
@@ -106,7 +333,7 @@ public class RabbitMQEventPublisher implements DomainEventExternalPublisher {
             case "VehicleEvaluationCompleted" -> "vehicle.evaluation.completed";
             case "ChecklistCompleted" -> "vehicle.evaluation.checklist.completed";
             case "ValuationCalculated" -> "vehicle.evaluation.valuation.calculated";
-            default -> "vehicle.evaluation." + event.getEventType().toLowerCase();
+            default -> "vehicle.evaluation." + eventType.toLowerCase();
         };
     }
 
@@ -127,11 +354,11 @@ public class RabbitMQEventPublisher implements DomainEventExternalPublisher {
                 message.getMessageProperties().setHeader("publishedAt", System.currentTimeMillis());
                 message.getMessageProperties().setHeader("source", "vehicle-evaluation-service");
                 message.getMessageProperties().setMessageId(eventId);
-                
+
                 // Header para idempotência
-                message.getMessageProperties().setHeader("idempotencyKey", 
+                message.getMessageProperties().setHeader("idempotencyKey",
                     event.getEvaluationId() + ":" + event.getEventType() + ":" + event.getOccurredAt().toString());
-                
+
                 return message;
             }
         };
@@ -142,18 +369,41 @@ public class RabbitMQEventPublisher implements DomainEventExternalPublisher {
      */
     private void incrementCounter(String counterName, String eventType, String status) {
         String key = counterName + "." + eventType + "." + status;
-        
-        Counter counter = eventCounters.computeIfAbsent(key, k -> 
+
+        Counter counter = eventCounters.computeIfAbsent(key, k ->
             Counter.builder(counterName)
                 .tag("type", eventType)
                 .tag("status", status)
                 .description("Count of published domain events")
                 .register(meterRegistry)
         );
-        
+
         counter.increment();
     }
 
+    /**
+     * Publicação aguardando envio ou confirmação.
+     */
+    private static final class PendingPublish {
+
+        private final String eventId;
+        private final String eventType;
+        private final String routingKey;
+        private final Message message;
+        private final int maxAttempts;
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+        private volatile int attempts;
+        private volatile long sentAt;
+
+        private PendingPublish(String eventId, String eventType, String routingKey, Message message, int maxAttempts) {
+            this.eventId = eventId;
+            this.eventType = eventType;
+            this.routingKey = routingKey;
+            this.message = message;
+            this.maxAttempts = maxAttempts;
+        }
+    }
+
     /**
      * Exception específica para falhas na publicação de eventos.
      */
@@ -3,112 +3,212 @@ package com.gestauto.vehicleevaluation.infra.messaging;
 import com.gestauto.vehicleevaluation.domain.event.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.BatchMessageListener;
 import org.springframework.amqp.core.Message;
-import org.springframework.amqp.rabbit.annotation.RabbitHandler;
-import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Listener de eventos de domínio do RabbitMQ.
  *
  * Este componente demonstra como consumir eventos publicados
- * na queue de avaliação de veículos. Em produção, outros bounded contexts
+ * nas queues de avaliação de veículos. Em produção, outros bounded contexts
  * (como Commercial) teriam seus próprios listeners.
+ *
+ * Os eventos chegam particionados por evaluationId (ver RabbitMQConfig), com um
+ * consumidor por shard: eventos de uma mesma avaliação são processados em ordem.
+ * Os containers são registrados por {@link VehicleEvaluationListenerRegistrar}.
+ *
+ * Cada lote recebido é dividido em sequências consecutivas do mesmo tipo, e cada
+ * handler recebe a sequência inteira, o que permite agrupar o trabalho derivado
+ * (rollups, invalidação de cache) por lote sem alterar a ordem dos eventos.
+ * O lote é confirmado de uma vez quando todos os handlers retornam. Se um
+ * handler falhar em todas as tentativas, o {@link PerMessageBatchRecoverer}
+ * reentrega as mensagens uma a uma e só as que continuam falhando vão para a DLQ.
+ * Mensagens ilegíveis não passam pelo retry: são republicadas na DLQ depois que
+ * os handlers do lote retornam, antes da confirmação do lote.
  */
 @Component
-@RabbitListener(queues = "${rabbitmq.queue.vehicle-evaluation:vehicle-evaluation.events}")
-public class VehicleEvaluationEventListener {
+public class VehicleEvaluationEventListener implements BatchMessageListener {
 
     private static final Logger log = LoggerFactory.getLogger(VehicleEvaluationEventListener.class);
 
+    private final MessageConverter messageConverter;
+    private final MessageRecoverer deadLetterRecoverer;
+
+    public VehicleEvaluationEventListener(MessageConverter messageConverter,
+                                          @Qualifier("deadLetterRecoverer") MessageRecoverer deadLetterRecoverer) {
+        this.messageConverter = messageConverter;
+        this.deadLetterRecoverer = deadLetterRecoverer;
+    }
+
+    @Override
+    public void onMessage(Message message) {
+        onMessageBatch(List.of(message));
+    }
+
+    @Override
+    public void onMessageBatch(List<Message> messages) {
+        List<Object> run = new ArrayList<>();
+        List<Map.Entry<Message, MessageConversionException>> unreadable = new ArrayList<>();
+        for (Message message : messages) {
+            Object event;
+            try {
+                event = messageConverter.fromMessage(message);
+            } catch (MessageConversionException e) {
+                unreadable.add(Map.entry(message, e));
+                continue;
+            }
+            if (!run.isEmpty() && run.get(0).getClass() != event.getClass()) {
+                dispatch(run);
+                run = new ArrayList<>();
+            }
+            run.add(event);
+        }
+        if (!run.isEmpty()) {
+            dispatch(run);
+        }
+        unreadable.forEach(entry -> deadLetter(entry.getKey(), entry.getValue()));
+    }
+
     /**
      * Processa eventos de criação de avaliação.
      */
-    @RabbitHandler
-    public void handleEvaluationCreated(EvaluationCreatedEvent event) {
-        log.info("Processing EvaluationCreated event: evaluationId={}, plate={}, brand={}, model={}", 
-                event.getEvaluationId(), event.getPlate(), event.getBrand(), event.getModel());
-        
+    public void handleEvaluationCreated(List<EvaluationCreatedEvent> events) {
+        log.info("Processing {} EvaluationCreated events", events.size());
+        for (EvaluationCreatedEvent event : events) {
+            log.debug("EvaluationCreated: evaluationId={}, plate={}, brand={}, model={}",
+                    event.getEvaluationId(), event.getPlate(), event.getBrand(), event.getModel());
+        }
+
         // Lógica de processamento aqui
-        // Por exemplo: notificar sistema de estoque sobre nova avaliação
+        // Por exemplo: notificar sistema de estoque sobre novas avaliações
     }
 
     /**
      * Processa eventos de submissão de avaliação.
      */
-    @RabbitHandler
-    public void handleEvaluationSubmitted(EvaluationSubmittedEvent event) {
-        log.info("Processing EvaluationSubmitted event: evaluationId={}, plate={}, suggestedValue={}", 
-                event.getEvaluationId(), event.getPlate(), event.getSuggestedValue());
-        
+    public void handleEvaluationSubmitted(List<EvaluationSubmittedEvent> events) {
+        log.info("Processing {} EvaluationSubmitted events", events.size());
+        for (EvaluationSubmittedEvent event : events) {
+            log.debug("EvaluationSubmitted: evaluationId={}, plate={}, suggestedValue={}",
+                    event.getEvaluationId(), event.getPlate(), event.getSuggestedValue());
+        }
+
         // Lógica de processamento aqui
-        // Por exemplo: notificar gerentes sobre avaliação pendente
+        // Por exemplo: notificar gerentes sobre avaliações pendentes
     }
 
     /**
      * Processa eventos de aprovação de avaliação.
      */
-    @RabbitHandler
-    public void handleEvaluationApproved(EvaluationApprovedEvent event) {
-        log.info("Processing EvaluationApproved event: evaluationId={}, plate={}, approvedValue={}, validUntil={}", 
-                event.getEvaluationId(), event.getPlate(), event.getApprovedValue(), event.getValidUntil());
-        
+    public void handleEvaluationApproved(List<EvaluationApprovedEvent> events) {
+        log.info("Processing {} EvaluationApproved events", events.size());
+        for (EvaluationApprovedEvent event : events) {
+            log.debug("EvaluationApproved: evaluationId={}, plate={}, approvedValue={}, validUntil={}",
+                    event.getEvaluationId(), event.getPlate(), event.getApprovedValue(), event.getValidUntil());
+        }
+
         // Lógica de processamento aqui
-        // Por exemplo: integrar com bounded context Commercial para criar proposta
-        // ou adicionar veículo ao inventário
+        // Por exemplo: integrar com bounded context Commercial para criar propostas
+        // ou adicionar veículos ao inventário
     }
 
     /**
      * Processa eventos de rejeição de avaliação.
      */
-    @RabbitHandler
-    public void handleEvaluationRejected(EvaluationRejectedEvent event) {
-        log.info("Processing EvaluationRejected event: evaluationId={}, plate={}, reason={}", 
-                event.getEvaluationId(), event.getPlate(), event.getRejectionReason());
-        
+    public void handleEvaluationRejected(List<EvaluationRejectedEvent> events) {
+        log.info("Processing {} EvaluationRejected events", events.size());
+        for (EvaluationRejectedEvent event : events) {
+            log.debug("EvaluationRejected: evaluationId={}, plate={}, reason={}",
+                    event.getEvaluationId(), event.getPlate(), event.getRejectionReason());
+        }
+
         // Lógica de processamento aqui
-        // Por exemplo: notificar avaliador sobre rejeição
+        // Por exemplo: notificar avaliadores sobre rejeições
     }
 
     /**
      * Processa eventos de conclusão de avaliação de veículo.
      */
-    @RabbitHandler
-    public void handleVehicleEvaluationCompleted(VehicleEvaluationCompletedEvent event) {
-        log.info("Processing VehicleEvaluationCompleted event: evaluationId={}, plate={}, brand={} {} {}, finalValue={}", 
-                event.getEvaluationId(), event.getPlate(), event.getBrand(), event.getModel(), 
-                event.getYear(), event.getFinalValue());
-        
+    public void handleVehicleEvaluationCompleted(List<VehicleEvaluationCompletedEvent> events) {
+        log.info("Processing {} VehicleEvaluationCompleted events", events.size());
+        for (VehicleEvaluationCompletedEvent event : events) {
+            log.debug("VehicleEvaluationCompleted: evaluationId={}, plate={}, brand={} {} {}, finalValue={}",
+                    event.getEvaluationId(), event.getPlate(), event.getBrand(), event.getModel(),
+                    event.getYear(), event.getFinalValue());
+        }
+
         // Lógica de processamento aqui
-        // Por exemplo: adicionar veículo ao sistema de estoque com todas as informações
+        // Por exemplo: adicionar veículos ao sistema de estoque com todas as informações
         // ou enviar para sistema de precificação
     }
 
     /**
      * Processa eventos de checklist completado.
      */
-    @RabbitHandler
-    public void handleChecklistCompleted(ChecklistCompletedEvent event) {
-        log.info("Processing ChecklistCompleted event: evaluationId={}", event.getEvaluationId());
-        
+    public void handleChecklistCompleted(List<ChecklistCompletedEvent> events) {
+        log.info("Processing {} ChecklistCompleted events", events.size());
+        for (ChecklistCompletedEvent event : events) {
+            log.debug("ChecklistCompleted: evaluationId={}", event.getEvaluationId());
+        }
+
         // Lógica de processamento aqui
     }
 
     /**
      * Processa eventos de cálculo de avaliação.
      */
-    @RabbitHandler
-    public void handleValuationCalculated(ValuationCalculatedEvent event) {
-        log.info("Processing ValuationCalculated event: evaluationId={}", event.getEvaluationId());
-        
+    public void handleValuationCalculated(List<ValuationCalculatedEvent> events) {
+        log.info("Processing {} ValuationCalculated events", events.size());
+        for (ValuationCalculatedEvent event : events) {
+            log.debug("ValuationCalculated: evaluationId={}", event.getEvaluationId());
+        }
+
         // Lógica de processamento aqui
     }
 
     /**
      * Handler padrão para eventos não mapeados.
      */
-    @RabbitHandler(isDefault = true)
-    public void handleUnknownEvent(Object event) {
-        log.warn("Received unknown event type: {}", event.getClass().getName());
+    public void handleUnknownEvents(List<Object> events) {
+        log.warn("Received {} events of unknown type: {}", events.size(), events.get(0).getClass().getName());
+    }
+
+    private void deadLetter(Message message, MessageConversionException cause) {
+        log.error("Sending unreadable event to the dead letter queue: messageId={}, eventType={}, error={}",
+                message.getMessageProperties().getMessageId(),
+                message.getMessageProperties().getHeader("eventType"), cause.getMessage());
+        try {
+            deadLetterRecoverer.recover(message, cause);
+        } catch (RuntimeException e) {
+            throw new AmqpRejectAndDontRequeueException("Failed to dead-letter unreadable event", e);
+        }
+    }
+
+    private void dispatch(List<Object> events) {
+        switch (events.get(0)) {
+            case EvaluationCreatedEvent ignored -> handleEvaluationCreated(cast(events));
+            case EvaluationSubmittedEvent ignored -> handleEvaluationSubmitted(cast(events));
+            case EvaluationApprovedEvent ignored -> handleEvaluationApproved(cast(events));
+            case EvaluationRejectedEvent ignored -> handleEvaluationRejected(cast(events));
+            case VehicleEvaluationCompletedEvent ignored -> handleVehicleEvaluationCompleted(cast(events));
+            case ChecklistCompletedEvent ignored -> handleChecklistCompleted(cast(events));
+            case ValuationCalculatedEvent ignored -> handleValuationCalculated(cast(events));
+            default -> handleUnknownEvents(events);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> cast(List<Object> events) {
+        return (List<T>) events;
     }
 }
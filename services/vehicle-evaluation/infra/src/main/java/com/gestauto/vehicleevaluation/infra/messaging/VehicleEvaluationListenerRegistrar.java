@@ -0,0 +1,70 @@
+package com.gestauto.vehicleevaluation.infra.messaging;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.annotation.RabbitListenerConfigurer;
+import org.springframework.amqp.rabbit.config.DirectRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerEndpoint;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistrar;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Registra os containers que consomem as queues particionadas de avaliação.
+ *
+ * Com rabbitmq.sharding.batch.enabled (padrão), cada shard ganha seu próprio
+ * container em lote, preservando um único consumidor ordenado por queue. Com o
+ * modo em lote desligado, um único container direto consome todas as queues,
+ * uma mensagem por vez.
+ */
+@Component
+public class VehicleEvaluationListenerRegistrar implements RabbitListenerConfigurer {
+
+    private static final Logger log = LoggerFactory.getLogger(VehicleEvaluationListenerRegistrar.class);
+
+    static final String ENDPOINT_ID = "vehicle-evaluation-shard";
+
+    private final VehicleEvaluationEventListener listener;
+    private final String[] shardQueueNames;
+    private final SimpleRabbitListenerContainerFactory batchContainerFactory;
+    private final DirectRabbitListenerContainerFactory containerFactory;
+    private final boolean batchEnabled;
+
+    public VehicleEvaluationListenerRegistrar(
+            VehicleEvaluationEventListener listener,
+            @Qualifier("vehicleEvaluationShardQueueNames") String[] shardQueueNames,
+            @Qualifier("batchShardedRabbitListenerContainerFactory") SimpleRabbitListenerContainerFactory batchContainerFactory,
+            @Qualifier("shardedRabbitListenerContainerFactory") DirectRabbitListenerContainerFactory containerFactory,
+            @Value("${rabbitmq.sharding.batch.enabled:true}") boolean batchEnabled) {
+        this.listener = listener;
+        this.shardQueueNames = shardQueueNames;
+        this.batchContainerFactory = batchContainerFactory;
+        this.containerFactory = containerFactory;
+        this.batchEnabled = batchEnabled;
+    }
+
+    @Override
+    public void configureRabbitListeners(RabbitListenerEndpointRegistrar registrar) {
+        if (!batchEnabled) {
+            SimpleRabbitListenerEndpoint endpoint = new SimpleRabbitListenerEndpoint();
+            endpoint.setId(ENDPOINT_ID + "s");
+            endpoint.setQueueNames(shardQueueNames);
+            endpoint.setMessageListener(listener);
+            registrar.registerEndpoint(endpoint, containerFactory);
+            log.info("Registered per-message consumer for {} evaluation shards", shardQueueNames.length);
+            return;
+        }
+
+        for (int shard = 0; shard < shardQueueNames.length; shard++) {
+            SimpleRabbitListenerEndpoint endpoint = new SimpleRabbitListenerEndpoint();
+            endpoint.setId(ENDPOINT_ID + "-" + shard);
+            endpoint.setQueueNames(shardQueueNames[shard]);
+            endpoint.setMessageListener(listener);
+            endpoint.setBatchListener(true);
+            registrar.registerEndpoint(endpoint, batchContainerFactory);
+        }
+        log.info("Registered batch consumers for {} evaluation shards", shardQueueNames.length);
+    }
+}
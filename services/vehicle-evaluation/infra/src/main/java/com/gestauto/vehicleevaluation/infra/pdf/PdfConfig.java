@@ -1,5 +1,6 @@
 package com.gestauto.vehicleevaluation.infra.pdf;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -15,7 +16,7 @@ public class PdfConfig {
     }
 
     @Bean
-    public QrCodeGenerator qrCodeGenerator() {
-        return new QrCodeGenerator(200);
+    public QrCodeGenerator qrCodeGenerator(@Value("${app.pdf.qr-code-cache-size:256}") int cacheSize) {
+        return new QrCodeGenerator(200, cacheSize);
     }
 }
@@ -24,15 +24,17 @@ import java.io.ByteArrayOutputStream;
  * - Margens adequadas
  * - Fontes e formatação profissional
  * - Marca d'água dinâmica
+ *
+ * Os elementos fixos de página são fornecidos pelo {@link ReportTemplate}.
  */
 @Slf4j
 public class PdfGenerator {
 
     // Configurações de página
-    private static final float TOP_MARGIN = 54f;
-    private static final float BOTTOM_MARGIN = 54f;
-    private static final float LEFT_MARGIN = 36f;
-    private static final float RIGHT_MARGIN = 36f;
+    private static final float TOP_MARGIN = ReportTemplate.TOP_MARGIN;
+    private static final float BOTTOM_MARGIN = ReportTemplate.BOTTOM_MARGIN;
+    private static final float LEFT_MARGIN = ReportTemplate.LEFT_MARGIN;
+    private static final float RIGHT_MARGIN = ReportTemplate.RIGHT_MARGIN;
 
     /**
      * Cria um novo documento PDF com configuração padrão.
@@ -57,18 +59,27 @@ public class PdfGenerator {
     }
 
     /**
-     * Adiciona marca d'água ao documento PDF.
+     * Aplica o template do laudo ao documento: fontes compartilhadas, faixa de
+     * cabeçalho, rodapé e marca d'água, construídos uma vez e reutilizados em
+     * todas as páginas.
      *
      * @param pdf documento PDF
-     * @param text texto da marca d'água (ex: "APROVADO", "REPROVADO")
+     * @param document documento de layout associado
+     * @param watermarkText texto da marca d'água (ex: "APROVADO", "REPROVADO")
      * @param opacity opacidade da marca (0-1)
+     * @return template aplicado
      */
-    public void addWatermark(PdfDocument pdf, String text, float opacity) {
+    public ReportTemplate applyTemplate(PdfDocument pdf, Document document, String watermarkText, float opacity) {
         try {
-            pdf.addEventHandler(PdfDocumentEvent.END_PAGE, new WatermarkEventHandler(text, opacity));
+            ReportTemplate template = new ReportTemplate(pdf, watermarkText, opacity);
+            pdf.addEventHandler(PdfDocumentEvent.END_PAGE, template);
+
+            document.setMargins(TOP_MARGIN, RIGHT_MARGIN, BOTTOM_MARGIN, LEFT_MARGIN);
+            document.setFont(template.getRegularFont());
+            return template;
         } catch (Exception e) {
-            log.error("Erro ao adicionar marca d'água", e);
-            throw new PdfGenerationException("Falha ao adicionar marca d'água", e);
+            log.error("Erro ao aplicar template do laudo", e);
+            throw new PdfGenerationException("Falha ao aplicar template do laudo", e);
         }
     }
 
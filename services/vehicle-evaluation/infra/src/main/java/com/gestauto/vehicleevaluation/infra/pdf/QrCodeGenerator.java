@@ -6,10 +6,18 @@ import com.google.zxing.client.j2se.MatrixToImageWriter;
 import com.google.zxing.common.BitMatrix;
 import com.itextpdf.io.image.ImageData;
 import com.itextpdf.io.image.ImageDataFactory;
+import com.itextpdf.kernel.colors.ColorConstants;
+import com.itextpdf.kernel.geom.Rectangle;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.canvas.PdfCanvas;
+import com.itextpdf.kernel.pdf.xobject.PdfFormXObject;
 import com.itextpdf.layout.element.Image;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.ByteArrayOutputStream;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -17,13 +25,20 @@ import java.util.UUID;
  * 
  * Utiliza a biblioteca ZXing (Zebra Crossing) para gerar QR codes
  * que contêm URLs de validação do laudo com token de acesso temporário.
+ *
+ * No laudo o QR code é desenhado em modo vetorial: os módulos da matriz são
+ * preenchidos direto no canvas do PDF, sem codificar e decodificar PNG.
+ * As matrizes codificadas ficam em um cache LRU pequeno por URL, reaproveitado
+ * quando o mesmo laudo é renderizado novamente.
  */
 @Slf4j
 public class QrCodeGenerator {
 
-    private static final int WIDTH = 200;
-    private static final int HEIGHT = 200;
+    private static final int DEFAULT_CACHE_SIZE = 256;
+    private static final float PDF_SIZE = 80f;
+
     private final int size;
+    private final Map<String, BitMatrix> matrixCache;
 
     /**
      * Construtor do gerador de QR code.
@@ -31,7 +46,23 @@ public class QrCodeGenerator {
      * @param size tamanho do QR code em pixels
      */
     public QrCodeGenerator(int size) {
+        this(size, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Construtor do gerador de QR code.
+     *
+     * @param size tamanho do QR code em pixels
+     * @param cacheSize número máximo de matrizes mantidas em cache
+     */
+    public QrCodeGenerator(int size, int cacheSize) {
         this.size = size;
+        this.matrixCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, BitMatrix> eldest) {
+                return size() > cacheSize;
+            }
+        });
     }
 
     /**
@@ -61,7 +92,7 @@ public class QrCodeGenerator {
     }
 
     /**
-     * Gera um QR code em formato de imagem iText.
+     * Gera um QR code em formato de imagem iText (PNG).
      *
      * @param validationUrl URL de validação do laudo
      * @return imagem do QR code configurada para inserção em PDF
@@ -72,14 +103,82 @@ public class QrCodeGenerator {
             byte[] qrCodeBytes = generateQrCode(validationUrl);
             ImageData imageData = ImageDataFactory.create(qrCodeBytes);
             return new Image(imageData)
-                    .setWidth(80)
-                    .setHeight(80);
+                    .setWidth(PDF_SIZE)
+                    .setHeight(PDF_SIZE);
         } catch (Exception e) {
             log.error("Erro ao criar imagem QR code", e);
             throw new QrCodeGenerationException("Falha ao criar imagem QR code", e);
         }
     }
 
+    /**
+     * Gera um QR code vetorial para inserção no PDF.
+     *
+     * Cada linha da matriz vira um conjunto de retângulos (módulos escuros
+     * consecutivos são unidos), desenhados em um form XObject de 1 unidade por módulo
+     * e escalados para o tamanho final pela imagem.
+     *
+     * @param validationUrl URL de validação do laudo
+     * @param pdf documento de destino
+     * @return imagem vetorial do QR code configurada para inserção em PDF
+     * @throws QrCodeGenerationException se houver erro na geração
+     */
+    public Image createVectorQrCodeImage(String validationUrl, PdfDocument pdf) {
+        BitMatrix matrix = encodeModules(validationUrl);
+        int width = matrix.getWidth();
+        int height = matrix.getHeight();
+
+        PdfFormXObject xObject = new PdfFormXObject(new Rectangle(width, height));
+        PdfCanvas canvas = new PdfCanvas(xObject, pdf);
+        canvas.setFillColor(ColorConstants.BLACK);
+
+        for (int y = 0; y < height; y++) {
+            // Origem do PDF é no canto inferior esquerdo
+            float rowY = height - 1 - y;
+            int x = 0;
+            while (x < width) {
+                if (!matrix.get(x, y)) {
+                    x++;
+                    continue;
+                }
+                int runStart = x;
+                while (x < width && matrix.get(x, y)) {
+                    x++;
+                }
+                canvas.rectangle(runStart, rowY, x - runStart, 1);
+            }
+        }
+        canvas.fill();
+        canvas.release();
+
+        return new Image(xObject)
+                .setWidth(PDF_SIZE)
+                .setHeight(PDF_SIZE);
+    }
+
+    /**
+     * Codifica o conteúdo na matriz mínima (1 pixel por módulo), usando o cache.
+     */
+    BitMatrix encodeModules(String content) {
+        if (content == null || content.isEmpty()) {
+            throw new QrCodeGenerationException("Conteúdo do QR code não pode ser vazio");
+        }
+
+        BitMatrix cached = matrixCache.get(content);
+        if (cached != null) {
+            return cached;
+        }
+
+        try {
+            BitMatrix matrix = new MultiFormatWriter().encode(content, BarcodeFormat.QR_CODE, 0, 0);
+            matrixCache.put(content, matrix);
+            return matrix;
+        } catch (Exception e) {
+            log.error("Erro ao gerar QR code para conteúdo: {}", content, e);
+            throw new QrCodeGenerationException("Falha ao gerar QR code", e);
+        }
+    }
+
     /**
      * Gera um token único para validação do laudo.
      * 
@@ -0,0 +1,328 @@
+package com.gestauto.vehicleevaluation.infra.pdf;
+
+import com.gestauto.vehicleevaluation.domain.entity.EvaluationPhoto;
+import com.gestauto.vehicleevaluation.domain.enums.PhotoType;
+import com.itextpdf.io.image.ImageData;
+import com.itextpdf.io.image.ImageDataFactory;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Carrega as fotos da avaliação do storage (R2/S3) para o grid do laudo.
+ *
+ * Os downloads são disparados em paralelo em virtual threads assim que a geração
+ * do laudo começa, e cada foto é convertida em {@link ImageData} fora da thread
+ * de renderização. Fotos com versão para PDF (gerada no upload) são embutidas
+ * sem decodificação; fotos antigas são baixadas no original e decodificadas com
+ * subamostragem até o limite de 800x600.
+ * A memória em uso por laudo é limitada por app.pdf.max-total-images-size-mb:
+ * cada foto reserva o tamanho conhecido da imagem (mais o raster decodificado,
+ * quando houver) antes de abrir o download, devolve o que sobrar ao terminar a
+ * conversão e mantém a parte da imagem pronta até o laudo recebê-la em
+ * {@link PhotoBatch#await} (ou até {@link PhotoBatch#close}). As reservas são
+ * feitas na ordem de {@link PhotoType}, a mesma do grid do laudo, para que a
+ * próxima foto do grid nunca espere por memória presa em fotos posteriores.
+ */
+@Slf4j
+@Component
+public class ReportPhotoLoader {
+
+    private static final int MAX_IMAGE_WIDTH_PX = 800;
+    private static final int MAX_IMAGE_HEIGHT_PX = 600;
+    private static final int BYTES_PER_KB = 1024;
+    private static final int KB_PER_MB = 1024;
+
+    // Com subamostragem, o raster decodificado nunca passa de 2x o limite em cada eixo (ARGB)
+    private static final long MAX_DECODED_BYTES = 4L * (2L * MAX_IMAGE_WIDTH_PX) * (2L * MAX_IMAGE_HEIGHT_PX);
+
+    private final S3Client s3Client;
+    private final String bucketName;
+    private final long maxImageSizeBytes;
+    private final int budgetKb;
+    private final long fetchTimeoutMillis;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public ReportPhotoLoader(
+            S3Client s3Client,
+            @Value("${app.external-apis.cloudflare-r2.bucket-name}") String bucketName,
+            @Value("${app.pdf.max-image-size-mb:5}") int maxImageSizeMb,
+            @Value("${app.pdf.max-total-images-size-mb:50}") int maxTotalImagesSizeMb,
+            @Value("${app.pdf.photo-fetch-timeout-seconds:20}") int fetchTimeoutSeconds) {
+        this.s3Client = s3Client;
+        this.bucketName = bucketName;
+        this.maxImageSizeBytes = (long) maxImageSizeMb * KB_PER_MB * BYTES_PER_KB;
+        this.budgetKb = maxTotalImagesSizeMb * KB_PER_MB;
+        this.fetchTimeoutMillis = TimeUnit.SECONDS.toMillis(fetchTimeoutSeconds);
+    }
+
+    /**
+     * Inicia o download das fotos em paralelo.
+     *
+     * Quando houver mais de uma foto do mesmo tipo, apenas a primeira é usada no grid.
+     *
+     * @param photos fotos da avaliação
+     * @return lote com os downloads em andamento
+     */
+    public PhotoBatch fetch(Collection<EvaluationPhoto> photos) {
+        Map<PhotoType, EvaluationPhoto> byType = new EnumMap<>(PhotoType.class);
+        for (EvaluationPhoto photo : photos) {
+            byType.putIfAbsent(photo.getPhotoType(), photo);
+        }
+
+        Semaphore budget = new Semaphore(budgetKb);
+        AtomicBoolean closed = new AtomicBoolean();
+        long deadlineMillis = System.currentTimeMillis() + fetchTimeoutMillis;
+        Map<PhotoType, CompletableFuture<LoadedPhoto>> pending = new EnumMap<>(PhotoType.class);
+
+        // Cada reserva só começa depois da anterior: o orçamento é concedido na ordem do grid
+        CompletableFuture<?> previousReservation = CompletableFuture.completedFuture(null);
+        for (EvaluationPhoto photo : byType.values()) {
+            int reservedKb = reservationKb(photo);
+            CompletableFuture<Boolean> reservation = previousReservation.thenApplyAsync(
+                ignored -> reserve(budget, reservedKb, deadlineMillis, closed), executor);
+            pending.put(photo.getPhotoType(), reservation.thenApplyAsync(
+                reserved -> reserved ? load(photo, reservedKb, budget) : null, executor));
+            previousReservation = reservation;
+        }
+
+        log.debug("Download de {} fotos iniciado para o laudo", pending.size());
+        return new PhotoBatch(pending, budget, closed, deadlineMillis);
+    }
+
+    private int reservationKb(EvaluationPhoto photo) {
+        long size = photo.getReportImageSize();
+        if (size > maxImageSizeBytes) {
+            return 0;
+        }
+        long reservedBytes = photo.hasPdfImage() ? size : size + MAX_DECODED_BYTES;
+        return (int) Math.min(budgetKb, reservedBytes / BYTES_PER_KB + 1);
+    }
+
+    private static boolean reserve(Semaphore budget, int reservedKb, long deadlineMillis, AtomicBoolean closed) {
+        if (closed.get()) {
+            return false;
+        }
+        try {
+            long remaining = Math.max(0, deadlineMillis - System.currentTimeMillis());
+            return budget.tryAcquire(reservedKb, remaining, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private LoadedPhoto load(EvaluationPhoto photo, int reservedKb, Semaphore budget) {
+        boolean pdfReady = photo.hasPdfImage();
+        String key = pdfReady ? photo.getPdfImagePath() : photo.getFilePath();
+        if (photo.getReportImageSize() > maxImageSizeBytes) {
+            log.warn("Foto {} ignorada no laudo: {} bytes excede o limite por imagem",
+                    photo.getPhotoType(), photo.getReportImageSize());
+            budget.release(reservedKb);
+            return null;
+        }
+
+        GetObjectRequest request = GetObjectRequest.builder()
+            .bucket(bucketName)
+            .key(key)
+            .build();
+
+        int heldKb = reservedKb;
+        try (ResponseInputStream<GetObjectResponse> object = s3Client.getObject(request)) {
+            long size = Optional.ofNullable(object.response().contentLength()).orElse(photo.getReportImageSize());
+            if (size > maxImageSizeBytes) {
+                log.warn("Foto {} ignorada no laudo: {} bytes excede o limite por imagem",
+                        photo.getPhotoType(), size);
+                object.abort();
+                return null;
+            }
+
+            byte[] jpeg = pdfReady ? object.readAllBytes() : downscale(object.readAllBytes());
+            ImageData image = ImageDataFactory.create(jpeg);
+
+            // Mantém reservado só o que a imagem pronta ocupa até o laudo recebê-la
+            int retainedKb = (int) Math.min(reservedKb, jpeg.length / BYTES_PER_KB + 1);
+            budget.release(reservedKb - retainedKb);
+            heldKb = 0;
+            return new LoadedPhoto(image, retainedKb);
+        } catch (Exception e) {
+            log.warn("Falha ao carregar foto {} ({}) para o laudo: {}",
+                    photo.getPhotoType(), key, e.getMessage());
+            return null;
+        } finally {
+            budget.release(heldKb);
+        }
+    }
+
+    /**
+     * Decodifica a imagem com subamostragem e reencoda em JPEG dentro de 800x600.
+     */
+    static byte[] downscale(byte[] source) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(source))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new IOException("Formato de imagem não suportado");
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+
+                int subsampling = (int) Math.max(1, Math.floor(Math.max(
+                    (double) width / MAX_IMAGE_WIDTH_PX, (double) height / MAX_IMAGE_HEIGHT_PX)));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+
+                return encodeJpeg(fitWithinLimit(reader.read(0, param)));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static BufferedImage fitWithinLimit(BufferedImage image) {
+        double scale = Math.min(1.0, Math.min(
+            (double) MAX_IMAGE_WIDTH_PX / image.getWidth(),
+            (double) MAX_IMAGE_HEIGHT_PX / image.getHeight()));
+
+        int width = Math.max(1, (int) Math.round(image.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(image.getHeight() * scale));
+
+        // Sempre redesenha em RGB: JPEG não suporta canal alfa (PNG)
+        BufferedImage output = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = output.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return output;
+    }
+
+    private static byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        if (!ImageIO.write(image, "jpg", output)) {
+            throw new IOException("Encoder JPEG indisponível");
+        }
+        return output.toByteArray();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Imagem pronta para o laudo e a parte do orçamento que ela ainda ocupa.
+     */
+    private record LoadedPhoto(ImageData image, int retainedKb) {
+    }
+
+    /**
+     * Downloads de fotos de um laudo em andamento.
+     *
+     * Cada foto é entregue uma única vez; ao entregá-la, o lote devolve ao
+     * orçamento a memória que ela ocupava.
+     */
+    public static final class PhotoBatch implements AutoCloseable {
+
+        private final Map<PhotoType, CompletableFuture<LoadedPhoto>> pending;
+        private final Semaphore budget;
+        private final AtomicBoolean closed;
+        private final long deadlineMillis;
+
+        private PhotoBatch(Map<PhotoType, CompletableFuture<LoadedPhoto>> pending, Semaphore budget,
+                           AtomicBoolean closed, long deadlineMillis) {
+            this.pending = pending;
+            this.budget = budget;
+            this.closed = closed;
+            this.deadlineMillis = deadlineMillis;
+        }
+
+        /**
+         * Aguarda a foto do tipo informado, respeitando o prazo total do lote.
+         *
+         * @param photoType tipo da foto
+         * @return imagem pronta para o PDF, ou vazio se ausente, inválida ou atrasada
+         */
+        public Optional<ImageData> await(PhotoType photoType) {
+            CompletableFuture<LoadedPhoto> future = pending.remove(photoType);
+            if (future == null) {
+                return Optional.empty();
+            }
+
+            try {
+                long remaining = Math.max(0, deadlineMillis - System.currentTimeMillis());
+                LoadedPhoto loaded = future.get(remaining, TimeUnit.MILLISECONDS);
+                if (loaded == null) {
+                    return Optional.empty();
+                }
+                budget.release(loaded.retainedKb());
+                return Optional.of(loaded.image());
+            } catch (TimeoutException e) {
+                log.warn("Tempo esgotado aguardando foto {} para o laudo", photoType);
+                discard(future);
+                return Optional.empty();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                discard(future);
+                return Optional.empty();
+            } catch (ExecutionException e) {
+                log.warn("Falha ao carregar foto {} para o laudo: {}", photoType, e.getMessage());
+                return Optional.empty();
+            }
+        }
+
+        /**
+         * Descarta as fotos não entregues (ex: falha na renderização do laudo):
+         * reservas ainda não feitas não são mais tentadas e a memória das fotos
+         * prontas volta ao orçamento.
+         */
+        @Override
+        public void close() {
+            closed.set(true);
+            pending.values().forEach(this::discard);
+            pending.clear();
+        }
+
+        private void discard(CompletableFuture<LoadedPhoto> future) {
+            future.thenAccept(loaded -> {
+                if (loaded != null) {
+                    budget.release(loaded.retainedKb());
+                }
+            });
+        }
+    }
+}
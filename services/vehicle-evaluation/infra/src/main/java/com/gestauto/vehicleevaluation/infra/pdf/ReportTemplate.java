@@ -0,0 +1,182 @@
+package com.gestauto.vehicleevaluation.infra.pdf;
+
+import com.itextpdf.io.font.FontProgram;
+import com.itextpdf.io.font.FontProgramFactory;
+import com.itextpdf.io.font.PdfEncodings;
+import com.itextpdf.io.font.constants.StandardFonts;
+import com.itextpdf.kernel.colors.Color;
+import com.itextpdf.kernel.colors.ColorConstants;
+import com.itextpdf.kernel.events.Event;
+import com.itextpdf.kernel.events.IEventHandler;
+import com.itextpdf.kernel.events.PdfDocumentEvent;
+import com.itextpdf.kernel.font.PdfFont;
+import com.itextpdf.kernel.font.PdfFontFactory;
+import com.itextpdf.kernel.geom.PageSize;
+import com.itextpdf.kernel.geom.Rectangle;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfPage;
+import com.itextpdf.kernel.pdf.canvas.PdfCanvas;
+import com.itextpdf.kernel.pdf.extgstate.PdfExtGState;
+import com.itextpdf.kernel.pdf.xobject.PdfFormXObject;
+
+import java.io.IOException;
+
+/**
+ * Recursos estáticos do laudo construídos uma única vez por documento.
+ *
+ * Fontes, faixa de cabeçalho, rodapé e marca d'água (APROVADO/REPROVADO) são
+ * criados como {@link PdfFont} e {@link PdfFormXObject} na abertura do documento
+ * e apenas referenciados em cada página, em vez de recriar canvas, fontes e
+ * estado gráfico por página. O PDF final contém uma única cópia de cada recurso.
+ * Os programas de fonte são carregados uma vez por JVM e compartilhados entre laudos.
+ */
+public class ReportTemplate implements IEventHandler {
+
+    // Margens reservam espaço para a faixa de cabeçalho e o rodapé
+    public static final float TOP_MARGIN = 54f;
+    public static final float BOTTOM_MARGIN = 54f;
+    public static final float LEFT_MARGIN = 36f;
+    public static final float RIGHT_MARGIN = 36f;
+
+    private static final String HEADER_TEXT = "GestAuto  |  Laudo de Avaliação de Veículo";
+    private static final String FOOTER_TEXT = "Documento gerado eletronicamente pelo GestAuto";
+    private static final float HEADER_FONT_SIZE = 9f;
+    private static final float FOOTER_FONT_SIZE = 8f;
+    private static final float BAND_HEIGHT = 20f;
+    private static final float BAND_SPACING = 8f;
+    private static final float HEADER_TEXT_OFFSET = 6f;
+    private static final float FOOTER_TEXT_OFFSET = 4f;
+    private static final float WATERMARK_FONT_SIZE = 60f;
+    private static final double WATERMARK_ROTATION_RADIANS = Math.PI / 4; // 45 graus
+
+    private static final FontProgram REGULAR_FONT_PROGRAM = loadFontProgram(StandardFonts.HELVETICA);
+    private static final FontProgram BOLD_FONT_PROGRAM = loadFontProgram(StandardFonts.HELVETICA_BOLD);
+
+    private final PdfFont regularFont;
+    private final PdfFont boldFont;
+    private final PdfFormXObject headerBand;
+    private final PdfFormXObject footerBand;
+    private final PdfFormXObject watermark;
+
+    /**
+     * Constrói os recursos do template para o documento.
+     *
+     * @param pdf documento de destino
+     * @param watermarkText texto da marca d'água (ex: "APROVADO", "REPROVADO")
+     * @param watermarkOpacity opacidade da marca d'água (0-1)
+     */
+    public ReportTemplate(PdfDocument pdf, String watermarkText, float watermarkOpacity) {
+        this.regularFont = PdfFontFactory.createFont(REGULAR_FONT_PROGRAM, PdfEncodings.WINANSI);
+        this.boldFont = PdfFontFactory.createFont(BOLD_FONT_PROGRAM, PdfEncodings.WINANSI);
+
+        float bandWidth = PageSize.A4.getWidth() - LEFT_MARGIN - RIGHT_MARGIN;
+        this.headerBand = createBand(pdf, bandWidth, HEADER_TEXT, boldFont, HEADER_FONT_SIZE, true);
+        this.footerBand = createBand(pdf, bandWidth, FOOTER_TEXT, regularFont, FOOTER_FONT_SIZE, false);
+        this.watermark = createWatermark(pdf, watermarkText, boldFont, watermarkOpacity);
+    }
+
+    public PdfFont getRegularFont() {
+        return regularFont;
+    }
+
+    public PdfFont getBoldFont() {
+        return boldFont;
+    }
+
+    @Override
+    public void handleEvent(Event event) {
+        PdfDocumentEvent docEvent = (PdfDocumentEvent) event;
+        PdfDocument pdf = docEvent.getDocument();
+        PdfPage page = docEvent.getPage();
+        Rectangle pageSize = page.getPageSize();
+
+        PdfCanvas canvas = new PdfCanvas(page.newContentStreamAfter(), page.getResources(), pdf);
+
+        float footerY = pageSize.getBottom() + BOTTOM_MARGIN - BAND_HEIGHT - BAND_SPACING;
+        canvas.addXObjectAt(headerBand, LEFT_MARGIN, pageSize.getTop() - TOP_MARGIN + BAND_SPACING);
+        canvas.addXObjectAt(footerBand, LEFT_MARGIN, footerY);
+
+        // Número da página é o único conteúdo variável do rodapé
+        String pageNumber = "Página " + pdf.getPageNumber(page);
+        canvas.beginText()
+                .setFontAndSize(regularFont, FOOTER_FONT_SIZE)
+                .moveText(pageSize.getRight() - RIGHT_MARGIN - regularFont.getWidth(pageNumber, FOOTER_FONT_SIZE),
+                        footerY + FOOTER_TEXT_OFFSET)
+                .showText(pageNumber)
+                .endText();
+
+        addWatermark(canvas, pageSize);
+        canvas.release();
+    }
+
+    /**
+     * Posiciona a marca d'água rotacionada em 45 graus no centro da página.
+     */
+    private void addWatermark(PdfCanvas canvas, Rectangle pageSize) {
+        float cos = (float) Math.cos(WATERMARK_ROTATION_RADIANS);
+        float sin = (float) Math.sin(WATERMARK_ROTATION_RADIANS);
+        float halfWidth = watermark.getWidth() / 2;
+        float halfHeight = watermark.getHeight() / 2;
+
+        // Translação que leva o centro do XObject rotacionado ao centro da página
+        float tx = pageSize.getWidth() / 2 - (cos * halfWidth - sin * halfHeight);
+        float ty = pageSize.getHeight() / 2 - (sin * halfWidth + cos * halfHeight);
+
+        canvas.addXObjectWithTransformationMatrix(watermark, cos, sin, -sin, cos, tx, ty);
+    }
+
+    private static PdfFormXObject createBand(PdfDocument pdf, float width, String text, PdfFont font,
+                                             float fontSize, boolean lineBelow) {
+        PdfFormXObject band = new PdfFormXObject(new Rectangle(width, BAND_HEIGHT));
+        PdfCanvas canvas = new PdfCanvas(band, pdf);
+
+        float lineY = lineBelow ? 0.5f : BAND_HEIGHT - 0.5f;
+        float textY = lineBelow ? HEADER_TEXT_OFFSET : FOOTER_TEXT_OFFSET;
+
+        canvas.saveState()
+                .setStrokeColor(ColorConstants.GRAY)
+                .setLineWidth(0.5f)
+                .moveTo(0, lineY)
+                .lineTo(width, lineY)
+                .stroke()
+                .restoreState();
+
+        canvas.beginText()
+                .setFontAndSize(font, fontSize)
+                .setFillColor(ColorConstants.DARK_GRAY)
+                .moveText(0, textY)
+                .showText(text)
+                .endText();
+
+        canvas.release();
+        return band;
+    }
+
+    private static PdfFormXObject createWatermark(PdfDocument pdf, String text, PdfFont font, float opacity) {
+        float width = font.getWidth(text, WATERMARK_FONT_SIZE);
+        float height = WATERMARK_FONT_SIZE;
+        Color color = "APROVADO".equalsIgnoreCase(text) ? ColorConstants.GREEN : ColorConstants.RED;
+
+        PdfFormXObject xObject = new PdfFormXObject(new Rectangle(width, height));
+        PdfCanvas canvas = new PdfCanvas(xObject, pdf);
+        canvas.saveState()
+                .setExtGState(new PdfExtGState().setFillOpacity(opacity))
+                .beginText()
+                .setFontAndSize(font, WATERMARK_FONT_SIZE)
+                .setFillColor(color)
+                .moveText(0, height * 0.2f)
+                .showText(text)
+                .endText()
+                .restoreState();
+        canvas.release();
+        return xObject;
+    }
+
+    private static FontProgram loadFontProgram(String fontName) {
+        try {
+            return FontProgramFactory.createFont(fontName);
+        } catch (IOException e) {
+            throw new PdfGenerationException("Falha ao carregar fonte " + fontName, e);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.gestauto.vehicleevaluation.infra.repository;
+
+import com.gestauto.vehicleevaluation.infra.entity.DomainEventJpaEntity;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface DomainEventJpaRepository extends JpaRepository<DomainEventJpaEntity, UUID> {
+
+    @Modifying
+    @Query(value = """
+        insert into vehicle_evaluation.domain_events (
+            event_id, event_type, aggregate_id, aggregate_type, event_data, occurred_at
+        ) values (
+            :eventId, :eventType, :aggregateId, :aggregateType, cast(:eventData as jsonb), :occurredAt
+        )
+        """, nativeQuery = true)
+    int insertEvent(@Param("eventId") UUID eventId,
+                    @Param("eventType") String eventType,
+                    @Param("aggregateId") UUID aggregateId,
+                    @Param("aggregateType") String aggregateType,
+                    @Param("eventData") String eventData,
+                    @Param("occurredAt") LocalDateTime occurredAt);
+
+    @Query(value = """
+        select * from vehicle_evaluation.domain_events d
+        where d.processed_at is null
+          and coalesce(d.processing_attempts, 0) < :maxAttempts
+          and (d.claimed_until is null or d.claimed_until < now())
+          and not exists (
+              select 1 from vehicle_evaluation.domain_events p
+              where p.aggregate_id = d.aggregate_id
+                and p.processed_at is null
+                and coalesce(p.processing_attempts, 0) < :maxAttempts
+                and p.relay_sequence < d.relay_sequence
+          )
+        order by d.relay_sequence
+        limit :limit
+        for update of d skip locked
+        """, nativeQuery = true)
+    List<DomainEventJpaEntity> findClaimable(@Param("maxAttempts") int maxAttempts, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = """
+        update vehicle_evaluation.domain_events
+           set claimed_by = :claimant, claimed_until = now() + :leaseMs * interval '1 millisecond'
+         where event_id in (:eventIds)
+        """, nativeQuery = true)
+    int claim(@Param("eventIds") Collection<UUID> eventIds,
+              @Param("claimant") String claimant,
+              @Param("leaseMs") long leaseMs);
+
+    @Modifying
+    @Query("update DomainEventJpaEntity e set e.processedAt = :processedAt where e.eventId in :eventIds")
+    int markProcessed(@Param("eventIds") Collection<UUID> eventIds, @Param("processedAt") LocalDateTime processedAt);
+
+    @Modifying
+    @Query("""
+        update DomainEventJpaEntity e
+           set e.processingAttempts = coalesce(e.processingAttempts, 0) + 1, e.errorMessage = :errorMessage,
+               e.claimedUntil = null
+         where e.eventId in :eventIds and e.claimedBy = :claimant
+        """)
+    int recordFailure(@Param("eventIds") Collection<UUID> eventIds,
+                      @Param("claimant") String claimant,
+                      @Param("errorMessage") String errorMessage);
+
+    @Modifying
+    @Query("update DomainEventJpaEntity e set e.claimedUntil = null where e.eventId in :eventIds and e.claimedBy = :claimant")
+    int releaseClaims(@Param("eventIds") Collection<UUID> eventIds, @Param("claimant") String claimant);
+
+    List<DomainEventJpaEntity> findByEventTypeOrderByOccurredAtDesc(String eventType, Pageable pageable);
+
+    List<DomainEventJpaEntity> findByAggregateIdOrderByOccurredAtDesc(UUID aggregateId, Pageable pageable);
+
+    List<DomainEventJpaEntity> findByOccurredAtBetweenOrderByOccurredAt(LocalDateTime startDate, LocalDateTime endDate);
+
+    long countByProcessedAtIsNull();
+
+    @Modifying
+    @Query("delete from DomainEventJpaEntity e where e.processedAt is not null and e.processedAt < :olderThan")
+    int deleteProcessedBefore(@Param("olderThan") LocalDateTime olderThan);
+}
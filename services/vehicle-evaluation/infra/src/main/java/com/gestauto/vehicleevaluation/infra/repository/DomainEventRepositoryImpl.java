@@ -0,0 +1,149 @@
+package com.gestauto.vehicleevaluation.infra.repository;
+
+import com.gestauto.vehicleevaluation.domain.event.DomainEvent;
+import com.gestauto.vehicleevaluation.domain.event.StoredDomainEvent;
+import com.gestauto.vehicleevaluation.domain.repository.DomainEventRepository;
+import com.gestauto.vehicleevaluation.infra.entity.DomainEventJpaEntity;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Outbox transacional de eventos de domínio sobre a tabela domain_events.
+ *
+ * O evento é serializado com o mesmo {@link MessageConverter} usado pelo
+ * RabbitTemplate, de modo que o corpo gravado é exatamente o que os consumidores
+ * já recebem. A gravação participa da transação de quem publica o evento; se a
+ * transação da agregação for desfeita, o evento também é.
+ */
+@Repository
+@Transactional
+public class DomainEventRepositoryImpl implements DomainEventRepository {
+
+    static final String AGGREGATE_TYPE = "VehicleEvaluation";
+
+    private final DomainEventJpaRepository jpaRepository;
+    private final MessageConverter messageConverter;
+    private final int maxAttempts;
+
+    public DomainEventRepositoryImpl(DomainEventJpaRepository jpaRepository,
+                                     MessageConverter messageConverter,
+                                     @Value("${app.outbox.max-attempts:10}") int maxAttempts) {
+        this.jpaRepository = jpaRepository;
+        this.messageConverter = messageConverter;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Override
+    public void save(DomainEvent event) {
+        Objects.requireNonNull(event, "Event cannot be null");
+        byte[] body = messageConverter.toMessage(event, new MessageProperties()).getBody();
+        jpaRepository.insertEvent(
+            UUID.randomUUID(),
+            event.getEventType(),
+            UUID.fromString(event.getEvaluationId()),
+            AGGREGATE_TYPE,
+            new String(body, StandardCharsets.UTF_8),
+            event.getOccurredAt()
+        );
+    }
+
+    @Override
+    public List<StoredDomainEvent> claimPendingEvents(String claimant, int limit, Duration lease) {
+        List<DomainEventJpaEntity> claimed = jpaRepository.findClaimable(maxAttempts, limit);
+        if (!claimed.isEmpty()) {
+            jpaRepository.claim(claimed.stream().map(DomainEventJpaEntity::getEventId).toList(),
+                claimant, lease.toMillis());
+        }
+        return claimed.stream()
+            .map(DomainEventRepositoryImpl::toStored)
+            .toList();
+    }
+
+    @Override
+    public void markAsProcessed(String eventId, LocalDateTime processedAt) {
+        markAsProcessed(List.of(eventId), processedAt);
+    }
+
+    @Override
+    public void markAsProcessed(Collection<String> eventIds, LocalDateTime processedAt) {
+        if (!eventIds.isEmpty()) {
+            jpaRepository.markProcessed(toUuids(eventIds), processedAt);
+        }
+    }
+
+    @Override
+    public void recordFailure(Collection<String> eventIds, String claimant, String errorMessage) {
+        if (!eventIds.isEmpty()) {
+            jpaRepository.recordFailure(toUuids(eventIds), claimant, errorMessage);
+        }
+    }
+
+    @Override
+    public void releaseClaims(Collection<String> eventIds, String claimant) {
+        if (!eventIds.isEmpty()) {
+            jpaRepository.releaseClaims(toUuids(eventIds), claimant);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DomainEvent> findByEventType(String eventType, int limit) {
+        return jpaRepository.findByEventTypeOrderByOccurredAtDesc(eventType, PageRequest.of(0, limit)).stream()
+            .<DomainEvent>map(DomainEventRepositoryImpl::toStored)
+            .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DomainEvent> findByAggregateId(String aggregateId, int limit) {
+        return jpaRepository.findByAggregateIdOrderByOccurredAtDesc(UUID.fromString(aggregateId), PageRequest.of(0, limit))
+            .stream()
+            .<DomainEvent>map(DomainEventRepositoryImpl::toStored)
+            .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DomainEvent> findByOccurredAtBetween(LocalDateTime startDate, LocalDateTime endDate) {
+        return jpaRepository.findByOccurredAtBetweenOrderByOccurredAt(startDate, endDate).stream()
+            .<DomainEvent>map(DomainEventRepositoryImpl::toStored)
+            .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countPendingEvents() {
+        return jpaRepository.countByProcessedAtIsNull();
+    }
+
+    @Override
+    public long deleteProcessedEventsOlderThan(LocalDateTime olderThan) {
+        return jpaRepository.deleteProcessedBefore(olderThan);
+    }
+
+    private static List<UUID> toUuids(Collection<String> eventIds) {
+        return eventIds.stream().map(UUID::fromString).toList();
+    }
+
+    private static StoredDomainEvent toStored(DomainEventJpaEntity entity) {
+        return new StoredDomainEvent(
+            entity.getEventId().toString(),
+            entity.getEventType(),
+            entity.getAggregateId().toString(),
+            entity.getOccurredAt(),
+            entity.getEventData(),
+            entity.getProcessingAttempts() != null ? entity.getProcessingAttempts() : 0
+        );
+    }
+}
@@ -0,0 +1,76 @@
+package com.gestauto.vehicleevaluation.infra.repository;
+
+import com.gestauto.vehicleevaluation.domain.report.LatencySketch;
+import com.gestauto.vehicleevaluation.domain.repository.EvaluationDailyStatsRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Manutenção das tabelas evaluation_daily_stats e evaluation_daily_latency.
+ *
+ * O refresh roda em transação própria porque é disparado após o commit da
+ * transação que alterou a avaliação. A fatia é apagada e regravada com upsert.
+ * Sob READ COMMITTED, o delete de um refresh não enxerga linhas que um refresh
+ * concorrente acabou de inserir, e uma linha de status que só existia no cálculo
+ * mais antigo sobreviveria. Por isso cada refresh obtém antes um advisory lock
+ * da fatia (dia, avaliador, marca): refreshes da mesma fatia rodam em série, e
+ * o segundo recalcula a partir do estado já gravado pelo primeiro.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class EvaluationDailyStatsRepositoryImpl implements EvaluationDailyStatsRepository {
+
+    private final VehicleEvaluationJpaRepository jpaRepository;
+    private final Optional<MeterRegistry> meterRegistry;
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Optional<String> refresh(UUID evaluationId) {
+        Timer.Sample sample = meterRegistry.isPresent() ? Timer.start(meterRegistry.get()) : null;
+        try {
+            Optional<String> evaluatorId = jpaRepository.findEvaluatorIdById(evaluationId);
+            if (evaluatorId.isEmpty()) {
+                return Optional.empty();
+            }
+
+            jpaRepository.lockDailySlice(evaluationId);
+            jpaRepository.deleteDailyStatsSlice(evaluationId);
+            int rows = jpaRepository.insertDailyStatsSlice(evaluationId);
+            jpaRepository.deleteDailyLatencySlice(evaluationId);
+            int buckets = jpaRepository.insertDailyLatencySlice(
+                evaluationId, LatencySketch.LOG_GAMMA, LatencySketch.MAX_BUCKET);
+            log.debug("Agregado diário recalculado: evaluationId={}, linhas={}, baldes={}",
+                evaluationId, rows, buckets);
+            return evaluatorId;
+        } finally {
+            if (sample != null) {
+                sample.stop(Timer.builder("dashboard.daily-stats.refresh.duration")
+                    .description("Tempo de recálculo da fatia diária do dashboard")
+                    .register(meterRegistry.get()));
+            }
+        }
+    }
+
+    @Override
+    @Transactional
+    public int rebuild(LocalDate startDate, LocalDate endDate) {
+        int removed = jpaRepository.deleteDailyStats(startDate, endDate);
+        int written = jpaRepository.insertDailyStats(startDate, endDate);
+        jpaRepository.deleteDailyLatency(startDate, endDate);
+        int buckets = jpaRepository.insertDailyLatency(
+            startDate, endDate, LatencySketch.LOG_GAMMA, LatencySketch.MAX_BUCKET);
+        log.info("Agregados diários reconstruídos: {} a {}, removidas={}, gravadas={}, baldes={}",
+            startDate, endDate, removed, written, buckets);
+        return written;
+    }
+}
@@ -2,106 +2,131 @@ package com.gestauto.vehicleevaluation.infra.repository;
 
 import com.gestauto.vehicleevaluation.domain.enums.EvaluationStatus;
 import com.gestauto.vehicleevaluation.domain.report.BrandStat;
+import com.gestauto.vehicleevaluation.domain.report.DashboardSnapshot;
 import com.gestauto.vehicleevaluation.domain.report.EvaluationKpi;
+import com.gestauto.vehicleevaluation.domain.report.LatencySketch;
 import com.gestauto.vehicleevaluation.domain.report.MonthlyStat;
 import com.gestauto.vehicleevaluation.domain.repository.EvaluationDashboardRepository;
-import com.gestauto.vehicleevaluation.infra.repository.projection.BrandStatProjection;
-import com.gestauto.vehicleevaluation.infra.repository.projection.EvaluationKpiProjection;
-import com.gestauto.vehicleevaluation.infra.repository.projection.MonthlyStatProjection;
+import com.gestauto.vehicleevaluation.infra.analytics.ColumnarAnalyticsEngine;
+import com.gestauto.vehicleevaluation.infra.repository.projection.DashboardAggregateProjection;
+import com.gestauto.vehicleevaluation.infra.repository.projection.LatencyBucketProjection;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
+/**
+ * Agregados do dashboard gerencial.
+ *
+ * KPIs, série mensal e quebra por marca saem de uma única consulta com
+ * GROUPING SETS sobre evaluation_daily_stats; os percentis de tempo saem da
+ * soma dos sketches diários de evaluation_daily_latency. Depois da carga do
+ * {@link ColumnarAnalyticsEngine}, os recortes são respondidos em memória e a
+ * consulta fica como alternativa enquanto o motor não está pronto. Nos dois
+ * casos o recorte é feito por dia: horários de início e fim são considerados
+ * pelo dia inteiro.
+ */
 @Repository
 @RequiredArgsConstructor
 public class EvaluationDashboardRepositoryImpl implements EvaluationDashboardRepository {
 
     private final VehicleEvaluationJpaRepository jpaRepository;
+    private final ColumnarAnalyticsEngine analyticsEngine;
     private final Optional<MeterRegistry> meterRegistry;
 
     @Override
-    public EvaluationKpi getKpis(LocalDateTime startDate,
-                                 LocalDateTime endDate,
-                                 String evaluatorId,
-                                 EvaluationStatus status) {
+    public DashboardSnapshot getSnapshot(LocalDateTime startDate,
+                                         LocalDateTime endDate,
+                                         String evaluatorId,
+                                         EvaluationStatus status) {
 
+        boolean columnar = analyticsEngine.isReady();
         Timer.Sample sample = meterRegistry.isPresent() ? Timer.start(meterRegistry.get()) : null;
         try {
+            if (columnar) {
+                return analyticsEngine.getSnapshot(
+                    startDate.toLocalDate(), endDate.toLocalDate(), evaluatorId, status);
+            }
             String statusValue = status != null ? status.name() : null;
-            EvaluationKpiProjection projection = jpaRepository.getDashboardKpis(startDate, endDate, evaluatorId, statusValue);
-
-            return new EvaluationKpi(
-                projection.getTotalEvaluations() != null ? projection.getTotalEvaluations() : 0L,
-                projection.getApprovalRatePercent(),
-                projection.getAverageTicket(),
-                projection.getAverageReviewTimeHours()
-            );
+            return toSnapshot(
+                jpaRepository.getDashboardAggregates(
+                    startDate.toLocalDate(), endDate.toLocalDate(), evaluatorId, statusValue),
+                jpaRepository.getDashboardLatencyBuckets(
+                    startDate.toLocalDate(), endDate.toLocalDate(), evaluatorId, statusValue));
         } finally {
             if (sample != null) {
-                sample.stop(Timer.builder("dashboard.kpis.query.duration")
-                    .description("Tempo de consulta dos KPIs do dashboard")
+                sample.stop(Timer.builder("dashboard.aggregate.query.duration")
+                    .description("Tempo de consulta dos agregados do dashboard")
+                    .tag("source", columnar ? "columnar" : "daily-stats")
                     .register(meterRegistry.get()));
             }
         }
     }
 
     @Override
-    public List<MonthlyStat> getMonthlyStats(LocalDateTime startDate,
-                                            LocalDateTime endDate,
-                                            String evaluatorId,
-                                            EvaluationStatus status) {
-
-        Timer.Sample sample = meterRegistry.isPresent() ? Timer.start(meterRegistry.get()) : null;
-        try {
-            String statusValue = status != null ? status.name() : null;
-            List<MonthlyStatProjection> projections = jpaRepository.getDashboardMonthlyStats(startDate, endDate, evaluatorId, statusValue);
-
-            return projections.stream()
-                .map(p -> new MonthlyStat(
-                    p.getMonth(),
-                    p.getEvaluationsCount() != null ? p.getEvaluationsCount() : 0L,
-                    p.getTotalTicket()
-                ))
-                .toList();
-        } finally {
-            if (sample != null) {
-                sample.stop(Timer.builder("dashboard.monthly.query.duration")
-                    .description("Tempo de consulta das estatísticas mensais do dashboard")
-                    .register(meterRegistry.get()));
-            }
+    public List<String> findActiveEvaluatorIds(LocalDateTime since) {
+        if (analyticsEngine.isReady()) {
+            return analyticsEngine.findActiveEvaluatorIds(since.toLocalDate());
         }
+        return jpaRepository.findDailyStatsEvaluatorIds(since.toLocalDate());
     }
 
-    @Override
-    public List<BrandStat> getBrandStats(LocalDateTime startDate,
-                                        LocalDateTime endDate,
-                                        String evaluatorId,
-                                        EvaluationStatus status) {
+    /**
+     * Separa as linhas da agregação pelo nível de agrupamento, preservando a
+     * ordenação da consulta (meses em ordem cronológica, marcas por volume),
+     * e calcula os percentis a partir dos baldes dos sketches.
+     */
+    static DashboardSnapshot toSnapshot(List<DashboardAggregateProjection> rows,
+                                        List<LatencyBucketProjection> latencyBuckets) {
+        LatencySketch reviewTime = new LatencySketch();
+        LatencySketch submissionTime = new LatencySketch();
+        for (LatencyBucketProjection bucket : latencyBuckets) {
+            LatencySketch sketch = switch (bucket.getMetric()) {
+                case LatencyBucketProjection.REVIEW_METRIC -> reviewTime;
+                case LatencyBucketProjection.SUBMISSION_METRIC -> submissionTime;
+                default -> throw new IllegalStateException(
+                    "Métrica de latência inesperada no dashboard: " + bucket.getMetric());
+            };
+            sketch.addBucket(bucket.getBucket(), bucket.getSampleCount());
+        }
 
-        Timer.Sample sample = meterRegistry.isPresent() ? Timer.start(meterRegistry.get()) : null;
-        try {
-            String statusValue = status != null ? status.name() : null;
-            List<BrandStatProjection> projections = jpaRepository.getDashboardBrandStats(startDate, endDate, evaluatorId, statusValue);
+        EvaluationKpi kpis = new EvaluationKpi(0L, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO);
+        List<MonthlyStat> monthly = new ArrayList<>();
+        List<BrandStat> brands = new ArrayList<>();
 
-            return projections.stream()
-                .map(p -> new BrandStat(
-                    p.getBrand(),
-                    p.getEvaluationsCount() != null ? p.getEvaluationsCount() : 0L,
-                    p.getAverageTicket(),
-                    p.getApprovalRatePercent()
-                ))
-                .toList();
-        } finally {
-            if (sample != null) {
-                sample.stop(Timer.builder("dashboard.brand.query.duration")
-                    .description("Tempo de consulta das estatísticas por marca do dashboard")
-                    .register(meterRegistry.get()));
+        for (DashboardAggregateProjection row : rows) {
+            long count = row.getEvaluationsCount() != null ? row.getEvaluationsCount() : 0L;
+            switch (row.getGroupingLevel()) {
+                case DashboardAggregateProjection.TOTAL_LEVEL -> kpis = new EvaluationKpi(
+                    count,
+                    row.getApprovalRatePercent(),
+                    row.getAverageTicket(),
+                    row.getAverageReviewTimeHours(),
+                    reviewTime.percentiles(),
+                    submissionTime.percentiles()
+                );
+                case DashboardAggregateProjection.MONTH_LEVEL -> monthly.add(new MonthlyStat(
+                    row.getMonth(),
+                    count,
+                    row.getTotalTicket()
+                ));
+                case DashboardAggregateProjection.BRAND_LEVEL -> brands.add(new BrandStat(
+                    row.getBrand(),
+                    count,
+                    row.getAverageTicket(),
+                    row.getApprovalRatePercent()
+                ));
+                default -> throw new IllegalStateException(
+                    "Nível de agrupamento inesperado no dashboard: " + row.getGroupingLevel());
             }
         }
+
+        return new DashboardSnapshot(kpis, List.copyOf(monthly), List.copyOf(brands));
     }
 }
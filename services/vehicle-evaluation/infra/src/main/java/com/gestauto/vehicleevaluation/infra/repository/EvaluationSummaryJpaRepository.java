@@ -0,0 +1,141 @@
+package com.gestauto.vehicleevaluation.infra.repository;
+
+import com.gestauto.vehicleevaluation.infra.entity.EvaluationStatusJpa;
+import com.gestauto.vehicleevaluation.infra.entity.VehicleEvaluationJpaEntity;
+import com.gestauto.vehicleevaluation.infra.repository.projection.EvaluationSummaryProjection;
+import com.gestauto.vehicleevaluation.infra.repository.projection.PendingEvaluationSummaryProjection;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * Consultas de leitura das listagens: cada método projeta só as colunas do resumo,
+ * sem instanciar entidades nem tocar nas coleções do agregado.
+ */
+public interface EvaluationSummaryJpaRepository extends Repository<VehicleEvaluationJpaEntity, UUID> {
+
+    String SUMMARY_SELECT = """
+        select v.id as id,
+               v.plate as plate,
+               v.vehicleInfo.brand as brand,
+               v.vehicleInfo.model as model,
+               v.vehicleInfo.yearModel as yearModel,
+               v.mileageAmount as mileageAmount,
+               v.status as status,
+               v.finalValueAmount as finalValueAmount,
+               v.evaluatorId as evaluatorId,
+               v.approverId as approverId,
+               v.createdAt as createdAt,
+               v.updatedAt as updatedAt,
+               v.validUntil as validUntil
+        from VehicleEvaluationJpaEntity v
+        """;
+
+    /**
+     * Filtros opcionais da listagem; {@code plate} já chega como padrão de prefixo ("ABC1%").
+     */
+    String SUMMARY_FILTER = """
+        where (:evaluatorId is null or v.evaluatorId = :evaluatorId)
+          and (:status is null or v.status = :status)
+          and (:brand is null or v.vehicleInfo.brand = :brand)
+          and (:plate is null or v.plate like :plate)
+          and (:createdFrom is null or v.createdAt >= :createdFrom)
+          and (:createdTo is null or v.createdAt < :createdTo)
+        """;
+
+    @Query(SUMMARY_SELECT + SUMMARY_FILTER)
+    List<EvaluationSummaryProjection> findSummaryPage(@Param("evaluatorId") String evaluatorId,
+                                                      @Param("status") EvaluationStatusJpa status,
+                                                      @Param("brand") String brand,
+                                                      @Param("plate") String plate,
+                                                      @Param("createdFrom") LocalDateTime createdFrom,
+                                                      @Param("createdTo") LocalDateTime createdTo,
+                                                      Pageable pageable);
+
+    /**
+     * Páginas por keyset. O Postgres não usa o OR do keyset como condição de índice
+     * e filtraria todas as linhas anteriores ao cursor; o limite redundante em
+     * created_at vira a faixa no índice de V8. (O HQL do Hibernate 6.3 não aceita
+     * comparação de tupla com parâmetros.)
+     */
+    @Query(SUMMARY_SELECT + SUMMARY_FILTER + """
+          and v.createdAt <= :createdAt
+          and (v.createdAt < :createdAt or (v.createdAt = :createdAt and v.id < :id))
+        order by v.createdAt desc, v.id desc
+        """)
+    List<EvaluationSummaryProjection> findSummariesBefore(@Param("evaluatorId") String evaluatorId,
+                                                          @Param("status") EvaluationStatusJpa status,
+                                                          @Param("brand") String brand,
+                                                          @Param("plate") String plate,
+                                                          @Param("createdFrom") LocalDateTime createdFrom,
+                                                          @Param("createdTo") LocalDateTime createdTo,
+                                                          @Param("createdAt") LocalDateTime createdAt,
+                                                          @Param("id") UUID id,
+                                                          Pageable pageable);
+
+    @Query(SUMMARY_SELECT + SUMMARY_FILTER + """
+          and v.createdAt >= :createdAt
+          and (v.createdAt > :createdAt or (v.createdAt = :createdAt and v.id > :id))
+        order by v.createdAt asc, v.id asc
+        """)
+    List<EvaluationSummaryProjection> findSummariesAfter(@Param("evaluatorId") String evaluatorId,
+                                                         @Param("status") EvaluationStatusJpa status,
+                                                         @Param("brand") String brand,
+                                                         @Param("plate") String plate,
+                                                         @Param("createdFrom") LocalDateTime createdFrom,
+                                                         @Param("createdTo") LocalDateTime createdTo,
+                                                         @Param("createdAt") LocalDateTime createdAt,
+                                                         @Param("id") UUID id,
+                                                         Pageable pageable);
+
+    @Query("select count(v) from VehicleEvaluationJpaEntity v " + SUMMARY_FILTER)
+    long countSummaries(@Param("evaluatorId") String evaluatorId,
+                        @Param("status") EvaluationStatusJpa status,
+                        @Param("brand") String brand,
+                        @Param("plate") String plate,
+                        @Param("createdFrom") LocalDateTime createdFrom,
+                        @Param("createdTo") LocalDateTime createdTo);
+
+    /**
+     * Fila de aprovação. O status é literal (não parâmetro) para que o Postgres use os
+     * índices parciais de V9; a ordenação repete as expressões indexadas.
+     */
+    String PENDING_SELECT = """
+        select v.id as id,
+               v.plate as plate,
+               v.vehicleInfo.brand as brand,
+               v.vehicleInfo.model as model,
+               v.vehicleInfo.yearModel as yearModel,
+               v.finalValueAmount as finalValueAmount,
+               v.createdAt as createdAt,
+               v.evaluatorId as evaluatorId,
+               (select count(p) from EvaluationPhotoJpaEntity p where p.evaluation = v) as photoCount,
+               case when exists (
+                   select 1 from EvaluationChecklistJpaEntity c join c.criticalIssues i where c.evaluation = v
+               ) then true else false end as hasCriticalIssues
+        from VehicleEvaluationJpaEntity v
+        where v.status = com.gestauto.vehicleevaluation.infra.entity.EvaluationStatusJpa.PENDING_APPROVAL
+        """;
+
+    @Query(PENDING_SELECT + "order by coalesce(v.finalValueAmount, 0) desc, v.id desc")
+    List<PendingEvaluationSummaryProjection> findPendingByFinalValueDesc(Pageable pageable);
+
+    @Query(PENDING_SELECT + "order by coalesce(v.finalValueAmount, 0) asc, v.id asc")
+    List<PendingEvaluationSummaryProjection> findPendingByFinalValueAsc(Pageable pageable);
+
+    @Query(PENDING_SELECT + "order by v.createdAt desc, v.id desc")
+    List<PendingEvaluationSummaryProjection> findPendingByCreatedAtDesc(Pageable pageable);
+
+    @Query(PENDING_SELECT + "order by v.createdAt asc, v.id asc")
+    List<PendingEvaluationSummaryProjection> findPendingByCreatedAtAsc(Pageable pageable);
+
+    @Query("""
+        select count(v) from VehicleEvaluationJpaEntity v
+        where v.status = com.gestauto.vehicleevaluation.infra.entity.EvaluationStatusJpa.PENDING_APPROVAL
+        """)
+    long countPending();
+}
@@ -0,0 +1,141 @@
+package com.gestauto.vehicleevaluation.infra.repository;
+
+import com.gestauto.vehicleevaluation.domain.enums.EvaluationStatus;
+import com.gestauto.vehicleevaluation.domain.report.EvaluationSummary;
+import com.gestauto.vehicleevaluation.domain.report.EvaluationSummaryFilter;
+import com.gestauto.vehicleevaluation.domain.report.PendingEvaluationSummary;
+import com.gestauto.vehicleevaluation.domain.repository.EvaluationSummaryRepository;
+import com.gestauto.vehicleevaluation.infra.entity.EvaluationStatusJpa;
+import com.gestauto.vehicleevaluation.infra.repository.projection.EvaluationSummaryProjection;
+import com.gestauto.vehicleevaluation.infra.repository.projection.PendingEvaluationSummaryProjection;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+@Transactional(readOnly = true)
+public class EvaluationSummaryRepositoryImpl implements EvaluationSummaryRepository {
+
+    private final EvaluationSummaryJpaRepository jpaRepository;
+
+    public EvaluationSummaryRepositoryImpl(EvaluationSummaryJpaRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    @Override
+    public List<EvaluationSummary> findPage(EvaluationSummaryFilter filter, String sortBy, boolean descending,
+                                            int page, int size) {
+        Sort.Direction direction = descending ? Sort.Direction.DESC : Sort.Direction.ASC;
+        Sort sort = Sort.by(direction, sortProperty(sortBy)).and(Sort.by(direction, "id"));
+        return toSummaries(jpaRepository.findSummaryPage(
+            filter.evaluatorId(), toJpa(filter.status()), filter.brand(), platePattern(filter),
+            filter.createdFrom(), filter.createdTo(), PageRequest.of(page, size, sort)));
+    }
+
+    @Override
+    public List<EvaluationSummary> findAfter(EvaluationSummaryFilter filter, LocalDateTime createdAt, UUID id,
+                                             boolean descending, int limit) {
+        if (createdAt == null || id == null) {
+            return findPage(filter, "createdAt", descending, 0, limit);
+        }
+
+        Pageable firstRows = PageRequest.of(0, limit);
+        List<EvaluationSummaryProjection> rows = descending
+            ? jpaRepository.findSummariesBefore(filter.evaluatorId(), toJpa(filter.status()), filter.brand(),
+                platePattern(filter), filter.createdFrom(), filter.createdTo(), createdAt, id, firstRows)
+            : jpaRepository.findSummariesAfter(filter.evaluatorId(), toJpa(filter.status()), filter.brand(),
+                platePattern(filter), filter.createdFrom(), filter.createdTo(), createdAt, id, firstRows);
+        return toSummaries(rows);
+    }
+
+    @Override
+    public long count(EvaluationSummaryFilter filter) {
+        return jpaRepository.countSummaries(filter.evaluatorId(), toJpa(filter.status()), filter.brand(),
+            platePattern(filter), filter.createdFrom(), filter.createdTo());
+    }
+
+    @Override
+    public List<PendingEvaluationSummary> findPendingApprovals(String sortBy, boolean descending, int page, int size) {
+        Pageable pageable = PageRequest.of(page, size);
+        List<PendingEvaluationSummaryProjection> rows;
+        if ("createdAt".equals(sortBy)) {
+            rows = descending
+                ? jpaRepository.findPendingByCreatedAtDesc(pageable)
+                : jpaRepository.findPendingByCreatedAtAsc(pageable);
+        } else {
+            rows = descending
+                ? jpaRepository.findPendingByFinalValueDesc(pageable)
+                : jpaRepository.findPendingByFinalValueAsc(pageable);
+        }
+        return rows.stream()
+            .map(EvaluationSummaryRepositoryImpl::toPendingSummary)
+            .toList();
+    }
+
+    @Override
+    public long countPendingApprovals() {
+        return jpaRepository.countPending();
+    }
+
+    private static List<EvaluationSummary> toSummaries(List<EvaluationSummaryProjection> rows) {
+        return rows.stream()
+            .map(EvaluationSummaryRepositoryImpl::toSummary)
+            .toList();
+    }
+
+    private static EvaluationSummary toSummary(EvaluationSummaryProjection row) {
+        return new EvaluationSummary(
+            row.getId(),
+            row.getPlate(),
+            row.getBrand(),
+            row.getModel(),
+            row.getYearModel(),
+            row.getMileageAmount(),
+            EvaluationStatus.valueOf(row.getStatus().name()),
+            row.getFinalValueAmount(),
+            row.getEvaluatorId(),
+            row.getApproverId(),
+            row.getCreatedAt(),
+            row.getUpdatedAt(),
+            row.getValidUntil()
+        );
+    }
+
+    private static PendingEvaluationSummary toPendingSummary(PendingEvaluationSummaryProjection row) {
+        return new PendingEvaluationSummary(
+            row.getId(),
+            row.getPlate(),
+            row.getBrand(),
+            row.getModel(),
+            row.getYearModel(),
+            row.getFinalValueAmount(),
+            row.getCreatedAt(),
+            row.getEvaluatorId(),
+            row.getPhotoCount() != null ? row.getPhotoCount() : 0L,
+            Boolean.TRUE.equals(row.getHasCriticalIssues())
+        );
+    }
+
+    private static String sortProperty(String sortBy) {
+        if ("finalValue".equals(sortBy)) {
+            return "finalValueAmount";
+        }
+        if ("plate".equals(sortBy)) {
+            return "plate";
+        }
+        return "createdAt";
+    }
+
+    private static String platePattern(EvaluationSummaryFilter filter) {
+        return filter.platePrefix() != null ? filter.platePrefix() + "%" : null;
+    }
+
+    private static EvaluationStatusJpa toJpa(EvaluationStatus status) {
+        return status != null ? EvaluationStatusJpa.valueOf(status.name()) : null;
+    }
+}
@@ -0,0 +1,71 @@
+package com.gestauto.vehicleevaluation.infra.repository;
+
+import com.gestauto.vehicleevaluation.infra.entity.ReportJobJpaEntity;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ReportJobJpaRepository extends JpaRepository<ReportJobJpaEntity, UUID> {
+
+    @Query(value = """
+        select count(*) from (
+            select pg_advisory_xact_lock(hashtext('report-job|' || :requestedBy))
+        ) user_lock
+        """, nativeQuery = true)
+    long lockUser(@Param("requestedBy") String requestedBy);
+
+    @Modifying
+    @Query(value = """
+        insert into vehicle_evaluation.report_jobs (
+            job_id, evaluation_id, requested_by, status, submitted_at, updated_at
+        )
+        select :jobId, :evaluationId, :requestedBy, 'QUEUED', :submittedAt, :submittedAt
+        where (
+            select count(*) from vehicle_evaluation.report_jobs j
+            where j.requested_by = :requestedBy
+              and j.status in ('QUEUED', 'RUNNING')
+              and j.updated_at >= :activeSince
+        ) < :maxActive
+        """, nativeQuery = true)
+    int insertIfBelowLimit(@Param("jobId") UUID jobId,
+                           @Param("evaluationId") UUID evaluationId,
+                           @Param("requestedBy") String requestedBy,
+                           @Param("submittedAt") LocalDateTime submittedAt,
+                           @Param("maxActive") int maxActive,
+                           @Param("activeSince") LocalDateTime activeSince);
+
+    @Modifying
+    @Query("""
+        update ReportJobJpaEntity j set j.status = 'RUNNING', j.updatedAt = :now
+         where j.jobId = :jobId and j.status = 'QUEUED'
+        """)
+    int markRunning(@Param("jobId") UUID jobId, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("""
+        update ReportJobJpaEntity j
+           set j.status = :status, j.errorMessage = :errorMessage, j.completedAt = :now, j.updatedAt = :now
+         where j.jobId = :jobId
+        """)
+    int finish(@Param("jobId") UUID jobId,
+               @Param("status") String status,
+               @Param("errorMessage") String errorMessage,
+               @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("""
+        update ReportJobJpaEntity j
+           set j.status = 'FAILED', j.errorMessage = :errorMessage, j.completedAt = :now, j.updatedAt = :now
+         where j.status in ('QUEUED', 'RUNNING') and j.updatedAt < :updatedBefore
+        """)
+    int failAbandoned(@Param("updatedBefore") LocalDateTime updatedBefore,
+                      @Param("errorMessage") String errorMessage,
+                      @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("delete from ReportJobJpaEntity j where j.completedAt is not null and j.completedAt < :completedBefore")
+    int deleteFinishedBefore(@Param("completedBefore") LocalDateTime completedBefore);
+}
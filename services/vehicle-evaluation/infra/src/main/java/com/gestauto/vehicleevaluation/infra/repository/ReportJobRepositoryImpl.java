@@ -0,0 +1,72 @@
+package com.gestauto.vehicleevaluation.infra.repository;
+
+import com.gestauto.vehicleevaluation.domain.report.ReportJob;
+import com.gestauto.vehicleevaluation.domain.repository.ReportJobRepository;
+import com.gestauto.vehicleevaluation.infra.entity.ReportJobJpaEntity;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Jobs de geração de laudo sobre a tabela report_jobs.
+ *
+ * A reserva obtém um advisory lock transacional do usuário antes de contar os
+ * jobs ativos e gravar o novo: sob READ COMMITTED, duas instâncias que
+ * contassem ao mesmo tempo aceitariam ambas o job que ultrapassa o limite.
+ */
+@Repository
+@Transactional
+@RequiredArgsConstructor
+public class ReportJobRepositoryImpl implements ReportJobRepository {
+
+    static final String ABANDONED_MESSAGE = "Job interrompido antes da conclusão";
+
+    private final ReportJobJpaRepository jpaRepository;
+
+    @Override
+    public boolean reserve(ReportJob job, int maxActivePerUser, LocalDateTime activeSince) {
+        jpaRepository.lockUser(job.requestedBy());
+        return jpaRepository.insertIfBelowLimit(job.jobId(), job.evaluationId(), job.requestedBy(),
+            job.submittedAt(), maxActivePerUser, activeSince) > 0;
+    }
+
+    @Override
+    public void markRunning(UUID jobId) {
+        jpaRepository.markRunning(jobId, LocalDateTime.now());
+    }
+
+    @Override
+    public void finish(UUID jobId, ReportJob.Status status, String errorMessage) {
+        jpaRepository.finish(jobId, status.name(), errorMessage, LocalDateTime.now());
+    }
+
+    @Override
+    public void delete(UUID jobId) {
+        jpaRepository.deleteById(jobId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ReportJob> findById(UUID jobId) {
+        return jpaRepository.findById(jobId).map(ReportJobRepositoryImpl::toDomain);
+    }
+
+    @Override
+    public int failAbandoned(LocalDateTime updatedBefore) {
+        return jpaRepository.failAbandoned(updatedBefore, ABANDONED_MESSAGE, LocalDateTime.now());
+    }
+
+    @Override
+    public int deleteFinishedBefore(LocalDateTime completedBefore) {
+        return jpaRepository.deleteFinishedBefore(completedBefore);
+    }
+
+    private static ReportJob toDomain(ReportJobJpaEntity entity) {
+        return new ReportJob(entity.getJobId(), entity.getEvaluationId(), entity.getRequestedBy(),
+            ReportJob.Status.valueOf(entity.getStatus()), entity.getSubmittedAt(),
+            entity.getCompletedAt(), entity.getErrorMessage());
+    }
+}
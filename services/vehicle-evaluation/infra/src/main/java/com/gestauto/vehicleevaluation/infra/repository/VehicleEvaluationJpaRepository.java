@@ -1,119 +1,476 @@
 package com.gestauto.vehicleevaluation.infra.repository;
 
+import com.gestauto.vehicleevaluation.infra.entity.EvaluationChecklistJpaEntity;
 import com.gestauto.vehicleevaluation.infra.entity.EvaluationStatusJpa;
 import com.gestauto.vehicleevaluation.infra.entity.VehicleEvaluationJpaEntity;
-import com.gestauto.vehicleevaluation.infra.repository.projection.BrandStatProjection;
-import com.gestauto.vehicleevaluation.infra.repository.projection.EvaluationKpiProjection;
-import com.gestauto.vehicleevaluation.infra.repository.projection.MonthlyStatProjection;
+import com.gestauto.vehicleevaluation.infra.repository.projection.DashboardAggregateProjection;
+import com.gestauto.vehicleevaluation.infra.repository.projection.EvaluationFactProjection;
+import com.gestauto.vehicleevaluation.infra.repository.projection.LatencyBucketProjection;
+import com.gestauto.vehicleevaluation.infra.repository.projection.ManagementReportRowProjection;
+import jakarta.persistence.QueryHint;
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+/**
+ * Consultas de avaliações.
+ *
+ * As buscas de agregados usam o grafo {@link VehicleEvaluationJpaEntity#WITH_CHECKLIST_GRAPH};
+ * fotos, itens de depreciação e problemas críticos do checklist são carregados
+ * depois, para todas as avaliações de uma vez, pelos métodos {@code fetch*}.
+ */
 public interface VehicleEvaluationJpaRepository extends JpaRepository<VehicleEvaluationJpaEntity, UUID> {
 
+    @Override
+    @EntityGraph(VehicleEvaluationJpaEntity.WITH_CHECKLIST_GRAPH)
+    Optional<VehicleEvaluationJpaEntity> findById(UUID id);
+
+    @Override
+    @EntityGraph(VehicleEvaluationJpaEntity.WITH_CHECKLIST_GRAPH)
+    Page<VehicleEvaluationJpaEntity> findAll(Pageable pageable);
+
+    @EntityGraph(VehicleEvaluationJpaEntity.WITH_CHECKLIST_GRAPH)
     List<VehicleEvaluationJpaEntity> findByPlate(String plate);
 
+    @EntityGraph(VehicleEvaluationJpaEntity.WITH_CHECKLIST_GRAPH)
     List<VehicleEvaluationJpaEntity> findByStatus(EvaluationStatusJpa status);
 
+    @EntityGraph(VehicleEvaluationJpaEntity.WITH_CHECKLIST_GRAPH)
     List<VehicleEvaluationJpaEntity> findByStatus(EvaluationStatusJpa status, Pageable pageable);
 
+    @EntityGraph(VehicleEvaluationJpaEntity.WITH_CHECKLIST_GRAPH)
     List<VehicleEvaluationJpaEntity> findByEvaluatorId(String evaluatorId);
 
+    @EntityGraph(VehicleEvaluationJpaEntity.WITH_CHECKLIST_GRAPH)
     List<VehicleEvaluationJpaEntity> findByCreatedAtBetween(LocalDateTime startDate, LocalDateTime endDate);
 
+    @EntityGraph(VehicleEvaluationJpaEntity.WITH_CHECKLIST_GRAPH)
     List<VehicleEvaluationJpaEntity> findByStatusAndEvaluatorId(EvaluationStatusJpa status, String evaluatorId);
 
+    @EntityGraph(VehicleEvaluationJpaEntity.WITH_CHECKLIST_GRAPH)
     List<VehicleEvaluationJpaEntity> findByStatusOrderByCreatedAtAsc(EvaluationStatusJpa status, Pageable pageable);
 
+    @EntityGraph(VehicleEvaluationJpaEntity.WITH_CHECKLIST_GRAPH)
     Optional<VehicleEvaluationJpaEntity> findByValidationToken(String validationToken);
 
+    /**
+     * Inicializa as fotos das avaliações já carregadas no contexto de persistência.
+     */
+    @Query("select distinct v from VehicleEvaluationJpaEntity v left join fetch v.photos where v.id in :ids")
+    List<VehicleEvaluationJpaEntity> fetchPhotos(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Inicializa os itens de depreciação das avaliações já carregadas no contexto de persistência.
+     */
+    @Query("select distinct v from VehicleEvaluationJpaEntity v left join fetch v.depreciationItems where v.id in :ids")
+    List<VehicleEvaluationJpaEntity> fetchDepreciationItems(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Inicializa os problemas críticos dos checklists das avaliações informadas.
+     */
+    @Query("select distinct c from EvaluationChecklistJpaEntity c left join fetch c.criticalIssues where c.evaluation.id in :ids")
+    List<EvaluationChecklistJpaEntity> fetchChecklistCriticalIssues(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Linhas do relatório gerencial em streaming, sem carregar entidades no contexto de persistência.
+     * Deve ser consumido dentro de uma transação e fechado ao final.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
     @Query("""
-        select v from VehicleEvaluationJpaEntity v
+        select v.id as id,
+               v.plate as plate,
+               v.vehicleInfo.brand as brand,
+               v.vehicleInfo.model as model,
+               v.vehicleInfo.yearModel as yearModel,
+               v.mileageAmount as mileageAmount,
+               v.evaluatorId as evaluatorId,
+               v.status as status,
+               v.fipePriceAmount as fipePriceAmount,
+               v.baseValueAmount as baseValueAmount,
+               v.finalValueAmount as finalValueAmount,
+               v.approvedValueAmount as approvedValueAmount,
+               v.createdAt as createdAt,
+               v.submittedAt as submittedAt,
+               v.approvedAt as approvedAt
+        from VehicleEvaluationJpaEntity v
         where v.createdAt between :startDate and :endDate
           and (:evaluatorId is null or v.evaluatorId = :evaluatorId)
           and (:status is null or v.status = :status)
         order by v.createdAt desc
         """)
-    List<VehicleEvaluationJpaEntity> findForManagementReport(@Param("startDate") LocalDateTime startDate,
-                                                            @Param("endDate") LocalDateTime endDate,
-                                                            @Param("evaluatorId") String evaluatorId,
-                                                            @Param("status") EvaluationStatusJpa status);
+    Stream<ManagementReportRowProjection> streamForManagementReport(@Param("startDate") LocalDateTime startDate,
+                                                                   @Param("endDate") LocalDateTime endDate,
+                                                                   @Param("evaluatorId") String evaluatorId,
+                                                                   @Param("status") EvaluationStatusJpa status);
 
+    /**
+     * Agrega o dashboard a partir de evaluation_daily_stats, com custo
+     * proporcional ao número de dias do período e não ao de avaliações.
+     *
+     * GROUPING SETS produz, sobre a mesma CTE, a linha de total (KPIs), uma linha
+     * por mês e uma linha por marca; grouping(month, brand) identifica o conjunto.
+     */
     @Query(value = """
+        with filtered as (
+            select
+                date_trunc('month', stat_date)::date as month,
+                brand,
+                status,
+                evaluations_count,
+                ticket_sum,
+                ticket_count,
+                review_hours_sum,
+                review_count
+            from vehicle_evaluation.evaluation_daily_stats
+            where stat_date between :startDate and :endDate
+              and (:evaluatorId is null or evaluator_id = :evaluatorId)
+              and (:status is null or status = :status)
+        )
         select
-            count(*) as totalEvaluations,
+            grouping(month, brand) as groupingLevel,
+            month as month,
+            brand as brand,
+            coalesce(sum(evaluations_count), 0) as evaluationsCount,
+            coalesce(sum(ticket_sum), 0) as totalTicket,
+            coalesce(sum(ticket_sum) / nullif(sum(ticket_count), 0), 0) as averageTicket,
             coalesce(
-                sum(case when status = 'APPROVED' then 1 else 0 end) * 100.0 / nullif(count(*), 0),
+                sum(case when status = 'APPROVED' then evaluations_count else 0 end) * 100.0
+                    / nullif(sum(evaluations_count), 0),
                 0
             ) as approvalRatePercent,
-            coalesce(
-                avg(coalesce(approved_value_amount, final_value_amount, base_value_amount)),
-                0
-            ) as averageTicket,
-            coalesce(
-                avg(extract(epoch from (approved_at - submitted_at)) / 3600.0),
-                0
-            ) as averageReviewTimeHours
-        from vehicle_evaluation.vehicle_evaluations
-        where created_at between :startDate and :endDate
-          and (:evaluatorId is null or evaluator_id = :evaluatorId)
-          and (:status is null or status = :status)
+            coalesce(sum(review_hours_sum) / nullif(sum(review_count), 0), 0) as averageReviewTimeHours
+        from filtered
+        group by grouping sets ((), (month), (brand))
+        order by groupingLevel, month, evaluationsCount desc
         """, nativeQuery = true)
-    EvaluationKpiProjection getDashboardKpis(@Param("startDate") LocalDateTime startDate,
-                                            @Param("endDate") LocalDateTime endDate,
-                                            @Param("evaluatorId") String evaluatorId,
-                                            @Param("status") String status);
+    List<DashboardAggregateProjection> getDashboardAggregates(@Param("startDate") LocalDate startDate,
+                                                              @Param("endDate") LocalDate endDate,
+                                                              @Param("evaluatorId") String evaluatorId,
+                                                              @Param("status") String status);
 
+    /**
+     * Baldes dos sketches diários de latência somados sobre o recorte, uma linha
+     * por métrica e balde.
+     */
     @Query(value = """
         select
-            date_trunc('month', created_at)::date as month,
-            count(*) as evaluationsCount,
-            coalesce(sum(coalesce(approved_value_amount, final_value_amount, base_value_amount)), 0) as totalTicket
-        from vehicle_evaluation.vehicle_evaluations
-        where created_at between :startDate and :endDate
+            metric as metric,
+            bucket::int as bucket,
+            sum(sample_count)::bigint as sampleCount
+        from vehicle_evaluation.evaluation_daily_latency
+        where stat_date between :startDate and :endDate
           and (:evaluatorId is null or evaluator_id = :evaluatorId)
           and (:status is null or status = :status)
-        group by month
-        order by month
+        group by metric, bucket
+        """, nativeQuery = true)
+    List<LatencyBucketProjection> getDashboardLatencyBuckets(@Param("startDate") LocalDate startDate,
+                                                            @Param("endDate") LocalDate endDate,
+                                                            @Param("evaluatorId") String evaluatorId,
+                                                            @Param("status") String status);
+
+    @Query(value = """
+        select distinct evaluator_id
+        from vehicle_evaluation.evaluation_daily_stats
+        where stat_date >= :since
+        order by evaluator_id
+        """, nativeQuery = true)
+    List<String> findDailyStatsEvaluatorIds(@Param("since") LocalDate since);
+
+    /**
+     * Fatos de todas as avaliações em streaming e em ordem de criação, para a carga
+     * do motor analítico colunar. Deve ser consumido dentro de uma transação e fechado ao final.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("""
+        select v.id as id,
+               v.rowVersion as rowVersion,
+               v.createdAt as createdAt,
+               v.status as status,
+               v.vehicleInfo.brand as brand,
+               v.evaluatorId as evaluatorId,
+               v.approvedValueAmount as approvedValueAmount,
+               v.finalValueAmount as finalValueAmount,
+               v.baseValueAmount as baseValueAmount,
+               v.submittedAt as submittedAt,
+               v.approvedAt as approvedAt
+        from VehicleEvaluationJpaEntity v
+        order by v.createdAt
+        """)
+    Stream<EvaluationFactProjection> streamEvaluationFacts();
+
+    @Query("""
+        select v.id as id,
+               v.rowVersion as rowVersion,
+               v.createdAt as createdAt,
+               v.status as status,
+               v.vehicleInfo.brand as brand,
+               v.evaluatorId as evaluatorId,
+               v.approvedValueAmount as approvedValueAmount,
+               v.finalValueAmount as finalValueAmount,
+               v.baseValueAmount as baseValueAmount,
+               v.submittedAt as submittedAt,
+               v.approvedAt as approvedAt
+        from VehicleEvaluationJpaEntity v
+        where v.id = :evaluationId
+        """)
+    Optional<EvaluationFactProjection> findEvaluationFactById(@Param("evaluationId") UUID evaluationId);
+
+    /**
+     * Fatos das avaliações alteradas desde o instante informado, para a
+     * sincronização periódica do motor analítico colunar.
+     */
+    @Query("""
+        select v.id as id,
+               v.rowVersion as rowVersion,
+               v.createdAt as createdAt,
+               v.status as status,
+               v.vehicleInfo.brand as brand,
+               v.evaluatorId as evaluatorId,
+               v.approvedValueAmount as approvedValueAmount,
+               v.finalValueAmount as finalValueAmount,
+               v.baseValueAmount as baseValueAmount,
+               v.submittedAt as submittedAt,
+               v.approvedAt as approvedAt
+        from VehicleEvaluationJpaEntity v
+        where v.updatedAt >= :since
+        """)
+    List<EvaluationFactProjection> findEvaluationFactsUpdatedSince(@Param("since") LocalDateTime since);
+
+    @Query(value = "select evaluator_id from vehicle_evaluation.vehicle_evaluations where id = :evaluationId",
+        nativeQuery = true)
+    Optional<String> findEvaluatorIdById(@Param("evaluationId") UUID evaluationId);
+
+    /**
+     * Serializa os refreshes da fatia (dia, avaliador, marca) da avaliação com um
+     * advisory lock liberado no fim da transação.
+     */
+    @Query(value = """
+        select count(*)
+        from vehicle_evaluation.vehicle_evaluations v
+        cross join lateral pg_advisory_xact_lock(
+            hashtext(v.created_at::date::text || '|' || v.evaluator_id || '|' || v.brand)) slice_lock
+        where v.id = :evaluationId
+        """, nativeQuery = true)
+    long lockDailySlice(@Param("evaluationId") UUID evaluationId);
+
+    @Modifying
+    @Query(value = """
+        delete from vehicle_evaluation.evaluation_daily_stats s
+        using vehicle_evaluation.vehicle_evaluations v
+        where v.id = :evaluationId
+          and s.stat_date = v.created_at::date
+          and s.evaluator_id = v.evaluator_id
+          and s.brand = v.brand
         """, nativeQuery = true)
-    List<MonthlyStatProjection> getDashboardMonthlyStats(@Param("startDate") LocalDateTime startDate,
-                                                        @Param("endDate") LocalDateTime endDate,
-                                                        @Param("evaluatorId") String evaluatorId,
-                                                        @Param("status") String status);
+    int deleteDailyStatsSlice(@Param("evaluationId") UUID evaluationId);
 
+    @Modifying
     @Query(value = """
+        insert into vehicle_evaluation.evaluation_daily_stats (
+            stat_date, evaluator_id, brand, status,
+            evaluations_count, ticket_sum, ticket_count, review_hours_sum, review_count, updated_at
+        )
         select
-            brand as brand,
-            count(*) as evaluationsCount,
-            coalesce(avg(coalesce(approved_value_amount, final_value_amount, base_value_amount)), 0) as averageTicket,
-            coalesce(
-                sum(case when status = 'APPROVED' then 1 else 0 end) * 100.0 / nullif(count(*), 0),
-                0
-            ) as approvalRatePercent
+            e.created_at::date,
+            e.evaluator_id,
+            e.brand,
+            e.status,
+            count(*),
+            coalesce(sum(coalesce(e.approved_value_amount, e.final_value_amount, e.base_value_amount)), 0),
+            count(coalesce(e.approved_value_amount, e.final_value_amount, e.base_value_amount)),
+            coalesce(sum(extract(epoch from (e.approved_at - e.submitted_at)) / 3600.0), 0),
+            count(e.approved_at - e.submitted_at),
+            now()
+        from vehicle_evaluation.vehicle_evaluations v
+        join vehicle_evaluation.vehicle_evaluations e
+          on e.evaluator_id = v.evaluator_id
+         and e.brand = v.brand
+         and e.created_at::date = v.created_at::date
+        where v.id = :evaluationId
+        group by e.created_at::date, e.evaluator_id, e.brand, e.status
+        on conflict (stat_date, evaluator_id, brand, status) do update set
+            evaluations_count = excluded.evaluations_count,
+            ticket_sum = excluded.ticket_sum,
+            ticket_count = excluded.ticket_count,
+            review_hours_sum = excluded.review_hours_sum,
+            review_count = excluded.review_count,
+            updated_at = excluded.updated_at
+        """, nativeQuery = true)
+    int insertDailyStatsSlice(@Param("evaluationId") UUID evaluationId);
+
+    @Modifying
+    @Query(value = """
+        delete from vehicle_evaluation.evaluation_daily_stats
+        where stat_date between :startDate and :endDate
+        """, nativeQuery = true)
+    int deleteDailyStats(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @Modifying
+    @Query(value = """
+        insert into vehicle_evaluation.evaluation_daily_stats (
+            stat_date, evaluator_id, brand, status,
+            evaluations_count, ticket_sum, ticket_count, review_hours_sum, review_count, updated_at
+        )
+        select
+            created_at::date,
+            evaluator_id,
+            brand,
+            status,
+            count(*),
+            coalesce(sum(coalesce(approved_value_amount, final_value_amount, base_value_amount)), 0),
+            count(coalesce(approved_value_amount, final_value_amount, base_value_amount)),
+            coalesce(sum(extract(epoch from (approved_at - submitted_at)) / 3600.0), 0),
+            count(approved_at - submitted_at),
+            now()
         from vehicle_evaluation.vehicle_evaluations
-        where created_at between :startDate and :endDate
-          and (:evaluatorId is null or evaluator_id = :evaluatorId)
-          and (:status is null or status = :status)
-        group by brand
-        order by evaluationsCount desc
+        where created_at >= :startDate
+          and created_at < :endDate + 1
+        group by created_at::date, evaluator_id, brand, status
+        on conflict (stat_date, evaluator_id, brand, status) do update set
+            evaluations_count = excluded.evaluations_count,
+            ticket_sum = excluded.ticket_sum,
+            ticket_count = excluded.ticket_count,
+            review_hours_sum = excluded.review_hours_sum,
+            review_count = excluded.review_count,
+            updated_at = excluded.updated_at
         """, nativeQuery = true)
-    List<BrandStatProjection> getDashboardBrandStats(@Param("startDate") LocalDateTime startDate,
-                                                    @Param("endDate") LocalDateTime endDate,
-                                                    @Param("evaluatorId") String evaluatorId,
-                                                    @Param("status") String status);
+    int insertDailyStats(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
 
+    @Modifying
+    @Query(value = """
+        delete from vehicle_evaluation.evaluation_daily_latency s
+        using vehicle_evaluation.vehicle_evaluations v
+        where v.id = :evaluationId
+          and s.stat_date = v.created_at::date
+          and s.evaluator_id = v.evaluator_id
+          and s.brand = v.brand
+        """, nativeQuery = true)
+    int deleteDailyLatencySlice(@Param("evaluationId") UUID evaluationId);
+
+    /**
+     * Regrava os sketches de latência da fatia (dia, avaliador, marca) da avaliação.
+     * O balde segue {@code LatencySketch.bucketOf}, com γ e o último balde
+     * passados como parâmetro.
+     */
+    @Modifying
+    @Query(value = """
+        insert into vehicle_evaluation.evaluation_daily_latency (
+            stat_date, evaluator_id, brand, status, metric, bucket, sample_count
+        )
+        select stat_date, evaluator_id, brand, status, metric, bucket, count(*)
+        from (
+            select
+                e.created_at::date as stat_date,
+                e.evaluator_id,
+                e.brand,
+                e.status,
+                m.metric,
+                case
+                    when m.seconds <= 1 then 0
+                    else least(ceil(ln(m.seconds) / :logGamma)::int, :maxBucket)
+                end as bucket
+            from vehicle_evaluation.vehicle_evaluations v
+            join vehicle_evaluation.vehicle_evaluations e
+              on e.evaluator_id = v.evaluator_id
+             and e.brand = v.brand
+             and e.created_at::date = v.created_at::date
+            cross join lateral (values
+                ('SUBMISSION', floor(extract(epoch from (e.submitted_at - e.created_at)))),
+                ('REVIEW', floor(extract(epoch from (e.approved_at - e.submitted_at))))
+            ) as m(metric, seconds)
+            where v.id = :evaluationId
+              and m.seconds is not null
+        ) samples
+        group by stat_date, evaluator_id, brand, status, metric, bucket
+        on conflict (stat_date, evaluator_id, brand, status, metric, bucket) do update set
+            sample_count = excluded.sample_count
+        """, nativeQuery = true)
+    int insertDailyLatencySlice(@Param("evaluationId") UUID evaluationId,
+                                @Param("logGamma") double logGamma,
+                                @Param("maxBucket") int maxBucket);
+
+    @Modifying
+    @Query(value = """
+        delete from vehicle_evaluation.evaluation_daily_latency
+        where stat_date between :startDate and :endDate
+        """, nativeQuery = true)
+    int deleteDailyLatency(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @Modifying
+    @Query(value = """
+        insert into vehicle_evaluation.evaluation_daily_latency (
+            stat_date, evaluator_id, brand, status, metric, bucket, sample_count
+        )
+        select stat_date, evaluator_id, brand, status, metric, bucket, count(*)
+        from (
+            select
+                e.created_at::date as stat_date,
+                e.evaluator_id,
+                e.brand,
+                e.status,
+                m.metric,
+                case
+                    when m.seconds <= 1 then 0
+                    else least(ceil(ln(m.seconds) / :logGamma)::int, :maxBucket)
+                end as bucket
+            from vehicle_evaluation.vehicle_evaluations e
+            cross join lateral (values
+                ('SUBMISSION', floor(extract(epoch from (e.submitted_at - e.created_at)))),
+                ('REVIEW', floor(extract(epoch from (e.approved_at - e.submitted_at))))
+            ) as m(metric, seconds)
+            where e.created_at >= :startDate
+              and e.created_at < :endDate + 1
+              and m.seconds is not null
+        ) samples
+        group by stat_date, evaluator_id, brand, status, metric, bucket
+        on conflict (stat_date, evaluator_id, brand, status, metric, bucket) do update set
+            sample_count = excluded.sample_count
+        """, nativeQuery = true)
+    int insertDailyLatency(@Param("startDate") LocalDate startDate,
+                           @Param("endDate") LocalDate endDate,
+                           @Param("logGamma") double logGamma,
+                           @Param("maxBucket") int maxBucket);
+
+    @EntityGraph(VehicleEvaluationJpaEntity.WITH_CHECKLIST_GRAPH)
     @Query("select v from VehicleEvaluationJpaEntity v where v.status = :status and v.validUntil <= :limit")
     List<VehicleEvaluationJpaEntity> findExpiring(@Param("status") EvaluationStatusJpa status,
                                                    @Param("limit") LocalDateTime limit);
 
+    @EntityGraph(VehicleEvaluationJpaEntity.WITH_CHECKLIST_GRAPH)
     List<VehicleEvaluationJpaEntity> findByFinalValueAmountBetween(BigDecimal min, BigDecimal max);
 
+    @Modifying
+    @Query("""
+        update VehicleEvaluationJpaEntity v
+           set v.rowVersion = v.rowVersion + 1, v.updatedAt = :updatedAt
+         where v.id = :id and v.rowVersion = :version
+        """)
+    int advanceVersion(@Param("id") UUID id,
+                       @Param("version") long version,
+                       @Param("updatedAt") LocalDateTime updatedAt);
+
     boolean existsByPlateAndStatus(String plate, EvaluationStatusJpa status);
 
     long countByStatus(EvaluationStatusJpa status);
@@ -2,6 +2,7 @@ package com.gestauto.vehicleevaluation.infra.repository;
 
 import com.gestauto.vehicleevaluation.domain.entity.VehicleEvaluation;
 import com.gestauto.vehicleevaluation.domain.enums.EvaluationStatus;
+import com.gestauto.vehicleevaluation.domain.exception.ConcurrentEvaluationUpdateException;
 import com.gestauto.vehicleevaluation.domain.repository.VehicleEvaluationRepository;
 import com.gestauto.vehicleevaluation.domain.value.EvaluationId;
 import com.gestauto.vehicleevaluation.domain.value.Money;
@@ -12,33 +13,87 @@ import com.gestauto.vehicleevaluation.infra.mapper.MoneyMapper;
 import com.gestauto.vehicleevaluation.infra.mapper.VehicleEvaluationMapper;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Page;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * Repositório de agregados VehicleEvaluation.
+ *
+ * Buscas que retornam listas carregam as avaliações (com o checklist) em uma
+ * consulta e, em seguida, fotos, itens de depreciação e problemas críticos do
+ * checklist de todas elas em uma consulta por coleção. Assim o número de idas
+ * ao banco não depende da quantidade de avaliações retornadas.
+ *
+ * O save de uma avaliação existente aplica o agregado sobre a entidade carregada
+ * (ver {@link VehicleEvaluationMapper#applyTo}); com {@code @DynamicUpdate} nas
+ * entidades, cada UPDATE contém apenas as colunas alteradas e as linhas filhas
+ * inalteradas não são regravadas.
+ */
 @Repository
 @Transactional
 public class VehicleEvaluationRepositoryImpl implements VehicleEvaluationRepository {
 
     private final VehicleEvaluationJpaRepository jpaRepository;
+    private final EvaluationChecklistJpaRepository checklistJpaRepository;
 
-    public VehicleEvaluationRepositoryImpl(VehicleEvaluationJpaRepository jpaRepository) {
+    public VehicleEvaluationRepositoryImpl(VehicleEvaluationJpaRepository jpaRepository,
+                                           EvaluationChecklistJpaRepository checklistJpaRepository) {
         this.jpaRepository = jpaRepository;
+        this.checklistJpaRepository = checklistJpaRepository;
     }
 
     @Override
     public VehicleEvaluation save(VehicleEvaluation evaluation) {
-        VehicleEvaluationJpaEntity entity = VehicleEvaluationMapper.toEntity(evaluation);
-        VehicleEvaluationJpaEntity saved = jpaRepository.save(entity);
-        return VehicleEvaluationMapper.toDomain(saved);
+        UUID id = UUID.fromString(evaluation.getId().getValueAsString());
+        Optional<VehicleEvaluationJpaEntity> managed = jpaRepository.findById(id);
+        if (managed.isEmpty()) {
+            VehicleEvaluationJpaEntity saved = jpaRepository.save(VehicleEvaluationMapper.toEntity(evaluation));
+            return VehicleEvaluationMapper.toDomain(saved);
+        }
+
+        // Avaliação já persistida: altera a entidade gerenciada e deixa o flush gravar só a diferença
+        VehicleEvaluationJpaEntity entity = managed.get();
+        if (entity.getRowVersion() != evaluation.getVersion()) {
+            throw new ConcurrentEvaluationUpdateException(id.toString(), evaluation.getVersion());
+        }
+        attachSavedChecklist(evaluation, entity);
+        VehicleEvaluationMapper.applyTo(evaluation, entity);
+        try {
+            // O flush aplica o @Version e devolve ao chamador a versão já incrementada
+            jpaRepository.flush();
+        } catch (OptimisticLockingFailureException e) {
+            throw new ConcurrentEvaluationUpdateException(id.toString(), evaluation.getVersion());
+        }
+        return VehicleEvaluationMapper.toDomain(entity);
+    }
+
+    /**
+     * Um checklist gravado pelo EvaluationChecklistRepository na mesma transação já está
+     * no contexto de persistência, mas não no lado inverso da avaliação carregada. Ele é
+     * ligado à avaliação antes do applyTo, que então o atualiza em vez de montar uma
+     * segunda entidade com o mesmo id.
+     */
+    private void attachSavedChecklist(VehicleEvaluation evaluation, VehicleEvaluationJpaEntity entity) {
+        if (entity.getChecklist() == null && evaluation.getChecklist() != null) {
+            checklistJpaRepository.findByEvaluationId(entity.getId()).ifPresent(entity::setChecklist);
+        }
+    }
+
+    @Override
+    public void advanceVersion(EvaluationId id, long expectedVersion) {
+        int updated = jpaRepository.advanceVersion(UUID.fromString(id.getValueAsString()), expectedVersion,
+            LocalDateTime.now());
+        if (updated == 0) {
+            throw new ConcurrentEvaluationUpdateException(id.getValueAsString(), expectedVersion);
+        }
     }
 
     @Override
@@ -60,72 +115,52 @@ public class VehicleEvaluationRepositoryImpl implements VehicleEvaluationReposit
 
     @Override
     public List<VehicleEvaluation> findByPlate(Plate plate) {
-        return jpaRepository.findByPlate(plate.getValue()).stream()
-            .map(VehicleEvaluationMapper::toDomain)
-            .collect(Collectors.toList());
+        return toDomainList(jpaRepository.findByPlate(plate.getValue()));
     }
 
     @Override
     public List<VehicleEvaluation> findByStatus(EvaluationStatus status) {
-        return jpaRepository.findByStatus(EvaluationStatusJpa.valueOf(status.name())).stream()
-            .map(VehicleEvaluationMapper::toDomain)
-            .collect(Collectors.toList());
+        return toDomainList(jpaRepository.findByStatus(EvaluationStatusJpa.valueOf(status.name())));
     }
 
     @Override
     public List<VehicleEvaluation> findByEvaluator(String evaluatorId) {
-        return jpaRepository.findByEvaluatorId(evaluatorId).stream()
-            .map(VehicleEvaluationMapper::toDomain)
-            .collect(Collectors.toList());
+        return toDomainList(jpaRepository.findByEvaluatorId(evaluatorId));
     }
 
     @Override
     public List<VehicleEvaluation> findByCreatedAtBetween(LocalDateTime startDate, LocalDateTime endDate) {
-        return jpaRepository.findByCreatedAtBetween(startDate, endDate).stream()
-            .map(VehicleEvaluationMapper::toDomain)
-            .collect(Collectors.toList());
+        return toDomainList(jpaRepository.findByCreatedAtBetween(startDate, endDate));
     }
 
     @Override
     public List<VehicleEvaluation> findByStatusAndEvaluator(EvaluationStatus status, String evaluatorId) {
-        return jpaRepository.findByStatusAndEvaluatorId(EvaluationStatusJpa.valueOf(status.name()), evaluatorId).stream()
-            .map(VehicleEvaluationMapper::toDomain)
-            .collect(Collectors.toList());
+        return toDomainList(jpaRepository.findByStatusAndEvaluatorId(EvaluationStatusJpa.valueOf(status.name()), evaluatorId));
     }
 
     @Override
     public List<VehicleEvaluation> findPendingApproval(int limit) {
-        return jpaRepository.findByStatusOrderByCreatedAtAsc(
-                EvaluationStatusJpa.PENDING_APPROVAL, PageRequest.of(0, limit))
-            .stream()
-            .map(VehicleEvaluationMapper::toDomain)
-            .collect(Collectors.toList());
+        return toDomainList(jpaRepository.findByStatusOrderByCreatedAtAsc(
+                EvaluationStatusJpa.PENDING_APPROVAL, PageRequest.of(0, limit)));
     }
 
     @Override
     public List<VehicleEvaluation> findPendingApprovals(EvaluationStatus status, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
-        return jpaRepository.findByStatus(EvaluationStatusJpa.valueOf(status.name()), pageable)
-            .stream()
-            .map(VehicleEvaluationMapper::toDomain)
-            .collect(Collectors.toList());
+        return toDomainList(jpaRepository.findByStatus(EvaluationStatusJpa.valueOf(status.name()), pageable));
     }
 
     @Override
     public List<VehicleEvaluation> findExpiringSoon(int hoursUntilExpiration) {
         LocalDateTime limit = LocalDateTime.now().plusHours(hoursUntilExpiration);
-        return jpaRepository.findExpiring(EvaluationStatusJpa.APPROVED, limit).stream()
-            .map(VehicleEvaluationMapper::toDomain)
-            .collect(Collectors.toList());
+        return toDomainList(jpaRepository.findExpiring(EvaluationStatusJpa.APPROVED, limit));
     }
 
     @Override
     public List<VehicleEvaluation> findByFinalValueBetween(Money minValue, Money maxValue) {
         BigDecimal min = MoneyMapper.toAmount(minValue);
         BigDecimal max = MoneyMapper.toAmount(maxValue);
-        return jpaRepository.findByFinalValueAmountBetween(min, max).stream()
-            .map(VehicleEvaluationMapper::toDomain)
-            .collect(Collectors.toList());
+        return toDomainList(jpaRepository.findByFinalValueAmountBetween(min, max));
     }
 
     @Override
@@ -140,9 +175,7 @@ public class VehicleEvaluationRepositoryImpl implements VehicleEvaluationReposit
 
     @Override
     public List<VehicleEvaluation> findAll(int page, int size) {
-        return jpaRepository.findAll(PageRequest.of(page, size)).stream()
-            .map(VehicleEvaluationMapper::toDomain)
-            .collect(Collectors.toList());
+        return toDomainList(jpaRepository.findAll(PageRequest.of(page, size)));
     }
 
     @Override
@@ -154,4 +187,24 @@ public class VehicleEvaluationRepositoryImpl implements VehicleEvaluationReposit
     public boolean existsById(EvaluationId id) {
         return jpaRepository.existsById(UUID.fromString(id.getValueAsString()));
     }
+
+    private List<VehicleEvaluation> toDomainList(Iterable<VehicleEvaluationJpaEntity> entities) {
+        List<VehicleEvaluationJpaEntity> loaded = new ArrayList<>();
+        entities.forEach(loaded::add);
+        if (loaded.isEmpty()) {
+            return List.of();
+        }
+
+        // As consultas abaixo inicializam as coleções das mesmas instâncias do contexto de persistência
+        List<UUID> ids = loaded.stream().map(VehicleEvaluationJpaEntity::getId).toList();
+        jpaRepository.fetchPhotos(ids);
+        jpaRepository.fetchDepreciationItems(ids);
+        if (loaded.stream().anyMatch(entity -> entity.getChecklist() != null)) {
+            jpaRepository.fetchChecklistCriticalIssues(ids);
+        }
+
+        return loaded.stream()
+            .map(VehicleEvaluationMapper::toDomain)
+            .collect(Collectors.toList());
+    }
 }
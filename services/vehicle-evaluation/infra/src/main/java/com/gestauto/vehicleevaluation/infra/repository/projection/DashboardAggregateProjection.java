@@ -0,0 +1,33 @@
+package com.gestauto.vehicleevaluation.infra.repository.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Linha da agregação do dashboard por GROUPING SETS.
+ *
+ * O nível de agrupamento identifica o conjunto da linha: 3 para o total do
+ * período, 1 para a linha de um mês e 2 para a linha de uma marca.
+ */
+public interface DashboardAggregateProjection {
+
+    int TOTAL_LEVEL = 3;
+    int MONTH_LEVEL = 1;
+    int BRAND_LEVEL = 2;
+
+    Integer getGroupingLevel();
+
+    LocalDate getMonth();
+
+    String getBrand();
+
+    Long getEvaluationsCount();
+
+    BigDecimal getTotalTicket();
+
+    BigDecimal getAverageTicket();
+
+    BigDecimal getApprovalRatePercent();
+
+    BigDecimal getAverageReviewTimeHours();
+}
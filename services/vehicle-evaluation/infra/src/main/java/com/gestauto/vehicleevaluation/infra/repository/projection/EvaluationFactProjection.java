@@ -0,0 +1,35 @@
+package com.gestauto.vehicleevaluation.infra.repository.projection;
+
+import com.gestauto.vehicleevaluation.infra.entity.EvaluationStatusJpa;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Colunas de uma avaliação usadas pelo motor analítico colunar.
+ */
+public interface EvaluationFactProjection {
+
+    UUID getId();
+
+    Long getRowVersion();
+
+    LocalDateTime getCreatedAt();
+
+    EvaluationStatusJpa getStatus();
+
+    String getBrand();
+
+    String getEvaluatorId();
+
+    BigDecimal getApprovedValueAmount();
+
+    BigDecimal getFinalValueAmount();
+
+    BigDecimal getBaseValueAmount();
+
+    LocalDateTime getSubmittedAt();
+
+    LocalDateTime getApprovedAt();
+}
@@ -0,0 +1,36 @@
+package com.gestauto.vehicleevaluation.infra.repository.projection;
+
+import com.gestauto.vehicleevaluation.infra.entity.EvaluationStatusJpa;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface EvaluationSummaryProjection {
+
+    UUID getId();
+
+    String getPlate();
+
+    String getBrand();
+
+    String getModel();
+
+    Integer getYearModel();
+
+    BigDecimal getMileageAmount();
+
+    EvaluationStatusJpa getStatus();
+
+    BigDecimal getFinalValueAmount();
+
+    String getEvaluatorId();
+
+    String getApproverId();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+
+    LocalDateTime getValidUntil();
+}
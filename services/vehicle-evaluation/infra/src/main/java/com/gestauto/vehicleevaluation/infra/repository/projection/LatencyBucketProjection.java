@@ -0,0 +1,19 @@
+package com.gestauto.vehicleevaluation.infra.repository.projection;
+
+/**
+ * Contagem de um balde do sketch de latência, somada sobre o recorte do dashboard.
+ *
+ * A métrica identifica a duração: SUBMISSION vai da criação à submissão e
+ * REVIEW da submissão à aprovação.
+ */
+public interface LatencyBucketProjection {
+
+    String SUBMISSION_METRIC = "SUBMISSION";
+    String REVIEW_METRIC = "REVIEW";
+
+    String getMetric();
+
+    Integer getBucket();
+
+    Long getSampleCount();
+}
@@ -0,0 +1,40 @@
+package com.gestauto.vehicleevaluation.infra.repository.projection;
+
+import com.gestauto.vehicleevaluation.infra.entity.EvaluationStatusJpa;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface ManagementReportRowProjection {
+
+    UUID getId();
+
+    String getPlate();
+
+    String getBrand();
+
+    String getModel();
+
+    Integer getYearModel();
+
+    BigDecimal getMileageAmount();
+
+    String getEvaluatorId();
+
+    EvaluationStatusJpa getStatus();
+
+    BigDecimal getFipePriceAmount();
+
+    BigDecimal getBaseValueAmount();
+
+    BigDecimal getFinalValueAmount();
+
+    BigDecimal getApprovedValueAmount();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getSubmittedAt();
+
+    LocalDateTime getApprovedAt();
+}
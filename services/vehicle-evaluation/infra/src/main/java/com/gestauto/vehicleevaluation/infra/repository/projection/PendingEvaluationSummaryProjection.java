@@ -0,0 +1,28 @@
+package com.gestauto.vehicleevaluation.infra.repository.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface PendingEvaluationSummaryProjection {
+
+    UUID getId();
+
+    String getPlate();
+
+    String getBrand();
+
+    String getModel();
+
+    Integer getYearModel();
+
+    BigDecimal getFinalValueAmount();
+
+    LocalDateTime getCreatedAt();
+
+    String getEvaluatorId();
+
+    Long getPhotoCount();
+
+    Boolean getHasCriticalIssues();
+}
@@ -11,7 +11,13 @@ import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 
+import javax.imageio.IIOImage;
 import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
 import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -24,6 +30,11 @@ import java.util.concurrent.ConcurrentHashMap;
 @Service
 public class ImageStorageServiceImpl implements ImageStorageService {
 
+    // Versão usada no laudo PDF: cabe em 800x600 e é recomprimida em JPEG
+    private static final int MAX_IMAGE_WIDTH_PX = 800;
+    private static final int MAX_IMAGE_HEIGHT_PX = 600;
+    private static final float PDF_IMAGE_JPEG_QUALITY = 0.8f;
+
     private final S3Client s3Client;
     
     @Value("${app.external-apis.cloudflare-r2.bucket-name}")
@@ -99,6 +110,9 @@ public class ImageStorageServiceImpl implements ImageStorageService {
                 ByteArrayOutputStream thumbOs = new ByteArrayOutputStream();
                 ImageIO.write(thumbnail, "jpg", thumbOs);
                 InputStream thumbStream = new ByteArrayInputStream(thumbOs.toByteArray());
+
+                // Generate PDF-ready derivative from the same decoded image
+                byte[] pdfImage = createPdfImage(originalImage);
                 
                 // Upload original
                 String fileName = "evaluations/" + evaluationId + "/" + photoType + ".jpg";
@@ -107,8 +121,12 @@ public class ImageStorageServiceImpl implements ImageStorageService {
                 // Upload thumbnail
                 String thumbFileName = "evaluations/" + evaluationId + "/" + photoType + "_thumb.jpg";
                 String thumbUrl = uploadImage(thumbStream, thumbFileName, "image/jpeg", thumbOs.size());
+
+                // Upload PDF derivative
+                String pdfFileName = "evaluations/" + evaluationId + "/" + photoType + "_pdf.jpg";
+                uploadImage(new ByteArrayInputStream(pdfImage), pdfFileName, "image/jpeg", pdfImage.length);
                 
-                uploadedPhotos.put(photoType, new UploadedPhoto(originalUrl, thumbUrl));
+                uploadedPhotos.put(photoType, new UploadedPhoto(originalUrl, thumbUrl, pdfFileName, pdfImage.length));
                 
             } catch (Exception e) {
                 errors.put(photoType, e.getMessage());
@@ -124,4 +142,34 @@ public class ImageStorageServiceImpl implements ImageStorageService {
         outputImage.getGraphics().drawImage(resultingImage, 0, 0, null);
         return outputImage;
     }
+
+    private byte[] createPdfImage(BufferedImage originalImage) throws IOException {
+        double scale = Math.min(1.0, Math.min(
+                (double) MAX_IMAGE_WIDTH_PX / originalImage.getWidth(),
+                (double) MAX_IMAGE_HEIGHT_PX / originalImage.getHeight()));
+        int width = Math.max(1, (int) Math.round(originalImage.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(originalImage.getHeight() * scale));
+
+        BufferedImage pdfImage = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = pdfImage.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(originalImage, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpg").next();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(output)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(PDF_IMAGE_JPEG_QUALITY);
+            writer.setOutput(imageOutput);
+            writer.write(null, new IIOImage(pdfImage, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return output.toByteArray();
+    }
 }
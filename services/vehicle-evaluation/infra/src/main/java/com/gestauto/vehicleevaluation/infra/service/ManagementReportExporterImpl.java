@@ -2,14 +2,16 @@ package com.gestauto.vehicleevaluation.infra.service;
 
 import com.gestauto.vehicleevaluation.domain.enums.EvaluationStatus;
 import com.gestauto.vehicleevaluation.domain.report.BrandStat;
+import com.gestauto.vehicleevaluation.domain.report.DashboardSnapshot;
 import com.gestauto.vehicleevaluation.domain.report.EvaluationKpi;
+import com.gestauto.vehicleevaluation.domain.report.LatencyPercentiles;
 import com.gestauto.vehicleevaluation.domain.report.MonthlyStat;
 import com.gestauto.vehicleevaluation.domain.repository.EvaluationDashboardRepository;
 import com.gestauto.vehicleevaluation.domain.service.ManagementReportExporter;
 import com.gestauto.vehicleevaluation.infra.entity.EvaluationStatusJpa;
-import com.gestauto.vehicleevaluation.infra.entity.VehicleEvaluationJpaEntity;
 import com.gestauto.vehicleevaluation.infra.pdf.PdfGenerationException;
 import com.gestauto.vehicleevaluation.infra.repository.VehicleEvaluationJpaRepository;
+import com.gestauto.vehicleevaluation.infra.repository.projection.ManagementReportRowProjection;
 import com.itextpdf.kernel.pdf.PdfDocument;
 import com.itextpdf.kernel.pdf.PdfWriter;
 import com.itextpdf.layout.Document;
@@ -24,15 +26,19 @@ import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -45,46 +51,95 @@ public class ManagementReportExporterImpl implements ManagementReportExporter {
 
     private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
+    // Linhas mantidas em memória pelo SXSSF; as demais vão para arquivo temporário
+    private static final int ROW_ACCESS_WINDOW = 100;
+    private static final int EXCEL_CHAR_WIDTH_UNITS = 256;
+
+    private static final String[] EVALUATION_HEADERS = {
+        "ID",
+        "Plate",
+        "Brand",
+        "Model",
+        "Year",
+        "Mileage",
+        "Evaluator",
+        "Status",
+        "FIPE",
+        "Base value",
+        "Final value",
+        "Approved value",
+        "Created at",
+        "Submitted at",
+        "Approved at"
+    };
+
+    // Larguras fixas em caracteres, dimensionadas para o conteúdo típico de cada coluna
+    private static final int[] EVALUATION_COLUMN_WIDTHS = {38, 10, 16, 24, 6, 12, 38, 18, 14, 14, 14, 14, 28, 28, 28};
+    private static final int[] SUMMARY_COLUMN_WIDTHS = {40, 40};
+    private static final int[] MONTHLY_COLUMN_WIDTHS = {14, 14, 16};
+    private static final int[] BRAND_COLUMN_WIDTHS = {24, 14, 14, 18};
+
     @Override
+    @Transactional(readOnly = true)
     public byte[] exportDetailedExcel(LocalDateTime startDate,
                                      LocalDateTime endDate,
                                      String evaluatorId,
                                      EvaluationStatus status) {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        writeDetailedExcel(startDate, endDate, evaluatorId, status, baos);
+        return baos.toByteArray();
+    }
+
+    /**
+     * Gera o Excel em streaming: as linhas vêm do banco por cursor (fetch size fixo,
+     * sem entidades gerenciadas) e o SXSSF mantém apenas uma janela de linhas em memória,
+     * descarregando o restante em arquivo temporário comprimido até a escrita final.
+     * As colunas usam largura fixa, já que autosize exigiria todas as linhas em memória.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void writeDetailedExcel(LocalDateTime startDate,
+                                   LocalDateTime endDate,
+                                   String evaluatorId,
+                                   EvaluationStatus status,
+                                   OutputStream outputStream) {
 
         Timer.Sample sample = meterRegistry.isPresent() ? Timer.start(meterRegistry.get()) : null;
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW);
+        workbook.setCompressTempFiles(true);
         try {
             log.info("Generating Excel management report: startDate={}, endDate={}, evaluatorId={}, status={}",
                 startDate, endDate, evaluatorId, status);
 
             EvaluationStatusJpa statusJpa = status != null ? EvaluationStatusJpa.valueOf(status.name()) : null;
 
-            List<VehicleEvaluationJpaEntity> evaluations = jpaRepository.findForManagementReport(
+            DashboardSnapshot snapshot = dashboardRepository.getSnapshot(startDate, endDate, evaluatorId, status);
+            EvaluationKpi kpis = snapshot.kpis();
+            List<MonthlyStat> monthly = snapshot.monthlyStats();
+            List<BrandStat> brands = snapshot.brandStats();
+
+            createSummarySheet(workbook, startDate, endDate, evaluatorId, status, kpis);
+            createMonthlySheet(workbook, monthly);
+            createBrandSheet(workbook, brands);
+
+            int rows;
+            try (Stream<ManagementReportRowProjection> evaluations = jpaRepository.streamForManagementReport(
                 startDate,
                 endDate,
                 evaluatorId,
                 statusJpa
-            );
-
-            EvaluationKpi kpis = dashboardRepository.getKpis(startDate, endDate, evaluatorId, status);
-            List<MonthlyStat> monthly = dashboardRepository.getMonthlyStats(startDate, endDate, evaluatorId, status);
-            List<BrandStat> brands = dashboardRepository.getBrandStats(startDate, endDate, evaluatorId, status);
-
-            try (Workbook workbook = new XSSFWorkbook()) {
-                createSummarySheet(workbook, startDate, endDate, evaluatorId, status, kpis);
-                createMonthlySheet(workbook, monthly);
-                createBrandSheet(workbook, brands);
-                createEvaluationsSheet(workbook, evaluations);
-
-                autosizeAllColumns(workbook);
-
-                ByteArrayOutputStream baos = new ByteArrayOutputStream();
-                workbook.write(baos);
-                return baos.toByteArray();
+            )) {
+                rows = createEvaluationsSheet(workbook, evaluations);
             }
+
+            workbook.write(outputStream);
+            outputStream.flush();
+            log.info("Excel management report generated: {} evaluations", rows);
         } catch (Exception e) {
             log.error("Failed to generate Excel management report", e);
             throw new IllegalStateException("Failed to generate Excel management report", e);
         } finally {
+            disposeQuietly(workbook);
             if (sample != null) {
                 sample.stop(Timer.builder("reports.excel.generation.duration")
                     .description("Tempo de geração de relatório Excel")
@@ -104,9 +159,10 @@ public class ManagementReportExporterImpl implements ManagementReportExporter {
             log.info("Generating PDF summary report: startDate={}, endDate={}, evaluatorId={}, status={}",
                 startDate, endDate, evaluatorId, status);
 
-            EvaluationKpi kpis = dashboardRepository.getKpis(startDate, endDate, evaluatorId, status);
-            List<MonthlyStat> monthly = dashboardRepository.getMonthlyStats(startDate, endDate, evaluatorId, status);
-            List<BrandStat> brands = dashboardRepository.getBrandStats(startDate, endDate, evaluatorId, status);
+            DashboardSnapshot snapshot = dashboardRepository.getSnapshot(startDate, endDate, evaluatorId, status);
+            EvaluationKpi kpis = snapshot.kpis();
+            List<MonthlyStat> monthly = snapshot.monthlyStats();
+            List<BrandStat> brands = snapshot.brandStats();
 
             ByteArrayOutputStream baos = new ByteArrayOutputStream();
             PdfWriter writer = new PdfWriter(baos);
@@ -136,6 +192,8 @@ public class ManagementReportExporterImpl implements ManagementReportExporter {
             kpiTable.addCell(valueOrZero(kpis.averageTicket()).toString());
             kpiTable.addCell("Average review time (hours)");
             kpiTable.addCell(valueOrZero(kpis.averageReviewTimeHours()).toString());
+            addPercentileCells(kpiTable, "Review time", kpis.reviewTimePercentiles());
+            addPercentileCells(kpiTable, "Submission time", kpis.submissionTimePercentiles());
             document.add(kpiTable);
 
             document.add(new Paragraph("\nMonthly trend").setFontSize(12));
@@ -233,6 +291,11 @@ public class ManagementReportExporterImpl implements ManagementReportExporter {
         Row r4 = sheet.createRow(rowNum++);
         r4.createCell(0).setCellValue("Average review time (hours)");
         r4.createCell(1).setCellValue(valueOrZero(kpis.averageReviewTimeHours()).doubleValue());
+
+        rowNum = addPercentileRows(sheet, rowNum, "Review time", kpis.reviewTimePercentiles());
+        addPercentileRows(sheet, rowNum, "Submission time", kpis.submissionTimePercentiles());
+
+        applyColumnWidths(sheet, SUMMARY_COLUMN_WIDTHS);
     }
 
     private void createMonthlySheet(Workbook workbook, List<MonthlyStat> monthly) {
@@ -250,6 +313,8 @@ public class ManagementReportExporterImpl implements ManagementReportExporter {
             row.createCell(1).setCellValue(stat.evaluationsCount());
             row.createCell(2).setCellValue(valueOrZero(stat.totalTicket()).doubleValue());
         }
+
+        applyColumnWidths(sheet, MONTHLY_COLUMN_WIDTHS);
     }
 
     private void createBrandSheet(Workbook workbook, List<BrandStat> brands) {
@@ -269,46 +334,31 @@ public class ManagementReportExporterImpl implements ManagementReportExporter {
             row.createCell(2).setCellValue(valueOrZero(stat.averageTicket()).doubleValue());
             row.createCell(3).setCellValue(valueOrZero(stat.approvalRatePercent()).doubleValue());
         }
+
+        applyColumnWidths(sheet, BRAND_COLUMN_WIDTHS);
     }
 
-    private void createEvaluationsSheet(Workbook workbook, List<VehicleEvaluationJpaEntity> evaluations) {
+    private int createEvaluationsSheet(Workbook workbook, Stream<ManagementReportRowProjection> evaluations) {
         Sheet sheet = workbook.createSheet("Evaluations");
-        int rowNum = 0;
+        applyColumnWidths(sheet, EVALUATION_COLUMN_WIDTHS);
 
-        String[] headers = {
-            "ID",
-            "Plate",
-            "Brand",
-            "Model",
-            "Year",
-            "Mileage",
-            "Evaluator",
-            "Status",
-            "FIPE",
-            "Base value",
-            "Final value",
-            "Approved value",
-            "Created at",
-            "Submitted at",
-            "Approved at"
-        };
-
-        Row headerRow = sheet.createRow(rowNum++);
-        for (int i = 0; i < headers.length; i++) {
+        Row headerRow = sheet.createRow(0);
+        for (int i = 0; i < EVALUATION_HEADERS.length; i++) {
             Cell cell = headerRow.createCell(i);
-            cell.setCellValue(headers[i]);
+            cell.setCellValue(EVALUATION_HEADERS[i]);
         }
 
-        for (VehicleEvaluationJpaEntity eval : evaluations) {
-            Row row = sheet.createRow(rowNum++);
+        int[] rowNum = {1};
+        evaluations.forEach(eval -> {
+            Row row = sheet.createRow(rowNum[0]++);
             int col = 0;
 
             row.createCell(col++).setCellValue(eval.getId() != null ? eval.getId().toString() : "");
-            row.createCell(col++).setCellValue(eval.getPlate() != null ? eval.getPlate() : "");
-            row.createCell(col++).setCellValue(eval.getVehicleInfo() != null ? nullSafe(eval.getVehicleInfo().getBrand()) : "");
-            row.createCell(col++).setCellValue(eval.getVehicleInfo() != null ? nullSafe(eval.getVehicleInfo().getModel()) : "");
-            row.createCell(col++).setCellValue(eval.getVehicleInfo() != null && eval.getVehicleInfo().getYearModel() != null ? eval.getVehicleInfo().getYearModel() : 0);
-            row.createCell(col++).setCellValue(eval.getMileageAmount() != null ? eval.getMileageAmount().doubleValue() : 0d);
+            row.createCell(col++).setCellValue(nullSafe(eval.getPlate()));
+            row.createCell(col++).setCellValue(nullSafe(eval.getBrand()));
+            row.createCell(col++).setCellValue(nullSafe(eval.getModel()));
+            row.createCell(col++).setCellValue(eval.getYearModel() != null ? eval.getYearModel() : 0);
+            row.createCell(col++).setCellValue(toDouble(eval.getMileageAmount()));
             row.createCell(col++).setCellValue(nullSafe(eval.getEvaluatorId()));
             row.createCell(col++).setCellValue(eval.getStatus() != null ? eval.getStatus().name() : "");
             row.createCell(col++).setCellValue(toDouble(eval.getFipePriceAmount()));
@@ -318,20 +368,44 @@ public class ManagementReportExporterImpl implements ManagementReportExporter {
             row.createCell(col++).setCellValue(eval.getCreatedAt() != null ? eval.getCreatedAt().toString() : "");
             row.createCell(col++).setCellValue(eval.getSubmittedAt() != null ? eval.getSubmittedAt().toString() : "");
             row.createCell(col++).setCellValue(eval.getApprovedAt() != null ? eval.getApprovedAt().toString() : "");
+        });
+
+        return rowNum[0] - 1;
+    }
+
+    private void applyColumnWidths(Sheet sheet, int[] widthsInChars) {
+        for (int col = 0; col < widthsInChars.length; col++) {
+            sheet.setColumnWidth(col, widthsInChars[col] * EXCEL_CHAR_WIDTH_UNITS);
         }
     }
 
-    private void autosizeAllColumns(Workbook workbook) {
-        for (int sheetIndex = 0; sheetIndex < workbook.getNumberOfSheets(); sheetIndex++) {
-            Sheet sheet = workbook.getSheetAt(sheetIndex);
-            if (sheet.getPhysicalNumberOfRows() == 0) {
-                continue;
-            }
-            int maxColumns = sheet.getRow(0).getPhysicalNumberOfCells();
-            for (int col = 0; col < maxColumns; col++) {
-                sheet.autoSizeColumn(col);
-            }
+    private void disposeQuietly(SXSSFWorkbook workbook) {
+        try {
+            workbook.close();
+        } catch (IOException e) {
+            log.warn("Failed to close Excel workbook: {}", e.getMessage());
+        } finally {
+            // Remove os arquivos temporários das linhas já descarregadas
+            workbook.dispose();
+        }
+    }
+
+    private void addPercentileCells(Table table, String label, LatencyPercentiles percentiles) {
+        LatencyPercentiles value = percentiles != null ? percentiles : LatencyPercentiles.EMPTY;
+        table.addCell(label + " p50 / p90 / p99 (hours)");
+        table.addCell(value.p50Hours() + " / " + value.p90Hours() + " / " + value.p99Hours());
+    }
+
+    private int addPercentileRows(Sheet sheet, int rowNum, String label, LatencyPercentiles percentiles) {
+        LatencyPercentiles value = percentiles != null ? percentiles : LatencyPercentiles.EMPTY;
+        String[] names = {"p50", "p90", "p99"};
+        BigDecimal[] hours = {value.p50Hours(), value.p90Hours(), value.p99Hours()};
+        for (int i = 0; i < names.length; i++) {
+            Row row = sheet.createRow(rowNum++);
+            row.createCell(0).setCellValue(label + " " + names[i] + " (hours)");
+            row.createCell(1).setCellValue(toDouble(hours[i]));
         }
+        return rowNum;
     }
 
     private BigDecimal valueOrZero(BigDecimal value) {
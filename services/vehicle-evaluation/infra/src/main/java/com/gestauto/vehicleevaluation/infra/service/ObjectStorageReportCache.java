@@ -0,0 +1,295 @@
+package com.gestauto.vehicleevaluation.infra.service;
+
+import com.gestauto.vehicleevaluation.domain.service.ReportCache;
+import com.gestauto.vehicleevaluation.domain.value.ReportCacheKey;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Cache de laudos PDF armazenado no object store (Cloudflare R2).
+ *
+ * Os laudos ficam em {prefix}/{evaluationId}/{STATUS}-{epochMillis}.pdf,
+ * permitindo remover todas as versões de uma avaliação por prefixo.
+ * Entradas gravadas durante o streaming do laudo são acumuladas em arquivo
+ * temporário (não em heap) e enviadas ao storage apenas no commit.
+ */
+@Service
+@Slf4j
+public class ObjectStorageReportCache implements ReportCache {
+
+    private static final String PDF_CONTENT_TYPE = "application/pdf";
+
+    private final S3Client s3Client;
+    private final Optional<MeterRegistry> meterRegistry;
+
+    @Value("${app.external-apis.cloudflare-r2.bucket-name}")
+    private String bucketName;
+
+    @Value("${app.pdf.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.pdf.cache.prefix:reports}")
+    private String prefix;
+
+    public ObjectStorageReportCache(S3Client s3Client, Optional<MeterRegistry> meterRegistry) {
+        this.s3Client = s3Client;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Optional<byte[]> get(ReportCacheKey key) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        try {
+            byte[] report = s3Client.getObjectAsBytes(GetObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(objectKey(key))
+                    .build())
+                .asByteArray();
+            incrementCounter("hit");
+            return Optional.of(report);
+        } catch (NoSuchKeyException e) {
+            incrementCounter("miss");
+            return Optional.empty();
+        } catch (Exception e) {
+            incrementCounter("error");
+            log.warn("Falha ao ler laudo do cache: key={}, erro={}", key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public boolean contains(ReportCacheKey key) {
+        if (!enabled) {
+            return false;
+        }
+
+        try {
+            s3Client.headObject(HeadObjectRequest.builder()
+                .bucket(bucketName)
+                .key(objectKey(key))
+                .build());
+            incrementCounter("hit");
+            return true;
+        } catch (NoSuchKeyException e) {
+            incrementCounter("miss");
+            return false;
+        } catch (Exception e) {
+            incrementCounter("error");
+            log.warn("Falha ao consultar laudo no cache: key={}, erro={}", key, e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public boolean copyTo(ReportCacheKey key, OutputStream outputStream) throws IOException {
+        if (!enabled) {
+            return false;
+        }
+
+        ResponseInputStream<GetObjectResponse> cached;
+        try {
+            cached = s3Client.getObject(GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(objectKey(key))
+                .build());
+        } catch (NoSuchKeyException e) {
+            incrementCounter("miss");
+            return false;
+        } catch (Exception e) {
+            incrementCounter("error");
+            log.warn("Falha ao ler laudo do cache: key={}, erro={}", key, e.getMessage());
+            return false;
+        }
+
+        try (cached) {
+            cached.transferTo(outputStream);
+        }
+        incrementCounter("hit");
+        return true;
+    }
+
+    @Override
+    public PendingEntry openEntry(ReportCacheKey key) {
+        if (!enabled) {
+            return new DiscardingEntry();
+        }
+
+        try {
+            return new SpooledEntry(key, Files.createTempFile("report-cache-", ".pdf"), false);
+        } catch (IOException e) {
+            log.warn("Falha ao criar arquivo temporário para cache de laudo: key={}, erro={}", key, e.getMessage());
+            return new DiscardingEntry();
+        }
+    }
+
+    @Override
+    public PendingEntry openRequiredEntry(ReportCacheKey key) throws IOException {
+        if (!enabled) {
+            throw new IllegalStateException("Cache de laudos desabilitado (app.pdf.cache.enabled=false)");
+        }
+        return new SpooledEntry(key, Files.createTempFile("report-cache-", ".pdf"), true);
+    }
+
+    @Override
+    public void put(ReportCacheKey key, byte[] report) {
+        if (!enabled || report == null || report.length == 0) {
+            return;
+        }
+
+        try {
+            s3Client.putObject(PutObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(objectKey(key))
+                    .contentType(PDF_CONTENT_TYPE)
+                    .contentLength((long) report.length)
+                    .build(),
+                RequestBody.fromBytes(report));
+            log.debug("Laudo armazenado no cache: key={}, tamanho={} bytes", key, report.length);
+        } catch (Exception e) {
+            incrementCounter("error");
+            log.warn("Falha ao armazenar laudo no cache: key={}, erro={}", key, e.getMessage());
+        }
+    }
+
+    @Override
+    public void evict(UUID evaluationId) {
+        if (!enabled) {
+            return;
+        }
+
+        ListObjectsV2Request listRequest = ListObjectsV2Request.builder()
+            .bucket(bucketName)
+            .prefix(evaluationPrefix(evaluationId))
+            .build();
+
+        List<ObjectIdentifier> objects = s3Client.listObjectsV2Paginator(listRequest).contents().stream()
+            .map(object -> ObjectIdentifier.builder().key(object.key()).build())
+            .toList();
+
+        if (objects.isEmpty()) {
+            return;
+        }
+
+        s3Client.deleteObjects(DeleteObjectsRequest.builder()
+            .bucket(bucketName)
+            .delete(Delete.builder().objects(objects).quiet(true).build())
+            .build());
+
+        incrementCounter("evicted");
+        log.info("{} laudo(s) removido(s) do cache para avaliação {}", objects.size(), evaluationId);
+    }
+
+    private String evaluationPrefix(UUID evaluationId) {
+        return prefix + "/" + evaluationId + "/";
+    }
+
+    private String objectKey(ReportCacheKey key) {
+        return evaluationPrefix(key.evaluationId()) + key.version() + ".pdf";
+    }
+
+    private void incrementCounter(String result) {
+        meterRegistry.ifPresent(registry -> registry.counter("pdf.report.cache", "result", result).increment());
+    }
+
+    /**
+     * Entrada que acumula o laudo em arquivo temporário e o envia ao storage no commit.
+     * Entradas obrigatórias propagam a falha de envio em vez de apenas registrá-la.
+     */
+    private final class SpooledEntry implements PendingEntry {
+
+        private final ReportCacheKey key;
+        private final Path file;
+        private final OutputStream outputStream;
+        private final boolean required;
+
+        private SpooledEntry(ReportCacheKey key, Path file, boolean required) throws IOException {
+            this.key = key;
+            this.file = file;
+            this.outputStream = new BufferedOutputStream(Files.newOutputStream(file));
+            this.required = required;
+        }
+
+        @Override
+        public OutputStream outputStream() {
+            return outputStream;
+        }
+
+        @Override
+        public void commit() {
+            try {
+                outputStream.close();
+                s3Client.putObject(PutObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(objectKey(key))
+                        .contentType(PDF_CONTENT_TYPE)
+                        .contentLength(Files.size(file))
+                        .build(),
+                    RequestBody.fromFile(file));
+                log.debug("Laudo armazenado no cache: key={}", key);
+            } catch (Exception e) {
+                incrementCounter("error");
+                if (required) {
+                    throw new IllegalStateException("Falha ao armazenar laudo no cache: " + key, e);
+                }
+                log.warn("Falha ao armazenar laudo no cache: key={}, erro={}", key, e.getMessage());
+            }
+        }
+
+        @Override
+        public void close() {
+            try {
+                outputStream.close();
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("Falha ao remover arquivo temporário do cache de laudo: {}", file, e);
+            }
+        }
+    }
+
+    /**
+     * Entrada usada quando o cache está desabilitado ou indisponível.
+     */
+    private static final class DiscardingEntry implements PendingEntry {
+
+        @Override
+        public OutputStream outputStream() {
+            return OutputStream.nullOutputStream();
+        }
+
+        @Override
+        public void commit() {
+            // Nada a publicar
+        }
+
+        @Override
+        public void close() {
+            // Nada a liberar
+        }
+    }
+}
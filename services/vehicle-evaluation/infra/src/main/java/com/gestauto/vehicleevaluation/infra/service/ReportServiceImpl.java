@@ -11,6 +11,7 @@ import com.gestauto.vehicleevaluation.domain.service.ReportService;
 import com.gestauto.vehicleevaluation.infra.pdf.PdfGenerationException;
 import com.gestauto.vehicleevaluation.infra.pdf.PdfGenerator;
 import com.gestauto.vehicleevaluation.infra.pdf.QrCodeGenerator;
+import com.gestauto.vehicleevaluation.infra.pdf.ReportPhotoLoader;
 import com.itextpdf.io.image.ImageData;
 import com.itextpdf.io.image.ImageDataFactory;
 import com.itextpdf.kernel.colors.ColorConstants;
@@ -34,6 +35,7 @@ import org.springframework.stereotype.Service;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDateTime;
@@ -42,10 +44,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 /**
  * Implementação do serviço de geração de relatórios PDF de avaliações.
@@ -66,6 +66,7 @@ public class ReportServiceImpl implements ReportService {
 
     private final PdfGenerator pdfGenerator;
     private final QrCodeGenerator qrCodeGenerator;
+    private final ReportPhotoLoader reportPhotoLoader;
     private final ImageStorageService imageStorageService;
     private final Optional<MeterRegistry> meterRegistry;
 
@@ -84,6 +85,7 @@ public class ReportServiceImpl implements ReportService {
 
     // Constantes de layout PDF
     private static final int PHOTO_CELL_HEIGHT = 120;
+    private static final int PHOTO_CAPTION_HEIGHT = 25;
     private static final int WATERMARK_FONT_SIZE = 60;
     private static final float WATERMARK_OPACITY = 0.1f;
     private static final int PHOTO_TABLE_COLUMNS = 3;
@@ -91,8 +93,6 @@ public class ReportServiceImpl implements ReportService {
     
     // Constantes de tamanho de imagem
     private static final long BYTES_PER_MB = 1024L * 1024L;
-    private static final int MAX_IMAGE_WIDTH_PX = 800;
-    private static final int MAX_IMAGE_HEIGHT_PX = 600;
 
     private static final List<PhotoType> PHOTO_ORDER = Arrays.asList(
             PhotoType.EXTERIOR_FRONT,
@@ -114,8 +114,19 @@ public class ReportServiceImpl implements ReportService {
 
     @Override
     public byte[] generateEvaluationReport(VehicleEvaluation evaluation) {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        writeEvaluationReport(evaluation, baos);
+
+        byte[] result = baos.toByteArray();
+        log.info("Relatório PDF gerado com sucesso. Tamanho: {} bytes", result.length);
+        return result;
+    }
+
+    @Override
+    public void writeEvaluationReport(VehicleEvaluation evaluation, OutputStream outputStream) {
         Timer.Sample sample = meterRegistry.isPresent() ? 
                 Timer.start(meterRegistry.get()) : null;
+        ReportPhotoLoader.PhotoBatch photos = null;
         
         try {
             log.info("Iniciando geração de relatório PDF para avaliação: {}", evaluation.getId());
@@ -123,20 +134,25 @@ public class ReportServiceImpl implements ReportService {
             // Validar tamanho das imagens antes de processar
             validateImageSizes(evaluation);
 
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            PdfWriter writer = new PdfWriter(baos);
+            // Downloads das fotos começam antes do layout e correm em paralelo às primeiras seções
+            photos = reportPhotoLoader.fetch(evaluation.getPhotos());
+
+            // O PdfWriter descarrega cada página concluída no stream de saída;
+            // o stream pertence ao chamador e não deve ser fechado aqui
+            PdfWriter writer = new PdfWriter(outputStream);
+            writer.setCloseStream(false);
             PdfDocument pdf = new PdfDocument(writer);
             Document document = new Document(pdf);
 
             // Adicionar marca d'água baseada no status
             String watermarkText = evaluation.getStatus() == EvaluationStatus.APPROVED ? 
                     "APROVADO" : "REPROVADO";
-            pdfGenerator.addWatermark(pdf, watermarkText, WATERMARK_OPACITY);
+            pdfGenerator.applyTemplate(pdf, document, watermarkText, WATERMARK_OPACITY);
 
             // Adicionar seções do PDF
             addHeader(document, evaluation);
             addVehicleInfo(document, evaluation);
-            addPhotosSection(document, evaluation);
+            addPhotosSection(document, photos);
             addChecklistSection(document, evaluation);
             addValuationSection(document, evaluation);
             addObservationsSection(document, evaluation);
@@ -144,20 +160,19 @@ public class ReportServiceImpl implements ReportService {
             addFooter(document);
 
             document.close();
-            
-            byte[] result = baos.toByteArray();
-            log.info("Relatório PDF gerado com sucesso. Tamanho: {} bytes", result.length);
 
             if (sample != null) {
                 sample.stop(Timer.builder("pdf.generation.duration")
                         .description("Tempo de geração do PDF de avaliação")
                         .register(meterRegistry.get()));
             }
-
-            return result;
         } catch (Exception e) {
             log.error("Erro ao gerar relatório PDF", e);
             throw new PdfGenerationException("Falha ao gerar PDF de avaliação", e);
+        } finally {
+            if (photos != null) {
+                photos.close();
+            }
         }
     }
 
@@ -201,34 +216,24 @@ public class ReportServiceImpl implements ReportService {
         document.add(new Paragraph("\n"));
     }
 
-    private void addPhotosSection(Document document, VehicleEvaluation evaluation) {
+    private void addPhotosSection(Document document, ReportPhotoLoader.PhotoBatch photos) {
         document.add(pdfGenerator.createSubtitle("2. FOTOGRAFIAS DO VEÍCULO"));
 
-        // Organizar fotos por tipo
-        Map<PhotoType, List<EvaluationPhoto>> photosByType = evaluation.getPhotos().stream()
-                .collect(Collectors.groupingBy(EvaluationPhoto::getPhotoType));
-
         // Grid 3 colunas x 5 linhas para 15 fotos
         Table photoTable = new Table(UnitValue.createPercentArray(new float[]{33.3f, 33.3f, 33.3f}));
         photoTable.setWidth(UnitValue.createPercentValue(100));
         photoTable.setBorderCollapse(BorderCollapsePropertyValue.COLLAPSE);
 
         for (PhotoType photoType : PHOTO_ORDER) {
-            List<EvaluationPhoto> photos = photosByType.get(photoType);
             Cell photoCell = new Cell();
 
-            if (photos != null && !photos.isEmpty()) {
-                try {
-                    // TODO: Implement image download from URL and add to PDF
-                    // For now, just show photo type description
-                    photoCell.add(pdfGenerator.createSmallText(photoType.getDescription()));
-                } catch (Exception e) {
-                    log.error("Erro inesperado ao processar foto {}", photoType, e);
-                    throw new PdfGenerationException("Erro inesperado ao processar foto", e);
-                }
-            } else {
-                photoCell.add(pdfGenerator.createSmallText(photoType.getDescription()));
-            }
+            // Imagem já baixada e convertida fora da thread de renderização;
+            // fotos ausentes ou com falha exibem apenas a descrição
+            photos.await(photoType).ifPresent(imageData -> photoCell.add(new Image(imageData)
+                    .setMaxHeight(PHOTO_CELL_HEIGHT - PHOTO_CAPTION_HEIGHT)
+                    .setMaxWidth(UnitValue.createPercentValue(100))
+                    .setHorizontalAlignment(HorizontalAlignment.CENTER)));
+            photoCell.add(pdfGenerator.createSmallText(photoType.getDescription()));
 
             photoCell.setTextAlignment(TextAlignment.CENTER);
             photoCell.setPadding(5);
@@ -361,11 +366,11 @@ public class ReportServiceImpl implements ReportService {
         // QR Code
         try {
             String validationUrl = getValidationUrl(
-                    UUID.fromString(evaluation.getId().toString()),
+                    evaluation.getId().getValue(),
                     evaluation.getValidationToken()
             );
 
-            Image qrCode = qrCodeGenerator.createQrCodeImage(validationUrl);
+            Image qrCode = qrCodeGenerator.createVectorQrCodeImage(validationUrl, document.getPdfDocument());
             Table qrTable = pdfGenerator.createTable(2);
             qrTable.setWidth(UnitValue.createPercentValue(100));
 
@@ -498,12 +503,11 @@ public class ReportServiceImpl implements ReportService {
             int photoCount = 0;
             
             for (EvaluationPhoto photo : evaluation.getPhotos()) {
-                // Nota: em produção, isso requer metadata de tamanho armazenado
-                // Para MVP, assumimos tamanho médio baseado em padrões
-                // TODO: Implementar getImageSize real quando metadata estiver disponível
-                long estimatedSize = estimateImageSize(photo);
+                // Tamanho real da imagem embutida: versão para PDF gerada no upload,
+                // ou o original para fotos enviadas antes dela existir
+                long imageSize = photo.getReportImageSize();
                 
-                if (estimatedSize > maxImageSizeMb * BYTES_PER_MB) {
+                if (imageSize > maxImageSizeMb * BYTES_PER_MB) {
                     log.warn("Imagem {} excede tamanho máximo de {}MB", 
                             photo.getPhotoType(), maxImageSizeMb);
                     throw new IllegalStateException(
@@ -512,7 +516,7 @@ public class ReportServiceImpl implements ReportService {
                     );
                 }
                 
-                totalSize += estimatedSize;
+                totalSize += imageSize;
                 photoCount++;
             }
 
@@ -526,7 +530,7 @@ public class ReportServiceImpl implements ReportService {
                 );
             }
 
-            log.info("Validação de tamanho OK: {} fotos, total estimado: {} MB",
+            log.info("Validação de tamanho OK: {} fotos, total: {} MB",
                     photoCount, totalSize / BYTES_PER_MB);
             
         } catch (IllegalStateException e) {
@@ -536,20 +540,4 @@ public class ReportServiceImpl implements ReportService {
             // Não bloqueia em caso de erro na validação
         }
     }
-
-    /**
-     * Estima o tamanho de uma imagem baseado em metadados ou padrões.
-     * 
-     * @param photo foto a ter tamanho estimado
-     * @return tamanho estimado em bytes
-     */
-    private long estimateImageSize(EvaluationPhoto photo) {
-        // TODO: Quando metadata estiver disponível, usar:
-        // return photo.getFileSize();
-        
-        // Por enquanto, estima baseado em padrões típicos de fotos mobile
-        // Foto mobile típica: 2-4MB comprimida em JPEG
-        // Usamos 3MB como estimativa conservadora
-        return 3L * BYTES_PER_MB;
-    }
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+-- Migration V10: Optimistic version for vehicle evaluations
+--
+-- Command handlers read an evaluation, run remote work (uploads, FIPE lookups)
+-- outside any transaction and only then write. The version column lets that
+-- final short transaction detect a concurrent change instead of overwriting it.
+-- Named row_version because "version" already holds the vehicle version.
+
+SET search_path TO vehicle_evaluation;
+
+ALTER TABLE vehicle_evaluations
+    ADD COLUMN IF NOT EXISTS row_version BIGINT NOT NULL DEFAULT 0;
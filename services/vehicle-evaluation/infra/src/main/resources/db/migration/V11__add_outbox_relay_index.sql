@@ -0,0 +1,11 @@
+-- Migration V11: Outbox relay index
+--
+-- Relays claim pending events in occurrence order with FOR UPDATE SKIP LOCKED.
+-- A partial index over unprocessed rows keeps each claim an ordered range scan
+-- that stays small however many processed events are retained.
+
+SET search_path TO vehicle_evaluation;
+
+CREATE INDEX IF NOT EXISTS idx_domain_events_relay
+    ON domain_events (occurred_at, event_id)
+    WHERE processed_at IS NULL;
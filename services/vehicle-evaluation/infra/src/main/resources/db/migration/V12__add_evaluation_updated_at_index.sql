@@ -0,0 +1,10 @@
+-- Migration V12: Updated-at index for analytics synchronization
+--
+-- Each instance keeps its own in-memory analytics table and periodically
+-- re-reads the evaluations changed since its last synchronization. The index
+-- keeps that delta query a short range scan over the most recent updates.
+
+SET search_path TO vehicle_evaluation;
+
+CREATE INDEX IF NOT EXISTS idx_vehicle_evaluations_updated_at
+    ON vehicle_evaluations (updated_at);
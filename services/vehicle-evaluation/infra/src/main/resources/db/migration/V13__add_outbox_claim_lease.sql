@@ -0,0 +1,23 @@
+-- Migration V13: Outbox claim lease
+--
+-- Relays no longer hold row locks while waiting for publisher confirms. A
+-- claim is committed as a lease (claimed_by, claimed_until): other relays skip
+-- the event until the lease expires, and a relay that dies mid-batch only
+-- delays its events by the lease duration.
+--
+-- Only the oldest pending event of each aggregate is claimable, so the
+-- second index lets the claim check for an earlier pending event of the same
+-- aggregate with a single index probe.
+
+SET search_path TO vehicle_evaluation;
+
+ALTER TABLE domain_events
+    ADD COLUMN IF NOT EXISTS claimed_by VARCHAR(64),
+    ADD COLUMN IF NOT EXISTS claimed_until TIMESTAMP WITH TIME ZONE;
+
+CREATE INDEX IF NOT EXISTS idx_domain_events_aggregate_pending
+    ON domain_events (aggregate_id, occurred_at, event_id)
+    WHERE processed_at IS NULL;
+
+COMMENT ON COLUMN domain_events.claimed_by IS 'Relay que reivindicou o evento para publicação';
+COMMENT ON COLUMN domain_events.claimed_until IS 'Fim da reivindicação; depois disso outro relay pode publicar o evento';
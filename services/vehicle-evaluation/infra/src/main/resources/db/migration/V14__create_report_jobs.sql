@@ -0,0 +1,36 @@
+-- Migration V14: Report generation jobs
+--
+-- Job state used to live in the memory of the instance that accepted the
+-- request, so a status poll routed to another instance returned 404 and the
+-- per-user limit was enforced per instance. Jobs are now stored here and any
+-- instance can answer for them.
+--
+-- The per-user limit counts QUEUED and RUNNING jobs of the user; the partial
+-- index keeps that count to a single index range. Jobs left active by an
+-- instance that stopped are failed by the eviction sweep once updated_at is
+-- older than app.pdf.jobs.abandoned-after-minutes.
+
+SET search_path TO vehicle_evaluation;
+
+CREATE TABLE IF NOT EXISTS report_jobs (
+    job_id UUID PRIMARY KEY,
+    evaluation_id UUID NOT NULL,
+    requested_by VARCHAR(100) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    submitted_at TIMESTAMPTZ NOT NULL,
+    updated_at TIMESTAMPTZ NOT NULL,
+    completed_at TIMESTAMPTZ,
+    error_message TEXT,
+
+    CONSTRAINT chk_report_job_status CHECK (status IN ('QUEUED','RUNNING','COMPLETED','FAILED'))
+);
+
+CREATE INDEX IF NOT EXISTS idx_report_jobs_user_active
+    ON report_jobs (requested_by, updated_at)
+    WHERE status IN ('QUEUED', 'RUNNING');
+
+CREATE INDEX IF NOT EXISTS idx_report_jobs_completed_at
+    ON report_jobs (completed_at)
+    WHERE completed_at IS NOT NULL;
+
+COMMENT ON TABLE report_jobs IS 'Jobs assíncronos de geração de laudo PDF, compartilhados entre as instâncias';
@@ -0,0 +1,48 @@
+-- Migration V15: Outbox relay sequence
+--
+-- Per-aggregate order used (occurred_at, event_id) with a random UUID as the
+-- tiebreaker, so two events of the same aggregate stamped with the same
+-- occurred_at could be relayed in either order. relay_sequence is assigned
+-- from a sequence at insert time and follows insert order, which for one
+-- aggregate is the order its transactions committed the events.
+--
+-- Existing rows are numbered in their previous (occurred_at, event_id) order
+-- before the default takes over, and the relay indexes are rebuilt on the new
+-- column.
+
+SET search_path TO vehicle_evaluation;
+
+CREATE SEQUENCE IF NOT EXISTS domain_events_relay_sequence_seq;
+
+ALTER TABLE domain_events
+    ADD COLUMN IF NOT EXISTS relay_sequence BIGINT;
+
+UPDATE domain_events d
+   SET relay_sequence = ordered.seq
+  FROM (
+      SELECT event_id, row_number() OVER (ORDER BY occurred_at, event_id) AS seq
+        FROM domain_events
+  ) ordered
+ WHERE d.event_id = ordered.event_id;
+
+SELECT setval('domain_events_relay_sequence_seq',
+              coalesce((SELECT max(relay_sequence) FROM domain_events), 0) + 1, false);
+
+ALTER TABLE domain_events
+    ALTER COLUMN relay_sequence SET DEFAULT nextval('domain_events_relay_sequence_seq'),
+    ALTER COLUMN relay_sequence SET NOT NULL;
+
+ALTER SEQUENCE domain_events_relay_sequence_seq OWNED BY domain_events.relay_sequence;
+
+DROP INDEX IF EXISTS idx_domain_events_relay;
+DROP INDEX IF EXISTS idx_domain_events_aggregate_pending;
+
+CREATE INDEX IF NOT EXISTS idx_domain_events_relay
+    ON domain_events (relay_sequence)
+    WHERE processed_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_domain_events_aggregate_pending
+    ON domain_events (aggregate_id, relay_sequence)
+    WHERE processed_at IS NULL;
+
+COMMENT ON COLUMN domain_events.relay_sequence IS 'Ordem de gravação do evento; define a ordem de publicação por agregação';
@@ -0,0 +1,6 @@
+-- Migration V5: Store the PDF-ready derivative generated at upload time
+
+SET search_path TO vehicle_evaluation;
+
+ALTER TABLE evaluation_photos ADD COLUMN IF NOT EXISTS pdf_image_path VARCHAR(500);
+ALTER TABLE evaluation_photos ADD COLUMN IF NOT EXISTS pdf_image_size BIGINT;
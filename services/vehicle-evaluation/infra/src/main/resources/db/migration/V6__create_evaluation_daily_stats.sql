@@ -0,0 +1,43 @@
+-- Migration V6: Daily rollup of evaluations for the management dashboard
+--
+-- One row per day x evaluator x brand x status. Day, evaluator and brand never
+-- change after an evaluation is created, so each domain event only needs to
+-- recompute the (stat_date, evaluator_id, brand) slice of that evaluation.
+
+SET search_path TO vehicle_evaluation;
+
+CREATE TABLE IF NOT EXISTS evaluation_daily_stats (
+    stat_date DATE NOT NULL,
+    evaluator_id VARCHAR(100) NOT NULL,
+    brand VARCHAR(100) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    evaluations_count BIGINT NOT NULL DEFAULT 0,
+    ticket_sum NUMERIC(19,2) NOT NULL DEFAULT 0,
+    ticket_count BIGINT NOT NULL DEFAULT 0,
+    review_hours_sum NUMERIC(19,4) NOT NULL DEFAULT 0,
+    review_count BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT pk_evaluation_daily_stats PRIMARY KEY (stat_date, evaluator_id, brand, status)
+);
+
+CREATE INDEX IF NOT EXISTS idx_evaluation_daily_stats_evaluator_date
+    ON evaluation_daily_stats(evaluator_id, stat_date);
+
+-- Initial load from existing evaluations
+INSERT INTO evaluation_daily_stats (
+    stat_date, evaluator_id, brand, status,
+    evaluations_count, ticket_sum, ticket_count, review_hours_sum, review_count
+)
+SELECT
+    created_at::date,
+    evaluator_id,
+    brand,
+    status,
+    count(*),
+    coalesce(sum(coalesce(approved_value_amount, final_value_amount, base_value_amount)), 0),
+    count(coalesce(approved_value_amount, final_value_amount, base_value_amount)),
+    coalesce(sum(extract(epoch from (approved_at - submitted_at)) / 3600.0), 0),
+    count(approved_at - submitted_at)
+FROM vehicle_evaluations
+GROUP BY created_at::date, evaluator_id, brand, status
+ON CONFLICT (stat_date, evaluator_id, brand, status) DO NOTHING;
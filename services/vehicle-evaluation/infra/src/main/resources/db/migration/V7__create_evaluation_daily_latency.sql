@@ -0,0 +1,51 @@
+-- Migration V7: Daily latency sketches for the management dashboard
+--
+-- Per day x evaluator x brand x status, counts of create->submit (SUBMISSION)
+-- and submit->approve (REVIEW) durations in logarithmic buckets with 1%
+-- relative accuracy (see LatencySketch). Sketches are merged at query time by
+-- summing bucket counts, so percentiles over a range cost O(days x buckets).
+-- Bucket for a duration of s seconds: 0 when s <= 1, otherwise
+-- least(ceil(ln(s) / ln(1.01 / 0.99)), 979).
+
+SET search_path TO vehicle_evaluation;
+
+CREATE TABLE IF NOT EXISTS evaluation_daily_latency (
+    stat_date DATE NOT NULL,
+    evaluator_id VARCHAR(100) NOT NULL,
+    brand VARCHAR(100) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    metric VARCHAR(20) NOT NULL,
+    bucket SMALLINT NOT NULL,
+    sample_count BIGINT NOT NULL,
+    CONSTRAINT pk_evaluation_daily_latency
+        PRIMARY KEY (stat_date, evaluator_id, brand, status, metric, bucket)
+);
+
+CREATE INDEX IF NOT EXISTS idx_evaluation_daily_latency_evaluator_date
+    ON evaluation_daily_latency(evaluator_id, stat_date);
+
+-- Initial load from existing evaluations
+INSERT INTO evaluation_daily_latency (
+    stat_date, evaluator_id, brand, status, metric, bucket, sample_count
+)
+SELECT stat_date, evaluator_id, brand, status, metric, bucket, count(*)
+FROM (
+    SELECT
+        e.created_at::date AS stat_date,
+        e.evaluator_id,
+        e.brand,
+        e.status,
+        m.metric,
+        CASE
+            WHEN m.seconds <= 1 THEN 0
+            ELSE least(ceil(ln(m.seconds) / ln(1.01 / 0.99))::int, 979)
+        END AS bucket
+    FROM vehicle_evaluations e
+    CROSS JOIN LATERAL (VALUES
+        ('SUBMISSION', floor(extract(epoch FROM (e.submitted_at - e.created_at)))),
+        ('REVIEW', floor(extract(epoch FROM (e.approved_at - e.submitted_at))))
+    ) AS m(metric, seconds)
+    WHERE m.seconds IS NOT NULL
+) samples
+GROUP BY stat_date, evaluator_id, brand, status, metric, bucket
+ON CONFLICT (stat_date, evaluator_id, brand, status, metric, bucket) DO NOTHING;
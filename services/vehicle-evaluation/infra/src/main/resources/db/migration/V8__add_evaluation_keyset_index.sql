@@ -0,0 +1,11 @@
+-- Migration V8: Keyset pagination of the evaluation list
+--
+-- The list is read in (created_at, id) order and continued from the last row
+-- seen, so each page is a bounded index range scan regardless of its depth.
+-- Filtered lists reuse the (evaluator_id | status | brand, created_at) indexes
+-- from V4.
+
+SET search_path TO vehicle_evaluation;
+
+CREATE INDEX IF NOT EXISTS idx_vehicle_evaluations_created_at_id
+    ON vehicle_evaluations(created_at, id);
@@ -0,0 +1,17 @@
+-- Migration V9: Pending-approval queue indexes
+--
+-- Partial indexes over the approval queue only, one per supported sort key,
+-- with id as tie-breaker. The queue queries filter on the literal status and
+-- order by the same expressions, so a page is an index range scan and the
+-- count an index-only scan over pending rows. A missing final value sorts as
+-- zero, as the queue has always done.
+
+SET search_path TO vehicle_evaluation;
+
+CREATE INDEX IF NOT EXISTS idx_vehicle_evaluations_pending_final_value
+    ON vehicle_evaluations ((COALESCE(final_value_amount, 0)), id)
+    WHERE status = 'PENDING_APPROVAL';
+
+CREATE INDEX IF NOT EXISTS idx_vehicle_evaluations_pending_created_at
+    ON vehicle_evaluations (created_at, id)
+    WHERE status = 'PENDING_APPROVAL';
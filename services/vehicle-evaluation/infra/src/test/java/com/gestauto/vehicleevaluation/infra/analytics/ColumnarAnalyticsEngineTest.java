@@ -0,0 +1,251 @@
+package com.gestauto.vehicleevaluation.infra.analytics;
+
+import com.gestauto.vehicleevaluation.domain.enums.EvaluationStatus;
+import com.gestauto.vehicleevaluation.domain.report.DashboardSnapshot;
+import com.gestauto.vehicleevaluation.infra.entity.EvaluationStatusJpa;
+import com.gestauto.vehicleevaluation.infra.repository.VehicleEvaluationJpaRepository;
+import com.gestauto.vehicleevaluation.infra.repository.projection.EvaluationFactProjection;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes unitários para o ColumnarAnalyticsEngine.
+ */
+@DisplayName("ColumnarAnalyticsEngine Tests")
+class ColumnarAnalyticsEngineTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 1, 1);
+    private static final LocalDate END = LocalDate.of(2025, 12, 31);
+
+    private VehicleEvaluationJpaRepository jpaRepository;
+    private ColumnarAnalyticsEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        jpaRepository = mock(VehicleEvaluationJpaRepository.class);
+        engine = newEngine(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.shutdown();
+    }
+
+    @Test
+    @DisplayName("deve agregar KPIs, série mensal e marcas dos fatos carregados")
+    void testAggregatesLoadedFacts() {
+        engine.load(Stream.of(
+            fact(LocalDate.of(2025, 1, 10), EvaluationStatusJpa.APPROVED, "Toyota", "evaluator-1", "50000.00", Duration.ofHours(4)),
+            fact(LocalDate.of(2025, 1, 20), EvaluationStatusJpa.REJECTED, "Toyota", "evaluator-2", "40000.00", null),
+            fact(LocalDate.of(2025, 3, 5), EvaluationStatusJpa.APPROVED, "Honda", "evaluator-1", "60000.00", Duration.ofHours(2)),
+            fact(LocalDate.of(2025, 3, 6), EvaluationStatusJpa.DRAFT, "Toyota", "evaluator-1", null, null),
+            fact(LocalDate.of(2024, 12, 31), EvaluationStatusJpa.APPROVED, "Fiat", "evaluator-1", "10000.00", null)
+        ));
+
+        assertTrue(engine.isReady());
+        DashboardSnapshot snapshot = engine.getSnapshot(START, END, null, null);
+
+        assertEquals(4L, snapshot.kpis().totalEvaluations());
+        assertEquals(new BigDecimal("50.00"), snapshot.kpis().approvalRatePercent());
+        assertEquals(new BigDecimal("50000.00"), snapshot.kpis().averageTicket());
+        assertEquals(new BigDecimal("3.00"), snapshot.kpis().averageReviewTimeHours());
+        assertEquals(2L, snapshot.kpis().reviewTimePercentiles().samples());
+        assertEquals(2.0, snapshot.kpis().reviewTimePercentiles().p50Hours().doubleValue(), 0.03);
+        assertEquals(4.0, snapshot.kpis().reviewTimePercentiles().p99Hours().doubleValue(), 0.05);
+
+        assertEquals(List.of(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 3, 1)),
+            snapshot.monthlyStats().stream().map(m -> m.month()).toList());
+        assertEquals(new BigDecimal("90000.00"), snapshot.monthlyStats().get(0).totalTicket());
+        assertEquals(2L, snapshot.monthlyStats().get(1).evaluationsCount());
+
+        assertEquals(List.of("Toyota", "Honda"), snapshot.brandStats().stream().map(b -> b.brand()).toList());
+        assertEquals(new BigDecimal("45000.00"), snapshot.brandStats().get(0).averageTicket());
+        assertEquals(new BigDecimal("33.33"), snapshot.brandStats().get(0).approvalRatePercent());
+    }
+
+    @Test
+    @DisplayName("deve aplicar filtros de avaliador e status")
+    void testAppliesEvaluatorAndStatusFilters() {
+        engine.load(Stream.of(
+            fact(LocalDate.of(2025, 1, 10), EvaluationStatusJpa.APPROVED, "Toyota", "evaluator-1", "50000.00", null),
+            fact(LocalDate.of(2025, 1, 20), EvaluationStatusJpa.REJECTED, "Toyota", "evaluator-1", "40000.00", null),
+            fact(LocalDate.of(2025, 2, 5), EvaluationStatusJpa.APPROVED, "Honda", "evaluator-2", "60000.00", null)
+        ));
+
+        DashboardSnapshot snapshot = engine.getSnapshot(START, END, "evaluator-1", EvaluationStatus.APPROVED);
+        assertEquals(1L, snapshot.kpis().totalEvaluations());
+        assertEquals(new BigDecimal("50000.00"), snapshot.kpis().averageTicket());
+
+        DashboardSnapshot unknown = engine.getSnapshot(START, END, "evaluator-9", null);
+        assertEquals(0L, unknown.kpis().totalEvaluations());
+        assertTrue(unknown.monthlyStats().isEmpty());
+        assertTrue(unknown.brandStats().isEmpty());
+    }
+
+    @Test
+    @DisplayName("deve produzir o mesmo resultado com blocos paralelos e varredura única")
+    void testParallelChunksMatchSequentialScan() {
+        Random random = new Random(42);
+        EvaluationStatusJpa[] statuses = EvaluationStatusJpa.values();
+        List<EvaluationFact> facts = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            facts.add(new EvaluationFact(
+                UUID.randomUUID(),
+                0L,
+                START.plusDays(random.nextInt(365)),
+                statuses[random.nextInt(statuses.length)],
+                "brand-" + random.nextInt(12),
+                "evaluator-" + random.nextInt(30),
+                random.nextBoolean() ? BigDecimal.valueOf(random.nextInt(10_000_000), 2) : null,
+                random.nextBoolean() ? Duration.ofMinutes(random.nextInt(100_000)) : null,
+                random.nextBoolean() ? Duration.ofMinutes(random.nextInt(10_000)) : null
+            ));
+        }
+
+        ColumnarAnalyticsEngine sequential = newEngine(Integer.MAX_VALUE);
+        try {
+            engine.load(facts.stream());
+            sequential.load(facts.stream());
+
+            assertEquals(sequential.getSnapshot(START, END, null, null), engine.getSnapshot(START, END, null, null));
+            assertEquals(sequential.getSnapshot(START, END, "evaluator-3", EvaluationStatus.APPROVED),
+                engine.getSnapshot(START, END, "evaluator-3", EvaluationStatus.APPROVED));
+        } finally {
+            sequential.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("deve atualizar e remover avaliações de forma incremental")
+    void testAppliesIncrementalChanges() {
+        EvaluationFact draft = fact(LocalDate.of(2025, 1, 10), EvaluationStatusJpa.DRAFT, "Toyota", "evaluator-1", null, null);
+        UUID removedId = UUID.randomUUID();
+        engine.load(Stream.of(draft,
+            new EvaluationFact(removedId, 0L, LocalDate.of(2025, 1, 11), EvaluationStatusJpa.DRAFT, "Honda", "evaluator-2", null, null, null)));
+
+        EvaluationFactProjection approved = projection(draft.id(), EvaluationStatusJpa.APPROVED, new BigDecimal("70000.00"));
+        when(jpaRepository.findEvaluationFactById(draft.id())).thenReturn(Optional.of(approved));
+        when(jpaRepository.findEvaluationFactById(removedId)).thenReturn(Optional.empty());
+
+        engine.apply(draft.id());
+        engine.apply(removedId);
+
+        DashboardSnapshot snapshot = engine.getSnapshot(START, END, null, null);
+        assertEquals(1L, snapshot.kpis().totalEvaluations());
+        assertEquals(new BigDecimal("100.00"), snapshot.kpis().approvalRatePercent());
+        assertEquals(new BigDecimal("70000.00"), snapshot.kpis().averageTicket());
+        assertEquals(List.of("evaluator-1"), engine.findActiveEvaluatorIds(START));
+    }
+
+    @Test
+    @DisplayName("deve reaplicar ao final da carga as mudanças recebidas durante ela")
+    void testReplaysChangesReceivedWhileLoading() {
+        UUID evaluationId = UUID.randomUUID();
+        EvaluationFactProjection approved = projection(evaluationId, EvaluationStatusJpa.APPROVED, new BigDecimal("30000.00"));
+        when(jpaRepository.findEvaluationFactById(evaluationId)).thenReturn(Optional.of(approved));
+
+        engine.apply(evaluationId);
+        assertFalse(engine.isReady());
+        verify(jpaRepository, never()).findEvaluationFactById(evaluationId);
+
+        engine.load(Stream.of(new EvaluationFact(evaluationId, 0L, LocalDate.of(2025, 1, 10),
+            EvaluationStatusJpa.PENDING_APPROVAL, "Toyota", "evaluator-1", null, null, null)));
+
+        DashboardSnapshot snapshot = engine.getSnapshot(START, END, null, EvaluationStatus.APPROVED);
+        assertEquals(1L, snapshot.kpis().totalEvaluations());
+        assertEquals(new BigDecimal("30000.00"), snapshot.kpis().averageTicket());
+    }
+
+    @Test
+    @DisplayName("não deve substituir um fato por uma leitura de versão mais antiga")
+    void testIgnoresOlderFactVersion() {
+        UUID evaluationId = UUID.randomUUID();
+        engine.load(Stream.empty());
+        EvaluationFactProjection approved = projection(evaluationId, 3L, EvaluationStatusJpa.APPROVED, new BigDecimal("30000.00"));
+        EvaluationFactProjection pending = projection(evaluationId, 2L, EvaluationStatusJpa.PENDING_APPROVAL, null);
+        when(jpaRepository.findEvaluationFactById(evaluationId)).thenReturn(Optional.of(approved), Optional.of(pending));
+
+        engine.apply(evaluationId);
+        engine.apply(evaluationId);
+
+        DashboardSnapshot snapshot = engine.getSnapshot(START, END, null, null);
+        assertEquals(1L, snapshot.kpis().totalEvaluations());
+        assertEquals(new BigDecimal("100.00"), snapshot.kpis().approvalRatePercent());
+    }
+
+    @Test
+    @DisplayName("deve incorporar mudanças de outras instâncias e informar os avaliadores afetados")
+    void testSynchronizesChangesFromOtherInstances() {
+        EvaluationFact draft = fact(LocalDate.of(2025, 1, 10), EvaluationStatusJpa.DRAFT, "Toyota", "evaluator-1", null, null);
+        EvaluationFact unchanged = fact(LocalDate.of(2025, 1, 11), EvaluationStatusJpa.DRAFT, "Honda", "evaluator-2", null, null);
+        engine.load(Stream.of(draft, unchanged));
+
+        EvaluationFactProjection approved = projection(draft.id(), 1L, EvaluationStatusJpa.APPROVED, new BigDecimal("70000.00"));
+        EvaluationFactProjection same = projection(unchanged.id(), 0L, EvaluationStatusJpa.DRAFT, null);
+        when(jpaRepository.findEvaluationFactsUpdatedSince(any(LocalDateTime.class))).thenReturn(List.of(approved, same));
+
+        assertEquals(Set.of("evaluator-1"), engine.synchronize());
+
+        DashboardSnapshot snapshot = engine.getSnapshot(START, END, null, EvaluationStatus.APPROVED);
+        assertEquals(1L, snapshot.kpis().totalEvaluations());
+        assertEquals(new BigDecimal("70000.00"), snapshot.kpis().averageTicket());
+        assertTrue(engine.synchronize().isEmpty());
+    }
+
+    @Test
+    @DisplayName("não deve sincronizar antes da carga inicial")
+    void testSkipsSynchronizationBeforeLoad() {
+        assertTrue(engine.synchronize().isEmpty());
+        verify(jpaRepository, never()).findEvaluationFactsUpdatedSince(any());
+    }
+
+    private ColumnarAnalyticsEngine newEngine(int chunkSize) {
+        return new ColumnarAnalyticsEngine(jpaRepository, mock(PlatformTransactionManager.class),
+            Optional.empty(), true, chunkSize, 4, 60_000);
+    }
+
+    private static EvaluationFact fact(LocalDate createdDate, EvaluationStatusJpa status, String brand,
+                                       String evaluatorId, String ticket, Duration reviewTime) {
+        return new EvaluationFact(UUID.randomUUID(), 0L, createdDate, status, brand, evaluatorId,
+            ticket != null ? new BigDecimal(ticket) : null, null, reviewTime);
+    }
+
+    private static EvaluationFactProjection projection(UUID id, EvaluationStatusJpa status, BigDecimal approvedValue) {
+        return projection(id, 1L, status, approvedValue);
+    }
+
+    private static EvaluationFactProjection projection(UUID id, long version, EvaluationStatusJpa status,
+                                                       BigDecimal approvedValue) {
+        EvaluationFactProjection row = mock(EvaluationFactProjection.class);
+        when(row.getId()).thenReturn(id);
+        when(row.getRowVersion()).thenReturn(version);
+        when(row.getCreatedAt()).thenReturn(LocalDateTime.of(2025, 1, 10, 9, 30));
+        when(row.getStatus()).thenReturn(status);
+        when(row.getBrand()).thenReturn("Toyota");
+        when(row.getEvaluatorId()).thenReturn("evaluator-1");
+        when(row.getApprovedValueAmount()).thenReturn(approvedValue);
+        return row;
+    }
+}
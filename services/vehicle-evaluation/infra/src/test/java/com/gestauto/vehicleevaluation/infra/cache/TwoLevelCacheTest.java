@@ -0,0 +1,124 @@
+package com.gestauto.vehicleevaluation.infra.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes unitários para o TwoLevelCache.
+ */
+@DisplayName("TwoLevelCache Tests")
+class TwoLevelCacheTest {
+
+    private static final String CACHE_NAME = "evaluation-dashboard";
+
+    private RedisCache remote;
+    private StringRedisTemplate redisTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private TwoLevelCacheManager cacheManager;
+    private TwoLevelCache cache;
+
+    @BeforeEach
+    void setUp() {
+        remote = mock(RedisCache.class);
+        when(remote.getCacheConfiguration()).thenReturn(RedisCacheConfiguration.defaultCacheConfig());
+        when(remote.getNativeCache()).thenReturn(mock(RedisCacheWriter.class));
+        RedisCacheManager remoteManager = mock(RedisCacheManager.class);
+        when(remoteManager.getCache(CACHE_NAME)).thenReturn(remote);
+
+        redisTemplate = mock(StringRedisTemplate.class);
+        meterRegistry = new SimpleMeterRegistry();
+        cacheManager = new TwoLevelCacheManager(remoteManager, redisTemplate, "invalidation",
+            100, Duration.ofMinutes(5), Optional.of(meterRegistry));
+        cache = (TwoLevelCache) cacheManager.getCache(CACHE_NAME);
+    }
+
+    @Test
+    @DisplayName("deve servir do L1 após a primeira leitura do Redis")
+    void testPromotesRemoteHitToLocal() {
+        when(remote.get("default|null")).thenReturn(new SimpleValueWrapper("dashboard"));
+
+        assertEquals("dashboard", cache.get("default|null").get());
+        assertEquals("dashboard", cache.get("default|null").get());
+
+        verify(remote, times(1)).get("default|null");
+        assertEquals(1.0, lookups("l2"));
+        assertEquals(1.0, lookups("l1"));
+    }
+
+    @Test
+    @DisplayName("deve gravar nos dois níveis e difundir a invalidação")
+    void testPutWritesBothLevels() {
+        cache.put("default|null", "dashboard");
+
+        verify(remote).put("default|null", "dashboard");
+        assertEquals("dashboard", cache.get("default|null").get());
+        verify(remote, times(0)).get(any());
+        verify(redisTemplate).convertAndSend(eq("invalidation"), anyString());
+    }
+
+    @Test
+    @DisplayName("deve remover por prefixo apenas as chaves correspondentes")
+    void testEvictByPrefix() {
+        cache.put("range|evaluator-1|null|a|b", "one");
+        cache.put("range|evaluator-2|null|a|b", "two");
+
+        cache.evictByPrefix("range|evaluator-1|");
+
+        verify(remote.getNativeCache()).clean(eq(CACHE_NAME), any(byte[].class));
+        assertNull(localValue("range|evaluator-1|null|a|b"));
+        assertEquals("two", localValue("range|evaluator-2|null|a|b"));
+    }
+
+    @Test
+    @DisplayName("deve aplicar invalidações de outras instâncias apenas no L1")
+    void testAppliesRemoteInvalidation() {
+        cache.put("default|null", "dashboard");
+
+        cacheManager.onMessage(new DefaultMessage("invalidation".getBytes(StandardCharsets.UTF_8),
+            String.join("\n", "other-instance", CACHE_NAME, "KEY", "default|null")
+                .getBytes(StandardCharsets.UTF_8)), null);
+
+        assertNull(localValue("default|null"));
+        verify(remote, times(0)).evict(any());
+    }
+
+    @Test
+    @DisplayName("deve carregar e armazenar o valor em caso de falta nos dois níveis")
+    void testLoadsOnMiss() {
+        assertEquals("loaded", cache.get("range|null|x", () -> "loaded"));
+
+        verify(remote).put("range|null|x", "loaded");
+        assertEquals(1.0, lookups("miss"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object localValue(String key) {
+        return ((com.github.benmanes.caffeine.cache.Cache<Object, Object>) cache.getNativeCache()).getIfPresent(key);
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.get("cache.two-level.lookups").tag("result", result).counter().count();
+    }
+}
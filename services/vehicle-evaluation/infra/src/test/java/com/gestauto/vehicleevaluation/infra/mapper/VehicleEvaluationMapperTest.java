@@ -0,0 +1,112 @@
+package com.gestauto.vehicleevaluation.infra.mapper;
+
+import com.gestauto.vehicleevaluation.domain.entity.DepreciationItem;
+import com.gestauto.vehicleevaluation.domain.entity.EvaluationChecklist;
+import com.gestauto.vehicleevaluation.domain.entity.EvaluationPhoto;
+import com.gestauto.vehicleevaluation.domain.entity.VehicleEvaluation;
+import com.gestauto.vehicleevaluation.domain.enums.FuelType;
+import com.gestauto.vehicleevaluation.domain.enums.PhotoType;
+import com.gestauto.vehicleevaluation.domain.value.Money;
+import com.gestauto.vehicleevaluation.domain.value.Plate;
+import com.gestauto.vehicleevaluation.domain.value.VehicleInfo;
+import com.gestauto.vehicleevaluation.infra.entity.DepreciationItemJpaEntity;
+import com.gestauto.vehicleevaluation.infra.entity.EvaluationChecklistJpaEntity;
+import com.gestauto.vehicleevaluation.infra.entity.EvaluationPhotoJpaEntity;
+import com.gestauto.vehicleevaluation.infra.entity.VehicleEvaluationJpaEntity;
+import com.gestauto.vehicleevaluation.infra.entity.VehicleInfoEmbeddable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes unitários para a aplicação do agregado sobre entidades já carregadas.
+ */
+@DisplayName("VehicleEvaluationMapper Tests")
+class VehicleEvaluationMapperTest {
+
+    @Test
+    @DisplayName("deve manter as instâncias filhas e conciliar fotos e itens pelo id")
+    void applyToReusesManagedChildren() {
+        VehicleEvaluation evaluation = evaluation();
+        VehicleEvaluationJpaEntity entity = VehicleEvaluationMapper.toEntity(evaluation);
+        List<EvaluationPhotoJpaEntity> photos = new ArrayList<>(entity.getPhotos());
+        List<DepreciationItemJpaEntity> items = new ArrayList<>(entity.getDepreciationItems());
+        EvaluationChecklistJpaEntity checklist = entity.getChecklist();
+        List<String> criticalIssues = checklist.getCriticalIssues();
+
+        evaluation.removePhoto(photos.get(0).getPhotoId().toString());
+        evaluation.addDepreciationItem(DepreciationItem.create(evaluation.getId(), "TIRES", "Pneus gastos",
+            Money.of(new BigDecimal("400.00")), "Troca", "evaluator"));
+        evaluation.setObservations("Revisado");
+
+        VehicleEvaluationMapper.applyTo(evaluation, entity);
+
+        assertThat(entity.getPhotos()).containsExactly(photos.get(1), photos.get(2));
+        assertThat(entity.getDepreciationItems()).hasSize(3);
+        assertThat(entity.getDepreciationItems().subList(0, 2)).containsExactlyElementsOf(items);
+        assertThat(entity.getChecklist()).isSameAs(checklist);
+        assertThat(entity.getChecklist().getCriticalIssues()).isSameAs(criticalIssues);
+        assertThat(entity.getObservations()).isEqualTo("Revisado");
+    }
+
+    @Test
+    @DisplayName("deve substituir problemas críticos apenas quando a lista muda")
+    void applyToReplacesCriticalIssuesOnlyWhenChanged() {
+        VehicleEvaluation evaluation = evaluation();
+        VehicleEvaluationJpaEntity entity = VehicleEvaluationMapper.toEntity(evaluation);
+        List<String> criticalIssues = entity.getChecklist().getCriticalIssues();
+
+        EvaluationChecklist checklist = evaluation.getChecklist();
+        checklist.addCriticalIssue("Motor com ruído");
+        evaluation.updateChecklist(checklist);
+
+        VehicleEvaluationMapper.applyTo(evaluation, entity);
+
+        assertThat(entity.getChecklist().getCriticalIssues())
+            .isNotSameAs(criticalIssues)
+            .containsExactly("Chassi com sinais de solda", "Motor com ruído");
+    }
+
+    @Test
+    @DisplayName("deve preservar os dados do veículo que não existem no domínio")
+    void applyToKeepsVehicleColumnsOutsideDomain() {
+        VehicleEvaluation evaluation = evaluation();
+        VehicleEvaluationJpaEntity entity = VehicleEvaluationMapper.toEntity(evaluation);
+        VehicleInfoEmbeddable vehicleInfo = entity.getVehicleInfo();
+        vehicleInfo.setEngine("2.0 16V");
+        vehicleInfo.setChassis("9BWZZZ377VT004251");
+
+        VehicleEvaluationMapper.applyTo(evaluation, entity);
+
+        assertThat(entity.getVehicleInfo()).isSameAs(vehicleInfo);
+        assertThat(vehicleInfo.getEngine()).isEqualTo("2.0 16V");
+        assertThat(vehicleInfo.getChassis()).isEqualTo("9BWZZZ377VT004251");
+        assertThat(vehicleInfo.getBrand()).isEqualTo("Toyota");
+    }
+
+    private static VehicleEvaluation evaluation() {
+        VehicleEvaluation evaluation = VehicleEvaluation.create(Plate.of("MAP1A23"), "12345678901",
+            VehicleInfo.of("Toyota", "Corolla", "2.0 XEI", 2021, 2022, "Prata", FuelType.FLEX),
+            Money.of(new BigDecimal("45210")), "evaluator");
+
+        for (PhotoType type : List.of(PhotoType.INTERIOR_FRONT, PhotoType.INTERIOR_REAR, PhotoType.TRUNK_OPEN)) {
+            String key = "evaluations/" + evaluation.getId().getValueAsString() + "/" + type.name().toLowerCase() + ".jpg";
+            evaluation.addPhoto(EvaluationPhoto.create(evaluation.getId(), type, type.name() + ".jpg", key, 1024L,
+                "image/jpeg", "https://cdn.gestauto.test/" + key, "https://cdn.gestauto.test/" + key));
+        }
+        evaluation.addDepreciationItem(DepreciationItem.create(evaluation.getId(), "BODY", "Amassado",
+            Money.of(new BigDecimal("850.00")), "Martelinho", "evaluator"));
+        evaluation.addDepreciationItem(DepreciationItem.create(evaluation.getId(), "PAINT", "Riscos",
+            Money.of(new BigDecimal("600.00")), "Polimento", "evaluator"));
+
+        EvaluationChecklist checklist = EvaluationChecklist.create(evaluation.getId());
+        checklist.addCriticalIssue("Chassi com sinais de solda");
+        evaluation.updateChecklist(checklist);
+        return evaluation;
+    }
+}
@@ -0,0 +1,147 @@
+package com.gestauto.vehicleevaluation.infra.messaging;
+
+import com.gestauto.vehicleevaluation.domain.event.StoredDomainEvent;
+import com.gestauto.vehicleevaluation.domain.repository.DomainEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para o relay da outbox.
+ */
+@DisplayName("OutboxRelay Tests")
+class OutboxRelayTest {
+
+    private DomainEventRepository outbox;
+    private RabbitMQEventPublisher publisher;
+    private PlatformTransactionManager transactionManager;
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        outbox = mock(DomainEventRepository.class);
+        publisher = mock(RabbitMQEventPublisher.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        meterRegistry = new SimpleMeterRegistry();
+        relay = new OutboxRelay(outbox, publisher, transactionManager, Optional.of(meterRegistry),
+            2, 1000, 30000, 3, 7);
+    }
+
+    @Test
+    @DisplayName("deve marcar como processados os eventos confirmados e contar falha nos rejeitados")
+    void relayBatchSettlesConfirmsInBulk() {
+        StoredDomainEvent acked = stored();
+        StoredDomainEvent nacked = stored();
+        when(outbox.claimPendingEvents(anyString(), eq(2), any(Duration.class))).thenReturn(List.of(acked, nacked));
+        when(publisher.publishStored(acked)).thenReturn(confirmed(acked, true));
+        when(publisher.publishStored(nacked)).thenReturn(confirmed(nacked, false));
+
+        OutboxRelay.BatchResult result = relay.relayBatch();
+
+        assertThat(result.claimed()).isEqualTo(2);
+        assertThat(result.completed()).isFalse();
+        verify(outbox).markAsProcessed(eq(List.of(acked.getEventId())), any(LocalDateTime.class));
+        verify(outbox).recordFailure(eq(List.of(nacked.getEventId())), anyString(), eq("nack: queue full"));
+        assertThat(meterRegistry.counter("outbox.relay.events", "status", "failed").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.find("outbox.relay.events").tag("status", "exhausted").counter()).isNull();
+    }
+
+    @Test
+    @DisplayName("deve aguardar as confirmações antes de abrir a transação que conclui o lote")
+    void relayBatchSettlesOutsideThePublishWindow() {
+        StoredDomainEvent event = stored();
+        when(outbox.claimPendingEvents(anyString(), eq(2), any(Duration.class))).thenReturn(List.of(event));
+        when(publisher.publishStored(event)).thenReturn(confirmed(event, true));
+
+        relay.relayBatch();
+
+        InOrder inOrder = inOrder(outbox, publisher, transactionManager);
+        inOrder.verify(outbox).claimPendingEvents(anyString(), eq(2), eq(Duration.ofMillis(30000)));
+        inOrder.verify(publisher).publishStored(event);
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(outbox).markAsProcessed(eq(List.of(event.getEventId())), any(LocalDateTime.class));
+        inOrder.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("deve registrar em log e métrica os eventos que esgotaram as tentativas")
+    void relayBatchReportsExhaustedEvents() {
+        StoredDomainEvent lastAttempt = stored(2);
+        when(outbox.claimPendingEvents(anyString(), eq(2), any(Duration.class))).thenReturn(List.of(lastAttempt));
+        when(publisher.publishStored(lastAttempt)).thenReturn(confirmed(lastAttempt, false));
+
+        relay.relayBatch();
+
+        verify(outbox).recordFailure(eq(List.of(lastAttempt.getEventId())), anyString(), eq("nack: queue full"));
+        assertThat(meterRegistry.counter("outbox.relay.events", "status", "exhausted").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("deve encerrar a rodada sem contar tentativas quando o broker está indisponível")
+    void relayStopsWhenBrokerIsUnavailable() {
+        StoredDomainEvent first = stored();
+        StoredDomainEvent second = stored();
+        when(outbox.claimPendingEvents(anyString(), eq(2), any(Duration.class))).thenReturn(List.of(first, second));
+        when(publisher.publishStored(first)).thenReturn(confirmed(first, true));
+        when(publisher.publishStored(second)).thenReturn(CompletableFuture.failedFuture(new AmqpConnectException(new ConnectException("refused"))));
+
+        relay.relay();
+
+        verify(outbox, times(1)).claimPendingEvents(anyString(), eq(2), any(Duration.class));
+        verify(outbox).markAsProcessed(eq(List.of(first.getEventId())), any(LocalDateTime.class));
+        verify(outbox).releaseClaims(eq(List.of(second.getEventId())), anyString());
+        verify(outbox, never()).recordFailure(anyCollection(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("deve drenar lotes enquanto houver eventos elegíveis")
+    void relayDrainsUntilNothingIsClaimable() {
+        StoredDomainEvent first = stored();
+        StoredDomainEvent second = stored();
+        StoredDomainEvent third = stored();
+        when(outbox.claimPendingEvents(anyString(), eq(2), any(Duration.class)))
+            .thenReturn(List.of(first, second), List.of(third), List.of());
+        when(publisher.publishStored(any())).thenAnswer(invocation -> confirmed(invocation.getArgument(0), true));
+
+        relay.relay();
+
+        verify(outbox, times(3)).claimPendingEvents(anyString(), eq(2), any(Duration.class));
+        verify(publisher, times(3)).publishStored(any());
+    }
+
+    private static StoredDomainEvent stored() {
+        return stored(0);
+    }
+
+    private static StoredDomainEvent stored(int processingAttempts) {
+        return new StoredDomainEvent(UUID.randomUUID().toString(), "EvaluationCreated",
+            UUID.randomUUID().toString(), LocalDateTime.now(), "{}", processingAttempts);
+    }
+
+    private static CompletableFuture<Void> confirmed(StoredDomainEvent event, boolean ack) {
+        return ack
+            ? CompletableFuture.completedFuture(null)
+            : CompletableFuture.failedFuture(
+                new RabbitMQEventPublisher.EventPublishingException("nack: queue full", null));
+    }
+}
@@ -0,0 +1,86 @@
+package com.gestauto.vehicleevaluation.infra.messaging;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.BatchMessageListener;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
+import org.springframework.retry.support.RetryTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para a recuperação mensagem a mensagem de lotes com falha.
+ */
+@DisplayName("PerMessageBatchRecoverer Tests")
+class PerMessageBatchRecovererTest {
+
+    private BatchMessageListener listener;
+    private MessageRecoverer deadLetterRecoverer;
+    private PerMessageBatchRecoverer recoverer;
+
+    @BeforeEach
+    void setUp() {
+        listener = mock(BatchMessageListener.class);
+        deadLetterRecoverer = mock(MessageRecoverer.class);
+        RetryTemplate messageRetry = RetryTemplate.builder().maxAttempts(2).noBackoff().build();
+        recoverer = new PerMessageBatchRecoverer(listener, messageRetry, deadLetterRecoverer);
+    }
+
+    @Test
+    @DisplayName("deve enviar à DLQ só a mensagem que continua falhando e processar as demais em ordem")
+    void deadLettersOnlyTheFailingMessage() {
+        Message first = message(), poison = message(), last = message();
+        IllegalStateException failure = new IllegalStateException("handler failed");
+        doThrow(failure).when(listener).onMessageBatch(List.of(poison));
+
+        recoverer.recover(List.of(first, poison, last), failure);
+
+        InOrder inOrder = inOrder(listener, deadLetterRecoverer);
+        inOrder.verify(listener).onMessageBatch(List.of(first));
+        inOrder.verify(listener, times(2)).onMessageBatch(List.of(poison));
+        inOrder.verify(deadLetterRecoverer).recover(poison, failure);
+        inOrder.verify(listener).onMessageBatch(List.of(last));
+        verify(deadLetterRecoverer, never()).recover(eq(first), any());
+        verify(deadLetterRecoverer, never()).recover(eq(last), any());
+    }
+
+    @Test
+    @DisplayName("deve processar sem DLQ a mensagem que passa na reentrega")
+    void transientFailureIsRecoveredWithoutDeadLetter() {
+        Message flaky = message();
+        doThrow(new IllegalStateException("transient")).doNothing().when(listener).onMessageBatch(List.of(flaky));
+
+        recoverer.recover(List.of(flaky), new IllegalStateException("batch failed"));
+
+        verify(listener, times(2)).onMessageBatch(List.of(flaky));
+        verifyNoInteractions(deadLetterRecoverer);
+    }
+
+    @Test
+    @DisplayName("deve rejeitar o lote inteiro quando a republicação na DLQ falha")
+    void rejectsBatchWhenDeadLetterFails() {
+        Message poison = message();
+        doThrow(new IllegalStateException("handler failed")).when(listener).onMessageBatch(List.of(poison));
+        doThrow(new IllegalStateException("nack")).when(deadLetterRecoverer).recover(eq(poison), any());
+
+        assertThatThrownBy(() -> recoverer.recover(List.of(poison), new IllegalStateException("batch failed")))
+            .isInstanceOf(AmqpRejectAndDontRequeueException.class);
+    }
+
+    private static Message message() {
+        MessageProperties properties = new MessageProperties();
+        properties.setMessageId(UUID.randomUUID().toString());
+        return new Message(new byte[0], properties);
+    }
+}
@@ -0,0 +1,149 @@
+package com.gestauto.vehicleevaluation.infra.messaging;
+
+import com.gestauto.vehicleevaluation.domain.event.EvaluationCreatedEvent;
+import com.gestauto.vehicleevaluation.domain.event.StoredDomainEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.ReturnedMessage;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para o pipeline de publicação em lote com publisher confirms.
+ */
+@DisplayName("RabbitMQEventPublisher Tests")
+class RabbitMQEventPublisherTest {
+
+    private RabbitTemplate rabbitTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private BlockingQueue<CorrelationData> sent;
+    private RabbitMQEventPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        rabbitTemplate = mock(RabbitTemplate.class);
+        RabbitOperations operations = mock(RabbitOperations.class);
+        meterRegistry = new SimpleMeterRegistry();
+        sent = new LinkedBlockingQueue<>();
+
+        MessageConverter converter = mock(MessageConverter.class);
+        when(converter.toMessage(any(), any(MessageProperties.class))).thenAnswer(invocation ->
+            new Message("{}".getBytes(), invocation.getArgument(1)));
+        when(rabbitTemplate.getMessageConverter()).thenReturn(converter);
+        when(rabbitTemplate.invoke(any())).thenAnswer(invocation ->
+            invocation.<RabbitOperations.OperationsCallback<Object>>getArgument(0).doInRabbit(operations));
+        doAnswer(invocation -> sent.add(invocation.getArgument(3)))
+            .when(operations).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        publisher.shutdown();
+    }
+
+    @Test
+    @DisplayName("deve enviar o lote em um único canal quando atinge o tamanho máximo")
+    void flushesFullBatchThroughOneChannel() throws Exception {
+        publisher = publisher(3, 60_000, 3);
+
+        CompletableFuture<Void> first = publisher.publishStored(stored());
+        CompletableFuture<Void> second = publisher.publishStored(stored());
+        CompletableFuture<Void> third = publisher.publishStored(stored());
+
+        for (int i = 0; i < 3; i++) {
+            next().getFuture().complete(new CorrelationData.Confirm(true, null));
+        }
+
+        CompletableFuture.allOf(first, second, third).get(5, TimeUnit.SECONDS);
+        verify(rabbitTemplate, times(1)).invoke(any());
+        assertThat(meterRegistry.get("events.publish.batch.size").summary().totalAmount()).isEqualTo(3);
+        assertThat(meterRegistry.get("events.publish.confirm.latency").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("deve enviar um lote incompleto ao fim do linger")
+    void flushesPartialBatchAfterLinger() throws Exception {
+        publisher = publisher(100, 20, 3);
+
+        CompletableFuture<Void> result = publisher.publishStored(stored());
+        next().getFuture().complete(new CorrelationData.Confirm(true, null));
+
+        result.get(5, TimeUnit.SECONDS);
+        assertThat(meterRegistry.get("events.published").tag("status", "success").counter().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("deve recolocar na fila a mensagem rejeitada pelo broker")
+    void requeuesNackedMessage() throws Exception {
+        publisher = publisher(1, 1, 3);
+
+        CompletableFuture<Void> result = publisher.publishAsync(
+            new EvaluationCreatedEvent(UUID.randomUUID().toString(), "evaluator", "ABC1234", "Toyota", "Corolla"));
+
+        CorrelationData firstAttempt = next();
+        firstAttempt.getFuture().complete(new CorrelationData.Confirm(false, "queue full"));
+        CorrelationData secondAttempt = next();
+        assertThat(secondAttempt.getId()).isEqualTo(firstAttempt.getId());
+        secondAttempt.getFuture().complete(new CorrelationData.Confirm(true, null));
+
+        result.get(5, TimeUnit.SECONDS);
+        assertThat(meterRegistry.get("events.published").tag("status", "requeued").counter().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("deve falhar evento da outbox retornado sem rota, sem nova tentativa em memória")
+    void failsReturnedStoredEventWithoutRetry() throws Exception {
+        publisher = publisher(1, 1, 3);
+
+        CompletableFuture<Void> result = publisher.publishStored(stored());
+        CorrelationData correlation = next();
+        correlation.setReturned(new ReturnedMessage(new Message(new byte[0], new MessageProperties()),
+            312, "NO_ROUTE", "gestauto.events", "vehicle.evaluation.created"));
+        correlation.getFuture().complete(new CorrelationData.Confirm(true, null));
+
+        assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+            .isInstanceOf(ExecutionException.class)
+            .hasCauseInstanceOf(RabbitMQEventPublisher.EventPublishingException.class)
+            .hasMessageContaining("returned: NO_ROUTE");
+        assertThat(sent.poll(100, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    private RabbitMQEventPublisher publisher(int batchSize, long lingerMs, int maxAttempts) {
+        return new RabbitMQEventPublisher(rabbitTemplate, meterRegistry, "gestauto.events",
+            100, batchSize, lingerMs, maxAttempts, 10);
+    }
+
+    private CorrelationData next() throws InterruptedException {
+        CorrelationData correlation = sent.poll(5, TimeUnit.SECONDS);
+        assertThat(correlation).as("mensagem enviada ao broker").isNotNull();
+        return correlation;
+    }
+
+    private static StoredDomainEvent stored() {
+        return new StoredDomainEvent(UUID.randomUUID().toString(), "EvaluationCreated",
+            UUID.randomUUID().toString(), LocalDateTime.now(), "{}", 0);
+    }
+}
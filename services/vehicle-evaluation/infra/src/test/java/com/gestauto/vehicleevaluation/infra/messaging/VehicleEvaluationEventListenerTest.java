@@ -0,0 +1,150 @@
+package com.gestauto.vehicleevaluation.infra.messaging;
+
+import com.gestauto.vehicleevaluation.domain.event.EvaluationCreatedEvent;
+import com.gestauto.vehicleevaluation.domain.event.EvaluationSubmittedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.retry.support.RetryTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para o consumo em lote de eventos de avaliação.
+ */
+@DisplayName("VehicleEvaluationEventListener Tests")
+class VehicleEvaluationEventListenerTest {
+
+    private MessageConverter converter;
+    private MessageRecoverer deadLetterRecoverer;
+    private VehicleEvaluationEventListener listener;
+
+    @BeforeEach
+    void setUp() {
+        converter = mock(MessageConverter.class);
+        deadLetterRecoverer = mock(MessageRecoverer.class);
+        listener = spy(new VehicleEvaluationEventListener(converter, deadLetterRecoverer));
+    }
+
+    @Test
+    @DisplayName("deve agrupar eventos consecutivos do mesmo tipo preservando a ordem")
+    void groupsConsecutiveEventsOfSameType() {
+        EvaluationCreatedEvent first = created("eval-1");
+        EvaluationCreatedEvent second = created("eval-2");
+        EvaluationSubmittedEvent submitted = submitted("eval-1");
+        EvaluationCreatedEvent third = created("eval-3");
+        Message m1 = message(), m2 = message(), m3 = message(), m4 = message();
+        when(converter.fromMessage(m1)).thenReturn(first);
+        when(converter.fromMessage(m2)).thenReturn(second);
+        when(converter.fromMessage(m3)).thenReturn(submitted);
+        when(converter.fromMessage(m4)).thenReturn(third);
+
+        listener.onMessageBatch(List.of(m1, m2, m3, m4));
+
+        InOrder inOrder = inOrder(listener);
+        inOrder.verify(listener).handleEvaluationCreated(List.of(first, second));
+        inOrder.verify(listener).handleEvaluationSubmitted(List.of(submitted));
+        inOrder.verify(listener).handleEvaluationCreated(List.of(third));
+    }
+
+    @Test
+    @DisplayName("deve enviar mensagens ilegíveis à DLQ sem interromper o lote")
+    void deadLettersUnreadableMessages() {
+        EvaluationCreatedEvent first = created("eval-1");
+        EvaluationCreatedEvent second = created("eval-2");
+        Message m1 = message(), broken = message(), m2 = message(), unknown = message();
+        MessageConversionException failure = new MessageConversionException("invalid payload");
+        when(converter.fromMessage(m1)).thenReturn(first);
+        when(converter.fromMessage(broken)).thenThrow(failure);
+        when(converter.fromMessage(m2)).thenReturn(second);
+        when(converter.fromMessage(unknown)).thenReturn("unexpected");
+
+        listener.onMessageBatch(List.of(m1, broken, m2, unknown));
+
+        InOrder inOrder = inOrder(listener, deadLetterRecoverer);
+        inOrder.verify(listener).handleEvaluationCreated(List.of(first, second));
+        inOrder.verify(listener).handleUnknownEvents(List.of("unexpected"));
+        inOrder.verify(deadLetterRecoverer).recover(broken, failure);
+        verifyNoMoreInteractions(deadLetterRecoverer);
+    }
+
+    @Test
+    @DisplayName("não deve enviar à DLQ mensagens ilegíveis de um lote cujo handler falhou")
+    void doesNotDeadLetterWhenBatchFails() {
+        Message good = message(), broken = message();
+        when(converter.fromMessage(good)).thenReturn(created("eval-1"));
+        when(converter.fromMessage(broken)).thenThrow(new MessageConversionException("invalid payload"));
+        doThrow(new IllegalStateException("handler failed")).when(listener).handleEvaluationCreated(any());
+
+        assertThatThrownBy(() -> listener.onMessageBatch(List.of(good, broken)))
+            .isInstanceOf(IllegalStateException.class);
+        verifyNoInteractions(deadLetterRecoverer);
+    }
+
+    @Test
+    @DisplayName("deve levar à DLQ a mensagem ilegível de um lote recuperado mensagem a mensagem")
+    void unreadableMessageReachesDeadLetterThroughBatchRecovery() {
+        Message good = message(), broken = message();
+        MessageConversionException failure = new MessageConversionException("invalid payload");
+        when(converter.fromMessage(good)).thenReturn(created("eval-1"));
+        when(converter.fromMessage(broken)).thenThrow(failure);
+        PerMessageBatchRecoverer recoverer = new PerMessageBatchRecoverer(listener,
+            RetryTemplate.builder().maxAttempts(1).build(), deadLetterRecoverer);
+
+        recoverer.recover(List.of(good, broken), new IllegalStateException("batch failed"));
+
+        verify(deadLetterRecoverer).recover(broken, failure);
+        verify(deadLetterRecoverer, never()).recover(eq(good), any());
+    }
+
+    @Test
+    @DisplayName("deve rejeitar o lote quando a mensagem ilegível não pode ir para a DLQ")
+    void rejectsBatchWhenDeadLetterFails() {
+        Message broken = message();
+        when(converter.fromMessage(broken)).thenThrow(new MessageConversionException("invalid payload"));
+        doThrow(new IllegalStateException("nack")).when(deadLetterRecoverer).recover(eq(broken), any());
+
+        assertThatThrownBy(() -> listener.onMessageBatch(List.of(broken)))
+            .isInstanceOf(AmqpRejectAndDontRequeueException.class);
+    }
+
+    @Test
+    @DisplayName("deve tratar entrega individual como lote de uma mensagem")
+    void singleMessageIsDispatchedAsBatch() {
+        EvaluationSubmittedEvent submitted = submitted("eval-1");
+        Message message = message();
+        when(converter.fromMessage(message)).thenReturn(submitted);
+
+        listener.onMessage(message);
+
+        verify(listener).handleEvaluationSubmitted(List.of(submitted));
+        verify(listener, never()).handleEvaluationCreated(any());
+    }
+
+    private static Message message() {
+        MessageProperties properties = new MessageProperties();
+        properties.setMessageId(UUID.randomUUID().toString());
+        return new Message(new byte[0], properties);
+    }
+
+    private static EvaluationCreatedEvent created(String evaluationId) {
+        return new EvaluationCreatedEvent(evaluationId, "evaluator", "ABC1234", "Toyota", "Corolla");
+    }
+
+    private static EvaluationSubmittedEvent submitted(String evaluationId) {
+        return new EvaluationSubmittedEvent(evaluationId, "evaluator", "ABC1234", 45000.0, 50000.0);
+    }
+}
@@ -1,10 +1,18 @@
 package com.gestauto.vehicleevaluation.infra.pdf;
 
+import com.google.zxing.common.BitMatrix;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.kernel.pdf.xobject.PdfFormXObject;
 import com.itextpdf.layout.element.Image;
+import com.itextpdf.layout.properties.Property;
+import com.itextpdf.layout.properties.UnitValue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -86,4 +94,43 @@ class QrCodeGeneratorTest {
         assertTrue(smallQrCode.length > 0 && largeQrCode.length > 0, 
                   "QR codes não devem estar vazios");
     }
+
+    @Test
+    @DisplayName("deve criar QR code vetorial sem imagem raster")
+    void testCreateVectorQrCodeImage() {
+        String validationUrl = "https://gestauto.com/validate/123e4567-e89b-12d3-a456-426614174000?token=abc123";
+
+        try (PdfDocument pdf = new PdfDocument(new PdfWriter(new ByteArrayOutputStream()))) {
+            pdf.addNewPage();
+            Image qrImage = qrCodeGenerator.createVectorQrCodeImage(validationUrl, pdf);
+
+            assertInstanceOf(PdfFormXObject.class, qrImage.getXObject(), "QR code deve ser um form XObject");
+            BitMatrix matrix = qrCodeGenerator.encodeModules(validationUrl);
+            assertEquals(matrix.getWidth(), qrImage.getImageWidth(), 0.1, "Deve usar 1 unidade por módulo");
+            assertEquals(80f, qrImage.<UnitValue>getProperty(Property.WIDTH).getValue(), 0.1);
+        }
+    }
+
+    @Test
+    @DisplayName("deve reutilizar a matriz codificada para a mesma URL")
+    void testEncodedMatrixIsCached() {
+        String validationUrl = "https://test.com/validate?token=123";
+
+        BitMatrix first = qrCodeGenerator.encodeModules(validationUrl);
+        BitMatrix second = qrCodeGenerator.encodeModules(validationUrl);
+
+        assertSame(first, second, "Matriz deve vir do cache");
+        assertNotSame(first, qrCodeGenerator.encodeModules(validationUrl + "&v=2"));
+    }
+
+    @Test
+    @DisplayName("deve descartar a matriz mais antiga ao exceder o tamanho do cache")
+    void testCacheEvictsEldest() {
+        QrCodeGenerator smallCache = new QrCodeGenerator(200, 1);
+
+        BitMatrix first = smallCache.encodeModules("https://test.com/a");
+        smallCache.encodeModules("https://test.com/b");
+
+        assertNotSame(first, smallCache.encodeModules("https://test.com/a"));
+    }
 }
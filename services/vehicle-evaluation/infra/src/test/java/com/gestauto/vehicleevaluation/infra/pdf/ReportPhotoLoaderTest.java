@@ -0,0 +1,204 @@
+package com.gestauto.vehicleevaluation.infra.pdf;
+
+import com.gestauto.vehicleevaluation.domain.entity.EvaluationPhoto;
+import com.gestauto.vehicleevaluation.domain.enums.PhotoType;
+import com.gestauto.vehicleevaluation.domain.value.EvaluationId;
+import com.itextpdf.io.image.ImageData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes unitários para o ReportPhotoLoader.
+ */
+@DisplayName("ReportPhotoLoader Tests")
+class ReportPhotoLoaderTest {
+
+    private S3Client s3Client;
+    private ReportPhotoLoader loader;
+    private EvaluationId evaluationId;
+
+    @BeforeEach
+    void setUp() {
+        s3Client = mock(S3Client.class);
+        loader = new ReportPhotoLoader(s3Client, "bucket", 5, 50, 5);
+        evaluationId = EvaluationId.generate();
+    }
+
+    @AfterEach
+    void tearDown() {
+        loader.shutdown();
+    }
+
+    @Test
+    @DisplayName("deve reduzir fotos grandes para no máximo 800x600")
+    void testDownscaleLargePhoto() throws Exception {
+        stubObject("front.jpg", jpeg(3200, 2400));
+
+        try (ReportPhotoLoader.PhotoBatch batch = loader.fetch(List.of(photo(PhotoType.EXTERIOR_FRONT, "front.jpg")))) {
+            Optional<ImageData> image = batch.await(PhotoType.EXTERIOR_FRONT);
+
+            assertTrue(image.isPresent(), "Foto deve ser carregada");
+            assertEquals(800, image.get().getWidth(), 0.1);
+            assertEquals(600, image.get().getHeight(), 0.1);
+        }
+    }
+
+    @Test
+    @DisplayName("deve usar a versão para PDF gerada no upload quando existir")
+    void testPrefersPdfDerivative() throws Exception {
+        stubObject("front_pdf.jpg", jpeg(800, 600));
+        EvaluationPhoto photo = photo(PhotoType.EXTERIOR_FRONT, "front.jpg");
+        photo.attachPdfImage("front_pdf.jpg", 2048L);
+
+        try (ReportPhotoLoader.PhotoBatch batch = loader.fetch(List.of(photo))) {
+            Optional<ImageData> image = batch.await(PhotoType.EXTERIOR_FRONT);
+
+            assertTrue(image.isPresent(), "Versão para PDF deve ser carregada");
+            assertEquals(800, image.get().getWidth(), 0.1);
+        }
+    }
+
+    @Test
+    @DisplayName("deve manter proporção ao reduzir fotos fora do formato 4:3")
+    void testDownscaleKeepsAspectRatio() throws Exception {
+        byte[] scaled = ReportPhotoLoader.downscale(jpeg(1920, 1080));
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(scaled));
+
+        assertEquals(800, image.getWidth());
+        assertEquals(450, image.getHeight());
+    }
+
+    @Test
+    @DisplayName("deve retornar vazio para foto ausente no storage")
+    void testMissingPhotoReturnsEmpty() {
+        when(s3Client.getObject(any(GetObjectRequest.class)))
+                .thenThrow(NoSuchKeyException.builder().message("not found").build());
+
+        try (ReportPhotoLoader.PhotoBatch batch = loader.fetch(List.of(photo(PhotoType.ENGINE_BAY, "engine.jpg")))) {
+            assertTrue(batch.await(PhotoType.ENGINE_BAY).isEmpty());
+            assertTrue(batch.await(PhotoType.EXTERIOR_REAR).isEmpty(), "Tipo sem foto deve ser vazio");
+        }
+    }
+
+    @Test
+    @DisplayName("deve ignorar foto acima do limite por imagem")
+    void testOversizedPhotoIsSkipped() throws Exception {
+        ReportPhotoLoader strictLoader = new ReportPhotoLoader(s3Client, "bucket", 0, 50, 5);
+        stubObject("rear.jpg", jpeg(1024, 768));
+
+        try (ReportPhotoLoader.PhotoBatch batch = strictLoader.fetch(List.of(photo(PhotoType.EXTERIOR_REAR, "rear.jpg")))) {
+            assertTrue(batch.await(PhotoType.EXTERIOR_REAR).isEmpty());
+        } finally {
+            strictLoader.shutdown();
+        }
+        verify(s3Client, never()).getObject(any(GetObjectRequest.class));
+    }
+
+    @Test
+    @DisplayName("deve manter a memória da foto reservada até o laudo recebê-la")
+    void testBudgetHeldUntilPhotoIsAwaited() throws Exception {
+        ReportPhotoLoader tightLoader = new ReportPhotoLoader(s3Client, "bucket", 5, 1, 5);
+        byte[] content = noisyJpeg(1600, 1200);
+        assertTrue(content.length > 700 * 1024, "Imagem de teste deve ocupar mais da metade do orçamento");
+        stubObject("front_pdf.jpg", content);
+        stubObject("rear_pdf.jpg", content);
+        EvaluationPhoto front = photo(PhotoType.EXTERIOR_FRONT, "front.jpg");
+        front.attachPdfImage("front_pdf.jpg", 700 * 1024L);
+        EvaluationPhoto rear = photo(PhotoType.EXTERIOR_REAR, "rear.jpg");
+        rear.attachPdfImage("rear_pdf.jpg", 700 * 1024L);
+
+        try (ReportPhotoLoader.PhotoBatch batch = tightLoader.fetch(List.of(rear, front))) {
+            verify(s3Client, timeout(2000)).getObject(requestFor("front_pdf.jpg"));
+            Thread.sleep(300);
+            verify(s3Client, never()).getObject(requestFor("rear_pdf.jpg"));
+
+            assertTrue(batch.await(PhotoType.EXTERIOR_FRONT).isPresent());
+
+            assertTrue(batch.await(PhotoType.EXTERIOR_REAR).isPresent(),
+                    "Foto seguinte deve ser baixada quando a anterior é entregue");
+        } finally {
+            tightLoader.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("deve devolver o orçamento das fotos não entregues ao fechar o lote")
+    void testCloseReleasesBudget() throws Exception {
+        ReportPhotoLoader tightLoader = new ReportPhotoLoader(s3Client, "bucket", 5, 1, 5);
+        stubObject("front_pdf.jpg", noisyJpeg(1600, 1200));
+        EvaluationPhoto front = photo(PhotoType.EXTERIOR_FRONT, "front.jpg");
+        front.attachPdfImage("front_pdf.jpg", 700 * 1024L);
+
+        try {
+            ReportPhotoLoader.PhotoBatch first = tightLoader.fetch(List.of(front));
+            verify(s3Client, timeout(2000)).getObject(requestFor("front_pdf.jpg"));
+            first.close();
+
+            stubObject("front_pdf.jpg", noisyJpeg(1600, 1200));
+            try (ReportPhotoLoader.PhotoBatch second = tightLoader.fetch(List.of(front))) {
+                assertTrue(second.await(PhotoType.EXTERIOR_FRONT).isPresent());
+            }
+        } finally {
+            tightLoader.shutdown();
+        }
+    }
+
+    private void stubObject(String key, byte[] content) {
+        when(s3Client.getObject(requestFor(key)))
+                .thenReturn(new ResponseInputStream<>(
+                        GetObjectResponse.builder().contentLength((long) content.length).build(),
+                        AbortableInputStream.create(new ByteArrayInputStream(content))));
+    }
+
+    private static GetObjectRequest requestFor(String key) {
+        return argThat((GetObjectRequest request) -> request != null && key.equals(request.key()));
+    }
+
+    private EvaluationPhoto photo(PhotoType type, String key) {
+        return EvaluationPhoto.createWithoutThumbnail(evaluationId, type, key, key, 1024L, "image/jpeg", "https://cdn.test/" + key);
+    }
+
+    private static byte[] jpeg(int width, int height) throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "jpg", output);
+        return output.toByteArray();
+    }
+
+    private static byte[] noisyJpeg(int width, int height) throws Exception {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Random random = new Random(42);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                image.setRGB(x, y, random.nextInt(0x1000000));
+            }
+        }
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", output);
+        return output.toByteArray();
+    }
+}
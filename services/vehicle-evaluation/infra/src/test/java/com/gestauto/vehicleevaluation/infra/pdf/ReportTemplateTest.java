@@ -0,0 +1,82 @@
+package com.gestauto.vehicleevaluation.infra.pdf;
+
+import com.itextpdf.kernel.pdf.PdfDictionary;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfIndirectReference;
+import com.itextpdf.kernel.pdf.PdfName;
+import com.itextpdf.kernel.pdf.PdfReader;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.kernel.pdf.canvas.parser.PdfTextExtractor;
+import com.itextpdf.layout.Document;
+import com.itextpdf.layout.element.AreaBreak;
+import com.itextpdf.layout.element.Paragraph;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para o ReportTemplate.
+ */
+@DisplayName("ReportTemplate Tests")
+class ReportTemplateTest {
+
+    @Test
+    @DisplayName("deve reutilizar os mesmos XObjects e fontes em todas as páginas")
+    void testSharesResourcesAcrossPages() throws Exception {
+        byte[] pdfBytes = renderPages(3);
+
+        try (PdfDocument pdf = new PdfDocument(new PdfReader(new ByteArrayInputStream(pdfBytes)))) {
+            assertEquals(3, pdf.getNumberOfPages());
+
+            Set<Integer> xObjectRefs = new HashSet<>();
+            Set<Integer> fontRefs = new HashSet<>();
+            for (int i = 1; i <= pdf.getNumberOfPages(); i++) {
+                PdfDictionary resources = pdf.getPage(i).getResources().getPdfObject();
+                PdfDictionary xObjects = resources.getAsDictionary(PdfName.XObject);
+                xObjects.keySet().forEach(name ->
+                        xObjectRefs.add(((PdfIndirectReference) xObjects.get(name, false)).getObjNumber()));
+                PdfDictionary fonts = resources.getAsDictionary(PdfName.Font);
+                fonts.keySet().forEach(name ->
+                        fontRefs.add(((PdfIndirectReference) fonts.get(name, false)).getObjNumber()));
+            }
+
+            assertEquals(3, xObjectRefs.size(), "Cabeçalho, rodapé e marca d'água devem ser únicos no documento");
+            assertEquals(1, fontRefs.size(), "Todas as páginas devem referenciar a mesma fonte do template");
+        }
+    }
+
+    @Test
+    @DisplayName("deve numerar páginas e incluir cabeçalho em cada página")
+    void testStampsHeaderAndPageNumbers() throws Exception {
+        byte[] pdfBytes = renderPages(2);
+
+        try (PdfDocument pdf = new PdfDocument(new PdfReader(new ByteArrayInputStream(pdfBytes)))) {
+            String secondPage = PdfTextExtractor.getTextFromPage(pdf.getPage(2));
+            assertTrue(secondPage.contains("Laudo de Avaliação de Veículo"));
+            assertTrue(secondPage.contains("Página 2"));
+            assertTrue(secondPage.contains("APROVADO"));
+        }
+    }
+
+    private byte[] renderPages(int pages) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        PdfDocument pdf = new PdfDocument(new PdfWriter(output));
+        Document document = new Document(pdf);
+        new PdfGenerator().applyTemplate(pdf, document, "APROVADO", 0.1f);
+
+        for (int i = 1; i <= pages; i++) {
+            document.add(new Paragraph("Conteúdo da página " + i).setBold());
+            if (i < pages) {
+                document.add(new AreaBreak());
+            }
+        }
+        document.close();
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,194 @@
+package com.gestauto.vehicleevaluation.infra.repository;
+
+import com.gestauto.vehicleevaluation.domain.enums.EvaluationStatus;
+import com.gestauto.vehicleevaluation.domain.report.DashboardSnapshot;
+import com.gestauto.vehicleevaluation.domain.report.LatencyPercentiles;
+import com.gestauto.vehicleevaluation.domain.report.LatencySketch;
+import com.gestauto.vehicleevaluation.infra.analytics.ColumnarAnalyticsEngine;
+import com.gestauto.vehicleevaluation.infra.repository.projection.DashboardAggregateProjection;
+import com.gestauto.vehicleevaluation.infra.repository.projection.LatencyBucketProjection;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes unitários para o EvaluationDashboardRepositoryImpl.
+ */
+@DisplayName("EvaluationDashboardRepositoryImpl Tests")
+class EvaluationDashboardRepositoryImplTest {
+
+    private static final LocalDateTime START = LocalDateTime.parse("2025-01-01T00:00:00");
+    private static final LocalDateTime END = LocalDateTime.parse("2025-12-31T23:59:59");
+
+    @Test
+    @DisplayName("deve montar KPIs, série mensal e marcas a partir de uma única consulta")
+    void testBuildsSnapshotFromSingleQuery() {
+        VehicleEvaluationJpaRepository jpaRepository = mock(VehicleEvaluationJpaRepository.class);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        EvaluationDashboardRepositoryImpl repository =
+            new EvaluationDashboardRepositoryImpl(jpaRepository, mock(ColumnarAnalyticsEngine.class), Optional.of(registry));
+
+        when(jpaRepository.getDashboardAggregates(START.toLocalDate(), END.toLocalDate(), "evaluator-1", "APPROVED")).thenReturn(List.of(
+            new Row(DashboardAggregateProjection.MONTH_LEVEL, LocalDate.of(2025, 1, 1), null, 2L,
+                new BigDecimal("100000"), new BigDecimal("50000"), new BigDecimal("100"), new BigDecimal("4")),
+            new Row(DashboardAggregateProjection.MONTH_LEVEL, LocalDate.of(2025, 2, 1), null, 1L,
+                new BigDecimal("40000"), new BigDecimal("40000"), new BigDecimal("100"), new BigDecimal("2")),
+            new Row(DashboardAggregateProjection.BRAND_LEVEL, null, "Toyota", 2L,
+                new BigDecimal("90000"), new BigDecimal("45000"), new BigDecimal("100"), new BigDecimal("3")),
+            new Row(DashboardAggregateProjection.BRAND_LEVEL, null, "Honda", 1L,
+                new BigDecimal("50000"), new BigDecimal("50000"), new BigDecimal("100"), new BigDecimal("4")),
+            new Row(DashboardAggregateProjection.TOTAL_LEVEL, null, null, 3L,
+                new BigDecimal("140000"), new BigDecimal("46666.67"), new BigDecimal("100"), new BigDecimal("3.33"))
+        ));
+
+        DashboardSnapshot snapshot = repository.getSnapshot(START, END, "evaluator-1", EvaluationStatus.APPROVED);
+
+        assertEquals(3L, snapshot.kpis().totalEvaluations());
+        assertEquals(new BigDecimal("46666.67"), snapshot.kpis().averageTicket());
+        assertEquals(new BigDecimal("3.33"), snapshot.kpis().averageReviewTimeHours());
+        assertEquals(List.of(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 2, 1)),
+            snapshot.monthlyStats().stream().map(m -> m.month()).toList());
+        assertEquals(new BigDecimal("100000"), snapshot.monthlyStats().get(0).totalTicket());
+        assertEquals(List.of("Toyota", "Honda"), snapshot.brandStats().stream().map(b -> b.brand()).toList());
+        assertEquals(new BigDecimal("45000"), snapshot.brandStats().get(0).averageTicket());
+
+        verify(jpaRepository, times(1)).getDashboardAggregates(START.toLocalDate(), END.toLocalDate(), "evaluator-1", "APPROVED");
+        assertEquals(1, registry.get("dashboard.aggregate.query.duration").tag("source", "daily-stats").timer().count());
+    }
+
+    @Test
+    @DisplayName("deve responder pelo motor colunar quando a carga estiver pronta")
+    void testUsesColumnarEngineWhenReady() {
+        VehicleEvaluationJpaRepository jpaRepository = mock(VehicleEvaluationJpaRepository.class);
+        ColumnarAnalyticsEngine analyticsEngine = mock(ColumnarAnalyticsEngine.class);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        EvaluationDashboardRepositoryImpl repository =
+            new EvaluationDashboardRepositoryImpl(jpaRepository, analyticsEngine, Optional.of(registry));
+
+        DashboardSnapshot expected = EvaluationDashboardRepositoryImpl.toSnapshot(List.of(), List.of());
+        when(analyticsEngine.isReady()).thenReturn(true);
+        when(analyticsEngine.getSnapshot(START.toLocalDate(), END.toLocalDate(), null, null)).thenReturn(expected);
+        when(analyticsEngine.findActiveEvaluatorIds(START.toLocalDate())).thenReturn(List.of("evaluator-1"));
+
+        assertSame(expected, repository.getSnapshot(START, END, null, null));
+        assertEquals(List.of("evaluator-1"), repository.findActiveEvaluatorIds(START));
+
+        verifyNoInteractions(jpaRepository);
+        assertEquals(1, registry.get("dashboard.aggregate.query.duration").tag("source", "columnar").timer().count());
+    }
+
+    @Test
+    @DisplayName("deve calcular percentis de tempo somando os baldes dos sketches diários")
+    void testBuildsPercentilesFromLatencyBuckets() {
+        DashboardSnapshot snapshot = EvaluationDashboardRepositoryImpl.toSnapshot(
+            List.of(new Row(DashboardAggregateProjection.TOTAL_LEVEL, null, null, 10L,
+                BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO)),
+            List.of(
+                new Bucket(LatencyBucketProjection.REVIEW_METRIC, LatencySketch.bucketOf(3_600), 5L),
+                new Bucket(LatencyBucketProjection.REVIEW_METRIC, LatencySketch.bucketOf(3_600), 4L),
+                new Bucket(LatencyBucketProjection.REVIEW_METRIC, LatencySketch.bucketOf(36_000), 1L),
+                new Bucket(LatencyBucketProjection.SUBMISSION_METRIC, LatencySketch.bucketOf(7_200), 2L)
+            ));
+
+        LatencyPercentiles review = snapshot.kpis().reviewTimePercentiles();
+        assertEquals(10L, review.samples());
+        assertEquals(1.0, review.p50Hours().doubleValue(), 0.02);
+        assertEquals(1.0, review.p90Hours().doubleValue(), 0.02);
+        assertEquals(10.0, review.p99Hours().doubleValue(), 0.15);
+        assertEquals(2.0, snapshot.kpis().submissionTimePercentiles().p50Hours().doubleValue(), 0.03);
+    }
+
+    @Test
+    @DisplayName("deve retornar KPIs zerados quando a consulta não trouxer linhas")
+    void testEmptyAggregates() {
+        DashboardSnapshot snapshot = EvaluationDashboardRepositoryImpl.toSnapshot(List.of(), List.of());
+
+        assertEquals(0L, snapshot.kpis().totalEvaluations());
+        assertEquals(BigDecimal.ZERO, snapshot.kpis().approvalRatePercent());
+        assertTrue(snapshot.monthlyStats().isEmpty());
+        assertTrue(snapshot.brandStats().isEmpty());
+    }
+
+    private record Bucket(String metric, Integer bucket, Long sampleCount) implements LatencyBucketProjection {
+
+        @Override
+        public String getMetric() {
+            return metric;
+        }
+
+        @Override
+        public Integer getBucket() {
+            return bucket;
+        }
+
+        @Override
+        public Long getSampleCount() {
+            return sampleCount;
+        }
+    }
+
+    private record Row(
+        Integer groupingLevel,
+        LocalDate month,
+        String brand,
+        Long evaluationsCount,
+        BigDecimal totalTicket,
+        BigDecimal averageTicket,
+        BigDecimal approvalRatePercent,
+        BigDecimal averageReviewTimeHours
+    ) implements DashboardAggregateProjection {
+
+        @Override
+        public Integer getGroupingLevel() {
+            return groupingLevel;
+        }
+
+        @Override
+        public LocalDate getMonth() {
+            return month;
+        }
+
+        @Override
+        public String getBrand() {
+            return brand;
+        }
+
+        @Override
+        public Long getEvaluationsCount() {
+            return evaluationsCount;
+        }
+
+        @Override
+        public BigDecimal getTotalTicket() {
+            return totalTicket;
+        }
+
+        @Override
+        public BigDecimal getAverageTicket() {
+            return averageTicket;
+        }
+
+        @Override
+        public BigDecimal getApprovalRatePercent() {
+            return approvalRatePercent;
+        }
+
+        @Override
+        public BigDecimal getAverageReviewTimeHours() {
+            return averageReviewTimeHours;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.gestauto.vehicleevaluation.infra.service;
+
+import com.gestauto.vehicleevaluation.domain.enums.EvaluationStatus;
+import com.gestauto.vehicleevaluation.domain.report.BrandStat;
+import com.gestauto.vehicleevaluation.domain.report.DashboardSnapshot;
+import com.gestauto.vehicleevaluation.domain.report.EvaluationKpi;
+import com.gestauto.vehicleevaluation.domain.report.MonthlyStat;
+import com.gestauto.vehicleevaluation.domain.repository.EvaluationDashboardRepository;
+import com.gestauto.vehicleevaluation.infra.entity.EvaluationStatusJpa;
+import com.gestauto.vehicleevaluation.infra.repository.VehicleEvaluationJpaRepository;
+import com.gestauto.vehicleevaluation.infra.repository.projection.ManagementReportRowProjection;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes unitários para o ManagementReportExporterImpl.
+ */
+@DisplayName("ManagementReportExporterImpl Tests")
+class ManagementReportExporterImplTest {
+
+    private static final LocalDateTime START = LocalDateTime.parse("2025-01-01T00:00:00");
+    private static final LocalDateTime END = LocalDateTime.parse("2025-12-31T23:59:59");
+
+    private VehicleEvaluationJpaRepository jpaRepository;
+    private EvaluationDashboardRepository dashboardRepository;
+    private ManagementReportExporterImpl exporter;
+
+    @BeforeEach
+    void setUp() {
+        jpaRepository = mock(VehicleEvaluationJpaRepository.class);
+        dashboardRepository = mock(EvaluationDashboardRepository.class);
+        exporter = new ManagementReportExporterImpl(jpaRepository, dashboardRepository, Optional.empty());
+
+        when(dashboardRepository.getSnapshot(any(), any(), any(), any())).thenReturn(new DashboardSnapshot(
+            new EvaluationKpi(3, BigDecimal.TEN, BigDecimal.ONE, BigDecimal.ONE),
+            List.of(new MonthlyStat(LocalDate.of(2025, 1, 1), 3, BigDecimal.TEN)),
+            List.of(new BrandStat("Toyota", 3, BigDecimal.ONE, BigDecimal.TEN))
+        ));
+    }
+
+    @Test
+    @DisplayName("deve escrever uma linha por avaliação além da janela do SXSSF e fechar o cursor")
+    void testStreamsAllRowsAndClosesCursor() throws Exception {
+        int total = 250;
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<ManagementReportRowProjection> rows = IntStream.range(0, total)
+            .mapToObj(i -> row("ABC" + String.format("%04d", i)))
+            .onClose(() -> closed.set(true));
+        when(jpaRepository.streamForManagementReport(eq(START), eq(END), any(), eq(EvaluationStatusJpa.APPROVED)))
+            .thenReturn(rows);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        exporter.writeDetailedExcel(START, END, null, EvaluationStatus.APPROVED, output);
+
+        assertTrue(closed.get(), "Cursor deve ser fechado ao final");
+        try (Workbook workbook = new XSSFWorkbook(new ByteArrayInputStream(output.toByteArray()))) {
+            assertEquals(4, workbook.getNumberOfSheets());
+            Sheet sheet = workbook.getSheet("Evaluations");
+            assertEquals(total, sheet.getLastRowNum(), "Cabeçalho + uma linha por avaliação");
+            assertEquals("ABC0000", sheet.getRow(1).getCell(1).getStringCellValue());
+            assertEquals("ABC0249", sheet.getRow(total).getCell(1).getStringCellValue());
+            assertEquals(38 * 256, sheet.getColumnWidth(0), "Largura de coluna deve ser fixa");
+        }
+    }
+
+    @Test
+    @DisplayName("deve fechar o cursor mesmo quando a geração falhar")
+    void testClosesCursorOnFailure() {
+        AtomicBoolean closed = new AtomicBoolean();
+        ManagementReportRowProjection broken = mock(ManagementReportRowProjection.class);
+        when(broken.getPlate()).thenThrow(new IllegalStateException("boom"));
+        when(jpaRepository.streamForManagementReport(any(), any(), any(), any()))
+            .thenReturn(Stream.of(broken).onClose(() -> closed.set(true)));
+
+        assertThrows(IllegalStateException.class,
+            () -> exporter.writeDetailedExcel(START, END, null, null, new ByteArrayOutputStream()));
+        assertTrue(closed.get());
+    }
+
+    private ManagementReportRowProjection row(String plate) {
+        ManagementReportRowProjection row = mock(ManagementReportRowProjection.class);
+        when(row.getId()).thenReturn(UUID.randomUUID());
+        when(row.getPlate()).thenReturn(plate);
+        when(row.getBrand()).thenReturn("Toyota");
+        when(row.getModel()).thenReturn("Corolla");
+        when(row.getYearModel()).thenReturn(2022);
+        when(row.getStatus()).thenReturn(EvaluationStatusJpa.APPROVED);
+        when(row.getFinalValueAmount()).thenReturn(new BigDecimal("95000.00"));
+        when(row.getCreatedAt()).thenReturn(START.plusDays(1));
+        return row;
+    }
+}